@@ -0,0 +1,8 @@
+package com.kaua.ecommerce.users.application.gateways;
+
+import java.util.Optional;
+
+public interface AccountEmailCacheGateway {
+
+    Optional<String> findIdByEmail(String aEmail);
+}
@@ -1,8 +1,11 @@
 package com.kaua.ecommerce.users.application.gateways;
 
 import com.kaua.ecommerce.users.domain.accounts.Account;
+import com.kaua.ecommerce.users.domain.pagination.CursorPagination;
+import com.kaua.ecommerce.users.domain.pagination.CursorSearchQuery;
 import com.kaua.ecommerce.users.domain.pagination.Pagination;
 import com.kaua.ecommerce.users.domain.pagination.SearchQuery;
+import com.kaua.ecommerce.users.domain.pagination.SlicePagination;
 
 import java.util.Optional;
 
@@ -18,6 +21,10 @@ public interface AccountGateway {
 
     Pagination<Account> findAll(SearchQuery aQuery);
 
+    CursorPagination<Account> findAll(CursorSearchQuery aQuery);
+
+    SlicePagination<Account> findSlice(SearchQuery aQuery);
+
     Account update(Account aAccount);
 
     void deleteById(String aId);
@@ -1,5 +1,8 @@
 package com.kaua.ecommerce.users.application.gateways;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
 
 public interface CacheGateway<T> {
@@ -7,4 +10,19 @@ public interface CacheGateway<T> {
     void save(T value);
     Optional<T> get(String key);
     void delete(String key);
+
+    default void saveAll(Collection<T> values) {
+        values.forEach(this::save);
+    }
+
+    // only the keys found in cache are present in the result
+    default Map<String, T> getAll(Collection<String> keys) {
+        final var aValues = new LinkedHashMap<String, T>();
+        keys.forEach(key -> get(key).ifPresent(value -> aValues.put(key, value)));
+        return aValues;
+    }
+
+    default void deleteAll(Collection<String> keys) {
+        keys.forEach(this::delete);
+    }
 }
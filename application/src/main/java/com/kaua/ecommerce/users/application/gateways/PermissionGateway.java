@@ -1,7 +1,10 @@
 package com.kaua.ecommerce.users.application.gateways;
 
+import com.kaua.ecommerce.users.domain.pagination.CursorPagination;
+import com.kaua.ecommerce.users.domain.pagination.CursorSearchQuery;
 import com.kaua.ecommerce.users.domain.pagination.Pagination;
 import com.kaua.ecommerce.users.domain.pagination.SearchQuery;
+import com.kaua.ecommerce.users.domain.pagination.SlicePagination;
 import com.kaua.ecommerce.users.domain.permissions.Permission;
 
 import java.util.Optional;
@@ -17,6 +20,10 @@ public interface PermissionGateway {
 
     Pagination<Permission> findAll(SearchQuery aQuery);
 
+    CursorPagination<Permission> findAll(CursorSearchQuery aQuery);
+
+    SlicePagination<Permission> findSlice(SearchQuery aQuery);
+
     Permission update(Permission aPermission);
 
     void deleteById(String aId);
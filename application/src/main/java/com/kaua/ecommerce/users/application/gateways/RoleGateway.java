@@ -1,8 +1,11 @@
 package com.kaua.ecommerce.users.application.gateways;
 
+import com.kaua.ecommerce.users.domain.pagination.CursorPagination;
+import com.kaua.ecommerce.users.domain.pagination.CursorSearchQuery;
 import com.kaua.ecommerce.users.domain.pagination.Pagination;
 import com.kaua.ecommerce.users.domain.roles.Role;
 import com.kaua.ecommerce.users.domain.pagination.SearchQuery;
+import com.kaua.ecommerce.users.domain.pagination.SlicePagination;
 
 import java.util.Optional;
 
@@ -18,6 +21,10 @@ public interface RoleGateway {
 
     Pagination<Role> findAll(SearchQuery aQuery);
 
+    CursorPagination<Role> findAll(CursorSearchQuery aQuery);
+
+    SlicePagination<Role> findSlice(SearchQuery aQuery);
+
     Role update(Role aRole);
 
     void deleteById(String aId);
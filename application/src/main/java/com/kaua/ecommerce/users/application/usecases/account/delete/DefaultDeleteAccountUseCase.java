@@ -3,6 +3,8 @@ package com.kaua.ecommerce.users.application.usecases.account.delete;
 import com.kaua.ecommerce.users.application.gateways.AccountGateway;
 import com.kaua.ecommerce.users.application.gateways.AccountMailGateway;
 import com.kaua.ecommerce.users.application.gateways.AvatarGateway;
+import com.kaua.ecommerce.users.application.gateways.CacheGateway;
+import com.kaua.ecommerce.users.domain.accounts.Account;
 
 import java.util.Objects;
 
@@ -11,15 +13,18 @@ public class DefaultDeleteAccountUseCase extends DeleteAccountUseCase {
     private final AccountGateway accountGateway;
     private final AccountMailGateway accountMailGateway;
     private final AvatarGateway avatarGateway;
+    private final CacheGateway<Account> accountCacheGateway;
 
     public DefaultDeleteAccountUseCase(
             final AccountGateway accountGateway,
             final AccountMailGateway accountMailGateway,
-            final AvatarGateway avatarGateway
+            final AvatarGateway avatarGateway,
+            final CacheGateway<Account> accountCacheGateway
     ) {
         this.accountGateway = Objects.requireNonNull(accountGateway);
         this.accountMailGateway = Objects.requireNonNull(accountMailGateway);
         this.avatarGateway = Objects.requireNonNull(avatarGateway);
+        this.accountCacheGateway = Objects.requireNonNull(accountCacheGateway);
     }
 
     @Override
@@ -28,6 +33,7 @@ public class DefaultDeleteAccountUseCase extends DeleteAccountUseCase {
                 .forEach(result -> accountMailGateway.deleteById(result.getId().getValue()));
 
         this.accountGateway.deleteById(input.id());
+        this.accountCacheGateway.delete(input.id());
         this.avatarGateway.delete(input.id());
     }
 }
@@ -6,11 +6,17 @@ import com.kaua.ecommerce.users.domain.accounts.Account;
 import com.kaua.ecommerce.users.domain.exceptions.NotFoundException;
 
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 public class DefaultGetAccountByIdUseCase extends GetAccountByIdUseCase {
 
     private final AccountGateway accountGateway;
     private final CacheGateway<Account> accountCacheGateway;
+    private final ConcurrentMap<String, CompletableFuture<Optional<Account>>> inFlightLoads;
 
     public DefaultGetAccountByIdUseCase(
             final AccountGateway accountGateway,
@@ -18,18 +24,44 @@ public class DefaultGetAccountByIdUseCase extends GetAccountByIdUseCase {
     ) {
         this.accountGateway = Objects.requireNonNull(accountGateway);
         this.accountCacheGateway = Objects.requireNonNull(accountCacheGateway);
+        this.inFlightLoads = new ConcurrentHashMap<>();
     }
 
     @Override
     public GetAccountByIdOutput execute(GetAccountByIdCommand aCommand) {
         return this.accountCacheGateway.get(aCommand.id())
+                .or(() -> this.loadOnce(aCommand.id()))
                 .map(GetAccountByIdOutput::from)
-                .orElseGet(() ->
-                        this.accountGateway.findById(aCommand.id())
-                        .map(account -> {
-                            this.accountCacheGateway.save(account);
-                            return GetAccountByIdOutput.from(account);
-                        })
-                        .orElseThrow(NotFoundException.with(Account.class, aCommand.id())));
+                .orElseThrow(NotFoundException.with(Account.class, aCommand.id()));
+    }
+
+    private Optional<Account> loadOnce(final String aId) {
+        final var aLoad = new CompletableFuture<Optional<Account>>();
+        final var aInFlightLoad = this.inFlightLoads.putIfAbsent(aId, aLoad);
+
+        if (aInFlightLoad != null) {
+            return awaitLoad(aInFlightLoad);
+        }
+
+        try {
+            final var aAccount = this.accountGateway.findById(aId);
+            aAccount.ifPresent(this.accountCacheGateway::save);
+            aLoad.complete(aAccount);
+            return aAccount;
+        } catch (final RuntimeException e) {
+            aLoad.completeExceptionally(e);
+            throw e;
+        } finally {
+            this.inFlightLoads.remove(aId, aLoad);
+        }
+    }
+
+    private static Optional<Account> awaitLoad(final CompletableFuture<Optional<Account>> aLoad) {
+        try {
+            return aLoad.join();
+        } catch (final CompletionException e) {
+            // loads only ever fail with the loader's own runtime exception
+            throw (RuntimeException) e.getCause();
+        }
     }
 }
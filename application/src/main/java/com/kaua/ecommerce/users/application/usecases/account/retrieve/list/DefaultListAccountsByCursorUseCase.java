@@ -0,0 +1,22 @@
+package com.kaua.ecommerce.users.application.usecases.account.retrieve.list;
+
+import com.kaua.ecommerce.users.application.gateways.AccountGateway;
+import com.kaua.ecommerce.users.domain.pagination.CursorPagination;
+import com.kaua.ecommerce.users.domain.pagination.CursorSearchQuery;
+
+import java.util.Objects;
+
+public class DefaultListAccountsByCursorUseCase extends ListAccountsByCursorUseCase {
+
+    private final AccountGateway accountGateway;
+
+    public DefaultListAccountsByCursorUseCase(final AccountGateway accountGateway) {
+        this.accountGateway = Objects.requireNonNull(accountGateway);
+    }
+
+    @Override
+    public CursorPagination<ListAccountsOutput> execute(CursorSearchQuery aQuery) {
+        return this.accountGateway.findAll(aQuery)
+                .map(ListAccountsOutput::from);
+    }
+}
@@ -0,0 +1,22 @@
+package com.kaua.ecommerce.users.application.usecases.account.retrieve.list;
+
+import com.kaua.ecommerce.users.application.gateways.AccountGateway;
+import com.kaua.ecommerce.users.domain.pagination.SearchQuery;
+import com.kaua.ecommerce.users.domain.pagination.SlicePagination;
+
+import java.util.Objects;
+
+public class DefaultListAccountsSliceUseCase extends ListAccountsSliceUseCase {
+
+    private final AccountGateway accountGateway;
+
+    public DefaultListAccountsSliceUseCase(final AccountGateway accountGateway) {
+        this.accountGateway = Objects.requireNonNull(accountGateway);
+    }
+
+    @Override
+    public SlicePagination<ListAccountsOutput> execute(SearchQuery aQuery) {
+        return this.accountGateway.findSlice(aQuery)
+                .map(ListAccountsOutput::from);
+    }
+}
@@ -0,0 +1,8 @@
+package com.kaua.ecommerce.users.application.usecases.account.retrieve.list;
+
+import com.kaua.ecommerce.users.application.UseCase;
+import com.kaua.ecommerce.users.domain.pagination.CursorPagination;
+import com.kaua.ecommerce.users.domain.pagination.CursorSearchQuery;
+
+public abstract class ListAccountsByCursorUseCase extends UseCase<CursorSearchQuery, CursorPagination<ListAccountsOutput>> {
+}
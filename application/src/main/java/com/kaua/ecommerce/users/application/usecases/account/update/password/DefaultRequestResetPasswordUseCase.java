@@ -4,7 +4,9 @@ import com.kaua.ecommerce.users.application.usecases.account.mail.create.CreateA
 import com.kaua.ecommerce.users.application.usecases.account.mail.create.CreateAccountMailOutput;
 import com.kaua.ecommerce.users.application.usecases.account.mail.create.CreateAccountMailUseCase;
 import com.kaua.ecommerce.users.application.either.Either;
+import com.kaua.ecommerce.users.application.gateways.AccountEmailCacheGateway;
 import com.kaua.ecommerce.users.application.gateways.AccountGateway;
+import com.kaua.ecommerce.users.application.gateways.CacheGateway;
 import com.kaua.ecommerce.users.domain.accounts.Account;
 import com.kaua.ecommerce.users.domain.accounts.mail.AccountMailType;
 import com.kaua.ecommerce.users.domain.exceptions.NotFoundException;
@@ -14,23 +16,31 @@ import com.kaua.ecommerce.users.domain.validation.handler.NotificationHandler;
 
 import java.time.temporal.ChronoUnit;
 import java.util.Objects;
+import java.util.Optional;
 
 public class DefaultRequestResetPasswordUseCase extends RequestResetPasswordUseCase {
 
     private final AccountGateway accountGateway;
+    private final CacheGateway<Account> accountCacheGateway;
+    private final AccountEmailCacheGateway accountEmailCacheGateway;
     private final CreateAccountMailUseCase createAccountMailUseCase;
 
     public DefaultRequestResetPasswordUseCase(
             final AccountGateway accountGateway,
+            final CacheGateway<Account> accountCacheGateway,
+            final AccountEmailCacheGateway accountEmailCacheGateway,
             final CreateAccountMailUseCase createAccountMailUseCase
     ) {
         this.accountGateway = Objects.requireNonNull(accountGateway);
+        this.accountCacheGateway = Objects.requireNonNull(accountCacheGateway);
+        this.accountEmailCacheGateway = Objects.requireNonNull(accountEmailCacheGateway);
         this.createAccountMailUseCase = Objects.requireNonNull(createAccountMailUseCase);
     }
 
     @Override
     public Either<NotificationHandler, CreateAccountMailOutput> execute(RequestResetPasswordCommand input) {
-        final var aAccount = accountGateway.findByEmail(input.email())
+        final var aAccount = this.findCachedByEmail(input.email())
+                .or(() -> this.loadByEmail(input.email()))
                 .orElseThrow(NotFoundException.with(Account.class, input.email()));
 
         final var aCommand = CreateAccountMailCommand.with(
@@ -42,4 +52,17 @@ public class DefaultRequestResetPasswordUseCase extends RequestResetPasswordUseC
 
         return this.createAccountMailUseCase.execute(aCommand);
     }
+
+    private Optional<Account> findCachedByEmail(final String aEmail) {
+        // the email entry outlives a deleted or evicted account, the account entry is the source of truth
+        return this.accountEmailCacheGateway.findIdByEmail(aEmail)
+                .flatMap(this.accountCacheGateway::get)
+                .filter(account -> account.getEmail().equalsIgnoreCase(aEmail));
+    }
+
+    private Optional<Account> loadByEmail(final String aEmail) {
+        final var aAccount = this.accountGateway.findByEmail(aEmail);
+        aAccount.ifPresent(this.accountCacheGateway::save);
+        return aAccount;
+    }
 }
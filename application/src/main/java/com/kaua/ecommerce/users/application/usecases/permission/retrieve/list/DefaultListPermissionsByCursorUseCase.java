@@ -0,0 +1,22 @@
+package com.kaua.ecommerce.users.application.usecases.permission.retrieve.list;
+
+import com.kaua.ecommerce.users.application.gateways.PermissionGateway;
+import com.kaua.ecommerce.users.domain.pagination.CursorPagination;
+import com.kaua.ecommerce.users.domain.pagination.CursorSearchQuery;
+
+import java.util.Objects;
+
+public class DefaultListPermissionsByCursorUseCase extends ListPermissionsByCursorUseCase {
+
+    private final PermissionGateway permissionGateway;
+
+    public DefaultListPermissionsByCursorUseCase(final PermissionGateway permissionGateway) {
+        this.permissionGateway = Objects.requireNonNull(permissionGateway);
+    }
+
+    @Override
+    public CursorPagination<ListPermissionsOutput> execute(CursorSearchQuery aQuery) {
+        return this.permissionGateway.findAll(aQuery)
+                .map(ListPermissionsOutput::from);
+    }
+}
@@ -0,0 +1,22 @@
+package com.kaua.ecommerce.users.application.usecases.permission.retrieve.list;
+
+import com.kaua.ecommerce.users.application.gateways.PermissionGateway;
+import com.kaua.ecommerce.users.domain.pagination.SearchQuery;
+import com.kaua.ecommerce.users.domain.pagination.SlicePagination;
+
+import java.util.Objects;
+
+public class DefaultListPermissionsSliceUseCase extends ListPermissionsSliceUseCase {
+
+    private final PermissionGateway permissionGateway;
+
+    public DefaultListPermissionsSliceUseCase(final PermissionGateway permissionGateway) {
+        this.permissionGateway = Objects.requireNonNull(permissionGateway);
+    }
+
+    @Override
+    public SlicePagination<ListPermissionsOutput> execute(SearchQuery aQuery) {
+        return this.permissionGateway.findSlice(aQuery)
+                .map(ListPermissionsOutput::from);
+    }
+}
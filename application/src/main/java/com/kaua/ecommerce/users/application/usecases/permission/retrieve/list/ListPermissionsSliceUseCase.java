@@ -0,0 +1,8 @@
+package com.kaua.ecommerce.users.application.usecases.permission.retrieve.list;
+
+import com.kaua.ecommerce.users.application.UseCase;
+import com.kaua.ecommerce.users.domain.pagination.SearchQuery;
+import com.kaua.ecommerce.users.domain.pagination.SlicePagination;
+
+public abstract class ListPermissionsSliceUseCase extends UseCase<SearchQuery, SlicePagination<ListPermissionsOutput>> {
+}
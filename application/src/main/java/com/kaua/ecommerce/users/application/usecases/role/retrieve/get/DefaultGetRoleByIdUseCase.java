@@ -1,23 +1,37 @@
 package com.kaua.ecommerce.users.application.usecases.role.retrieve.get;
 
+import com.kaua.ecommerce.users.application.gateways.CacheGateway;
 import com.kaua.ecommerce.users.application.gateways.RoleGateway;
 import com.kaua.ecommerce.users.domain.exceptions.NotFoundException;
 import com.kaua.ecommerce.users.domain.roles.Role;
 
 import java.util.Objects;
+import java.util.Optional;
 
 public class DefaultGetRoleByIdUseCase extends GetRoleByIdUseCase {
 
     private final RoleGateway roleGateway;
+    private final CacheGateway<Role> roleCacheGateway;
 
-    public DefaultGetRoleByIdUseCase(final RoleGateway roleGateway) {
+    public DefaultGetRoleByIdUseCase(
+            final RoleGateway roleGateway,
+            final CacheGateway<Role> roleCacheGateway
+    ) {
         this.roleGateway = Objects.requireNonNull(roleGateway);
+        this.roleCacheGateway = Objects.requireNonNull(roleCacheGateway);
     }
 
     @Override
     public GetRoleByIdOutput execute(GetRoleByIdCommand aCommand) {
-        return this.roleGateway.findById(aCommand.id())
+        return this.roleCacheGateway.get(aCommand.id())
+                .or(() -> this.load(aCommand.id()))
                 .map(GetRoleByIdOutput::from)
                 .orElseThrow(NotFoundException.with(Role.class, aCommand.id()));
     }
+
+    private Optional<Role> load(final String aId) {
+        final var aRole = this.roleGateway.findById(aId);
+        aRole.ifPresent(this.roleCacheGateway::save);
+        return aRole;
+    }
 }
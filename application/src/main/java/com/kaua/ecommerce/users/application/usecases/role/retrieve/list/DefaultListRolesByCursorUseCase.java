@@ -0,0 +1,22 @@
+package com.kaua.ecommerce.users.application.usecases.role.retrieve.list;
+
+import com.kaua.ecommerce.users.application.gateways.RoleGateway;
+import com.kaua.ecommerce.users.domain.pagination.CursorPagination;
+import com.kaua.ecommerce.users.domain.pagination.CursorSearchQuery;
+
+import java.util.Objects;
+
+public class DefaultListRolesByCursorUseCase extends ListRolesByCursorUseCase {
+
+    private final RoleGateway roleGateway;
+
+    public DefaultListRolesByCursorUseCase(final RoleGateway roleGateway) {
+        this.roleGateway = Objects.requireNonNull(roleGateway);
+    }
+
+    @Override
+    public CursorPagination<ListRolesOutput> execute(CursorSearchQuery aQuery) {
+        return this.roleGateway.findAll(aQuery)
+                .map(ListRolesOutput::from);
+    }
+}
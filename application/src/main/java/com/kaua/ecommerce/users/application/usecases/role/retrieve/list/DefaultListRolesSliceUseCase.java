@@ -0,0 +1,22 @@
+package com.kaua.ecommerce.users.application.usecases.role.retrieve.list;
+
+import com.kaua.ecommerce.users.application.gateways.RoleGateway;
+import com.kaua.ecommerce.users.domain.pagination.SearchQuery;
+import com.kaua.ecommerce.users.domain.pagination.SlicePagination;
+
+import java.util.Objects;
+
+public class DefaultListRolesSliceUseCase extends ListRolesSliceUseCase {
+
+    private final RoleGateway roleGateway;
+
+    public DefaultListRolesSliceUseCase(final RoleGateway roleGateway) {
+        this.roleGateway = Objects.requireNonNull(roleGateway);
+    }
+
+    @Override
+    public SlicePagination<ListRolesOutput> execute(SearchQuery aQuery) {
+        return this.roleGateway.findSlice(aQuery)
+                .map(ListRolesOutput::from);
+    }
+}
@@ -0,0 +1,8 @@
+package com.kaua.ecommerce.users.application.usecases.role.retrieve.list;
+
+import com.kaua.ecommerce.users.application.UseCase;
+import com.kaua.ecommerce.users.domain.pagination.SearchQuery;
+import com.kaua.ecommerce.users.domain.pagination.SlicePagination;
+
+public abstract class ListRolesSliceUseCase extends UseCase<SearchQuery, SlicePagination<ListRolesOutput>> {
+}
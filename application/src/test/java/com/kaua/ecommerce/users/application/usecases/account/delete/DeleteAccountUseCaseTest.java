@@ -3,6 +3,7 @@ package com.kaua.ecommerce.users.application.usecases.account.delete;
 import com.kaua.ecommerce.users.application.gateways.AccountGateway;
 import com.kaua.ecommerce.users.application.gateways.AccountMailGateway;
 import com.kaua.ecommerce.users.application.gateways.AvatarGateway;
+import com.kaua.ecommerce.users.application.gateways.CacheGateway;
 import com.kaua.ecommerce.users.domain.accounts.Account;
 import com.kaua.ecommerce.users.domain.accounts.mail.AccountMail;
 import com.kaua.ecommerce.users.domain.accounts.mail.AccountMailType;
@@ -38,6 +39,9 @@ public class DeleteAccountUseCaseTest {
     @Mock
     private AvatarGateway avatarGateway;
 
+    @Mock
+    private CacheGateway<Account> accountCacheGateway;
+
     @InjectMocks
     private DefaultDeleteAccountUseCase useCase;
 
@@ -72,6 +76,8 @@ public class DeleteAccountUseCaseTest {
         // then
         Mockito.verify(accountGateway, Mockito.times(1))
                 .deleteById(aId);
+        Mockito.verify(accountCacheGateway, Mockito.times(1))
+                .delete(aId);
         Mockito.verify(avatarGateway, Mockito.times(1))
                 .delete(aId);
     }
@@ -93,6 +99,8 @@ public class DeleteAccountUseCaseTest {
         // then
         Mockito.verify(accountGateway, Mockito.times(1))
                 .deleteById(aId);
+        Mockito.verify(accountCacheGateway, Mockito.times(1))
+                .delete(aId);
         Mockito.verify(avatarGateway, Mockito.times(1))
                 .delete(aId);
     }
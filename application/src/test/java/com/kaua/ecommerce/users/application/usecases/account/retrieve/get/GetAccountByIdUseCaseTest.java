@@ -14,7 +14,13 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.ArrayList;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 @ExtendWith(MockitoExtension.class)
 public class GetAccountByIdUseCaseTest {
@@ -128,4 +134,91 @@ public class GetAccountByIdUseCaseTest {
         Mockito.verify(accountGateway, Mockito.times(1))
                 .findById(Mockito.any());
     }
+
+    @Test
+    void givenConcurrentCacheMissesForSameId_whenCallGetByIdAccount_thenShouldLoadFromDatabaseOnce() throws Exception {
+        // given
+        final var aAccount = Account.newAccount(
+                "Fulano",
+                "Silveira",
+                "teste@teste.com",
+                "1234567Ab",
+                Role.newRole("Ceo", null, RoleTypes.EMPLOYEES, false)
+        );
+        final var aCommand = GetAccountByIdCommand.with(aAccount.getId().getValue());
+        final var aCallers = 8;
+        final var aLoaderStarted = new CountDownLatch(1);
+        final var aReleaseLoader = new CountDownLatch(1);
+
+        // when
+        Mockito.when(accountGateway.findById(Mockito.any())).thenAnswer(invocation -> {
+            aLoaderStarted.countDown();
+            aReleaseLoader.await(5, TimeUnit.SECONDS);
+            return Optional.of(aAccount);
+        });
+
+        final var aExecutor = Executors.newFixedThreadPool(aCallers);
+        try {
+            final var aFirst = aExecutor.submit(() -> useCase.execute(aCommand));
+            aLoaderStarted.await(5, TimeUnit.SECONDS);
+
+            final var aOthers = new ArrayList<Future<GetAccountByIdOutput>>();
+            for (int i = 1; i < aCallers; i++) {
+                aOthers.add(aExecutor.submit(() -> useCase.execute(aCommand)));
+            }
+
+            Thread.sleep(100);
+            aReleaseLoader.countDown();
+
+            // then
+            Assertions.assertEquals(aAccount.getId().getValue(), aFirst.get(5, TimeUnit.SECONDS).id());
+            for (final var aOther : aOthers) {
+                Assertions.assertEquals(aAccount.getId().getValue(), aOther.get(5, TimeUnit.SECONDS).id());
+            }
+        } finally {
+            aExecutor.shutdownNow();
+        }
+
+        Mockito.verify(accountGateway, Mockito.times(1)).findById(aAccount.getId().getValue());
+        Mockito.verify(accountCacheGateway, Mockito.times(1)).save(aAccount);
+    }
+
+    @Test
+    void givenConcurrentCacheMissesAndLoaderFails_whenCallGetByIdAccount_thenShouldPropagateToWaiters() throws Exception {
+        // given
+        final var expectedErrorMessage = "Database unavailable";
+        final var aCommand = GetAccountByIdCommand.with("123");
+        final var aLoaderStarted = new CountDownLatch(1);
+        final var aReleaseLoader = new CountDownLatch(1);
+
+        // when
+        Mockito.when(accountGateway.findById(Mockito.any())).thenAnswer(invocation -> {
+            aLoaderStarted.countDown();
+            aReleaseLoader.await(5, TimeUnit.SECONDS);
+            throw new IllegalStateException(expectedErrorMessage);
+        });
+
+        final var aExecutor = Executors.newFixedThreadPool(2);
+        try {
+            final var aFirst = aExecutor.submit(() -> useCase.execute(aCommand));
+            aLoaderStarted.await(5, TimeUnit.SECONDS);
+            final var aSecond = aExecutor.submit(() -> useCase.execute(aCommand));
+
+            Thread.sleep(100);
+            aReleaseLoader.countDown();
+
+            // then
+            final var aFirstError = Assertions.assertThrows(ExecutionException.class,
+                    () -> aFirst.get(5, TimeUnit.SECONDS));
+            final var aSecondError = Assertions.assertThrows(ExecutionException.class,
+                    () -> aSecond.get(5, TimeUnit.SECONDS));
+
+            Assertions.assertEquals(expectedErrorMessage, aFirstError.getCause().getMessage());
+            Assertions.assertEquals(expectedErrorMessage, aSecondError.getCause().getMessage());
+        } finally {
+            aExecutor.shutdownNow();
+        }
+
+        Mockito.verify(accountGateway, Mockito.times(1)).findById("123");
+    }
 }
@@ -0,0 +1,78 @@
+package com.kaua.ecommerce.users.application.usecases.account.retrieve.list;
+
+import com.kaua.ecommerce.users.application.gateways.AccountGateway;
+import com.kaua.ecommerce.users.domain.accounts.Account;
+import com.kaua.ecommerce.users.domain.roles.Role;
+import com.kaua.ecommerce.users.domain.roles.RoleTypes;
+import com.kaua.ecommerce.users.domain.pagination.CursorPagination;
+import com.kaua.ecommerce.users.domain.pagination.CursorSearchQuery;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+@ExtendWith(MockitoExtension.class)
+public class ListAccountsByCursorUseCaseTest {
+
+    @InjectMocks
+    private DefaultListAccountsByCursorUseCase useCase;
+
+    @Mock
+    private AccountGateway accountGateway;
+
+    @BeforeEach
+    void cleanUp() {
+        Mockito.reset(accountGateway);
+    }
+
+    @Test
+    void givenAValidQuery_whenCallListAccountsByCursor_thenShouldReturnAccountsAndNextCursor() {
+        final var aRole = Role.newRole("user", null, RoleTypes.COMMON, true);
+        final var items = List.of(
+                Account.newAccount("teste", "testes", "teste.testes@test.com", "12345678Ab*", aRole),
+                Account.newAccount("fulano", "fulaninho", "fulaninho.fulano@fulaninho.com", "12345678Ab*", aRole)
+        );
+
+        final var cursor = "";
+        final var nextCursor = "eyJpZCI6InMxIn0";
+        final var perPage = 2;
+        final var terms = "";
+        final var sort = "createdAt";
+        final var direction = "asc";
+
+        final var aQuery = new CursorSearchQuery(cursor, perPage, terms, sort, direction);
+        final var pagination = new CursorPagination<>(nextCursor, perPage, items);
+
+        final var resultItems = pagination.map(ListAccountsOutput::from);
+
+        Mockito.when(accountGateway.findAll(aQuery)).thenReturn(pagination);
+
+        final var actualResult = useCase.execute(aQuery);
+
+        Assertions.assertEquals(resultItems, actualResult);
+        Assertions.assertEquals(nextCursor, actualResult.nextCursor());
+        Assertions.assertEquals(perPage, actualResult.perPage());
+        Assertions.assertEquals(items.size(), actualResult.items().size());
+    }
+
+    @Test
+    void givenAValidQuery_whenHasNoResult_thenShouldReturnEmptyAccountsWithoutNextCursor() {
+        final var items = List.<Account>of();
+
+        final var aQuery = new CursorSearchQuery("", 10, "", "createdAt", "asc");
+        final var pagination = new CursorPagination<>(null, 10, items);
+
+        Mockito.when(accountGateway.findAll(aQuery)).thenReturn(pagination);
+
+        final var actualResult = useCase.execute(aQuery);
+
+        Assertions.assertNull(actualResult.nextCursor());
+        Assertions.assertTrue(actualResult.items().isEmpty());
+    }
+}
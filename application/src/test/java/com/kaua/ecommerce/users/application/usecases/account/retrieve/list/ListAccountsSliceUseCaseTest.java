@@ -0,0 +1,78 @@
+package com.kaua.ecommerce.users.application.usecases.account.retrieve.list;
+
+import com.kaua.ecommerce.users.application.gateways.AccountGateway;
+import com.kaua.ecommerce.users.domain.accounts.Account;
+import com.kaua.ecommerce.users.domain.roles.Role;
+import com.kaua.ecommerce.users.domain.roles.RoleTypes;
+import com.kaua.ecommerce.users.domain.pagination.SearchQuery;
+import com.kaua.ecommerce.users.domain.pagination.SlicePagination;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+@ExtendWith(MockitoExtension.class)
+public class ListAccountsSliceUseCaseTest {
+
+    @InjectMocks
+    private DefaultListAccountsSliceUseCase useCase;
+
+    @Mock
+    private AccountGateway accountGateway;
+
+    @BeforeEach
+    void cleanUp() {
+        Mockito.reset(accountGateway);
+    }
+
+    @Test
+    void givenAValidQuery_whenCallListAccountsSlice_thenShouldReturnAccountsAndHasNext() {
+        final var aRole = Role.newRole("user", null, RoleTypes.COMMON, true);
+        final var items = List.of(
+                Account.newAccount("teste", "testes", "teste.testes@test.com", "12345678Ab*", aRole),
+                Account.newAccount("fulano", "fulaninho", "fulaninho.fulano@fulaninho.com", "12345678Ab*", aRole)
+        );
+
+        final var page = 0;
+        final var perPage = 2;
+        final var terms = "";
+        final var sort = "createdAt";
+        final var direction = "asc";
+
+        final var aQuery = new SearchQuery(page, perPage, terms, sort, direction);
+        final var pagination = new SlicePagination<>(page, perPage, true, items);
+
+        final var resultItems = pagination.map(ListAccountsOutput::from);
+
+        Mockito.when(accountGateway.findSlice(aQuery)).thenReturn(pagination);
+
+        final var actualResult = useCase.execute(aQuery);
+
+        Assertions.assertEquals(resultItems, actualResult);
+        Assertions.assertEquals(page, actualResult.currentPage());
+        Assertions.assertTrue(actualResult.hasNext());
+        Assertions.assertEquals(perPage, actualResult.perPage());
+        Assertions.assertEquals(items.size(), actualResult.items().size());
+    }
+
+    @Test
+    void givenAValidQuery_whenHasNoResult_thenShouldReturnEmptyAccountsWithoutNext() {
+        final var items = List.<Account>of();
+
+        final var aQuery = new SearchQuery(0, 10, "", "createdAt", "asc");
+        final var pagination = new SlicePagination<>(0, 10, false, items);
+
+        Mockito.when(accountGateway.findSlice(aQuery)).thenReturn(pagination);
+
+        final var actualResult = useCase.execute(aQuery);
+
+        Assertions.assertFalse(actualResult.hasNext());
+        Assertions.assertTrue(actualResult.items().isEmpty());
+    }
+}
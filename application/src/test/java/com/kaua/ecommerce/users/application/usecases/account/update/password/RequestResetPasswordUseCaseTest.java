@@ -1,6 +1,8 @@
 package com.kaua.ecommerce.users.application.usecases.account.update.password;
 
+import com.kaua.ecommerce.users.application.gateways.AccountEmailCacheGateway;
 import com.kaua.ecommerce.users.application.gateways.AccountGateway;
+import com.kaua.ecommerce.users.application.gateways.CacheGateway;
 import com.kaua.ecommerce.users.application.usecases.account.mail.create.CreateAccountMailUseCase;
 import com.kaua.ecommerce.users.domain.accounts.Account;
 import com.kaua.ecommerce.users.domain.accounts.mail.AccountMailType;
@@ -24,6 +26,12 @@ public class RequestResetPasswordUseCaseTest {
     @Mock
     private AccountGateway accountGateway;
 
+    @Mock
+    private CacheGateway<Account> accountCacheGateway;
+
+    @Mock
+    private AccountEmailCacheGateway accountEmailCacheGateway;
+
     @Mock
     private CreateAccountMailUseCase createAccountMailUseCase;
 
@@ -56,6 +64,8 @@ public class RequestResetPasswordUseCaseTest {
 
         Mockito.verify(accountGateway, Mockito.times(1))
                 .findByEmail(aEmail);
+        Mockito.verify(accountCacheGateway, Mockito.times(1))
+                .save(aAccount);
         Mockito.verify(createAccountMailUseCase, Mockito.times(1))
                 .execute(Mockito.argThat(cmd ->
                         Objects.equals(aAccount, cmd.account()) &&
@@ -85,4 +95,78 @@ public class RequestResetPasswordUseCaseTest {
         Mockito.verify(createAccountMailUseCase, Mockito.times(0))
                 .execute(Mockito.any());
     }
+
+    @Test
+    void givenACachedAccount_whenCallRequestResetPassowrd_thenShouldNotQueryTheAccountGateway() {
+        // given
+        final var aEmail = "teste@teste.com";
+        final var aRole = Role.newRole("Ceo", null, RoleTypes.EMPLOYEES, false);
+        final var aAccount = Account.newAccount("Fulano", "Silveira", aEmail, "1234567Ab", aRole);
+        final var aId = aAccount.getId().getValue();
+
+        final var aCommand = RequestResetPasswordCommand.with("TESTE@teste.com");
+
+        // when
+        Mockito.when(accountEmailCacheGateway.findIdByEmail(Mockito.any()))
+                .thenReturn(Optional.of(aId));
+        Mockito.when(accountCacheGateway.get(aId))
+                .thenReturn(Optional.of(aAccount));
+
+        Assertions.assertDoesNotThrow(() -> useCase.execute(aCommand));
+
+        Mockito.verify(accountGateway, Mockito.times(0))
+                .findByEmail(Mockito.any());
+        Mockito.verify(createAccountMailUseCase, Mockito.times(1))
+                .execute(Mockito.argThat(cmd -> Objects.equals(aAccount, cmd.account())));
+    }
+
+    @Test
+    void givenAnEmailEntryForAnEvictedAccount_whenCallRequestResetPassowrd_thenShouldLoadTheAccount() {
+        // given
+        final var aEmail = "teste@teste.com";
+        final var aRole = Role.newRole("Ceo", null, RoleTypes.EMPLOYEES, false);
+        final var aAccount = Account.newAccount("Fulano", "Silveira", aEmail, "1234567Ab", aRole);
+        final var aId = aAccount.getId().getValue();
+
+        final var aCommand = RequestResetPasswordCommand.with(aEmail);
+
+        // when
+        Mockito.when(accountEmailCacheGateway.findIdByEmail(aEmail))
+                .thenReturn(Optional.of(aId));
+        Mockito.when(accountCacheGateway.get(aId))
+                .thenReturn(Optional.empty());
+        Mockito.when(accountGateway.findByEmail(aEmail))
+                .thenReturn(Optional.of(aAccount));
+
+        Assertions.assertDoesNotThrow(() -> useCase.execute(aCommand));
+
+        Mockito.verify(accountGateway, Mockito.times(1))
+                .findByEmail(aEmail);
+        Mockito.verify(accountCacheGateway, Mockito.times(1))
+                .save(aAccount);
+    }
+
+    @Test
+    void givenAnEmailEntryPointingToAnotherAccount_whenCallRequestResetPassowrd_thenShouldLoadTheAccount() {
+        // given
+        final var aEmail = "teste@teste.com";
+        final var aRole = Role.newRole("Ceo", null, RoleTypes.EMPLOYEES, false);
+        final var aOtherAccount = Account.newAccount("Fulano", "Silveira", "outro@teste.com", "1234567Ab", aRole);
+        final var aOtherId = aOtherAccount.getId().getValue();
+
+        final var aCommand = RequestResetPasswordCommand.with(aEmail);
+
+        // when
+        Mockito.when(accountEmailCacheGateway.findIdByEmail(aEmail))
+                .thenReturn(Optional.of(aOtherId));
+        Mockito.when(accountCacheGateway.get(aOtherId))
+                .thenReturn(Optional.of(aOtherAccount));
+        Mockito.when(accountGateway.findByEmail(aEmail))
+                .thenReturn(Optional.empty());
+
+        Assertions.assertThrows(NotFoundException.class, () -> useCase.execute(aCommand));
+
+        Mockito.verify(createAccountMailUseCase, Mockito.times(0))
+                .execute(Mockito.any());
+    }
 }
@@ -0,0 +1,73 @@
+package com.kaua.ecommerce.users.application.usecases.permission.retrieve.list;
+
+import com.kaua.ecommerce.users.application.gateways.PermissionGateway;
+import com.kaua.ecommerce.users.domain.permissions.Permission;
+import com.kaua.ecommerce.users.domain.pagination.CursorPagination;
+import com.kaua.ecommerce.users.domain.pagination.CursorSearchQuery;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+@ExtendWith(MockitoExtension.class)
+public class ListPermissionsByCursorUseCaseTest {
+
+    @InjectMocks
+    private DefaultListPermissionsByCursorUseCase useCase;
+
+    @Mock
+    private PermissionGateway permissionGateway;
+
+    @BeforeEach
+    void cleanUp() {
+        Mockito.reset(permissionGateway);
+    }
+
+    @Test
+    void givenAValidQuery_whenCallListPermissionsByCursor_thenShouldReturnPermissionsAndNextCursor() {
+        final var items = List.of(Permission.newPermission("create-an-admin-user", null),
+                Permission.newPermission("create-a-customer-user", "Create a customer user"));
+
+        final var cursor = "";
+        final var nextCursor = "eyJpZCI6InMxIn0";
+        final var perPage = 2;
+        final var terms = "";
+        final var sort = "createdAt";
+        final var direction = "asc";
+
+        final var aQuery = new CursorSearchQuery(cursor, perPage, terms, sort, direction);
+        final var pagination = new CursorPagination<>(nextCursor, perPage, items);
+
+        final var resultItems = pagination.map(ListPermissionsOutput::from);
+
+        Mockito.when(permissionGateway.findAll(aQuery)).thenReturn(pagination);
+
+        final var actualResult = useCase.execute(aQuery);
+
+        Assertions.assertEquals(resultItems, actualResult);
+        Assertions.assertEquals(nextCursor, actualResult.nextCursor());
+        Assertions.assertEquals(perPage, actualResult.perPage());
+        Assertions.assertEquals(items.size(), actualResult.items().size());
+    }
+
+    @Test
+    void givenAValidQuery_whenHasNoResult_thenShouldReturnEmptyPermissionsWithoutNextCursor() {
+        final var items = List.<Permission>of();
+
+        final var aQuery = new CursorSearchQuery("", 10, "", "createdAt", "asc");
+        final var pagination = new CursorPagination<>(null, 10, items);
+
+        Mockito.when(permissionGateway.findAll(aQuery)).thenReturn(pagination);
+
+        final var actualResult = useCase.execute(aQuery);
+
+        Assertions.assertNull(actualResult.nextCursor());
+        Assertions.assertTrue(actualResult.items().isEmpty());
+    }
+}
@@ -0,0 +1,73 @@
+package com.kaua.ecommerce.users.application.usecases.permission.retrieve.list;
+
+import com.kaua.ecommerce.users.application.gateways.PermissionGateway;
+import com.kaua.ecommerce.users.domain.permissions.Permission;
+import com.kaua.ecommerce.users.domain.pagination.SearchQuery;
+import com.kaua.ecommerce.users.domain.pagination.SlicePagination;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+@ExtendWith(MockitoExtension.class)
+public class ListPermissionsSliceUseCaseTest {
+
+    @InjectMocks
+    private DefaultListPermissionsSliceUseCase useCase;
+
+    @Mock
+    private PermissionGateway permissionGateway;
+
+    @BeforeEach
+    void cleanUp() {
+        Mockito.reset(permissionGateway);
+    }
+
+    @Test
+    void givenAValidQuery_whenCallListPermissionsSlice_thenShouldReturnPermissionsAndHasNext() {
+        final var items = List.of(Permission.newPermission("create-an-admin-user", null),
+                Permission.newPermission("create-a-customer-user", "Create a customer user"));
+
+        final var page = 0;
+        final var perPage = 2;
+        final var terms = "";
+        final var sort = "createdAt";
+        final var direction = "asc";
+
+        final var aQuery = new SearchQuery(page, perPage, terms, sort, direction);
+        final var pagination = new SlicePagination<>(page, perPage, true, items);
+
+        final var resultItems = pagination.map(ListPermissionsOutput::from);
+
+        Mockito.when(permissionGateway.findSlice(aQuery)).thenReturn(pagination);
+
+        final var actualResult = useCase.execute(aQuery);
+
+        Assertions.assertEquals(resultItems, actualResult);
+        Assertions.assertEquals(page, actualResult.currentPage());
+        Assertions.assertTrue(actualResult.hasNext());
+        Assertions.assertEquals(perPage, actualResult.perPage());
+        Assertions.assertEquals(items.size(), actualResult.items().size());
+    }
+
+    @Test
+    void givenAValidQuery_whenHasNoResult_thenShouldReturnEmptyPermissionsWithoutNext() {
+        final var items = List.<Permission>of();
+
+        final var aQuery = new SearchQuery(0, 10, "", "createdAt", "asc");
+        final var pagination = new SlicePagination<>(0, 10, false, items);
+
+        Mockito.when(permissionGateway.findSlice(aQuery)).thenReturn(pagination);
+
+        final var actualResult = useCase.execute(aQuery);
+
+        Assertions.assertFalse(actualResult.hasNext());
+        Assertions.assertTrue(actualResult.items().isEmpty());
+    }
+}
@@ -1,5 +1,6 @@
 package com.kaua.ecommerce.users.application.usecases.role.retrieve.get;
 
+import com.kaua.ecommerce.users.application.gateways.CacheGateway;
 import com.kaua.ecommerce.users.application.gateways.RoleGateway;
 import com.kaua.ecommerce.users.domain.exceptions.NotFoundException;
 import com.kaua.ecommerce.users.domain.permissions.PermissionID;
@@ -23,6 +24,9 @@ public class GetRoleByIdUseCaseTest {
     @Mock
     private RoleGateway roleGateway;
 
+    @Mock
+    private CacheGateway<Role> roleCacheGateway;
+
     @InjectMocks
     private DefaultGetRoleByIdUseCase useCase;
 
@@ -61,6 +65,30 @@ public class GetRoleByIdUseCaseTest {
 
         Mockito.verify(roleGateway, Mockito.times(1))
                 .findById(aRole.getId().getValue());
+        Mockito.verify(roleCacheGateway, Mockito.times(1))
+                .save(aRole);
+    }
+
+    @Test
+    void givenACachedRole_whenCallGetRoleById_thenShouldNotQueryTheRoleGateway() {
+        // given
+        final var aRole = Role.newRole("Ceo", null, RoleTypes.EMPLOYEES, false);
+        aRole.addPermissions(Set.of(RolePermission.newRolePermission(PermissionID.unique(), "create-user")));
+
+        final var aCommand = GetRoleByIdCommand.with(aRole.getId().getValue());
+
+        // when
+        Mockito.when(roleCacheGateway.get(aRole.getId().getValue()))
+                .thenReturn(Optional.of(aRole));
+
+        final var aOutput = Assertions.assertDoesNotThrow(() -> useCase.execute(aCommand));
+
+        // then
+        Assertions.assertEquals(aRole.getId().getValue(), aOutput.id());
+        Assertions.assertEquals(Set.of("create-user"), aOutput.permissions());
+
+        Mockito.verify(roleGateway, Mockito.times(0))
+                .findById(Mockito.any());
     }
 
     @Test
@@ -82,5 +110,7 @@ public class GetRoleByIdUseCaseTest {
 
         Mockito.verify(roleGateway, Mockito.times(1))
                 .findById(Mockito.any());
+        Mockito.verify(roleCacheGateway, Mockito.times(0))
+                .save(Mockito.any());
     }
 }
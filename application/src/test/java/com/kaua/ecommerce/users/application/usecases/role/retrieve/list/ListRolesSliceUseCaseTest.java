@@ -0,0 +1,74 @@
+package com.kaua.ecommerce.users.application.usecases.role.retrieve.list;
+
+import com.kaua.ecommerce.users.application.gateways.RoleGateway;
+import com.kaua.ecommerce.users.domain.roles.Role;
+import com.kaua.ecommerce.users.domain.roles.RoleTypes;
+import com.kaua.ecommerce.users.domain.pagination.SearchQuery;
+import com.kaua.ecommerce.users.domain.pagination.SlicePagination;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+@ExtendWith(MockitoExtension.class)
+public class ListRolesSliceUseCaseTest {
+
+    @InjectMocks
+    private DefaultListRolesSliceUseCase useCase;
+
+    @Mock
+    private RoleGateway roleGateway;
+
+    @BeforeEach
+    void cleanUp() {
+        Mockito.reset(roleGateway);
+    }
+
+    @Test
+    void givenAValidQuery_whenCallListRolesSlice_thenShouldReturnRolesAndHasNext() {
+        final var items = List.of(Role.newRole("admin", null, RoleTypes.EMPLOYEES, false),
+                Role.newRole("User", "Common user", RoleTypes.COMMON, true));
+
+        final var page = 0;
+        final var perPage = 2;
+        final var terms = "";
+        final var sort = "createdAt";
+        final var direction = "asc";
+
+        final var aQuery = new SearchQuery(page, perPage, terms, sort, direction);
+        final var pagination = new SlicePagination<>(page, perPage, true, items);
+
+        final var resultItems = pagination.map(ListRolesOutput::from);
+
+        Mockito.when(roleGateway.findSlice(aQuery)).thenReturn(pagination);
+
+        final var actualResult = useCase.execute(aQuery);
+
+        Assertions.assertEquals(resultItems, actualResult);
+        Assertions.assertEquals(page, actualResult.currentPage());
+        Assertions.assertTrue(actualResult.hasNext());
+        Assertions.assertEquals(perPage, actualResult.perPage());
+        Assertions.assertEquals(items.size(), actualResult.items().size());
+    }
+
+    @Test
+    void givenAValidQuery_whenHasNoResult_thenShouldReturnEmptyRolesWithoutNext() {
+        final var items = List.<Role>of();
+
+        final var aQuery = new SearchQuery(0, 10, "", "createdAt", "asc");
+        final var pagination = new SlicePagination<>(0, 10, false, items);
+
+        Mockito.when(roleGateway.findSlice(aQuery)).thenReturn(pagination);
+
+        final var actualResult = useCase.execute(aQuery);
+
+        Assertions.assertFalse(actualResult.hasNext());
+        Assertions.assertTrue(actualResult.items().isEmpty());
+    }
+}
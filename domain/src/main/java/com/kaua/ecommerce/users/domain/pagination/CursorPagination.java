@@ -0,0 +1,23 @@
+package com.kaua.ecommerce.users.domain.pagination;
+
+import java.util.List;
+import java.util.function.Function;
+
+public record CursorPagination<T>(
+        String nextCursor,
+        int perPage,
+        List<T> items
+) {
+
+    public <R> CursorPagination<R> map(final Function<T, R> mapper) {
+        final List<R> aNewList = this.items.stream()
+                .map(mapper)
+                .toList();
+
+        return new CursorPagination<>(
+                nextCursor(),
+                perPage(),
+                aNewList
+        );
+    }
+}
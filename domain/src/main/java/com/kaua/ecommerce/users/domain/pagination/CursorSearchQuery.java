@@ -0,0 +1,10 @@
+package com.kaua.ecommerce.users.domain.pagination;
+
+public record CursorSearchQuery(
+        String cursor,
+        int perPage,
+        String terms,
+        String sort,
+        String direction
+) {
+}
@@ -0,0 +1,25 @@
+package com.kaua.ecommerce.users.domain.pagination;
+
+import java.util.List;
+import java.util.function.Function;
+
+public record SlicePagination<T>(
+        int currentPage,
+        int perPage,
+        boolean hasNext,
+        List<T> items
+) {
+
+    public <R> SlicePagination<R> map(final Function<T, R> mapper) {
+        final List<R> aNewList = this.items.stream()
+                .map(mapper)
+                .toList();
+
+        return new SlicePagination<>(
+                currentPage(),
+                perPage(),
+                hasNext(),
+                aNewList
+        );
+    }
+}
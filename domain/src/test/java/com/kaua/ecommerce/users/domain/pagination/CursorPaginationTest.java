@@ -0,0 +1,27 @@
+package com.kaua.ecommerce.users.domain.pagination;
+
+import com.kaua.ecommerce.users.domain.roles.Role;
+import com.kaua.ecommerce.users.domain.roles.RoleTypes;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+public class CursorPaginationTest {
+
+    @Test
+    void givenAValidValues_whenCallNewCursorPagination_thenShouldReturnACursorPagination() {
+        final var nextCursor = "abc";
+        final var perPage = 10;
+        final var items = List.of(Role.newRole("admin", null, RoleTypes.EMPLOYEES, false));
+
+        final var pagination = new CursorPagination<>(nextCursor, perPage, items);
+        final var aResultWithMap = pagination.map(Role::getName);
+
+        Assertions.assertEquals(nextCursor, pagination.nextCursor());
+        Assertions.assertEquals(perPage, pagination.perPage());
+        Assertions.assertEquals(items, pagination.items());
+        Assertions.assertEquals(nextCursor, aResultWithMap.nextCursor());
+        Assertions.assertEquals(List.of("admin"), aResultWithMap.items());
+    }
+}
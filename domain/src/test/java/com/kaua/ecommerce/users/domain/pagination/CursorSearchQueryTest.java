@@ -0,0 +1,24 @@
+package com.kaua.ecommerce.users.domain.pagination;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class CursorSearchQueryTest {
+
+    @Test
+    void givenAValidValues_whenCallNewCursorSearchQuery_shouldReturnACursorSearchQueryInstance() {
+        final var cursor = "abc";
+        final var perPage = 10;
+        final var terms = "";
+        final var sort = "createdAt";
+        final var direction = "asc";
+
+        final var aQuery = new CursorSearchQuery(cursor, perPage, terms, sort, direction);
+
+        Assertions.assertEquals(cursor, aQuery.cursor());
+        Assertions.assertEquals(perPage, aQuery.perPage());
+        Assertions.assertEquals(terms, aQuery.terms());
+        Assertions.assertEquals(sort, aQuery.sort());
+        Assertions.assertEquals(direction, aQuery.direction());
+    }
+}
@@ -0,0 +1,29 @@
+package com.kaua.ecommerce.users.domain.pagination;
+
+import com.kaua.ecommerce.users.domain.roles.Role;
+import com.kaua.ecommerce.users.domain.roles.RoleTypes;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+public class SlicePaginationTest {
+
+    @Test
+    void givenAValidValues_whenCallNewSlicePagination_thenShouldReturnASlicePagination() {
+        final var currentPage = 0;
+        final var perPage = 10;
+        final var hasNext = true;
+        final var items = List.of(Role.newRole("admin", null, RoleTypes.EMPLOYEES, false));
+
+        final var pagination = new SlicePagination<>(currentPage, perPage, hasNext, items);
+        final var aResultWithMap = pagination.map(Role::getName);
+
+        Assertions.assertEquals(currentPage, pagination.currentPage());
+        Assertions.assertEquals(perPage, pagination.perPage());
+        Assertions.assertTrue(pagination.hasNext());
+        Assertions.assertEquals(items, pagination.items());
+        Assertions.assertTrue(aResultWithMap.hasNext());
+        Assertions.assertEquals(List.of("admin"), aResultWithMap.items());
+    }
+}
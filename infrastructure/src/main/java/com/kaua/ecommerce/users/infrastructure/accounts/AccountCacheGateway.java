@@ -1,38 +1,144 @@
 package com.kaua.ecommerce.users.infrastructure.accounts;
 
+import com.kaua.ecommerce.users.application.gateways.AccountEmailCacheGateway;
 import com.kaua.ecommerce.users.application.gateways.CacheGateway;
+import com.kaua.ecommerce.users.application.gateways.RoleGateway;
 import com.kaua.ecommerce.users.domain.accounts.Account;
+import com.kaua.ecommerce.users.domain.roles.Role;
 import com.kaua.ecommerce.users.infrastructure.accounts.persistence.AccountCacheEntity;
-import com.kaua.ecommerce.users.infrastructure.accounts.persistence.AccountCacheRepository;
+import com.kaua.ecommerce.users.infrastructure.accounts.persistence.AccountCacheStore;
+import com.kaua.ecommerce.users.infrastructure.accounts.persistence.AccountEmailIndex;
+import com.kaua.ecommerce.users.infrastructure.cache.CacheEntry;
+import com.kaua.ecommerce.users.infrastructure.cache.CacheExpiryPolicy;
+import com.kaua.ecommerce.users.infrastructure.cache.ExpiringCacheGateway;
+import com.kaua.ecommerce.users.infrastructure.configurations.annotations.AccountCacheExpiry;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 
 @Component
-public class AccountCacheGateway implements CacheGateway<Account> {
+public class AccountCacheGateway implements ExpiringCacheGateway<Account>, AccountEmailCacheGateway {
 
-    private final AccountCacheRepository accountCacheRepository;
+    public static final String CACHE_NAME = "account";
 
-    public AccountCacheGateway(final AccountCacheRepository accountCacheRepository) {
-        this.accountCacheRepository = Objects.requireNonNull(accountCacheRepository);
+    private final AccountCacheStore accountCacheStore;
+    private final CacheGateway<Role> roleCacheGateway;
+    private final CacheExpiryPolicy cacheExpiryPolicy;
+    private final AccountEmailIndex accountEmailIndex;
+    private final ObjectProvider<RoleGateway> roleGateway;
+
+    // the role gateway depends on the role cache, it is resolved on the first role miss
+    public AccountCacheGateway(
+            final AccountCacheStore accountCacheStore,
+            final CacheGateway<Role> roleCacheGateway,
+            @AccountCacheExpiry final CacheExpiryPolicy cacheExpiryPolicy,
+            final AccountEmailIndex accountEmailIndex,
+            final ObjectProvider<RoleGateway> roleGateway
+    ) {
+        this.accountCacheStore = Objects.requireNonNull(accountCacheStore);
+        this.roleCacheGateway = Objects.requireNonNull(roleCacheGateway);
+        this.cacheExpiryPolicy = Objects.requireNonNull(cacheExpiryPolicy);
+        this.accountEmailIndex = Objects.requireNonNull(accountEmailIndex);
+        this.roleGateway = Objects.requireNonNull(roleGateway);
     }
 
     @Override
     public void save(Account value) {
-        this.accountCacheRepository.save(AccountCacheEntity.toEntity(value));
+        final var aTtl = this.cacheExpiryPolicy.nextTtl();
+
+        this.accountCacheStore.save(AccountCacheEntity.toEntity(value, aTtl));
+        this.accountEmailIndex.save(value.getEmail(), value.getId().getValue(), aTtl);
+    }
+
+    // the id may point to an account that is no longer cached, callers resolve it through the account cache
+    @Override
+    public Optional<String> findIdByEmail(String aEmail) {
+        return this.accountEmailIndex.findId(aEmail);
     }
 
     @Override
-    public Optional<Account> get(String key) {
-        return this.accountCacheRepository.findById(key)
-                .map(AccountCacheEntity::toDomain);
+    public Optional<CacheEntry<Account>> getEntry(String key) {
+        return this.accountCacheStore.findById(key)
+                .filter(AccountCacheEntity::isCurrentVersion)
+                .flatMap(entity -> Optional.ofNullable(this.rolesOf(List.of(entity.getRoleId())).get(entity.getRoleId()))
+                        .map(role -> new CacheEntry<>(entity.toDomain(role), entity.getExpiresAt())));
     }
 
     @Override
     public void delete(String key) {
-        if (this.accountCacheRepository.existsById(key)) {
-            this.accountCacheRepository.deleteById(key);
+        this.accountCacheStore.findById(key)
+                .ifPresent(entity -> this.accountEmailIndex.deleteAll(List.of(entity.getEmail())));
+        this.accountCacheStore.deleteById(key);
+    }
+
+    @Override
+    public void saveAll(Collection<Account> values) {
+        final var aTtl = this.cacheExpiryPolicy.nextTtl();
+        final var aIdsByEmail = new LinkedHashMap<String, String>();
+
+        values.forEach(account -> aIdsByEmail.put(account.getEmail(), account.getId().getValue()));
+
+        this.accountCacheStore.saveAll(values.stream()
+                .map(account -> AccountCacheEntity.toEntity(account, aTtl))
+                .toList());
+        this.accountEmailIndex.saveAll(aIdsByEmail, aTtl);
+    }
+
+    @Override
+    public Map<String, CacheEntry<Account>> getAllEntries(Collection<String> keys) {
+        final var aEntities = new LinkedHashMap<String, AccountCacheEntity>();
+        this.accountCacheStore.findAllById(keys).forEach((key, entity) -> {
+            if (entity.isCurrentVersion()) {
+                aEntities.put(key, entity);
+            }
+        });
+
+        final var aRoles = this.rolesOf(aEntities.values().stream()
+                .map(AccountCacheEntity::getRoleId)
+                .distinct()
+                .toList());
+        final var aEntries = new LinkedHashMap<String, CacheEntry<Account>>();
+
+        aEntities.forEach((key, entity) -> {
+            final var aRole = aRoles.get(entity.getRoleId());
+
+            if (aRole != null) {
+                aEntries.put(key, new CacheEntry<>(entity.toDomain(aRole), entity.getExpiresAt()));
+            }
+        });
+
+        return aEntries;
+    }
+
+    // roles are cached only from role reads, an account copy of its role may predate the last role edit
+    private Map<String, Role> rolesOf(final List<String> aRoleIds) {
+        final var aRoles = new HashMap<>(this.roleCacheGateway.getAll(aRoleIds));
+        final var aLoaded = aRoleIds.stream()
+                .filter(id -> !aRoles.containsKey(id))
+                .map(id -> this.roleGateway.getObject().findById(id))
+                .flatMap(Optional::stream)
+                .toList();
+
+        if (!aLoaded.isEmpty()) {
+            this.roleCacheGateway.saveAll(aLoaded);
+            aLoaded.forEach(role -> aRoles.put(role.getId().getValue(), role));
         }
+
+        return aRoles;
+    }
+
+    @Override
+    public void deleteAll(Collection<String> keys) {
+        this.accountEmailIndex.deleteAll(this.accountCacheStore.findAllById(keys).values().stream()
+                .map(AccountCacheEntity::getEmail)
+                .toList());
+        this.accountCacheStore.deleteAllById(keys);
     }
 }
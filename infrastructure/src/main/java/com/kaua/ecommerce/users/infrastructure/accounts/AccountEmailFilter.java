@@ -0,0 +1,215 @@
+package com.kaua.ecommerce.users.infrastructure.accounts;
+
+import com.kaua.ecommerce.users.infrastructure.accounts.persistence.AccountJpaRepository;
+import com.kaua.ecommerce.users.infrastructure.cache.ScalableBloomFilter;
+import com.kaua.ecommerce.users.infrastructure.configurations.properties.cache.BloomFilterProperties;
+import com.kaua.ecommerce.users.infrastructure.services.CacheInvalidationService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+public class AccountEmailFilter {
+
+    public static final String CACHE_NAME = "account.email";
+    public static final String DELETED_CACHE_NAME = "account.email.deleted";
+
+    private static final Logger log = LoggerFactory.getLogger(AccountEmailFilter.class);
+
+    private final AccountJpaRepository accountJpaRepository;
+    private final CacheInvalidationService cacheInvalidationService;
+    private final TransactionTemplate transactionTemplate;
+    private final Executor executor;
+    private final BloomFilterProperties bloomFilterProperties;
+    private final AtomicBoolean seeding;
+    private final AtomicLong deletedSinceSeed;
+    private final Counter negatives;
+    private final Counter positives;
+    private final Counter falsePositives;
+    private volatile ScalableBloomFilter filter;
+    private volatile ScalableBloomFilter nextFilter;
+
+    public AccountEmailFilter(
+            final AccountJpaRepository accountJpaRepository,
+            final CacheInvalidationService cacheInvalidationService,
+            final TransactionTemplate transactionTemplate,
+            final Executor executor,
+            final BloomFilterProperties bloomFilterProperties,
+            final MeterRegistry meterRegistry
+    ) {
+        this.accountJpaRepository = Objects.requireNonNull(accountJpaRepository);
+        this.cacheInvalidationService = Objects.requireNonNull(cacheInvalidationService);
+        this.transactionTemplate = Objects.requireNonNull(transactionTemplate);
+        this.executor = Objects.requireNonNull(executor);
+        this.bloomFilterProperties = Objects.requireNonNull(bloomFilterProperties);
+        this.seeding = new AtomicBoolean();
+        this.deletedSinceSeed = new AtomicLong();
+
+        this.negatives = checks(meterRegistry, "negative");
+        this.positives = checks(meterRegistry, "positive");
+        this.falsePositives = Counter.builder("account.email.filter.false.positives")
+                .description("Emails the filter let through that were not stored")
+                .register(meterRegistry);
+        Gauge.builder("account.email.filter.false.positive.rate", this, AccountEmailFilter::falsePositiveRate)
+                .description("Observed share of unknown emails the filter failed to reject")
+                .register(meterRegistry);
+        Gauge.builder("account.email.filter.expected.false.positive.rate", this,
+                        it -> it.currentFilter().map(ScalableBloomFilter::expectedFalsePositiveProbability).orElse(0.0))
+                .register(meterRegistry);
+        Gauge.builder("account.email.filter.entries", this,
+                        it -> it.currentFilter().map(ScalableBloomFilter::size).orElse(0L))
+                .register(meterRegistry);
+
+        this.cacheInvalidationService.subscribe(CACHE_NAME, this::putHash);
+        this.cacheInvalidationService.subscribe(DELETED_CACHE_NAME, id -> this.countDeleted());
+    }
+
+    public boolean exists(final String aEmail, final Predicate<String> aLookup) {
+        final var aFilter = this.filter;
+
+        if (aFilter == null) {
+            return aLookup.test(aEmail);
+        }
+
+        // a negative answer is definitive, the unique index still guards the insert
+        if (!aFilter.mightContain(hash(aEmail))) {
+            this.negatives.increment();
+            return false;
+        }
+
+        this.positives.increment();
+        final var aExists = aLookup.test(aEmail);
+
+        if (!aExists) {
+            this.falsePositives.increment();
+        }
+
+        return aExists;
+    }
+
+    public void add(final String aEmail) {
+        final var aHash = hash(aEmail);
+        this.put(aHash);
+        this.cacheInvalidationService.publish(CACHE_NAME, List.of(Long.toHexString(aHash)));
+    }
+
+    // every node, this one included, counts the delete when it is received, so the threshold covers the whole cluster
+    public void deleted(final String aAccountId) {
+        this.cacheInvalidationService.publish(DELETED_CACHE_NAME, List.of(aAccountId));
+    }
+
+    public void start() {
+        if (this.seeding.compareAndSet(false, true)) {
+            this.executor.execute(this::seedAndRelease);
+        }
+    }
+
+    public void seed() {
+        final var aNext = new ScalableBloomFilter(
+                this.bloomFilterProperties.getInitialCapacity(),
+                this.bloomFilterProperties.getFalsePositiveProbability()
+        );
+
+        // emails created while the table is streamed land in both filters
+        this.nextFilter = aNext;
+
+        try {
+            this.deletedSinceSeed.set(0);
+            this.transactionTemplate.executeWithoutResult(tx -> {
+                try (final var aEmails = this.accountJpaRepository.streamAllEmails()) {
+                    aEmails.forEach(email -> aNext.put(hash(email)));
+                }
+            });
+
+            this.filter = aNext;
+            log.info("Account email filter seeded: {} emails in {} stages", aNext.size(), aNext.stageCount());
+        } finally {
+            this.nextFilter = null;
+        }
+    }
+
+    public void reset() {
+        this.filter = null;
+        this.deletedSinceSeed.set(0);
+    }
+
+    public boolean isReady() {
+        return this.filter != null;
+    }
+
+    private void seedAndRelease() {
+        try {
+            this.seed();
+        } catch (final Exception e) {
+            log.error("Account email filter seed failed, emails are checked against the database: {}",
+                    e.getMessage());
+        } finally {
+            this.seeding.set(false);
+        }
+    }
+
+    private void countDeleted() {
+        final var aFilter = this.filter;
+        final var aRatio = this.bloomFilterProperties.getRebuildDeletedRatio();
+
+        if (aFilter == null || aRatio <= 0) {
+            return;
+        }
+
+        // deleted emails cannot be taken out, they only turn into false positives until the next rebuild
+        if (this.deletedSinceSeed.incrementAndGet() > aFilter.size() * aRatio) {
+            this.start();
+        }
+    }
+
+    private void putHash(final String aHash) {
+        this.put(Long.parseUnsignedLong(aHash, 16));
+    }
+
+    private void put(final long aHash) {
+        // the seeding filter is read first so an add racing the swap is never lost
+        final var aNext = this.nextFilter;
+
+        if (aNext != null) {
+            aNext.put(aHash);
+        }
+
+        final var aFilter = this.filter;
+
+        if (aFilter != null) {
+            aFilter.put(aHash);
+        }
+    }
+
+    private Optional<ScalableBloomFilter> currentFilter() {
+        return Optional.ofNullable(this.filter);
+    }
+
+    private double falsePositiveRate() {
+        final var aFalsePositives = this.falsePositives.count();
+        final var aUnknown = aFalsePositives + this.negatives.count();
+        return aUnknown == 0 ? 0 : aFalsePositives / aUnknown;
+    }
+
+    // mysql compares emails with a case insensitive collation
+    private static long hash(final String aEmail) {
+        return ScalableBloomFilter.hash(aEmail.toLowerCase(Locale.ROOT));
+    }
+
+    private static Counter checks(final MeterRegistry aRegistry, final String aResult) {
+        return Counter.builder("account.email.filter.checks")
+                .tag("result", aResult)
+                .register(aRegistry);
+    }
+}
@@ -3,18 +3,25 @@ package com.kaua.ecommerce.users.infrastructure.accounts;
 import com.kaua.ecommerce.users.application.gateways.AccountGateway;
 import com.kaua.ecommerce.users.domain.accounts.Account;
 import com.kaua.ecommerce.users.domain.accounts.AccountDeletedEvent;
+import com.kaua.ecommerce.users.domain.pagination.CursorPagination;
+import com.kaua.ecommerce.users.domain.pagination.CursorSearchQuery;
 import com.kaua.ecommerce.users.domain.pagination.Pagination;
 import com.kaua.ecommerce.users.domain.pagination.SearchQuery;
+import com.kaua.ecommerce.users.domain.pagination.SlicePagination;
 import com.kaua.ecommerce.users.infrastructure.accounts.persistence.AccountJpaEntity;
 import com.kaua.ecommerce.users.infrastructure.accounts.persistence.AccountJpaRepository;
+import com.kaua.ecommerce.users.infrastructure.cache.ApproximateCountCache;
 import com.kaua.ecommerce.users.infrastructure.configurations.annotations.AccountCreatedEvent;
 import com.kaua.ecommerce.users.infrastructure.configurations.annotations.AccountDeleteEvent;
 import com.kaua.ecommerce.users.infrastructure.configurations.annotations.AccountEvents;
 import com.kaua.ecommerce.users.infrastructure.configurations.properties.amqp.QueueProperties;
 import com.kaua.ecommerce.users.infrastructure.services.EventService;
+import com.kaua.ecommerce.users.infrastructure.services.NegativeCacheService;
+import com.kaua.ecommerce.users.infrastructure.utils.KeysetCursor;
+import com.kaua.ecommerce.users.infrastructure.utils.OffsetWindow;
 import com.kaua.ecommerce.users.infrastructure.utils.SpecificationUtils;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -25,21 +32,38 @@ import java.util.Optional;
 @Component
 public class AccountMySQLGateway implements AccountGateway {
 
+    private static final String COUNT_SCOPE = "accounts";
+
+    // mysql splits the fulltext index into ngrams of ngram_token_size, 2 by default
+    private static final int FULL_TEXT_MIN_TERM_LENGTH = 2;
+
     private final AccountJpaRepository accountJpaRepository;
     private final EventService eventService;
     private final QueueProperties accountCreatedQueueProperties;
     private final QueueProperties accountDeletedQueueProperties;
+    private final NegativeCacheService accountNegativeCacheService;
+    private final AccountEmailFilter accountEmailFilter;
+    private final ApproximateCountCache approximateCountCache;
+    private final boolean fullTextSearch;
 
     public AccountMySQLGateway(
             final AccountJpaRepository accountJpaRepository,
             @AccountEvents final EventService eventService,
             @AccountCreatedEvent final QueueProperties accountCreatedQueueProperties,
-            @AccountDeleteEvent final QueueProperties accountDeletedQueueProperties
+            @AccountDeleteEvent final QueueProperties accountDeletedQueueProperties,
+            final NegativeCacheService accountNegativeCacheService,
+            final AccountEmailFilter accountEmailFilter,
+            final ApproximateCountCache approximateCountCache,
+            @Value("${search.account.full-text}") final boolean fullTextSearch
     ) {
         this.accountJpaRepository = Objects.requireNonNull(accountJpaRepository);
         this.eventService = Objects.requireNonNull(eventService);
         this.accountCreatedQueueProperties = Objects.requireNonNull(accountCreatedQueueProperties);
         this.accountDeletedQueueProperties = Objects.requireNonNull(accountDeletedQueueProperties);
+        this.accountNegativeCacheService = Objects.requireNonNull(accountNegativeCacheService);
+        this.accountEmailFilter = Objects.requireNonNull(accountEmailFilter);
+        this.approximateCountCache = Objects.requireNonNull(approximateCountCache);
+        this.fullTextSearch = fullTextSearch;
     }
 
     @Override
@@ -48,6 +72,9 @@ public class AccountMySQLGateway implements AccountGateway {
                 .save(AccountJpaEntity.toEntity(aAccount))
                 .toDomain();
 
+        this.accountNegativeCacheService.clear(aResult.getId().getValue());
+        this.accountEmailFilter.add(aResult.getEmail());
+        this.approximateCountCache.invalidate(COUNT_SCOPE);
         aAccount.publishDomainEvent(this.eventService::send, this.accountCreatedQueueProperties.getRoutingKey());
 
         return aResult;
@@ -55,13 +82,23 @@ public class AccountMySQLGateway implements AccountGateway {
 
     @Override
     public boolean existsByEmail(String aEmail) {
-        return this.accountJpaRepository.existsByEmail(aEmail);
+        return this.accountEmailFilter.exists(aEmail, this.accountJpaRepository::existsByEmail);
     }
 
     @Transactional(readOnly = true)
     @Override
     public Optional<Account> findById(String aId) {
-        return this.accountJpaRepository.findById(aId).map(AccountJpaEntity::toDomain);
+        if (this.accountNegativeCacheService.isMissing(aId)) {
+            return Optional.empty();
+        }
+
+        final var aAccount = this.accountJpaRepository.findById(aId).map(AccountJpaEntity::toDomain);
+
+        if (aAccount.isEmpty()) {
+            this.accountNegativeCacheService.markMissing(aId);
+        }
+
+        return aAccount;
     }
 
     @Transactional(readOnly = true)
@@ -72,27 +109,35 @@ public class AccountMySQLGateway implements AccountGateway {
 
     @Override
     public Pagination<Account> findAll(SearchQuery aQuery) {
-        final var aPage = PageRequest.of(
-                aQuery.page(),
-                aQuery.perPage(),
-                Sort.by(Sort.Direction.fromString(aQuery.direction()), aQuery.sort())
+        final var aSpecification = Specification.where(searchSpecification(aQuery.terms()));
+        final var aWindow = this.scrollByOffset(aSpecification, aQuery);
+
+        return OffsetWindow.paginationOf(
+                aWindow,
+                aQuery,
+                () -> this.approximateCountCache.count(COUNT_SCOPE, aQuery.terms(),
+                        () -> this.accountJpaRepository.count(aSpecification)),
+                AccountJpaEntity::toDomainPagination
         );
+    }
 
-        final var aSpecification = Optional.ofNullable(aQuery.terms())
-                .filter(term -> !term.isBlank())
-                .map(term -> SpecificationUtils.<AccountJpaEntity>like("firstName", term)
-                        .or(SpecificationUtils.<AccountJpaEntity>like("lastName", term)
-                                .or(SpecificationUtils.like("email", term)))).orElse(null);
+    @Override
+    public SlicePagination<Account> findSlice(SearchQuery aQuery) {
+        final var aSpecification = Specification.where(searchSpecification(aQuery.terms()));
+        return OffsetWindow.sliceOf(this.scrollByOffset(aSpecification, aQuery), aQuery, AccountJpaEntity::toDomainPagination);
+    }
 
-        final var aPageResult = this.accountJpaRepository.findAll(Specification.where(aSpecification), aPage);
+    @Override
+    public CursorPagination<Account> findAll(CursorSearchQuery aQuery) {
+        final var aSpecification = searchSpecification(aQuery.terms());
+        final var aPosition = KeysetCursor.positionOf(aQuery, AccountJpaEntity.class);
 
-        return new Pagination<>(
-                aPageResult.getNumber(),
-                aPageResult.getSize(),
-                aPageResult.getTotalPages(),
-                aPageResult.getTotalElements(),
-                aPageResult.map(AccountJpaEntity::toDomainPagination).toList()
-        );
+        final var aWindow = this.accountJpaRepository.findBy(Specification.where(aSpecification), query -> query
+                .sortBy(KeysetCursor.sortOf(aQuery))
+                .limit(aQuery.perPage())
+                .scroll(aPosition));
+
+        return KeysetCursor.paginationOf(aWindow, aQuery, AccountJpaEntity::toDomainPagination);
     }
 
     @Override
@@ -107,6 +152,30 @@ public class AccountMySQLGateway implements AccountGateway {
         if (this.accountJpaRepository.existsById(aId)) {
             this.eventService.send(new AccountDeletedEvent(aId), this.accountDeletedQueueProperties.getRoutingKey());
             this.accountJpaRepository.deleteById(aId);
+            this.accountEmailFilter.deleted(aId);
+            this.approximateCountCache.invalidate(COUNT_SCOPE);
         }
     }
+
+    // no count query runs here, totals come from the approximate count cache
+    private Window<AccountJpaEntity> scrollByOffset(final Specification<AccountJpaEntity> aSpecification, final SearchQuery aQuery) {
+        final var aPosition = OffsetWindow.positionOf(aQuery);
+
+        return this.accountJpaRepository.findBy(aSpecification, query -> query
+                .sortBy(OffsetWindow.sortOf(aQuery))
+                .limit(aQuery.perPage())
+                .scroll(aPosition));
+    }
+
+    private Specification<AccountJpaEntity> searchSpecification(final String aTerms) {
+        return Optional.ofNullable(aTerms)
+                .filter(term -> !term.isBlank())
+                // collapsed the way the approximate count cache keys its totals
+                .map(term -> term.strip().replaceAll("\\s+", " "))
+                .map(term -> this.fullTextSearch && term.length() >= FULL_TEXT_MIN_TERM_LENGTH
+                        ? SpecificationUtils.<AccountJpaEntity>match(term, "firstName", "lastName", "email")
+                        : SpecificationUtils.<AccountJpaEntity>like("firstName", term)
+                        .or(SpecificationUtils.<AccountJpaEntity>like("lastName", term)
+                                .or(SpecificationUtils.like("email", term)))).orElse(null);
+    }
 }
@@ -0,0 +1,116 @@
+package com.kaua.ecommerce.users.infrastructure.accounts.persistence;
+
+import com.kaua.ecommerce.users.domain.accounts.AccountMailStatus;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+
+public final class AccountCacheCodec {
+
+    // 2: the role is referenced by id and cached on its own
+    // 3: the write time and ttl are kept for early refresh
+    public static final byte VERSION = 3;
+
+    private AccountCacheCodec() {}
+
+    public static byte[] encode(final AccountCacheEntity aEntity) {
+        return invoke(() -> {
+            final var aBytes = new ByteArrayOutputStream(192);
+            final var aOutput = new DataOutputStream(aBytes);
+
+            aOutput.writeByte(VERSION);
+            aOutput.writeUTF(aEntity.getId());
+            writeNullable(aOutput, aEntity.getFirstName());
+            writeNullable(aOutput, aEntity.getLastName());
+            writeNullable(aOutput, aEntity.getEmail());
+            aOutput.writeByte(aEntity.getMailStatus().ordinal());
+            writeNullable(aOutput, aEntity.getAvatarUrl());
+            aOutput.writeUTF(aEntity.getRoleId());
+            writeInstant(aOutput, aEntity.getCreatedAt());
+            writeInstant(aOutput, aEntity.getUpdatedAt());
+            aOutput.writeBoolean(aEntity.getCachedAt() != null && aEntity.getTtl() != null);
+
+            if (aEntity.getCachedAt() != null && aEntity.getTtl() != null) {
+                writeInstant(aOutput, aEntity.getCachedAt());
+                aOutput.writeLong(aEntity.getTtl());
+            }
+
+            aOutput.flush();
+            return aBytes.toByteArray();
+        });
+    }
+
+    public static Optional<AccountCacheEntity> decode(final byte[] aValue) {
+        if (aValue == null || aValue.length == 0 || aValue[0] != VERSION) {
+            return Optional.empty();
+        }
+
+        try {
+            final var aInput = new DataInputStream(new ByteArrayInputStream(aValue));
+            aInput.readByte();
+
+            final var aId = aInput.readUTF();
+            final var aFirstName = readNullable(aInput);
+            final var aLastName = readNullable(aInput);
+            final var aEmail = readNullable(aInput);
+            final var aMailStatus = AccountMailStatus.values()[aInput.readByte()];
+            final var aAvatarUrl = readNullable(aInput);
+            final var aRoleId = aInput.readUTF();
+            final var aCreatedAt = readInstant(aInput);
+            final var aUpdatedAt = readInstant(aInput);
+            final var aHasExpiry = aInput.readBoolean();
+
+            return Optional.of(AccountCacheEntity.with(
+                    aId,
+                    aFirstName,
+                    aLastName,
+                    aEmail,
+                    aMailStatus,
+                    aAvatarUrl,
+                    aRoleId,
+                    aCreatedAt,
+                    aUpdatedAt,
+                    aHasExpiry ? readInstant(aInput) : null,
+                    aHasExpiry ? aInput.readLong() : null
+            ));
+        } catch (final IOException | RuntimeException e) {
+            // an unreadable entry is treated as a miss and overwritten on the next save
+            return Optional.empty();
+        }
+    }
+
+    private static void writeNullable(final DataOutputStream aOutput, final String aValue) throws IOException {
+        aOutput.writeBoolean(aValue != null);
+
+        if (aValue != null) {
+            aOutput.writeUTF(aValue);
+        }
+    }
+
+    private static String readNullable(final DataInputStream aInput) throws IOException {
+        return aInput.readBoolean() ? aInput.readUTF() : null;
+    }
+
+    private static void writeInstant(final DataOutputStream aOutput, final Instant aValue) throws IOException {
+        aOutput.writeLong(aValue.getEpochSecond());
+        aOutput.writeInt(aValue.getNano());
+    }
+
+    private static Instant readInstant(final DataInputStream aInput) throws IOException {
+        return Instant.ofEpochSecond(aInput.readLong(), aInput.readInt());
+    }
+
+    private static <T> T invoke(final Callable<T> callable) {
+        try {
+            return callable.call();
+        } catch (final Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -3,16 +3,19 @@ package com.kaua.ecommerce.users.infrastructure.accounts.persistence;
 import com.kaua.ecommerce.users.domain.accounts.Account;
 import com.kaua.ecommerce.users.domain.accounts.AccountMailStatus;
 import com.kaua.ecommerce.users.domain.roles.Role;
-import com.kaua.ecommerce.users.infrastructure.roles.persistence.RoleCacheEntity;
-import com.kaua.ecommerce.users.infrastructure.roles.persistence.RoleJpaEntity;
 import jakarta.persistence.Id;
 import org.springframework.data.redis.core.RedisHash;
+import org.springframework.data.redis.core.TimeToLive;
 
+import java.time.Duration;
 import java.time.Instant;
 
 @RedisHash(value = "account", timeToLive = 60 * 60 * 24) // 1 day
 public class AccountCacheEntity {
 
+    // 2: the role is referenced by id, its only cached copy lives in the role cache
+    public static final int VERSION = 2;
+
     @Id
     private String id;
 
@@ -21,9 +24,14 @@ public class AccountCacheEntity {
     private String email;
     private AccountMailStatus mailStatus;
     private String avatarUrl;
-    private RoleCacheEntity role;
+    private String roleId;
+    private int version;
     private Instant createdAt;
     private Instant updatedAt;
+    private Instant cachedAt;
+
+    @TimeToLive
+    private Long ttl;
 
     public AccountCacheEntity() {}
 
@@ -34,9 +42,11 @@ public class AccountCacheEntity {
             final String email,
             final AccountMailStatus mailStatus,
             final String avatarUrl,
-            final RoleCacheEntity role,
+            final String roleId,
             final Instant createdAt,
-            final Instant updatedAt
+            final Instant updatedAt,
+            final Instant cachedAt,
+            final Long ttl
     ) {
         this.id = id;
         this.firstName = firstName;
@@ -44,12 +54,23 @@ public class AccountCacheEntity {
         this.email = email;
         this.mailStatus = mailStatus;
         this.avatarUrl = avatarUrl;
-        this.role = role;
+        this.roleId = roleId;
+        this.version = VERSION;
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
+        this.cachedAt = cachedAt;
+        this.ttl = ttl;
     }
 
     public static AccountCacheEntity toEntity(final Account aAccount) {
+        return toEntity(aAccount, null, null);
+    }
+
+    public static AccountCacheEntity toEntity(final Account aAccount, final Duration aTtl) {
+        return toEntity(aAccount, Instant.now(), aTtl.toSeconds());
+    }
+
+    private static AccountCacheEntity toEntity(final Account aAccount, final Instant aCachedAt, final Long aTtl) {
         return new AccountCacheEntity(
                 aAccount.getId().getValue(),
                 aAccount.getFirstName(),
@@ -57,13 +78,43 @@ public class AccountCacheEntity {
                 aAccount.getEmail(),
                 aAccount.getMailStatus(),
                 aAccount.getAvatarUrl(),
-                RoleCacheEntity.toEntity(aAccount.getRole()),
+                aAccount.getRole().getId().getValue(),
                 aAccount.getCreatedAt(),
-                aAccount.getUpdatedAt()
+                aAccount.getUpdatedAt(),
+                aCachedAt,
+                aTtl
+        );
+    }
+
+    public static AccountCacheEntity with(
+            final String id,
+            final String firstName,
+            final String lastName,
+            final String email,
+            final AccountMailStatus mailStatus,
+            final String avatarUrl,
+            final String roleId,
+            final Instant createdAt,
+            final Instant updatedAt,
+            final Instant cachedAt,
+            final Long ttl
+    ) {
+        return new AccountCacheEntity(
+                id,
+                firstName,
+                lastName,
+                email,
+                mailStatus,
+                avatarUrl,
+                roleId,
+                createdAt,
+                updatedAt,
+                cachedAt,
+                ttl
         );
     }
 
-    public Account toDomain() {
+    public Account toDomain(final Role aRole) {
         return Account.with(
                 getId(),
                 getFirstName(),
@@ -72,7 +123,7 @@ public class AccountCacheEntity {
                 getMailStatus(),
                 null,
                 getAvatarUrl(),
-                getRole().toDomain(),
+                aRole,
                 getCreatedAt(),
                 getUpdatedAt(),
                 null
@@ -103,8 +154,17 @@ public class AccountCacheEntity {
         return avatarUrl;
     }
 
-    public RoleCacheEntity getRole() {
-        return role;
+    public String getRoleId() {
+        return roleId;
+    }
+
+    public int getVersion() {
+        return version;
+    }
+
+    // hashes written before the current version embedded the role and have no role id, they are read as misses
+    public boolean isCurrentVersion() {
+        return version == VERSION && roleId != null;
     }
 
     public Instant getCreatedAt() {
@@ -114,4 +174,16 @@ public class AccountCacheEntity {
     public Instant getUpdatedAt() {
         return updatedAt;
     }
+
+    public Instant getCachedAt() {
+        return cachedAt;
+    }
+
+    public Long getTtl() {
+        return ttl;
+    }
+
+    public Instant getExpiresAt() {
+        return cachedAt == null || ttl == null ? null : cachedAt.plusSeconds(ttl);
+    }
 }
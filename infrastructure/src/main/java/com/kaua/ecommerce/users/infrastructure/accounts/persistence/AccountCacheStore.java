@@ -0,0 +1,20 @@
+package com.kaua.ecommerce.users.infrastructure.accounts.persistence;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+
+public interface AccountCacheStore {
+
+    void save(AccountCacheEntity aEntity);
+
+    Optional<AccountCacheEntity> findById(String aId);
+
+    void deleteById(String aId);
+
+    void saveAll(Collection<AccountCacheEntity> aEntities);
+
+    Map<String, AccountCacheEntity> findAllById(Collection<String> aIds);
+
+    void deleteAllById(Collection<String> aIds);
+}
@@ -0,0 +1,17 @@
+package com.kaua.ecommerce.users.infrastructure.accounts.persistence;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+
+public interface AccountEmailIndex {
+
+    void save(String aEmail, String aId, Duration aTtl);
+
+    Optional<String> findId(String aEmail);
+
+    void saveAll(Map<String, String> aIdsByEmail, Duration aTtl);
+
+    void deleteAll(Collection<String> aEmails);
+}
@@ -1,14 +1,23 @@
 package com.kaua.ecommerce.users.infrastructure.accounts.persistence;
 
+import jakarta.persistence.QueryHint;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.FluentQuery.FetchableFluentQuery;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.util.Optional;
-import java.util.Set;
+import java.util.stream.Stream;
+import java.util.function.Function;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 
 public interface AccountJpaRepository extends JpaRepository<AccountJpaEntity, String> {
 
@@ -18,6 +27,25 @@ public interface AccountJpaRepository extends JpaRepository<AccountJpaEntity, St
 
     Page<AccountJpaEntity> findAll(Specification<AccountJpaEntity> whereClause, Pageable page);
 
-    @Query(value = "SELECT * FROM accounts WHERE role_id = :roleId", nativeQuery = true)
-    Set<AccountJpaEntity> findAllWhereRoleId(@Param("roleId") String roleId);
+    <S extends AccountJpaEntity, R> R findBy(Specification<AccountJpaEntity> whereClause, Function<FetchableFluentQuery<S>, R> queryFunction);
+
+    long count(Specification<AccountJpaEntity> whereClause);
+
+    // with useCursorFetch on the mysql connection the rows come from a server cursor, 1000 at a time
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+    @Query(value = "SELECT a.email FROM AccountJpaEntity a")
+    Stream<String> streamAllEmails();
+
+    boolean existsByRoleJpaEntityId(String roleId);
+
+    // one bounded statement per call, the caller repeats it until fewer rows than the limit move
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE accounts SET role_id = :newRoleId, updated_at = :updatedAt WHERE role_id = :roleId LIMIT :limit", nativeQuery = true)
+    int changeRoleWhereRoleId(
+            @Param("roleId") String roleId,
+            @Param("newRoleId") String newRoleId,
+            @Param("updatedAt") Instant updatedAt,
+            @Param("limit") int limit
+    );
 }
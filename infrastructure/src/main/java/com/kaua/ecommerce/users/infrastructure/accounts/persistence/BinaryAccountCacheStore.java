@@ -0,0 +1,132 @@
+package com.kaua.ecommerce.users.infrastructure.accounts.persistence;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+public class BinaryAccountCacheStore implements AccountCacheStore {
+
+    private static final String KEY_PREFIX = "account:bin:";
+    private static final Duration DEFAULT_TTL = Duration.ofDays(1);
+
+    private final StringRedisTemplate redisTemplate;
+    private final DistributionSummary readPayloadSize;
+    private final DistributionSummary writePayloadSize;
+
+    public BinaryAccountCacheStore(final StringRedisTemplate redisTemplate, final MeterRegistry meterRegistry) {
+        this.redisTemplate = Objects.requireNonNull(redisTemplate);
+        this.readPayloadSize = payloadSize("read", Objects.requireNonNull(meterRegistry));
+        this.writePayloadSize = payloadSize("write", meterRegistry);
+    }
+
+    @Override
+    public void save(final AccountCacheEntity aEntity) {
+        final var aKey = key(aEntity.getId());
+        final var aValue = AccountCacheCodec.encode(aEntity);
+        this.writePayloadSize.record(aValue.length);
+
+        this.redisTemplate.execute((RedisCallback<Boolean>) connection -> connection.stringCommands()
+                .set(aKey, aValue, expiration(aEntity), SetOption.upsert()));
+    }
+
+    @Override
+    public Optional<AccountCacheEntity> findById(final String aId) {
+        final var aValue = this.redisTemplate.execute((RedisCallback<byte[]>) connection -> connection
+                .stringCommands().get(key(aId)));
+
+        this.recordRead(aValue);
+        return AccountCacheCodec.decode(aValue);
+    }
+
+    @Override
+    public void deleteById(final String aId) {
+        this.redisTemplate.execute((RedisCallback<Long>) connection -> connection.keyCommands().unlink(key(aId)));
+    }
+
+    @Override
+    public void saveAll(final Collection<AccountCacheEntity> aEntities) {
+        if (aEntities.isEmpty()) {
+            return;
+        }
+
+        // SET has no multi-key form with expiry, the writes share a single pipeline round trip
+        this.redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            aEntities.forEach(entity -> {
+                final var aValue = AccountCacheCodec.encode(entity);
+                this.writePayloadSize.record(aValue.length);
+                connection.stringCommands().set(key(entity.getId()), aValue, expiration(entity), SetOption.upsert());
+            });
+            return null;
+        });
+    }
+
+    @Override
+    public Map<String, AccountCacheEntity> findAllById(final Collection<String> aIds) {
+        final var aEntities = new LinkedHashMap<String, AccountCacheEntity>();
+
+        if (aIds.isEmpty()) {
+            return aEntities;
+        }
+
+        final var aIdList = List.copyOf(aIds);
+        final var aValues = this.redisTemplate.execute((RedisCallback<List<byte[]>>) connection -> connection
+                .stringCommands().mGet(keys(aIdList)));
+
+        for (int i = 0; aValues != null && i < aIdList.size(); i++) {
+            final var aId = aIdList.get(i);
+            this.recordRead(aValues.get(i));
+            AccountCacheCodec.decode(aValues.get(i)).ifPresent(entity -> aEntities.put(aId, entity));
+        }
+
+        return aEntities;
+    }
+
+    @Override
+    public void deleteAllById(final Collection<String> aIds) {
+        if (aIds.isEmpty()) {
+            return;
+        }
+
+        this.redisTemplate.execute((RedisCallback<Long>) connection -> connection.keyCommands()
+                .unlink(keys(aIds)));
+    }
+
+    private void recordRead(final byte[] aValue) {
+        if (aValue != null) {
+            this.readPayloadSize.record(aValue.length);
+        }
+    }
+
+    private static DistributionSummary payloadSize(final String aOperation, final MeterRegistry aMeterRegistry) {
+        return DistributionSummary.builder("cache.payload.size")
+                .description("Size of the serialized cache entries")
+                .baseUnit("bytes")
+                .tag("cache", "account")
+                .tag("operation", aOperation)
+                .register(aMeterRegistry);
+    }
+
+    private static Expiration expiration(final AccountCacheEntity aEntity) {
+        return Expiration.from(aEntity.getTtl() == null ? DEFAULT_TTL : Duration.ofSeconds(aEntity.getTtl()));
+    }
+
+    private static byte[][] keys(final Collection<String> aIds) {
+        return aIds.stream().map(BinaryAccountCacheStore::key).toArray(byte[][]::new);
+    }
+
+    private static byte[] key(final String aId) {
+        return (KEY_PREFIX + aId).getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,59 @@
+package com.kaua.ecommerce.users.infrastructure.accounts.persistence;
+
+import com.kaua.ecommerce.users.infrastructure.cache.BoundedMemoryStore;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+public class InMemoryAccountCacheStore implements AccountCacheStore {
+
+    private static final Duration DEFAULT_TTL = Duration.ofDays(1);
+
+    private final BoundedMemoryStore<byte[]> store;
+
+    // entries are kept encoded, the byte bound is exact and readers never share an instance
+    public InMemoryAccountCacheStore(final BoundedMemoryStore<byte[]> store) {
+        this.store = Objects.requireNonNull(store);
+    }
+
+    @Override
+    public void save(final AccountCacheEntity aEntity) {
+        this.store.put(aEntity.getId(), AccountCacheCodec.encode(aEntity), ttl(aEntity));
+    }
+
+    @Override
+    public Optional<AccountCacheEntity> findById(final String aId) {
+        return this.store.get(aId).flatMap(AccountCacheCodec::decode);
+    }
+
+    @Override
+    public void deleteById(final String aId) {
+        this.store.invalidate(aId);
+    }
+
+    @Override
+    public void saveAll(final Collection<AccountCacheEntity> aEntities) {
+        aEntities.forEach(this::save);
+    }
+
+    @Override
+    public Map<String, AccountCacheEntity> findAllById(final Collection<String> aIds) {
+        final var aEntities = new LinkedHashMap<String, AccountCacheEntity>();
+        this.store.getAll(aIds).forEach((id, value) -> AccountCacheCodec.decode(value)
+                .ifPresent(entity -> aEntities.put(id, entity)));
+        return aEntities;
+    }
+
+    @Override
+    public void deleteAllById(final Collection<String> aIds) {
+        this.store.invalidateAll(aIds);
+    }
+
+    private static Duration ttl(final AccountCacheEntity aEntity) {
+        return aEntity.getTtl() == null ? DEFAULT_TTL : Duration.ofSeconds(aEntity.getTtl());
+    }
+}
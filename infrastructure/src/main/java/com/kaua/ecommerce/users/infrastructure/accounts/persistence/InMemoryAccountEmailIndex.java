@@ -0,0 +1,44 @@
+package com.kaua.ecommerce.users.infrastructure.accounts.persistence;
+
+import com.kaua.ecommerce.users.infrastructure.cache.BoundedMemoryStore;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+public class InMemoryAccountEmailIndex implements AccountEmailIndex {
+
+    private final BoundedMemoryStore<String> store;
+
+    public InMemoryAccountEmailIndex(final BoundedMemoryStore<String> store) {
+        this.store = Objects.requireNonNull(store);
+    }
+
+    @Override
+    public void save(final String aEmail, final String aId, final Duration aTtl) {
+        this.store.put(key(aEmail), aId, aTtl);
+    }
+
+    @Override
+    public Optional<String> findId(final String aEmail) {
+        return this.store.get(key(aEmail));
+    }
+
+    @Override
+    public void saveAll(final Map<String, String> aIdsByEmail, final Duration aTtl) {
+        aIdsByEmail.forEach((email, id) -> this.save(email, id, aTtl));
+    }
+
+    @Override
+    public void deleteAll(final Collection<String> aEmails) {
+        this.store.invalidateAll(aEmails.stream().map(InMemoryAccountEmailIndex::key).toList());
+    }
+
+    // mysql compares emails with a case insensitive collation
+    private static String key(final String aEmail) {
+        return aEmail.toLowerCase(Locale.ROOT);
+    }
+}
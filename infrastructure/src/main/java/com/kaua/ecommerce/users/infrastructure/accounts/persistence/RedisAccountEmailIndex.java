@@ -0,0 +1,67 @@
+package com.kaua.ecommerce.users.infrastructure.accounts.persistence;
+
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+public class RedisAccountEmailIndex implements AccountEmailIndex {
+
+    public static final String KEY_PREFIX = "account:email:";
+
+    private final StringRedisTemplate redisTemplate;
+
+    public RedisAccountEmailIndex(final StringRedisTemplate redisTemplate) {
+        this.redisTemplate = Objects.requireNonNull(redisTemplate);
+    }
+
+    @Override
+    public void save(final String aEmail, final String aId, final Duration aTtl) {
+        this.redisTemplate.opsForValue().set(key(aEmail), aId, aTtl);
+    }
+
+    @Override
+    public Optional<String> findId(final String aEmail) {
+        return Optional.ofNullable(this.redisTemplate.opsForValue().get(key(aEmail)));
+    }
+
+    @Override
+    public void saveAll(final Map<String, String> aIdsByEmail, final Duration aTtl) {
+        if (aIdsByEmail.isEmpty()) {
+            return;
+        }
+
+        this.redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            aIdsByEmail.forEach((email, id) -> connection.stringCommands().setEx(
+                    bytes(key(email)),
+                    aTtl.toSeconds(),
+                    bytes(id)
+            ));
+            return null;
+        });
+    }
+
+    @Override
+    public void deleteAll(final Collection<String> aEmails) {
+        if (aEmails.isEmpty()) {
+            return;
+        }
+
+        this.redisTemplate.unlink(aEmails.stream().map(RedisAccountEmailIndex::key).toList());
+    }
+
+    // mysql compares emails with a case insensitive collation
+    private static String key(final String aEmail) {
+        return KEY_PREFIX + aEmail.toLowerCase(Locale.ROOT);
+    }
+
+    private static byte[] bytes(final String aValue) {
+        return aValue.getBytes(StandardCharsets.UTF_8);
+    }
+}
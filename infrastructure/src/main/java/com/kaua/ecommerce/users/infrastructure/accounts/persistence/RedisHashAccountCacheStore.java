@@ -0,0 +1,48 @@
+package com.kaua.ecommerce.users.infrastructure.accounts.persistence;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+public class RedisHashAccountCacheStore implements AccountCacheStore {
+
+    private final AccountCacheRepository accountCacheRepository;
+
+    public RedisHashAccountCacheStore(final AccountCacheRepository accountCacheRepository) {
+        this.accountCacheRepository = Objects.requireNonNull(accountCacheRepository);
+    }
+
+    @Override
+    public void save(final AccountCacheEntity aEntity) {
+        this.accountCacheRepository.save(aEntity);
+    }
+
+    @Override
+    public Optional<AccountCacheEntity> findById(final String aId) {
+        return this.accountCacheRepository.findById(aId);
+    }
+
+    @Override
+    public void deleteById(final String aId) {
+        this.accountCacheRepository.deleteById(aId);
+    }
+
+    @Override
+    public void saveAll(final Collection<AccountCacheEntity> aEntities) {
+        this.accountCacheRepository.saveAll(aEntities);
+    }
+
+    @Override
+    public Map<String, AccountCacheEntity> findAllById(final Collection<String> aIds) {
+        final var aEntities = new LinkedHashMap<String, AccountCacheEntity>();
+        this.accountCacheRepository.findAllById(aIds).forEach(entity -> aEntities.put(entity.getId(), entity));
+        return aEntities;
+    }
+
+    @Override
+    public void deleteAllById(final Collection<String> aIds) {
+        this.accountCacheRepository.deleteAllById(aIds);
+    }
+}
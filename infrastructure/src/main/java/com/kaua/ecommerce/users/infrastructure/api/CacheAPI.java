@@ -0,0 +1,39 @@
+package com.kaua.ecommerce.users.infrastructure.api;
+
+import com.kaua.ecommerce.users.infrastructure.cache.models.CacheWarmUpResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+
+@Tag(name = "Cache")
+@RequestMapping(value = "cache")
+public interface CacheAPI {
+
+    @PostMapping(
+            value = "warm-up",
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Start warming up the account and role caches")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Warm-up started or already running"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+    })
+    ResponseEntity<CacheWarmUpResponse> startWarmUp();
+
+    @GetMapping(
+            value = "warm-up",
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Get the progress of the last cache warm-up")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Warm-up status retrieved successfully"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+    })
+    CacheWarmUpResponse getWarmUp();
+}
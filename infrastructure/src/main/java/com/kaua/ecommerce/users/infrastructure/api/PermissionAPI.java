@@ -1,6 +1,8 @@
 package com.kaua.ecommerce.users.infrastructure.api;
 
+import com.kaua.ecommerce.users.domain.pagination.CursorPagination;
 import com.kaua.ecommerce.users.domain.pagination.Pagination;
+import com.kaua.ecommerce.users.domain.pagination.SlicePagination;
 import com.kaua.ecommerce.users.infrastructure.permissions.models.CreatePermissionApiInput;
 import com.kaua.ecommerce.users.infrastructure.permissions.models.GetPermissionResponse;
 import com.kaua.ecommerce.users.infrastructure.permissions.models.ListPermissionResponse;
@@ -56,6 +58,36 @@ public interface PermissionAPI {
             @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction
     );
 
+    @GetMapping(params = "cursor")
+    @Operation(summary = "List all permissions by cursor, an empty cursor starts from the first page")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Listed successfully"),
+            @ApiResponse(responseCode = "422", description = "A invalid parameter or cursor was received"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+    })
+    CursorPagination<ListPermissionResponse> listPermissionsByCursor(
+            @RequestParam(name = "cursor") final String cursor,
+            @RequestParam(name = "search", required = false, defaultValue = "") final String search,
+            @RequestParam(name = "perPage", required = false, defaultValue = "10") final int perPage,
+            @RequestParam(name = "sort", required = false, defaultValue = "name") final String sort,
+            @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction
+    );
+
+    @GetMapping(params = "slice=true")
+    @Operation(summary = "List all permissions paginated without totals, only telling whether a next page exists")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Listed successfully"),
+            @ApiResponse(responseCode = "422", description = "A invalid parameter was received"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+    })
+    SlicePagination<ListPermissionResponse> listPermissionsSlice(
+            @RequestParam(name = "search", required = false, defaultValue = "") final String search,
+            @RequestParam(name = "page", required = false, defaultValue = "0") final int page,
+            @RequestParam(name = "perPage", required = false, defaultValue = "10") final int perPage,
+            @RequestParam(name = "sort", required = false, defaultValue = "name") final String sort,
+            @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction
+    );
+
     @PatchMapping(
             value = "{id}",
             consumes = MediaType.APPLICATION_JSON_VALUE,
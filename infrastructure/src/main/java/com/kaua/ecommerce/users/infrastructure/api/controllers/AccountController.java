@@ -6,13 +6,18 @@ import com.kaua.ecommerce.users.application.usecases.account.delete.DeleteAccoun
 import com.kaua.ecommerce.users.application.usecases.account.delete.DeleteAccountUseCase;
 import com.kaua.ecommerce.users.application.usecases.account.retrieve.get.GetAccountByIdCommand;
 import com.kaua.ecommerce.users.application.usecases.account.retrieve.get.GetAccountByIdUseCase;
+import com.kaua.ecommerce.users.application.usecases.account.retrieve.list.ListAccountsByCursorUseCase;
+import com.kaua.ecommerce.users.application.usecases.account.retrieve.list.ListAccountsSliceUseCase;
 import com.kaua.ecommerce.users.application.usecases.account.retrieve.list.ListAccountsUseCase;
 import com.kaua.ecommerce.users.application.usecases.account.update.avatar.UpdateAvatarCommand;
 import com.kaua.ecommerce.users.application.usecases.account.update.avatar.UpdateAvatarUseCase;
 import com.kaua.ecommerce.users.application.usecases.account.update.role.UpdateAccountRoleCommand;
 import com.kaua.ecommerce.users.application.usecases.account.update.role.UpdateAccountRoleUseCase;
+import com.kaua.ecommerce.users.domain.pagination.CursorPagination;
+import com.kaua.ecommerce.users.domain.pagination.CursorSearchQuery;
 import com.kaua.ecommerce.users.domain.pagination.Pagination;
 import com.kaua.ecommerce.users.domain.pagination.SearchQuery;
+import com.kaua.ecommerce.users.domain.pagination.SlicePagination;
 import com.kaua.ecommerce.users.infrastructure.accounts.models.CreateAccountApiInput;
 import com.kaua.ecommerce.users.infrastructure.accounts.models.GetAccountPresenter;
 import com.kaua.ecommerce.users.infrastructure.accounts.models.ListAccountsPresenter;
@@ -34,6 +39,8 @@ public class AccountController implements AccountAPI {
     private final UpdateAvatarUseCase updateAvatarUseCase;
     private final UpdateAccountRoleUseCase updateAccountRoleUseCase;
     private final ListAccountsUseCase listAccountsUseCase;
+    private final ListAccountsByCursorUseCase listAccountsByCursorUseCase;
+    private final ListAccountsSliceUseCase listAccountsSliceUseCase;
 
     public AccountController(
             final CreateAccountUseCase createAccountUseCase,
@@ -41,7 +48,9 @@ public class AccountController implements AccountAPI {
             final GetAccountByIdUseCase getAccountByIdUseCase,
             final UpdateAvatarUseCase updateAvatarUseCase,
             final UpdateAccountRoleUseCase updateAccountRoleUseCase,
-            final ListAccountsUseCase listAccountsUseCase
+            final ListAccountsUseCase listAccountsUseCase,
+            final ListAccountsByCursorUseCase listAccountsByCursorUseCase,
+            final ListAccountsSliceUseCase listAccountsSliceUseCase
     ) {
         this.createAccountUseCase = createAccountUseCase;
         this.deleteAccountUseCase = deleteAccountUseCase;
@@ -49,6 +58,8 @@ public class AccountController implements AccountAPI {
         this.updateAvatarUseCase = updateAvatarUseCase;
         this.updateAccountRoleUseCase = updateAccountRoleUseCase;
         this.listAccountsUseCase = listAccountsUseCase;
+        this.listAccountsByCursorUseCase = listAccountsByCursorUseCase;
+        this.listAccountsSliceUseCase = listAccountsSliceUseCase;
     }
 
     @Override
@@ -80,6 +91,32 @@ public class AccountController implements AccountAPI {
                 .map(AccountApiPresenter::present);
     }
 
+    @Override
+    public CursorPagination<ListAccountsPresenter> listAccountsByCursor(
+            String cursor,
+            String search,
+            int perPage,
+            String sort,
+            String direction
+    ) {
+        return this.listAccountsByCursorUseCase
+                .execute(new CursorSearchQuery(cursor, perPage, search, sort, direction))
+                .map(AccountApiPresenter::present);
+    }
+
+    @Override
+    public SlicePagination<ListAccountsPresenter> listAccountsSlice(
+            String search,
+            int page,
+            int perPage,
+            String sort,
+            String direction
+    ) {
+        return this.listAccountsSliceUseCase
+                .execute(new SearchQuery(page, perPage, search, sort, direction))
+                .map(AccountApiPresenter::present);
+    }
+
     @Override
     public ResponseEntity<?> updateAccountAvatar(String id, MultipartFile avatarFile) {
         return ResponseEntity.status(HttpStatus.OK).body(
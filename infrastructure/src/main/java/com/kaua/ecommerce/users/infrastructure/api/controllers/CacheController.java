@@ -0,0 +1,31 @@
+package com.kaua.ecommerce.users.infrastructure.api.controllers;
+
+import com.kaua.ecommerce.users.infrastructure.api.CacheAPI;
+import com.kaua.ecommerce.users.infrastructure.cache.CacheWarmUpJob;
+import com.kaua.ecommerce.users.infrastructure.cache.models.CacheWarmUpResponse;
+import com.kaua.ecommerce.users.infrastructure.cache.presenters.CacheWarmUpApiPresenter;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Instant;
+
+@RestController
+public class CacheController implements CacheAPI {
+
+    private final CacheWarmUpJob cacheWarmUpJob;
+
+    public CacheController(final CacheWarmUpJob cacheWarmUpJob) {
+        this.cacheWarmUpJob = cacheWarmUpJob;
+    }
+
+    @Override
+    public ResponseEntity<CacheWarmUpResponse> startWarmUp() {
+        return ResponseEntity.accepted()
+                .body(CacheWarmUpApiPresenter.present(this.cacheWarmUpJob.start(), Instant.now()));
+    }
+
+    @Override
+    public CacheWarmUpResponse getWarmUp() {
+        return CacheWarmUpApiPresenter.present(this.cacheWarmUpJob.getStatus(), Instant.now());
+    }
+}
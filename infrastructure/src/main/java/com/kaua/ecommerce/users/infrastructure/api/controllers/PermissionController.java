@@ -6,11 +6,16 @@ import com.kaua.ecommerce.users.application.usecases.permission.delete.DeletePer
 import com.kaua.ecommerce.users.application.usecases.permission.delete.DeletePermissionUseCase;
 import com.kaua.ecommerce.users.application.usecases.permission.retrieve.get.GetPermissionByIdCommand;
 import com.kaua.ecommerce.users.application.usecases.permission.retrieve.get.GetPermissionByIdUseCase;
+import com.kaua.ecommerce.users.application.usecases.permission.retrieve.list.ListPermissionsByCursorUseCase;
+import com.kaua.ecommerce.users.application.usecases.permission.retrieve.list.ListPermissionsSliceUseCase;
 import com.kaua.ecommerce.users.application.usecases.permission.retrieve.list.ListPermissionsUseCase;
 import com.kaua.ecommerce.users.application.usecases.permission.update.UpdatePermissionCommand;
 import com.kaua.ecommerce.users.application.usecases.permission.update.UpdatePermissionUseCase;
+import com.kaua.ecommerce.users.domain.pagination.CursorPagination;
+import com.kaua.ecommerce.users.domain.pagination.CursorSearchQuery;
 import com.kaua.ecommerce.users.domain.pagination.Pagination;
 import com.kaua.ecommerce.users.domain.pagination.SearchQuery;
+import com.kaua.ecommerce.users.domain.pagination.SlicePagination;
 import com.kaua.ecommerce.users.infrastructure.api.PermissionAPI;
 import com.kaua.ecommerce.users.infrastructure.permissions.models.CreatePermissionApiInput;
 import com.kaua.ecommerce.users.infrastructure.permissions.models.GetPermissionResponse;
@@ -29,19 +34,25 @@ public class PermissionController implements PermissionAPI {
     private final GetPermissionByIdUseCase getPermissionByIdUseCase;
     private final UpdatePermissionUseCase updatePermissionUseCase;
     private final ListPermissionsUseCase listPermissionsUseCase;
+    private final ListPermissionsByCursorUseCase listPermissionsByCursorUseCase;
+    private final ListPermissionsSliceUseCase listPermissionsSliceUseCase;
 
     public PermissionController(
             final CreatePermissionUseCase createPermissionUseCase,
             final DeletePermissionUseCase deletePermissionUseCase,
             final GetPermissionByIdUseCase getPermissionByIdUseCase,
             final UpdatePermissionUseCase updatePermissionUseCase,
-            final ListPermissionsUseCase listPermissionsUseCase
+            final ListPermissionsUseCase listPermissionsUseCase,
+            final ListPermissionsByCursorUseCase listPermissionsByCursorUseCase,
+            final ListPermissionsSliceUseCase listPermissionsSliceUseCase
     ) {
         this.createPermissionUseCase = createPermissionUseCase;
         this.deletePermissionUseCase = deletePermissionUseCase;
         this.getPermissionByIdUseCase = getPermissionByIdUseCase;
         this.updatePermissionUseCase = updatePermissionUseCase;
         this.listPermissionsUseCase = listPermissionsUseCase;
+        this.listPermissionsByCursorUseCase = listPermissionsByCursorUseCase;
+        this.listPermissionsSliceUseCase = listPermissionsSliceUseCase;
     }
 
     @Override
@@ -74,6 +85,32 @@ public class PermissionController implements PermissionAPI {
                 .map(PermissionApiPresenter::present);
     }
 
+    @Override
+    public CursorPagination<ListPermissionResponse> listPermissionsByCursor(
+            String cursor,
+            String search,
+            int perPage,
+            String sort,
+            String direction
+    ) {
+        return this.listPermissionsByCursorUseCase
+                .execute(new CursorSearchQuery(cursor, perPage, search, sort, direction))
+                .map(PermissionApiPresenter::present);
+    }
+
+    @Override
+    public SlicePagination<ListPermissionResponse> listPermissionsSlice(
+            String search,
+            int page,
+            int perPage,
+            String sort,
+            String direction
+    ) {
+        return this.listPermissionsSliceUseCase
+                .execute(new SearchQuery(page, perPage, search, sort, direction))
+                .map(PermissionApiPresenter::present);
+    }
+
     @Override
     public ResponseEntity<?> updatePermission(String id, UpdatePermissionApiInput input) {
         final var aCommand = UpdatePermissionCommand.with(id, input.description());
@@ -8,11 +8,16 @@ import com.kaua.ecommerce.users.application.usecases.role.remove.RemoveRolePermi
 import com.kaua.ecommerce.users.application.usecases.role.remove.RemoveRolePermissionUseCase;
 import com.kaua.ecommerce.users.application.usecases.role.retrieve.get.GetRoleByIdCommand;
 import com.kaua.ecommerce.users.application.usecases.role.retrieve.get.GetRoleByIdUseCase;
+import com.kaua.ecommerce.users.application.usecases.role.retrieve.list.ListRolesByCursorUseCase;
+import com.kaua.ecommerce.users.application.usecases.role.retrieve.list.ListRolesSliceUseCase;
 import com.kaua.ecommerce.users.application.usecases.role.retrieve.list.ListRolesUseCase;
 import com.kaua.ecommerce.users.application.usecases.role.update.UpdateRoleCommand;
 import com.kaua.ecommerce.users.application.usecases.role.update.UpdateRoleUseCase;
+import com.kaua.ecommerce.users.domain.pagination.CursorPagination;
+import com.kaua.ecommerce.users.domain.pagination.CursorSearchQuery;
 import com.kaua.ecommerce.users.domain.pagination.Pagination;
 import com.kaua.ecommerce.users.domain.pagination.SearchQuery;
+import com.kaua.ecommerce.users.domain.pagination.SlicePagination;
 import com.kaua.ecommerce.users.infrastructure.api.RoleAPI;
 import com.kaua.ecommerce.users.infrastructure.roles.models.*;
 import com.kaua.ecommerce.users.infrastructure.roles.presenters.RoleApiPresenter;
@@ -28,6 +33,8 @@ public class RoleController implements RoleAPI {
     private final DeleteRoleUseCase deleteRoleUseCase;
     private final GetRoleByIdUseCase getRoleByIdUseCase;
     private final ListRolesUseCase listRolesUseCase;
+    private final ListRolesByCursorUseCase listRolesByCursorUseCase;
+    private final ListRolesSliceUseCase listRolesSliceUseCase;
     private final RemoveRolePermissionUseCase removeRolePermissionUseCase;
 
     public RoleController(
@@ -36,6 +43,8 @@ public class RoleController implements RoleAPI {
             final DeleteRoleUseCase deleteRoleUseCase,
             final GetRoleByIdUseCase getRoleByIdUseCase,
             final ListRolesUseCase listRolesUseCase,
+            final ListRolesByCursorUseCase listRolesByCursorUseCase,
+            final ListRolesSliceUseCase listRolesSliceUseCase,
             final RemoveRolePermissionUseCase removeRolePermissionUseCase
     ) {
         this.createRoleUseCase = createRoleUseCase;
@@ -43,6 +52,8 @@ public class RoleController implements RoleAPI {
         this.deleteRoleUseCase = deleteRoleUseCase;
         this.getRoleByIdUseCase = getRoleByIdUseCase;
         this.listRolesUseCase = listRolesUseCase;
+        this.listRolesByCursorUseCase = listRolesByCursorUseCase;
+        this.listRolesSliceUseCase = listRolesSliceUseCase;
         this.removeRolePermissionUseCase = removeRolePermissionUseCase;
     }
 
@@ -94,6 +105,32 @@ public class RoleController implements RoleAPI {
                 .map(RoleApiPresenter::present);
     }
 
+    @Override
+    public CursorPagination<ListRoleResponse> listRolesByCursor(
+            String cursor,
+            String search,
+            int perPage,
+            String sort,
+            String direction
+    ) {
+        return this.listRolesByCursorUseCase
+                .execute(new CursorSearchQuery(cursor, perPage, search, sort, direction))
+                .map(RoleApiPresenter::present);
+    }
+
+    @Override
+    public SlicePagination<ListRoleResponse> listRolesSlice(
+            String search,
+            int page,
+            int perPage,
+            String sort,
+            String direction
+    ) {
+        return this.listRolesSliceUseCase
+                .execute(new SearchQuery(page, perPage, search, sort, direction))
+                .map(RoleApiPresenter::present);
+    }
+
     @Override
     public ResponseEntity<?> deleteRole(String id) {
         this.deleteRoleUseCase.execute(DeleteRoleCommand.with(id));
@@ -0,0 +1,54 @@
+package com.kaua.ecommerce.users.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Locale;
+import java.util.Objects;
+import java.util.function.LongSupplier;
+
+public class ApproximateCountCache {
+
+    private final Cache<String, Long> counts;
+
+    // entries expire after write, which bounds how stale a listing total can get on any node
+    public ApproximateCountCache(final Cache<String, Long> counts) {
+        this.counts = Objects.requireNonNull(counts);
+    }
+
+    public long count(final String aScope, final String aTerms, final LongSupplier aCounter) {
+        return this.counts.get(keyOf(aScope, aTerms), key -> aCounter.getAsLong());
+    }
+
+    public void invalidate(final String aScope) {
+        this.invalidateNow(aScope);
+
+        // a concurrent listing may have counted again before the commit, so it goes once more afterwards
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidateNow(aScope);
+                }
+            });
+        }
+    }
+
+    public void invalidateAll() {
+        this.counts.invalidateAll();
+    }
+
+    private void invalidateNow(final String aScope) {
+        final var aPrefix = aScope + ":";
+        this.counts.asMap().keySet().removeIf(key -> key.startsWith(aPrefix));
+    }
+
+    // the search matches upper(column) like upper(term) on the collapsed term, so terms differing only in case or spacing share a count
+    private static String keyOf(final String aScope, final String aTerms) {
+        final var aNormalized = aTerms == null || aTerms.isBlank()
+                ? ""
+                : aTerms.strip().replaceAll("\\s+", " ").toUpperCase(Locale.ROOT);
+        return aScope + ":" + aNormalized;
+    }
+}
@@ -0,0 +1,89 @@
+package com.kaua.ecommerce.users.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Policy;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.ToIntFunction;
+
+public class BoundedMemoryStore<V> {
+
+    private final Cache<String, V> cache;
+    private final Policy.VarExpiration<String, V> expiration;
+
+    // caffeine evicts with W-TinyLFU once the weighed entries go over the maximum size
+    public BoundedMemoryStore(
+            final String name,
+            final DataSize maximumSize,
+            final ToIntFunction<V> weigher,
+            final MeterRegistry meterRegistry
+    ) {
+        Objects.requireNonNull(weigher);
+
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maximumSize.toBytes())
+                .<String, V>weigher((key, value) -> key.length() * 2 + weigher.applyAsInt(value))
+                .expireAfter(new PutTtlExpiry<>())
+                .recordStats()
+                .build();
+        this.expiration = this.cache.policy().expireVariably().orElseThrow();
+
+        CaffeineCacheMetrics.monitor(Objects.requireNonNull(meterRegistry), this.cache, Objects.requireNonNull(name));
+    }
+
+    public void put(final String aKey, final V aValue, final Duration aTtl) {
+        this.expiration.put(aKey, aValue, aTtl);
+    }
+
+    public Optional<V> get(final String aKey) {
+        return Optional.ofNullable(this.cache.getIfPresent(aKey));
+    }
+
+    public Map<String, V> getAll(final Collection<String> aKeys) {
+        return this.cache.getAllPresent(aKeys);
+    }
+
+    public void invalidate(final String aKey) {
+        this.cache.invalidate(aKey);
+    }
+
+    public void invalidateAll(final Collection<String> aKeys) {
+        this.cache.invalidateAll(aKeys);
+    }
+
+    public void cleanUp() {
+        this.cache.cleanUp();
+    }
+
+    public long estimatedSize() {
+        return this.cache.estimatedSize();
+    }
+
+    // every entry is written with its own ttl, reads and rewrites without one keep the current deadline
+    private static class PutTtlExpiry<V> implements Expiry<String, V> {
+
+        @Override
+        public long expireAfterCreate(final String key, final V value, final long currentTime) {
+            return Long.MAX_VALUE;
+        }
+
+        @Override
+        public long expireAfterUpdate(final String key, final V value, final long currentTime, final long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(final String key, final V value, final long currentTime, final long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package com.kaua.ecommerce.users.infrastructure.cache;
+
+import java.time.Instant;
+
+public record CacheEntry<T>(T value, Instant expiresAt) {
+}
@@ -0,0 +1,59 @@
+package com.kaua.ecommerce.users.infrastructure.cache;
+
+import com.kaua.ecommerce.users.infrastructure.configurations.properties.cache.CacheExpiryProperties;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+
+public class CacheExpiryPolicy {
+
+    private final Duration ttl;
+    private final Duration ttlJitter;
+    private final double earlyRefreshBeta;
+    private final Duration recomputeTime;
+
+    public CacheExpiryPolicy(
+            final Duration ttl,
+            final Duration ttlJitter,
+            final double earlyRefreshBeta,
+            final Duration recomputeTime
+    ) {
+        this.ttl = Objects.requireNonNull(ttl);
+        this.ttlJitter = Objects.requireNonNull(ttlJitter);
+        this.earlyRefreshBeta = earlyRefreshBeta;
+        this.recomputeTime = Objects.requireNonNull(recomputeTime);
+    }
+
+    public static CacheExpiryPolicy from(final CacheExpiryProperties aProperties) {
+        return new CacheExpiryPolicy(
+                aProperties.getTtl(),
+                aProperties.getTtlJitter(),
+                aProperties.getEarlyRefreshBeta(),
+                aProperties.getRecomputeTime()
+        );
+    }
+
+    public Duration nextTtl() {
+        final var aJitterSeconds = this.ttlJitter.toSeconds();
+
+        if (aJitterSeconds <= 0) {
+            return this.ttl;
+        }
+
+        return this.ttl.plusSeconds(ThreadLocalRandom.current().nextLong(aJitterSeconds + 1));
+    }
+
+    // XFetch: the closer to expiry, the more likely a read is chosen to recompute the entry
+    public boolean shouldRefreshEarly(final Instant expiresAt, final Instant now) {
+        if (expiresAt == null || this.earlyRefreshBeta <= 0) {
+            return false;
+        }
+
+        final var aGap = -Math.log(1.0 - ThreadLocalRandom.current().nextDouble());
+        final var aEarlyMillis = (long) (this.recomputeTime.toMillis() * this.earlyRefreshBeta * aGap);
+
+        return !now.plusMillis(aEarlyMillis).isBefore(expiresAt);
+    }
+}
@@ -0,0 +1,161 @@
+package com.kaua.ecommerce.users.infrastructure.cache;
+
+import com.kaua.ecommerce.users.application.gateways.CacheGateway;
+import com.kaua.ecommerce.users.domain.accounts.Account;
+import com.kaua.ecommerce.users.domain.roles.Role;
+import com.kaua.ecommerce.users.infrastructure.accounts.persistence.AccountJpaEntity;
+import com.kaua.ecommerce.users.infrastructure.accounts.persistence.AccountJpaRepository;
+import com.kaua.ecommerce.users.infrastructure.configurations.properties.cache.CacheWarmUpProperties;
+import com.kaua.ecommerce.users.infrastructure.roles.persistence.RoleJpaEntity;
+import com.kaua.ecommerce.users.infrastructure.roles.persistence.RoleJpaRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class CacheWarmUpJob {
+
+    private static final Logger log = LoggerFactory.getLogger(CacheWarmUpJob.class);
+
+    // most recently updated accounts first, they are the likeliest to be read again; the id breaks ties
+    private static final Sort ACCOUNTS_ORDER = Sort.by(Sort.Direction.DESC, "updatedAt")
+            .and(Sort.by(Sort.Direction.DESC, "id"));
+
+    private final AccountJpaRepository accountJpaRepository;
+    private final RoleJpaRepository roleJpaRepository;
+    private final CacheGateway<Account> accountCacheGateway;
+    private final CacheGateway<Role> roleCacheGateway;
+    private final TransactionTemplate transactionTemplate;
+    private final Executor executor;
+    private final CacheWarmUpProperties cacheWarmUpProperties;
+    private final Clock clock;
+    private final AtomicReference<CacheWarmUpStatus> status;
+
+    public CacheWarmUpJob(
+            final AccountJpaRepository accountJpaRepository,
+            final RoleJpaRepository roleJpaRepository,
+            final CacheGateway<Account> accountCacheGateway,
+            final CacheGateway<Role> roleCacheGateway,
+            final TransactionTemplate transactionTemplate,
+            final Executor executor,
+            final CacheWarmUpProperties cacheWarmUpProperties,
+            final Clock clock
+    ) {
+        this.accountJpaRepository = Objects.requireNonNull(accountJpaRepository);
+        this.roleJpaRepository = Objects.requireNonNull(roleJpaRepository);
+        this.accountCacheGateway = Objects.requireNonNull(accountCacheGateway);
+        this.roleCacheGateway = Objects.requireNonNull(roleCacheGateway);
+        this.transactionTemplate = Objects.requireNonNull(transactionTemplate);
+        this.executor = Objects.requireNonNull(executor);
+        this.cacheWarmUpProperties = Objects.requireNonNull(cacheWarmUpProperties);
+        this.clock = Objects.requireNonNull(clock);
+        this.status = new AtomicReference<>(CacheWarmUpStatus.idle());
+    }
+
+    public CacheWarmUpStatus start() {
+        final var aCurrent = this.status.get();
+
+        if (aCurrent.isRunning()) {
+            return aCurrent;
+        }
+
+        final var aRunning = CacheWarmUpStatus.running(this.clock.instant());
+
+        if (!this.status.compareAndSet(aCurrent, aRunning)) {
+            return this.status.get();
+        }
+
+        this.executor.execute(this::run);
+        return aRunning;
+    }
+
+    public CacheWarmUpStatus getStatus() {
+        return this.status.get();
+    }
+
+    private void run() {
+        try {
+            this.warmUpDefaultRole();
+            this.warmUpAccounts();
+
+            final var aStatus = this.status.updateAndGet(it -> it.completed(this.clock.instant()));
+            log.info("Cache warm-up completed: {} accounts at {} accounts/s",
+                    aStatus.warmedAccounts(), String.format("%.1f", aStatus.accountsPerSecond(this.clock.instant())));
+        } catch (final Exception e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+
+            final var aStatus = this.status.updateAndGet(it -> it.failed(this.clock.instant(), e.getMessage()));
+            log.error("Cache warm-up failed after {} accounts: {}", aStatus.warmedAccounts(), e.getMessage());
+        }
+    }
+
+    private void warmUpDefaultRole() {
+        this.transactionTemplate.executeWithoutResult(tx -> this.roleJpaRepository.findIsDefaultTrue()
+                .map(RoleJpaEntity::toDomain)
+                .ifPresent(this.roleCacheGateway::save));
+    }
+
+    private void warmUpAccounts() throws InterruptedException {
+        final var aMaxAccounts = this.cacheWarmUpProperties.getMaxAccounts();
+        final var aPageSize = this.cacheWarmUpProperties.getPageSize();
+        final var aTotal = Math.min(this.accountJpaRepository.count(), aMaxAccounts);
+
+        this.status.updateAndGet(it -> it.withTotal(aTotal));
+
+        ScrollPosition aPosition = ScrollPosition.keyset();
+        var aWarmed = 0L;
+        var aHasNext = aTotal > 0;
+
+        // a keyset never skips or repeats rows that move or share an updatedAt while the job pages through
+        while (aHasNext && aWarmed < aMaxAccounts) {
+            final var aRemaining = aMaxAccounts - aWarmed;
+            final var aFrom = aPosition;
+            final var aWindow = this.transactionTemplate.execute(tx -> this.accountJpaRepository.findBy(
+                    Specification.<AccountJpaEntity>where(null),
+                    query -> query.sortBy(ACCOUNTS_ORDER).limit(aPageSize).scroll(aFrom)
+            ).map(AccountJpaEntity::toDomain));
+            final var aAccounts = aWindow.getContent().stream()
+                    .limit(aRemaining)
+                    .toList();
+
+            this.accountCacheGateway.saveAll(aAccounts);
+
+            aWarmed += aAccounts.size();
+            aHasNext = aWindow.hasNext() && !aWindow.isEmpty();
+
+            if (aHasNext) {
+                aPosition = aWindow.positionAt(aWindow.size() - 1);
+            }
+
+            final var aStatus = this.status.updateAndGet(it -> it.withWarmed(it.warmedAccounts() + aAccounts.size()));
+            log.debug("Cache warm-up progress: {}/{} accounts", aStatus.warmedAccounts(), aStatus.totalAccounts());
+
+            this.throttle(aStatus);
+        }
+    }
+
+    private void throttle(final CacheWarmUpStatus aStatus) throws InterruptedException {
+        final var aAccountsPerSecond = this.cacheWarmUpProperties.getAccountsPerSecond();
+
+        if (aAccountsPerSecond <= 0) {
+            return;
+        }
+
+        final var aExpectedMillis = aStatus.warmedAccounts() * 1000 / aAccountsPerSecond;
+        final var aElapsedMillis = Duration.between(aStatus.startedAt(), this.clock.instant()).toMillis();
+
+        if (aExpectedMillis > aElapsedMillis) {
+            Thread.sleep(aExpectedMillis - aElapsedMillis);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.kaua.ecommerce.users.infrastructure.cache;
+
+import java.time.Duration;
+import java.time.Instant;
+
+public record CacheWarmUpStatus(
+        State state,
+        long warmedAccounts,
+        long totalAccounts,
+        Instant startedAt,
+        Instant finishedAt,
+        String error
+) {
+
+    public enum State {
+        IDLE, RUNNING, COMPLETED, FAILED
+    }
+
+    public static CacheWarmUpStatus idle() {
+        return new CacheWarmUpStatus(State.IDLE, 0, 0, null, null, null);
+    }
+
+    public static CacheWarmUpStatus running(final Instant aStartedAt) {
+        return new CacheWarmUpStatus(State.RUNNING, 0, 0, aStartedAt, null, null);
+    }
+
+    public CacheWarmUpStatus withTotal(final long aTotalAccounts) {
+        return new CacheWarmUpStatus(state, warmedAccounts, aTotalAccounts, startedAt, finishedAt, error);
+    }
+
+    public CacheWarmUpStatus withWarmed(final long aWarmedAccounts) {
+        return new CacheWarmUpStatus(state, aWarmedAccounts, totalAccounts, startedAt, finishedAt, error);
+    }
+
+    public CacheWarmUpStatus completed(final Instant aFinishedAt) {
+        return new CacheWarmUpStatus(State.COMPLETED, warmedAccounts, totalAccounts, startedAt, aFinishedAt, null);
+    }
+
+    public CacheWarmUpStatus failed(final Instant aFinishedAt, final String aError) {
+        return new CacheWarmUpStatus(State.FAILED, warmedAccounts, totalAccounts, startedAt, aFinishedAt, aError);
+    }
+
+    public boolean isRunning() {
+        return state == State.RUNNING;
+    }
+
+    public double accountsPerSecond(final Instant now) {
+        if (startedAt == null) {
+            return 0;
+        }
+
+        final var aElapsedMillis = Duration.between(startedAt, finishedAt == null ? now : finishedAt).toMillis();
+        return aElapsedMillis <= 0 ? 0 : warmedAccounts * 1000.0 / aElapsedMillis;
+    }
+}
@@ -0,0 +1,257 @@
+package com.kaua.ecommerce.users.infrastructure.cache;
+
+import com.kaua.ecommerce.users.application.gateways.CacheGateway;
+import com.kaua.ecommerce.users.infrastructure.configurations.properties.cache.CircuitBreakerProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+
+import java.time.Clock;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+public class CircuitBreakerCacheGateway<T> implements CacheGateway<T> {
+
+    private static final Logger log = LoggerFactory.getLogger(CircuitBreakerCacheGateway.class);
+
+    private final String cacheName;
+    private final CacheGateway<T> cacheGateway;
+    private final Function<T, String> keyExtractor;
+    private final CircuitBreakerProperties circuitBreakerProperties;
+    private final Clock clock;
+    private final Consumer<Collection<String>> unreachedEvictions;
+    private final AtomicReference<State> state;
+    private final AtomicInteger consecutiveFailures;
+    private final Set<String> pendingInvalidations;
+    private final Counter passed;
+    private final Counter bypassed;
+    private final Counter failed;
+    private final Counter droppedInvalidations;
+    private volatile long openedAt;
+
+    public CircuitBreakerCacheGateway(
+            final String cacheName,
+            final CacheGateway<T> cacheGateway,
+            final Function<T, String> keyExtractor,
+            final CircuitBreakerProperties circuitBreakerProperties,
+            final Clock clock,
+            final MeterRegistry meterRegistry
+    ) {
+        this(cacheName, cacheGateway, keyExtractor, circuitBreakerProperties, clock, meterRegistry, keys -> {});
+    }
+
+    // unreachedEvictions gets the deletes that never reached the inner gateway, so whatever it does besides redis still happens
+    public CircuitBreakerCacheGateway(
+            final String cacheName,
+            final CacheGateway<T> cacheGateway,
+            final Function<T, String> keyExtractor,
+            final CircuitBreakerProperties circuitBreakerProperties,
+            final Clock clock,
+            final MeterRegistry meterRegistry,
+            final Consumer<Collection<String>> unreachedEvictions
+    ) {
+        this.cacheName = Objects.requireNonNull(cacheName);
+        this.cacheGateway = Objects.requireNonNull(cacheGateway);
+        this.keyExtractor = Objects.requireNonNull(keyExtractor);
+        this.circuitBreakerProperties = Objects.requireNonNull(circuitBreakerProperties);
+        this.clock = Objects.requireNonNull(clock);
+        this.unreachedEvictions = Objects.requireNonNull(unreachedEvictions);
+        this.state = new AtomicReference<>(State.CLOSED);
+        this.consecutiveFailures = new AtomicInteger();
+        this.pendingInvalidations = ConcurrentHashMap.newKeySet();
+
+        this.passed = calls(meterRegistry, "passed");
+        this.bypassed = calls(meterRegistry, "bypassed");
+        this.failed = calls(meterRegistry, "failed");
+        this.droppedInvalidations = Counter.builder("cache.circuit.invalidations.dropped")
+                .description("Keys that could not be queued for eviction while the cache was unavailable")
+                .tag("cache", cacheName)
+                .register(meterRegistry);
+        Gauge.builder("cache.circuit.state", this, it -> it.state().ordinal())
+                .description("Circuit state of the cache: 0 closed, 1 half open, 2 open")
+                .tag("cache", cacheName)
+                .register(meterRegistry);
+        Gauge.builder("cache.circuit.invalidations.pending", this.pendingInvalidations, Set::size)
+                .tag("cache", cacheName)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void save(T value) {
+        final var aKey = this.keyExtractor.apply(value);
+        this.write(List.of(aKey), () -> this.cacheGateway.save(value));
+    }
+
+    @Override
+    public Optional<T> get(String key) {
+        return this.read(() -> this.cacheGateway.get(key), Optional::empty);
+    }
+
+    @Override
+    public void delete(String key) {
+        this.evict(List.of(key), () -> this.cacheGateway.delete(key));
+    }
+
+    @Override
+    public void saveAll(Collection<T> values) {
+        final var aKeys = values.stream().map(this.keyExtractor).toList();
+        this.write(aKeys, () -> this.cacheGateway.saveAll(values));
+    }
+
+    @Override
+    public Map<String, T> getAll(Collection<String> keys) {
+        return this.read(() -> this.cacheGateway.getAll(keys), Map::of);
+    }
+
+    @Override
+    public void deleteAll(Collection<String> keys) {
+        this.evict(keys, () -> this.cacheGateway.deleteAll(keys));
+    }
+
+    public State state() {
+        return this.state.get();
+    }
+
+    // lookups on the same store that are not part of the cache gateway share its circuit
+    public <R> R read(final Supplier<R> call, final Supplier<R> fallback) {
+        if (!this.tryAcquire()) {
+            this.bypassed.increment();
+            return fallback.get();
+        }
+
+        try {
+            final var aValue = call.get();
+            this.onSuccess();
+            return aValue;
+        } catch (final DataAccessException e) {
+            this.onFailure(e);
+            return fallback.get();
+        }
+    }
+
+    private void evict(final Collection<String> keys, final Runnable call) {
+        if (!this.write(keys, call)) {
+            this.unreachedEvictions.accept(keys);
+        }
+    }
+
+    private boolean write(final Collection<String> keys, final Runnable call) {
+        if (!this.tryAcquire()) {
+            this.bypassed.increment();
+            this.queueInvalidations(keys);
+            return false;
+        }
+
+        try {
+            call.run();
+            this.onSuccess();
+            return true;
+        } catch (final DataAccessException e) {
+            this.onFailure(e);
+            this.queueInvalidations(keys);
+            return false;
+        }
+    }
+
+    private boolean tryAcquire() {
+        final var aState = this.state.get();
+
+        if (aState == State.CLOSED) {
+            return true;
+        }
+
+        // a single caller probes redis once the open period is over, everyone else keeps bypassing
+        return aState == State.OPEN
+                && this.clock.millis() - this.openedAt >= this.circuitBreakerProperties.getOpenDuration().toMillis()
+                && this.state.compareAndSet(State.OPEN, State.HALF_OPEN);
+    }
+
+    private void onSuccess() {
+        this.passed.increment();
+        this.consecutiveFailures.set(0);
+
+        try {
+            if (this.state.get() == State.HALF_OPEN) {
+                // values written while redis was unreachable may still be there, they go before reads resume
+                this.replayInvalidations();
+                this.state.set(State.CLOSED);
+                this.replayInvalidations();
+                log.info("Cache {} is reachable again, circuit closed", this.cacheName);
+            } else {
+                // writes that failed below the threshold never open the circuit, the next success evicts them
+                this.replayInvalidations();
+            }
+        } catch (final DataAccessException e) {
+            this.onFailure(e);
+        }
+    }
+
+    private void onFailure(final DataAccessException e) {
+        this.failed.increment();
+
+        if (this.state.get() == State.HALF_OPEN || (this.state.get() == State.CLOSED
+                && this.consecutiveFailures.incrementAndGet() >= this.circuitBreakerProperties.getFailureThreshold())) {
+            this.open(e);
+        }
+    }
+
+    private void open(final DataAccessException e) {
+        this.openedAt = this.clock.millis();
+
+        final var aPrevious = this.state.getAndSet(State.OPEN);
+
+        if (aPrevious == State.CLOSED) {
+            log.warn("Cache {} is unavailable, bypassing it for {}: {}", this.cacheName,
+                    this.circuitBreakerProperties.getOpenDuration(), e.getMessage());
+        }
+    }
+
+    private void replayInvalidations() {
+        if (this.pendingInvalidations.isEmpty()) {
+            return;
+        }
+
+        final var aKeys = List.copyOf(this.pendingInvalidations);
+        this.cacheGateway.deleteAll(aKeys);
+        aKeys.forEach(this.pendingInvalidations::remove);
+        log.info("Cache {} evicted {} entries changed while it was unavailable", this.cacheName, aKeys.size());
+    }
+
+    private void queueInvalidations(final Collection<String> keys) {
+        for (final var aKey : keys) {
+            if (this.pendingInvalidations.size() < this.circuitBreakerProperties.getMaxPendingInvalidations()) {
+                this.pendingInvalidations.add(aKey);
+            } else if (!this.pendingInvalidations.contains(aKey)) {
+                // these entries only converge once their ttl runs out
+                this.droppedInvalidations.increment();
+            }
+        }
+    }
+
+    private Counter calls(final MeterRegistry aRegistry, final String aOutcome) {
+        return Counter.builder("cache.circuit.calls")
+                .description("Cache gateway calls by circuit outcome")
+                .tag("cache", this.cacheName)
+                .tag("outcome", aOutcome)
+                .register(aRegistry);
+    }
+
+    public enum State {
+        CLOSED,
+        HALF_OPEN,
+        OPEN
+    }
+}
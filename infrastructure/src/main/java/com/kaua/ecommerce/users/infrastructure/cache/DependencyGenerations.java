@@ -0,0 +1,30 @@
+package com.kaua.ecommerce.users.infrastructure.cache;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class DependencyGenerations {
+
+    private final Map<String, Long> generations;
+    private final AtomicLong changes;
+
+    public DependencyGenerations() {
+        this.generations = new ConcurrentHashMap<>();
+        this.changes = new AtomicLong();
+    }
+
+    public long current(final String aKey) {
+        return this.generations.getOrDefault(aKey, 0L);
+    }
+
+    // the change count moves first so a reader that sampled it before the bump never stamps an old value as current
+    public void bump(final String aKey) {
+        this.changes.incrementAndGet();
+        this.generations.merge(aKey, 1L, Long::sum);
+    }
+
+    public long changes() {
+        return this.changes.get();
+    }
+}
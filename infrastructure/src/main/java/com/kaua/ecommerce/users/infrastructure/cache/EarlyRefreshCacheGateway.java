@@ -0,0 +1,112 @@
+package com.kaua.ecommerce.users.infrastructure.cache;
+
+import com.kaua.ecommerce.users.application.gateways.CacheGateway;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Clock;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
+
+public class EarlyRefreshCacheGateway<T> implements CacheGateway<T> {
+
+    private static final Logger log = LoggerFactory.getLogger(EarlyRefreshCacheGateway.class);
+
+    private final ExpiringCacheGateway<T> cacheGateway;
+    private final CacheExpiryPolicy cacheExpiryPolicy;
+    private final Function<String, Optional<T>> loader;
+    private final Executor executor;
+    private final Clock clock;
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+
+    public EarlyRefreshCacheGateway(
+            final ExpiringCacheGateway<T> cacheGateway,
+            final CacheExpiryPolicy cacheExpiryPolicy,
+            final Function<String, Optional<T>> loader,
+            final Executor executor,
+            final Clock clock
+    ) {
+        this.cacheGateway = Objects.requireNonNull(cacheGateway);
+        this.cacheExpiryPolicy = Objects.requireNonNull(cacheExpiryPolicy);
+        this.loader = Objects.requireNonNull(loader);
+        this.executor = Objects.requireNonNull(executor);
+        this.clock = Objects.requireNonNull(clock);
+    }
+
+    @Override
+    public void save(T value) {
+        this.cacheGateway.save(value);
+    }
+
+    @Override
+    public Optional<T> get(String key) {
+        final var aEntry = this.cacheGateway.getEntry(key);
+        aEntry.ifPresent(entry -> this.refreshIfExpiring(key, entry));
+        return aEntry.map(CacheEntry::value);
+    }
+
+    @Override
+    public void delete(String key) {
+        this.cacheGateway.delete(key);
+    }
+
+    @Override
+    public void saveAll(Collection<T> values) {
+        this.cacheGateway.saveAll(values);
+    }
+
+    @Override
+    public Map<String, T> getAll(Collection<String> keys) {
+        final var aValues = new LinkedHashMap<String, T>();
+
+        this.cacheGateway.getAllEntries(keys).forEach((key, entry) -> {
+            this.refreshIfExpiring(key, entry);
+            aValues.put(key, entry.value());
+        });
+
+        return aValues;
+    }
+
+    @Override
+    public void deleteAll(Collection<String> keys) {
+        this.cacheGateway.deleteAll(keys);
+    }
+
+    private void refreshIfExpiring(final String key, final CacheEntry<T> entry) {
+        if (this.cacheExpiryPolicy.shouldRefreshEarly(entry.expiresAt(), this.clock.instant())) {
+            this.refreshAsync(key);
+        }
+    }
+
+    private void refreshAsync(final String key) {
+        if (!this.refreshing.add(key)) {
+            return;
+        }
+
+        try {
+            this.executor.execute(() -> {
+                try {
+                    this.loader.apply(key).ifPresentOrElse(
+                            this.cacheGateway::save,
+                            () -> this.cacheGateway.delete(key)
+                    );
+                } catch (final Exception e) {
+                    // the entry is still served until it expires, the next reads retry
+                    log.error("Error refreshing cache entry {}: {}", key, e.getMessage());
+                } finally {
+                    this.refreshing.remove(key);
+                }
+            });
+        } catch (final RejectedExecutionException e) {
+            this.refreshing.remove(key);
+        }
+    }
+}
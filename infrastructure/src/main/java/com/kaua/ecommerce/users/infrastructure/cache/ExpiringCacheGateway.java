@@ -0,0 +1,31 @@
+package com.kaua.ecommerce.users.infrastructure.cache;
+
+import com.kaua.ecommerce.users.application.gateways.CacheGateway;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+public interface ExpiringCacheGateway<T> extends CacheGateway<T> {
+
+    Optional<CacheEntry<T>> getEntry(String key);
+
+    default Map<String, CacheEntry<T>> getAllEntries(Collection<String> keys) {
+        final var aEntries = new LinkedHashMap<String, CacheEntry<T>>();
+        keys.forEach(key -> getEntry(key).ifPresent(entry -> aEntries.put(key, entry)));
+        return aEntries;
+    }
+
+    @Override
+    default Optional<T> get(String key) {
+        return getEntry(key).map(CacheEntry::value);
+    }
+
+    @Override
+    default Map<String, T> getAll(Collection<String> keys) {
+        final var aValues = new LinkedHashMap<String, T>();
+        getAllEntries(keys).forEach((key, entry) -> aValues.put(key, entry.value()));
+        return aValues;
+    }
+}
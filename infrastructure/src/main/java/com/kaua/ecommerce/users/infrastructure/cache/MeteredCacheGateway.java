@@ -0,0 +1,141 @@
+package com.kaua.ecommerce.users.infrastructure.cache;
+
+import com.kaua.ecommerce.users.application.gateways.CacheGateway;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+public class MeteredCacheGateway<T> implements CacheGateway<T> {
+
+    private final CacheGateway<T> cacheGateway;
+    private final String cacheName;
+    private final MeterRegistry meterRegistry;
+    private final Counter hits;
+    private final Counter misses;
+    private final OperationMeters saveMeters;
+    private final OperationMeters getMeters;
+    private final OperationMeters deleteMeters;
+    private final OperationMeters saveAllMeters;
+    private final OperationMeters getAllMeters;
+    private final OperationMeters deleteAllMeters;
+
+    public MeteredCacheGateway(
+            final CacheGateway<T> cacheGateway,
+            final String cacheName,
+            final MeterRegistry meterRegistry
+    ) {
+        this.cacheGateway = Objects.requireNonNull(cacheGateway);
+        this.cacheName = Objects.requireNonNull(cacheName);
+        this.meterRegistry = Objects.requireNonNull(meterRegistry);
+        this.hits = requests("hit");
+        this.misses = requests("miss");
+        this.saveMeters = operation("save");
+        this.getMeters = operation("get");
+        this.deleteMeters = operation("delete");
+        this.saveAllMeters = operation("saveAll");
+        this.getAllMeters = operation("getAll");
+        this.deleteAllMeters = operation("deleteAll");
+    }
+
+    @Override
+    public void save(T value) {
+        this.record(this.saveMeters, () -> {
+            this.cacheGateway.save(value);
+            return null;
+        });
+    }
+
+    @Override
+    public Optional<T> get(String key) {
+        final var aValue = this.record(this.getMeters, () -> this.cacheGateway.get(key));
+        (aValue.isPresent() ? this.hits : this.misses).increment();
+        return aValue;
+    }
+
+    @Override
+    public void delete(String key) {
+        this.record(this.deleteMeters, () -> {
+            this.cacheGateway.delete(key);
+            return null;
+        });
+    }
+
+    @Override
+    public void saveAll(Collection<T> values) {
+        this.record(this.saveAllMeters, () -> {
+            this.cacheGateway.saveAll(values);
+            return null;
+        });
+    }
+
+    @Override
+    public Map<String, T> getAll(Collection<String> keys) {
+        final var aValues = this.record(this.getAllMeters, () -> this.cacheGateway.getAll(keys));
+        this.hits.increment(aValues.size());
+        this.misses.increment(keys.size() - aValues.size());
+        return aValues;
+    }
+
+    @Override
+    public void deleteAll(Collection<String> keys) {
+        this.record(this.deleteAllMeters, () -> {
+            this.cacheGateway.deleteAll(keys);
+            return null;
+        });
+    }
+
+    private <R> R record(final OperationMeters meters, final Supplier<R> call) {
+        final var aSample = Timer.start(this.meterRegistry);
+        var aTimer = meters.succeeded();
+
+        try {
+            return call.get();
+        } catch (final RuntimeException e) {
+            aTimer = meters.failed();
+            meters.errors().increment();
+            throw e;
+        } finally {
+            aSample.stop(aTimer);
+        }
+    }
+
+    // registered once per operation, the calls only look up a field
+    private OperationMeters operation(final String operation) {
+        return new OperationMeters(
+                latency(operation, "success"),
+                latency(operation, "error"),
+                Counter.builder("cache.gateway.errors")
+                        .description("Cache gateway operations that failed")
+                        .tag("cache", this.cacheName)
+                        .tag("operation", operation)
+                        .register(this.meterRegistry)
+        );
+    }
+
+    private Timer latency(final String operation, final String outcome) {
+        return Timer.builder("cache.gateway.latency")
+                .description("Latency of cache gateway operations")
+                .tag("cache", this.cacheName)
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(this.meterRegistry);
+    }
+
+    private Counter requests(final String result) {
+        return Counter.builder("cache.gateway.requests")
+                .description("Keys looked up through the cache gateway")
+                .tag("cache", this.cacheName)
+                .tag("result", result)
+                .register(this.meterRegistry);
+    }
+
+    private record OperationMeters(Timer succeeded, Timer failed, Counter errors) {
+    }
+}
@@ -0,0 +1,165 @@
+package com.kaua.ecommerce.users.infrastructure.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// Almeida et al. scalable bloom filter: every full stage is followed by one twice as large with
+// half the error rate, so the compound false positive probability stays under the configured one
+public final class ScalableBloomFilter {
+
+    private static final int GROWTH_FACTOR = 2;
+    private static final double TIGHTENING_RATIO = 0.5;
+
+    private final List<Stage> stages;
+
+    public ScalableBloomFilter(final long initialCapacity, final double falsePositiveProbability) {
+        if (initialCapacity <= 0) {
+            throw new IllegalArgumentException("initialCapacity must be positive");
+        }
+        if (falsePositiveProbability <= 0 || falsePositiveProbability >= 1) {
+            throw new IllegalArgumentException("falsePositiveProbability must be between 0 and 1");
+        }
+
+        this.stages = new CopyOnWriteArrayList<>();
+        this.stages.add(new Stage(initialCapacity, falsePositiveProbability * (1 - TIGHTENING_RATIO)));
+    }
+
+    public static long hash(final String aValue) {
+        // 64 bit FNV-1a, mixed with the murmur3 finalizer
+        var aHash = 0xcbf29ce484222325L;
+
+        for (final var aByte : aValue.getBytes(StandardCharsets.UTF_8)) {
+            aHash ^= aByte & 0xff;
+            aHash *= 0x100000001b3L;
+        }
+
+        return mix(aHash);
+    }
+
+    public boolean mightContain(final long aHash) {
+        for (final var aStage : this.stages) {
+            if (aStage.mightContain(aHash)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean put(final long aHash) {
+        if (this.mightContain(aHash)) {
+            return false;
+        }
+
+        this.currentStage().put(aHash);
+        return true;
+    }
+
+    public long size() {
+        return this.stages.stream().mapToLong(Stage::size).sum();
+    }
+
+    public int stageCount() {
+        return this.stages.size();
+    }
+
+    public double expectedFalsePositiveProbability() {
+        var aMiss = 1.0;
+
+        for (final var aStage : this.stages) {
+            aMiss *= 1 - aStage.expectedFalsePositiveProbability();
+        }
+
+        return 1 - aMiss;
+    }
+
+    private Stage currentStage() {
+        final var aStage = this.stages.get(this.stages.size() - 1);
+
+        if (aStage.size() < aStage.capacity) {
+            return aStage;
+        }
+
+        synchronized (this.stages) {
+            final var aLast = this.stages.get(this.stages.size() - 1);
+
+            if (aLast.size() < aLast.capacity) {
+                return aLast;
+            }
+
+            final var aNext = new Stage(
+                    aLast.capacity * GROWTH_FACTOR,
+                    aLast.falsePositiveProbability * TIGHTENING_RATIO
+            );
+            this.stages.add(aNext);
+            return aNext;
+        }
+    }
+
+    private static long mix(long aHash) {
+        aHash ^= aHash >>> 33;
+        aHash *= 0xff51afd7ed558ccdL;
+        aHash ^= aHash >>> 33;
+        aHash *= 0xc4ceb9fe1a85ec53L;
+        aHash ^= aHash >>> 33;
+        return aHash;
+    }
+
+    private static final class Stage {
+
+        private final long capacity;
+        private final double falsePositiveProbability;
+        private final long bitCount;
+        private final int hashCount;
+        private final AtomicLongArray bits;
+        private final AtomicLong size;
+
+        private Stage(final long capacity, final double falsePositiveProbability) {
+            final var aLn2 = Math.log(2);
+            final var aBitCount = (long) Math.ceil(-capacity * Math.log(falsePositiveProbability) / (aLn2 * aLn2));
+
+            this.capacity = capacity;
+            this.falsePositiveProbability = falsePositiveProbability;
+            this.bitCount = Math.max(64, aBitCount);
+            this.hashCount = Math.max(1, (int) Math.round((double) this.bitCount / capacity * aLn2));
+            this.bits = new AtomicLongArray(Math.toIntExact((this.bitCount + 63) / 64));
+            this.size = new AtomicLong();
+        }
+
+        private boolean mightContain(final long aHash) {
+            final var aSecond = mix(aHash ^ 0x9e3779b97f4a7c15L) | 1;
+
+            for (var i = 0; i < this.hashCount; i++) {
+                final var aBit = Math.floorMod(aHash + i * aSecond, this.bitCount);
+
+                if ((this.bits.get((int) (aBit >>> 6)) & (1L << aBit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private void put(final long aHash) {
+            final var aSecond = mix(aHash ^ 0x9e3779b97f4a7c15L) | 1;
+
+            for (var i = 0; i < this.hashCount; i++) {
+                final var aBit = Math.floorMod(aHash + i * aSecond, this.bitCount);
+                final var aIndex = (int) (aBit >>> 6);
+                final var aMask = 1L << aBit;
+
+                this.bits.getAndUpdate(aIndex, word -> word | aMask);
+            }
+            this.size.incrementAndGet();
+        }
+
+        private long size() {
+            return this.size.get();
+        }
+
+        private double expectedFalsePositiveProbability() {
+            return Math.pow(1 - Math.exp(-(double) this.hashCount * this.size() / this.bitCount), this.hashCount);
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package com.kaua.ecommerce.users.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.kaua.ecommerce.users.application.gateways.CacheGateway;
+import com.kaua.ecommerce.users.infrastructure.services.CacheInvalidationService;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+
+public class TwoTierCacheGateway<T> implements CacheGateway<T> {
+
+    private static final int INVALIDATION_STRIPES = 256;
+
+    private final String cacheName;
+    private final Cache<String, LocalEntry<T>> localCache;
+    private final CacheGateway<T> remoteCacheGateway;
+    private final Function<T, String> keyExtractor;
+    private final CacheInvalidationService cacheInvalidationService;
+    private final Function<T, String> dependencyExtractor;
+    private final DependencyGenerations dependencyGenerations;
+    private final AtomicLongArray invalidations;
+
+    public TwoTierCacheGateway(
+            final String cacheName,
+            final Cache<String, LocalEntry<T>> localCache,
+            final CacheGateway<T> remoteCacheGateway,
+            final Function<T, String> keyExtractor,
+            final CacheInvalidationService cacheInvalidationService
+    ) {
+        this(
+                cacheName,
+                localCache,
+                remoteCacheGateway,
+                keyExtractor,
+                cacheInvalidationService,
+                value -> cacheName,
+                new DependencyGenerations()
+        );
+    }
+
+    // local entries embedding a dependency are stamped with its generation, bumping it turns them into misses
+    public TwoTierCacheGateway(
+            final String cacheName,
+            final Cache<String, LocalEntry<T>> localCache,
+            final CacheGateway<T> remoteCacheGateway,
+            final Function<T, String> keyExtractor,
+            final CacheInvalidationService cacheInvalidationService,
+            final Function<T, String> dependencyExtractor,
+            final DependencyGenerations dependencyGenerations
+    ) {
+        this.cacheName = Objects.requireNonNull(cacheName);
+        this.localCache = Objects.requireNonNull(localCache);
+        this.remoteCacheGateway = Objects.requireNonNull(remoteCacheGateway);
+        this.keyExtractor = Objects.requireNonNull(keyExtractor);
+        this.cacheInvalidationService = Objects.requireNonNull(cacheInvalidationService);
+        this.dependencyExtractor = Objects.requireNonNull(dependencyExtractor);
+        this.dependencyGenerations = Objects.requireNonNull(dependencyGenerations);
+        this.invalidations = new AtomicLongArray(INVALIDATION_STRIPES);
+        this.cacheInvalidationService.subscribe(cacheName, this::evictLocal);
+    }
+
+    @Override
+    public void save(T value) {
+        final var aKey = this.keyExtractor.apply(value);
+        this.remoteCacheGateway.save(value);
+        this.invalidate(aKey);
+    }
+
+    @Override
+    public Optional<T> get(String key) {
+        final var aLocalEntry = this.localCache.getIfPresent(key);
+
+        if (aLocalEntry != null && this.isCurrent(aLocalEntry)) {
+            return Optional.of(aLocalEntry.value());
+        }
+
+        final var aChanges = this.dependencyGenerations.changes();
+        final var aInvalidations = this.invalidationsOf(key);
+        final var aRemoteValue = this.remoteCacheGateway.get(key);
+        aRemoteValue.ifPresent(value -> this.putLocal(key, value, aChanges, aInvalidations));
+        return aRemoteValue;
+    }
+
+    @Override
+    public void delete(String key) {
+        this.remoteCacheGateway.delete(key);
+        this.invalidate(key);
+    }
+
+    @Override
+    public void saveAll(Collection<T> values) {
+        this.remoteCacheGateway.saveAll(values);
+        this.invalidateAll(values.stream().map(this.keyExtractor).toList());
+    }
+
+    @Override
+    public Map<String, T> getAll(Collection<String> keys) {
+        final var aValues = new LinkedHashMap<String, T>();
+
+        this.localCache.getAllPresent(keys).forEach((key, entry) -> {
+            if (this.isCurrent(entry)) {
+                aValues.put(key, entry.value());
+            }
+        });
+
+        final var aMissingKeys = keys.stream()
+                .filter(key -> !aValues.containsKey(key))
+                .toList();
+
+        if (!aMissingKeys.isEmpty()) {
+            final var aChanges = this.dependencyGenerations.changes();
+            final var aInvalidations = new HashMap<String, Long>();
+            aMissingKeys.forEach(key -> aInvalidations.put(key, this.invalidationsOf(key)));
+
+            final var aRemoteValues = this.remoteCacheGateway.getAll(aMissingKeys);
+            aRemoteValues.forEach((key, value) -> this.putLocal(key, value, aChanges, aInvalidations.get(key)));
+            aValues.putAll(aRemoteValues);
+        }
+
+        return aValues;
+    }
+
+    @Override
+    public void deleteAll(Collection<String> keys) {
+        this.remoteCacheGateway.deleteAll(keys);
+        this.invalidateAll(List.copyOf(keys));
+    }
+
+    public void evictLocal(final String key) {
+        this.invalidations.incrementAndGet(stripeOf(key));
+        this.localCache.invalidate(key);
+    }
+
+    public void evictAllLocal() {
+        for (int i = 0; i < INVALIDATION_STRIPES; i++) {
+            this.invalidations.incrementAndGet(i);
+        }
+        this.localCache.invalidateAll();
+    }
+
+    private boolean isCurrent(final LocalEntry<T> aEntry) {
+        return aEntry.generation() == this.dependencyGenerations.current(this.dependencyExtractor.apply(aEntry.value()));
+    }
+
+    // a bump or an eviction while the remote read was in flight may have made the value stale, it is served but not kept
+    private void putLocal(final String aKey, final T aValue, final long aChanges, final long aInvalidations) {
+        final var aGeneration = this.dependencyGenerations.current(this.dependencyExtractor.apply(aValue));
+
+        if (this.dependencyGenerations.changes() != aChanges || this.invalidationsOf(aKey) != aInvalidations) {
+            return;
+        }
+
+        final var aEntry = new LocalEntry<>(aValue, aGeneration);
+        this.localCache.put(aKey, aEntry);
+
+        // an eviction that landed between the check and the put removed nothing, the entry is taken back
+        if (this.invalidationsOf(aKey) != aInvalidations) {
+            this.localCache.asMap().remove(aKey, aEntry);
+        }
+    }
+
+    private long invalidationsOf(final String aKey) {
+        return this.invalidations.get(stripeOf(aKey));
+    }
+
+    // keys share a counter per stripe, an eviction only costs the fills racing it on the same stripe
+    private static int stripeOf(final String aKey) {
+        return Math.floorMod(aKey.hashCode(), INVALIDATION_STRIPES);
+    }
+
+    private void invalidate(final String key) {
+        this.evictLocal(key);
+        this.cacheInvalidationService.publish(this.cacheName, List.of(key));
+    }
+
+    private void invalidateAll(final List<String> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+
+        keys.forEach(key -> this.invalidations.incrementAndGet(stripeOf(key)));
+        this.localCache.invalidateAll(keys);
+        this.cacheInvalidationService.publish(this.cacheName, keys);
+    }
+
+    public record LocalEntry<T>(T value, long generation) {
+    }
+}
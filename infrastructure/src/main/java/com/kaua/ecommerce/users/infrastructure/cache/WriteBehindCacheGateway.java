@@ -0,0 +1,293 @@
+package com.kaua.ecommerce.users.infrastructure.cache;
+
+import com.kaua.ecommerce.users.application.gateways.CacheGateway;
+import com.kaua.ecommerce.users.infrastructure.configurations.properties.cache.WriteBehindProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+public class WriteBehindCacheGateway<T> implements CacheGateway<T>, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(WriteBehindCacheGateway.class);
+
+    public enum OverflowPolicy {
+        // the write is done on the request thread
+        CALLER_RUNS,
+        // the write is dropped and the key evicted, the next read loads it from the database
+        EVICT
+    }
+
+    private final String cacheName;
+    private final CacheGateway<T> cacheGateway;
+    private final Function<T, String> keyExtractor;
+    private final int capacity;
+    private final int batchSize;
+    private final Duration flushInterval;
+    private final OverflowPolicy overflowPolicy;
+    private final boolean flushOnShutdown;
+    private final Duration shutdownTimeout;
+    private final Counter overflows;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition batchReady = this.lock.newCondition();
+    private final Map<String, T> pending = new LinkedHashMap<>();
+    private final Map<String, T> flushing = new LinkedHashMap<>();
+    private final Set<String> evictAfterFlush = new HashSet<>();
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    public WriteBehindCacheGateway(
+            final String cacheName,
+            final CacheGateway<T> cacheGateway,
+            final Function<T, String> keyExtractor,
+            final WriteBehindProperties writeBehindProperties,
+            final MeterRegistry meterRegistry
+    ) {
+        this.cacheName = Objects.requireNonNull(cacheName);
+        this.cacheGateway = Objects.requireNonNull(cacheGateway);
+        this.keyExtractor = Objects.requireNonNull(keyExtractor);
+        this.capacity = writeBehindProperties.getCapacity();
+        this.batchSize = writeBehindProperties.getBatchSize();
+        this.flushInterval = Objects.requireNonNull(writeBehindProperties.getFlushInterval());
+        this.overflowPolicy = Objects.requireNonNull(writeBehindProperties.getOverflow());
+        this.flushOnShutdown = writeBehindProperties.isFlushOnShutdown();
+        this.shutdownTimeout = Objects.requireNonNull(writeBehindProperties.getShutdownTimeout());
+        this.overflows = Counter.builder("cache.write.behind.overflows")
+                .description("Writes that did not fit in the write-behind buffer")
+                .tag("cache", cacheName)
+                .tag("policy", this.overflowPolicy.name())
+                .register(meterRegistry);
+        Gauge.builder("cache.write.behind.pending", this, WriteBehindCacheGateway::pendingSize)
+                .description("Writes waiting in the write-behind buffer")
+                .tag("cache", cacheName)
+                .register(meterRegistry);
+
+        this.writer = new Thread(this::drain, "cache-write-behind-" + cacheName);
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    @Override
+    public void save(T value) {
+        final var aKey = this.keyExtractor.apply(value);
+
+        this.lock.lock();
+        try {
+            // a repeated write to a buffered key replaces it and keeps its place
+            if (this.running && (this.pending.containsKey(aKey) || this.pending.size() < this.capacity)) {
+                this.pending.put(aKey, value);
+
+                if (this.pending.size() >= this.batchSize) {
+                    this.batchReady.signal();
+                }
+                return;
+            }
+
+            this.evictAfterFlush(aKey);
+        } finally {
+            this.lock.unlock();
+        }
+
+        this.overflows.increment();
+
+        if (!this.running || this.overflowPolicy == OverflowPolicy.CALLER_RUNS) {
+            this.cacheGateway.save(value);
+        } else {
+            this.cacheGateway.delete(aKey);
+        }
+    }
+
+    @Override
+    public Optional<T> get(String key) {
+        return this.buffered(key).or(() -> this.cacheGateway.get(key));
+    }
+
+    @Override
+    public void delete(String key) {
+        this.lock.lock();
+        try {
+            this.pending.remove(key);
+            this.evictAfterFlush(key);
+        } finally {
+            this.lock.unlock();
+        }
+
+        this.cacheGateway.delete(key);
+    }
+
+    @Override
+    public void saveAll(Collection<T> values) {
+        values.forEach(this::save);
+    }
+
+    @Override
+    public Map<String, T> getAll(Collection<String> keys) {
+        final var aValues = new LinkedHashMap<String, T>();
+        final var aMissingKeys = new ArrayList<String>();
+
+        keys.forEach(key -> this.buffered(key).ifPresentOrElse(
+                value -> aValues.put(key, value),
+                () -> aMissingKeys.add(key)
+        ));
+
+        if (!aMissingKeys.isEmpty()) {
+            aValues.putAll(this.cacheGateway.getAll(aMissingKeys));
+        }
+
+        return aValues;
+    }
+
+    @Override
+    public void deleteAll(Collection<String> keys) {
+        this.lock.lock();
+        try {
+            keys.forEach(key -> {
+                this.pending.remove(key);
+                this.evictAfterFlush(key);
+            });
+        } finally {
+            this.lock.unlock();
+        }
+
+        this.cacheGateway.deleteAll(keys);
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        this.running = false;
+
+        this.lock.lock();
+        try {
+            this.batchReady.signal();
+        } finally {
+            this.lock.unlock();
+        }
+
+        this.writer.join(this.shutdownTimeout.toMillis());
+
+        if (this.writer.isAlive()) {
+            log.warn("Write-behind for {} did not finish in {}, {} writes left", this.cacheName,
+                    this.shutdownTimeout, this.pendingSize());
+        }
+    }
+
+    public int pendingSize() {
+        this.lock.lock();
+        try {
+            return this.pending.size();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    private Optional<T> buffered(final String key) {
+        this.lock.lock();
+        try {
+            return Optional.ofNullable(this.pending.get(key))
+                    .or(() -> Optional.ofNullable(this.flushing.get(key)));
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    // an older value for the key is on its way to redis, it is removed again once written
+    private void evictAfterFlush(final String key) {
+        if (this.flushing.remove(key) != null) {
+            this.evictAfterFlush.add(key);
+        }
+    }
+
+    private void drain() {
+        while (true) {
+            final List<T> aBatch;
+
+            this.lock.lock();
+            try {
+                if (this.running && this.pending.size() < this.batchSize) {
+                    this.batchReady.await(this.flushInterval.toNanos(), TimeUnit.NANOSECONDS);
+                }
+
+                if (!this.running && (this.pending.isEmpty() || !this.flushOnShutdown)) {
+                    if (!this.pending.isEmpty()) {
+                        log.info("Write-behind for {} discarded {} writes on shutdown", this.cacheName,
+                                this.pending.size());
+                        this.pending.clear();
+                    }
+                    return;
+                }
+
+                aBatch = this.takeBatch();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                this.lock.unlock();
+            }
+
+            if (!aBatch.isEmpty()) {
+                this.write(aBatch);
+            }
+        }
+    }
+
+    private List<T> takeBatch() {
+        final var aIterator = this.pending.entrySet().iterator();
+
+        while (aIterator.hasNext() && this.flushing.size() < this.batchSize) {
+            final var aEntry = aIterator.next();
+            this.flushing.put(aEntry.getKey(), aEntry.getValue());
+            aIterator.remove();
+        }
+
+        return List.copyOf(this.flushing.values());
+    }
+
+    private void write(final List<T> aBatch) {
+        final var aEvictKeys = new LinkedHashSet<String>();
+
+        try {
+            this.cacheGateway.saveAll(aBatch);
+        } catch (final RuntimeException e) {
+            log.error("Write-behind for {} failed to write {} entries: {}", this.cacheName, aBatch.size(),
+                    e.getMessage());
+            // the cache still holds the values these writes replaced, they are evicted so reads miss instead
+            aBatch.forEach(value -> aEvictKeys.add(this.keyExtractor.apply(value)));
+        }
+
+        this.lock.lock();
+        try {
+            aEvictKeys.addAll(this.evictAfterFlush);
+            this.evictAfterFlush.clear();
+            this.flushing.clear();
+        } finally {
+            this.lock.unlock();
+        }
+
+        if (!aEvictKeys.isEmpty()) {
+            try {
+                this.cacheGateway.deleteAll(List.copyOf(aEvictKeys));
+            } catch (final RuntimeException e) {
+                log.error("Write-behind for {} failed to evict {} entries: {}", this.cacheName, aEvictKeys.size(),
+                        e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.kaua.ecommerce.users.infrastructure.cache.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record CacheWarmUpResponse(
+        @JsonProperty("state") String state,
+        @JsonProperty("warmed_accounts") long warmedAccounts,
+        @JsonProperty("total_accounts") long totalAccounts,
+        @JsonProperty("accounts_per_second") double accountsPerSecond,
+        @JsonProperty("started_at") String startedAt,
+        @JsonProperty("finished_at") String finishedAt,
+        @JsonProperty("error") String error
+) {
+}
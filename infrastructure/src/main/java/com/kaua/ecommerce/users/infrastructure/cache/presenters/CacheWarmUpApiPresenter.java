@@ -0,0 +1,24 @@
+package com.kaua.ecommerce.users.infrastructure.cache.presenters;
+
+import com.kaua.ecommerce.users.infrastructure.cache.CacheWarmUpStatus;
+import com.kaua.ecommerce.users.infrastructure.cache.models.CacheWarmUpResponse;
+
+import java.time.Instant;
+import java.util.Objects;
+
+public final class CacheWarmUpApiPresenter {
+
+    private CacheWarmUpApiPresenter() {}
+
+    public static CacheWarmUpResponse present(final CacheWarmUpStatus aStatus, final Instant aNow) {
+        return new CacheWarmUpResponse(
+                aStatus.state().name(),
+                aStatus.warmedAccounts(),
+                aStatus.totalAccounts(),
+                aStatus.accountsPerSecond(aNow),
+                Objects.toString(aStatus.startedAt(), null),
+                Objects.toString(aStatus.finishedAt(), null),
+                aStatus.error()
+        );
+    }
+}
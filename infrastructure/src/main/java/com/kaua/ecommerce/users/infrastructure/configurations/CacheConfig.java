@@ -1,19 +1,110 @@
 package com.kaua.ecommerce.users.infrastructure.configurations;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.kaua.ecommerce.users.application.gateways.AccountEmailCacheGateway;
+import com.kaua.ecommerce.users.application.gateways.AccountGateway;
+import com.kaua.ecommerce.users.application.gateways.CacheGateway;
+import com.kaua.ecommerce.users.application.gateways.RoleGateway;
+import com.kaua.ecommerce.users.domain.accounts.Account;
+import com.kaua.ecommerce.users.domain.roles.Role;
+import com.kaua.ecommerce.users.infrastructure.accounts.AccountCacheGateway;
+import com.kaua.ecommerce.users.infrastructure.accounts.AccountEmailFilter;
+import com.kaua.ecommerce.users.infrastructure.accounts.persistence.AccountCacheRepository;
+import com.kaua.ecommerce.users.infrastructure.accounts.persistence.AccountCacheStore;
+import com.kaua.ecommerce.users.infrastructure.accounts.persistence.AccountEmailIndex;
+import com.kaua.ecommerce.users.infrastructure.accounts.persistence.AccountJpaRepository;
+import com.kaua.ecommerce.users.infrastructure.accounts.persistence.BinaryAccountCacheStore;
+import com.kaua.ecommerce.users.infrastructure.accounts.persistence.InMemoryAccountCacheStore;
+import com.kaua.ecommerce.users.infrastructure.accounts.persistence.InMemoryAccountEmailIndex;
+import com.kaua.ecommerce.users.infrastructure.accounts.persistence.RedisAccountEmailIndex;
+import com.kaua.ecommerce.users.infrastructure.accounts.persistence.RedisHashAccountCacheStore;
+import com.kaua.ecommerce.users.infrastructure.cache.ApproximateCountCache;
+import com.kaua.ecommerce.users.infrastructure.cache.BoundedMemoryStore;
+import com.kaua.ecommerce.users.infrastructure.cache.CacheExpiryPolicy;
+import com.kaua.ecommerce.users.infrastructure.cache.CacheWarmUpJob;
+import com.kaua.ecommerce.users.infrastructure.cache.CircuitBreakerCacheGateway;
+import com.kaua.ecommerce.users.infrastructure.cache.DependencyGenerations;
+import com.kaua.ecommerce.users.infrastructure.cache.EarlyRefreshCacheGateway;
+import com.kaua.ecommerce.users.infrastructure.cache.MeteredCacheGateway;
+import com.kaua.ecommerce.users.infrastructure.cache.TwoTierCacheGateway;
+import com.kaua.ecommerce.users.infrastructure.cache.WriteBehindCacheGateway;
+import com.kaua.ecommerce.users.infrastructure.configurations.annotations.AccountCacheExpiry;
+import com.kaua.ecommerce.users.infrastructure.configurations.annotations.AccountLocalCache;
+import com.kaua.ecommerce.users.infrastructure.configurations.annotations.AccountNegativeCache;
+import com.kaua.ecommerce.users.infrastructure.configurations.annotations.PaginationCountCache;
+import com.kaua.ecommerce.users.infrastructure.configurations.annotations.RoleCacheExpiry;
+import com.kaua.ecommerce.users.infrastructure.configurations.properties.cache.BloomFilterProperties;
+import com.kaua.ecommerce.users.infrastructure.configurations.properties.cache.CacheExpiryProperties;
+import com.kaua.ecommerce.users.infrastructure.configurations.properties.cache.CircuitBreakerProperties;
+import com.kaua.ecommerce.users.infrastructure.configurations.properties.cache.CacheWarmUpProperties;
+import com.kaua.ecommerce.users.infrastructure.configurations.properties.cache.LocalCacheProperties;
+import com.kaua.ecommerce.users.infrastructure.configurations.properties.cache.WriteBehindProperties;
+import com.kaua.ecommerce.users.infrastructure.permissions.PermissionMySQLGateway;
+import com.kaua.ecommerce.users.infrastructure.roles.RoleCacheGateway;
+import com.kaua.ecommerce.users.infrastructure.roles.RoleMySQLGateway;
+import com.kaua.ecommerce.users.infrastructure.roles.persistence.InMemoryRoleCacheStore;
+import com.kaua.ecommerce.users.infrastructure.roles.persistence.RedisHashRoleCacheStore;
+import com.kaua.ecommerce.users.infrastructure.roles.persistence.RoleCacheRepository;
+import com.kaua.ecommerce.users.infrastructure.roles.persistence.RoleCacheStore;
+import com.kaua.ecommerce.users.infrastructure.roles.persistence.RoleJpaRepository;
+import com.kaua.ecommerce.users.infrastructure.services.CacheInvalidationService;
+import com.kaua.ecommerce.users.infrastructure.services.NegativeCacheService;
+import com.kaua.ecommerce.users.infrastructure.services.impl.RedisCacheInvalidationService;
+import com.kaua.ecommerce.users.infrastructure.services.impl.RedisNegativeCacheService;
+import com.kaua.ecommerce.users.infrastructure.services.local.InMemoryCacheInvalidationService;
+import com.kaua.ecommerce.users.infrastructure.services.local.InMemoryNegativeCacheService;
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.SocketOptions;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.ApplicationListener;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Clock;
+import java.util.List;
+import java.util.Optional;
 
 @Configuration
 public class CacheConfig {
 
     @Bean
     public LettuceConnectionFactory redisConnectionFactory(RedisProperties redisProperties) {
+        // commands fail fast instead of queueing while the connection is down, the circuit breakers take it from there
+        final var aClientConfiguration = LettuceClientConfiguration.builder()
+                .commandTimeout(redisProperties.getTimeout())
+                .clientOptions(ClientOptions.builder()
+                        .disconnectedBehavior(ClientOptions.DisconnectedBehavior.REJECT_COMMANDS)
+                        .socketOptions(SocketOptions.builder()
+                                .connectTimeout(redisProperties.getConnectTimeout())
+                                .build())
+                        .build())
+                .build();
+
         return new LettuceConnectionFactory(
-                redisProperties.getHost(),
-                redisProperties.getPort()
+                new RedisStandaloneConfiguration(redisProperties.getHost(), redisProperties.getPort()),
+                aClientConfiguration
         );
     }
 
@@ -23,4 +114,428 @@ public class CacheConfig {
         template.setConnectionFactory(redisConnectionFactory);
         return template;
     }
+
+    @Bean
+    @ConditionalOnProperty(name = "cache.account.store", havingValue = "hash", matchIfMissing = true)
+    public AccountCacheStore redisHashAccountCacheStore(final AccountCacheRepository accountCacheRepository) {
+        return new RedisHashAccountCacheStore(accountCacheRepository);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "cache.account.store", havingValue = "binary")
+    public AccountCacheStore binaryAccountCacheStore(
+            final StringRedisTemplate stringRedisTemplate,
+            final MeterRegistry meterRegistry
+    ) {
+        return new BinaryAccountCacheStore(stringRedisTemplate, meterRegistry);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "cache.account.store", havingValue = "memory")
+    public AccountCacheStore inMemoryAccountCacheStore(
+            @Value("${cache.account.memory.maximum-size}") final DataSize maximumSize,
+            final MeterRegistry meterRegistry
+    ) {
+        return new InMemoryAccountCacheStore(new BoundedMemoryStore<>(
+                AccountCacheGateway.CACHE_NAME + ".memory",
+                maximumSize,
+                value -> value.length,
+                meterRegistry
+        ));
+    }
+
+    @Bean
+    @ConditionalOnExpression("'${cache.account.store:hash}' != 'memory'")
+    public AccountEmailIndex redisAccountEmailIndex(final StringRedisTemplate stringRedisTemplate) {
+        return new RedisAccountEmailIndex(stringRedisTemplate);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "cache.account.store", havingValue = "memory")
+    public AccountEmailIndex inMemoryAccountEmailIndex(
+            @Value("${cache.account.memory.email-index-maximum-size}") final DataSize maximumSize,
+            final MeterRegistry meterRegistry
+    ) {
+        return new InMemoryAccountEmailIndex(new BoundedMemoryStore<>(
+                AccountCacheGateway.CACHE_NAME + ".email.memory",
+                maximumSize,
+                value -> value.length() * 2,
+                meterRegistry
+        ));
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "cache.role.store", havingValue = "hash", matchIfMissing = true)
+    public RoleCacheStore redisHashRoleCacheStore(final RoleCacheRepository roleCacheRepository) {
+        return new RedisHashRoleCacheStore(roleCacheRepository);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "cache.role.store", havingValue = "memory")
+    public RoleCacheStore inMemoryRoleCacheStore(
+            @Value("${cache.role.memory.maximum-size}") final DataSize maximumSize,
+            final MeterRegistry meterRegistry
+    ) {
+        return new InMemoryRoleCacheStore(new BoundedMemoryStore<>(
+                RoleCacheGateway.CACHE_NAME + ".memory",
+                maximumSize,
+                InMemoryRoleCacheStore::weigh,
+                meterRegistry
+        ));
+    }
+
+    @Bean
+    @AccountLocalCache
+    @ConfigurationProperties("cache.account.local")
+    public LocalCacheProperties accountLocalCacheProperties() {
+        return new LocalCacheProperties();
+    }
+
+    @Bean
+    @AccountNegativeCache
+    @ConfigurationProperties("cache.account.negative")
+    public LocalCacheProperties accountNegativeCacheProperties() {
+        return new LocalCacheProperties();
+    }
+
+    @Bean
+    @PaginationCountCache
+    @ConfigurationProperties("cache.pagination-count")
+    public LocalCacheProperties paginationCountCacheProperties() {
+        return new LocalCacheProperties();
+    }
+
+    @Bean
+    public ApproximateCountCache approximateCountCache(
+            @PaginationCountCache final LocalCacheProperties paginationCountCacheProperties,
+            final MeterRegistry meterRegistry
+    ) {
+        final var aCounts = Caffeine.newBuilder()
+                .maximumSize(paginationCountCacheProperties.getMaximumSize())
+                .expireAfterWrite(paginationCountCacheProperties.getExpireAfterWrite())
+                .recordStats()
+                .<String, Long>build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, aCounts, "pagination.count");
+        return new ApproximateCountCache(aCounts);
+    }
+
+    @Bean
+    @AccountCacheExpiry
+    @ConfigurationProperties("cache.account.expiry")
+    public CacheExpiryProperties accountCacheExpiryProperties() {
+        return new CacheExpiryProperties();
+    }
+
+    @Bean
+    @RoleCacheExpiry
+    @ConfigurationProperties("cache.role.expiry")
+    public CacheExpiryProperties roleCacheExpiryProperties() {
+        return new CacheExpiryProperties();
+    }
+
+    @Bean
+    @AccountCacheExpiry
+    public CacheExpiryPolicy accountCacheExpiryPolicy(
+            @AccountCacheExpiry final CacheExpiryProperties accountCacheExpiryProperties
+    ) {
+        return CacheExpiryPolicy.from(accountCacheExpiryProperties);
+    }
+
+    @Bean
+    @RoleCacheExpiry
+    public CacheExpiryPolicy roleCacheExpiryPolicy(
+            @RoleCacheExpiry final CacheExpiryProperties roleCacheExpiryProperties
+    ) {
+        return CacheExpiryPolicy.from(roleCacheExpiryProperties);
+    }
+
+    @Bean
+    @ConfigurationProperties("cache.circuit-breaker")
+    public CircuitBreakerProperties cacheCircuitBreakerProperties() {
+        return new CircuitBreakerProperties();
+    }
+
+    @Bean
+    @Primary
+    public CacheGateway<Role> earlyRefreshRoleCacheGateway(
+            final RoleCacheGateway roleCacheGateway,
+            @RoleCacheExpiry final CacheExpiryPolicy roleCacheExpiryPolicy,
+            final ObjectProvider<RoleGateway> roleGateway,
+            final TaskExecutor applicationTaskExecutor,
+            final CircuitBreakerProperties cacheCircuitBreakerProperties,
+            final CacheInvalidationService cacheInvalidationService,
+            final MeterRegistry meterRegistry
+    ) {
+        // the role gateway itself depends on the role cache, it is resolved on the first refresh
+        return new CircuitBreakerCacheGateway<>(
+                RoleCacheGateway.CACHE_NAME,
+                new MeteredCacheGateway<>(
+                        new EarlyRefreshCacheGateway<>(
+                                roleCacheGateway,
+                                roleCacheExpiryPolicy,
+                                key -> roleGateway.getObject().findById(key),
+                                applicationTaskExecutor,
+                                Clock.systemUTC()
+                        ),
+                        RoleCacheGateway.CACHE_NAME,
+                        meterRegistry
+                ),
+                role -> role.getId().getValue(),
+                cacheCircuitBreakerProperties,
+                Clock.systemUTC(),
+                meterRegistry,
+                // the role cache publishes its own evictions, the other nodes' role generations must not wait for redis
+                keys -> cacheInvalidationService.publish(RoleCacheGateway.CACHE_NAME, List.copyOf(keys))
+        );
+    }
+
+    @Bean
+    @ConfigurationProperties("cache.account.write-behind")
+    public WriteBehindProperties accountWriteBehindProperties() {
+        return new WriteBehindProperties();
+    }
+
+    @Bean
+    public CircuitBreakerCacheGateway<Account> circuitBreakerAccountCacheGateway(
+            final AccountCacheGateway accountCacheGateway,
+            @AccountCacheExpiry final CacheExpiryPolicy accountCacheExpiryPolicy,
+            final AccountGateway accountGateway,
+            final TaskExecutor applicationTaskExecutor,
+            final CircuitBreakerProperties cacheCircuitBreakerProperties,
+            final MeterRegistry meterRegistry
+    ) {
+        return new CircuitBreakerCacheGateway<>(
+                AccountCacheGateway.CACHE_NAME,
+                new MeteredCacheGateway<>(
+                        new EarlyRefreshCacheGateway<>(
+                                accountCacheGateway,
+                                accountCacheExpiryPolicy,
+                                accountGateway::findById,
+                                applicationTaskExecutor,
+                                Clock.systemUTC()
+                        ),
+                        AccountCacheGateway.CACHE_NAME,
+                        meterRegistry
+                ),
+                account -> account.getId().getValue(),
+                cacheCircuitBreakerProperties,
+                Clock.systemUTC(),
+                meterRegistry
+        );
+    }
+
+    @Bean
+    @Primary
+    public AccountEmailCacheGateway circuitBreakerAccountEmailCacheGateway(
+            final AccountCacheGateway accountCacheGateway,
+            final CircuitBreakerCacheGateway<Account> circuitBreakerAccountCacheGateway
+    ) {
+        // the email index lives next to the accounts, a redis outage reads as a miss there too
+        return aEmail -> circuitBreakerAccountCacheGateway.read(
+                () -> accountCacheGateway.findIdByEmail(aEmail),
+                Optional::empty
+        );
+    }
+
+    @Bean
+    @Primary
+    public CacheGateway<Account> twoTierAccountCacheGateway(
+            final CircuitBreakerCacheGateway<Account> circuitBreakerAccountCacheGateway,
+            @AccountLocalCache final LocalCacheProperties accountLocalCacheProperties,
+            final CacheInvalidationService cacheInvalidationService,
+            final WriteBehindProperties accountWriteBehindProperties,
+            final MeterRegistry meterRegistry
+    ) {
+        final var aLocalCache = Caffeine.newBuilder()
+                .maximumSize(accountLocalCacheProperties.getMaximumSize())
+                .expireAfterWrite(accountLocalCacheProperties.getExpireAfterWrite())
+                .recordStats()
+                .<String, TwoTierCacheGateway.LocalEntry<Account>>build();
+
+        // local hits never reach the metered remote tier, caffeine reports them on its own
+        CaffeineCacheMetrics.monitor(meterRegistry, aLocalCache, AccountCacheGateway.CACHE_NAME + ".local");
+
+        // local entries hold the assembled role, a role edit only bumps its generation and its accounts miss
+        final var aRoleGenerations = new DependencyGenerations();
+        cacheInvalidationService.subscribe(RoleCacheGateway.CACHE_NAME, aRoleGenerations::bump);
+
+        // the local tier keeps serving while the breaker bypasses redis
+        final var aCacheGateway = new TwoTierCacheGateway<>(
+                AccountCacheGateway.CACHE_NAME,
+                aLocalCache,
+                circuitBreakerAccountCacheGateway,
+                account -> account.getId().getValue(),
+                cacheInvalidationService,
+                account -> account.getRole().getId().getValue(),
+                aRoleGenerations
+        );
+
+        if (!accountWriteBehindProperties.isEnabled()) {
+            return aCacheGateway;
+        }
+
+        // buffered above both tiers, other nodes are only told to evict once redis holds the new value
+        return new WriteBehindCacheGateway<>(
+                AccountCacheGateway.CACHE_NAME,
+                aCacheGateway,
+                account -> account.getId().getValue(),
+                accountWriteBehindProperties,
+                meterRegistry
+        );
+    }
+
+    @Bean
+    @ConfigurationProperties("cache.warm-up")
+    public CacheWarmUpProperties cacheWarmUpProperties() {
+        return new CacheWarmUpProperties();
+    }
+
+    @Bean
+    public CacheWarmUpJob cacheWarmUpJob(
+            final AccountJpaRepository accountJpaRepository,
+            final RoleJpaRepository roleJpaRepository,
+            final CacheGateway<Account> accountCacheGateway,
+            final CacheGateway<Role> roleCacheGateway,
+            final PlatformTransactionManager transactionManager,
+            final TaskExecutor applicationTaskExecutor,
+            final CacheWarmUpProperties cacheWarmUpProperties
+    ) {
+        final var aTransactionTemplate = new TransactionTemplate(transactionManager);
+        aTransactionTemplate.setReadOnly(true);
+
+        // writes go through the primary gateways, so breakers, metrics and local tier invalidation apply
+        return new CacheWarmUpJob(
+                accountJpaRepository,
+                roleJpaRepository,
+                accountCacheGateway,
+                roleCacheGateway,
+                aTransactionTemplate,
+                applicationTaskExecutor,
+                cacheWarmUpProperties,
+                Clock.systemUTC()
+        );
+    }
+
+    @Bean
+    public ApplicationListener<ApplicationReadyEvent> cacheWarmUpOnStartup(
+            final CacheWarmUpJob cacheWarmUpJob,
+            final CacheWarmUpProperties cacheWarmUpProperties
+    ) {
+        return event -> {
+            if (cacheWarmUpProperties.isOnStartup()) {
+                cacheWarmUpJob.start();
+            }
+        };
+    }
+
+    @Bean
+    @ConfigurationProperties("cache.account.email-filter")
+    public BloomFilterProperties accountEmailFilterProperties() {
+        return new BloomFilterProperties();
+    }
+
+    @Bean
+    public AccountEmailFilter accountEmailFilter(
+            final AccountJpaRepository accountJpaRepository,
+            final CacheInvalidationService cacheInvalidationService,
+            final PlatformTransactionManager transactionManager,
+            final TaskExecutor applicationTaskExecutor,
+            final BloomFilterProperties accountEmailFilterProperties,
+            final MeterRegistry meterRegistry
+    ) {
+        final var aTransactionTemplate = new TransactionTemplate(transactionManager);
+        aTransactionTemplate.setReadOnly(true);
+
+        return new AccountEmailFilter(
+                accountJpaRepository,
+                cacheInvalidationService,
+                aTransactionTemplate,
+                applicationTaskExecutor,
+                accountEmailFilterProperties,
+                meterRegistry
+        );
+    }
+
+    @Bean
+    public ApplicationListener<ApplicationReadyEvent> accountEmailFilterOnStartup(
+            final AccountEmailFilter accountEmailFilter,
+            final BloomFilterProperties accountEmailFilterProperties
+    ) {
+        return event -> {
+            if (accountEmailFilterProperties.isOnStartup()) {
+                accountEmailFilter.start();
+            }
+        };
+    }
+
+    @Bean
+    public ApplicationListener<ApplicationReadyEvent> permissionCatalogOnStartup(
+            final PermissionMySQLGateway permissionGateway
+    ) {
+        return event -> permissionGateway.loadCatalog();
+    }
+
+    @Bean
+    public ApplicationListener<ApplicationReadyEvent> roleSearchIndexOnStartup(
+            final RoleMySQLGateway roleGateway
+    ) {
+        return event -> roleGateway.loadSearchIndex();
+    }
+
+    @Bean
+    @Profile({"development", "test", "single-node"})
+    public CacheInvalidationService inMemoryCacheInvalidationService() {
+        return new InMemoryCacheInvalidationService();
+    }
+
+    @Bean
+    @Profile({"development", "test", "single-node"})
+    public NegativeCacheService inMemoryAccountNegativeCacheService(
+            @AccountNegativeCache final LocalCacheProperties accountNegativeCacheProperties
+    ) {
+        return new InMemoryNegativeCacheService(Caffeine.newBuilder()
+                .maximumSize(accountNegativeCacheProperties.getMaximumSize())
+                .expireAfterWrite(accountNegativeCacheProperties.getExpireAfterWrite())
+                .build());
+    }
+
+    @Configuration
+    @Profile("!development & !test & !single-node")
+    static class Invalidation {
+
+        @Bean
+        public NegativeCacheService redisAccountNegativeCacheService(
+                @AccountNegativeCache final LocalCacheProperties accountNegativeCacheProperties,
+                final StringRedisTemplate stringRedisTemplate
+        ) {
+            return new RedisNegativeCacheService(
+                    AccountCacheGateway.CACHE_NAME,
+                    accountNegativeCacheProperties.getExpireAfterWrite(),
+                    stringRedisTemplate
+            );
+        }
+
+        @Bean
+        public RedisCacheInvalidationService redisCacheInvalidationService(
+                @Value("${cache.invalidation.channel}") final String channel,
+                final StringRedisTemplate stringRedisTemplate
+        ) {
+            return new RedisCacheInvalidationService(channel, stringRedisTemplate);
+        }
+
+        @Bean
+        public RedisMessageListenerContainer cacheInvalidationListenerContainer(
+                final RedisConnectionFactory redisConnectionFactory,
+                final RedisCacheInvalidationService redisCacheInvalidationService
+        ) {
+            final var aContainer = new RedisMessageListenerContainer();
+            aContainer.setConnectionFactory(redisConnectionFactory);
+            aContainer.addMessageListener(
+                    redisCacheInvalidationService,
+                    new ChannelTopic(redisCacheInvalidationService.getChannel())
+            );
+            return aContainer;
+        }
+    }
 }
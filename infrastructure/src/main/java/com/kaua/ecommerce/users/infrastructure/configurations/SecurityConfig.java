@@ -35,9 +35,12 @@ public class SecurityConfig {
                 .csrf(AbstractHttpConfigurer::disable)
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
                 .authorizeHttpRequests(requests ->
-                        requests.requestMatchers("/roles").hasAnyAuthority("manage-roles")
+                        requests.requestMatchers("/actuator/health").permitAll()
+                                .requestMatchers("/actuator/prometheus", "/actuator/metrics/**").hasAnyAuthority("scrape-metrics")
+                                .requestMatchers("/roles").hasAnyAuthority("manage-roles")
                                 .requestMatchers(HttpMethod.GET, "/accounts").hasAnyAuthority("list-accounts")
                                 .requestMatchers("/permissions").hasAnyAuthority("manage-permissions")
+                                .requestMatchers("/cache/**").hasAnyAuthority("manage-cache")
                                 .anyRequest().authenticated())
                 .oauth2ResourceServer(resource -> resource
                         .jwt(jwt -> jwt.jwtAuthenticationConverter(new JwtConverter())))
@@ -0,0 +1,64 @@
+package com.kaua.ecommerce.users.infrastructure.configurations.properties.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+public class BloomFilterProperties implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(BloomFilterProperties.class);
+
+    private boolean onStartup;
+    private long initialCapacity;
+    private double falsePositiveProbability;
+    private double rebuildDeletedRatio;
+
+    public BloomFilterProperties() {}
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        log.debug(toString());
+    }
+
+    @Override
+    public String toString() {
+        return "BloomFilterProperties{" +
+                "onStartup=" + onStartup +
+                ", initialCapacity=" + initialCapacity +
+                ", falsePositiveProbability=" + falsePositiveProbability +
+                ", rebuildDeletedRatio=" + rebuildDeletedRatio +
+                '}';
+    }
+
+    public boolean isOnStartup() {
+        return onStartup;
+    }
+
+    public void setOnStartup(boolean onStartup) {
+        this.onStartup = onStartup;
+    }
+
+    public long getInitialCapacity() {
+        return initialCapacity;
+    }
+
+    public void setInitialCapacity(long initialCapacity) {
+        this.initialCapacity = initialCapacity;
+    }
+
+    public double getFalsePositiveProbability() {
+        return falsePositiveProbability;
+    }
+
+    public void setFalsePositiveProbability(double falsePositiveProbability) {
+        this.falsePositiveProbability = falsePositiveProbability;
+    }
+
+    public double getRebuildDeletedRatio() {
+        return rebuildDeletedRatio;
+    }
+
+    public void setRebuildDeletedRatio(double rebuildDeletedRatio) {
+        this.rebuildDeletedRatio = rebuildDeletedRatio;
+    }
+}
@@ -0,0 +1,66 @@
+package com.kaua.ecommerce.users.infrastructure.configurations.properties.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.time.Duration;
+
+public class CacheExpiryProperties implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(CacheExpiryProperties.class);
+
+    private Duration ttl;
+    private Duration ttlJitter;
+    private double earlyRefreshBeta;
+    private Duration recomputeTime;
+
+    public CacheExpiryProperties() {}
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        log.debug(toString());
+    }
+
+    @Override
+    public String toString() {
+        return "CacheExpiryProperties{" +
+                "ttl=" + ttl +
+                ", ttlJitter=" + ttlJitter +
+                ", earlyRefreshBeta=" + earlyRefreshBeta +
+                ", recomputeTime=" + recomputeTime +
+                '}';
+    }
+
+    public Duration getTtl() {
+        return ttl;
+    }
+
+    public void setTtl(Duration ttl) {
+        this.ttl = ttl;
+    }
+
+    public Duration getTtlJitter() {
+        return ttlJitter;
+    }
+
+    public void setTtlJitter(Duration ttlJitter) {
+        this.ttlJitter = ttlJitter;
+    }
+
+    public double getEarlyRefreshBeta() {
+        return earlyRefreshBeta;
+    }
+
+    public void setEarlyRefreshBeta(double earlyRefreshBeta) {
+        this.earlyRefreshBeta = earlyRefreshBeta;
+    }
+
+    public Duration getRecomputeTime() {
+        return recomputeTime;
+    }
+
+    public void setRecomputeTime(Duration recomputeTime) {
+        this.recomputeTime = recomputeTime;
+    }
+}
@@ -0,0 +1,64 @@
+package com.kaua.ecommerce.users.infrastructure.configurations.properties.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+public class CacheWarmUpProperties implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(CacheWarmUpProperties.class);
+
+    private boolean onStartup;
+    private int pageSize;
+    private long maxAccounts;
+    private int accountsPerSecond;
+
+    public CacheWarmUpProperties() {}
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        log.debug(toString());
+    }
+
+    @Override
+    public String toString() {
+        return "CacheWarmUpProperties{" +
+                "onStartup=" + onStartup +
+                ", pageSize=" + pageSize +
+                ", maxAccounts=" + maxAccounts +
+                ", accountsPerSecond=" + accountsPerSecond +
+                '}';
+    }
+
+    public boolean isOnStartup() {
+        return onStartup;
+    }
+
+    public void setOnStartup(boolean onStartup) {
+        this.onStartup = onStartup;
+    }
+
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    public void setPageSize(int pageSize) {
+        this.pageSize = pageSize;
+    }
+
+    public long getMaxAccounts() {
+        return maxAccounts;
+    }
+
+    public void setMaxAccounts(long maxAccounts) {
+        this.maxAccounts = maxAccounts;
+    }
+
+    public int getAccountsPerSecond() {
+        return accountsPerSecond;
+    }
+
+    public void setAccountsPerSecond(int accountsPerSecond) {
+        this.accountsPerSecond = accountsPerSecond;
+    }
+}
@@ -0,0 +1,56 @@
+package com.kaua.ecommerce.users.infrastructure.configurations.properties.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.time.Duration;
+
+public class CircuitBreakerProperties implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(CircuitBreakerProperties.class);
+
+    private int failureThreshold;
+    private Duration openDuration;
+    private int maxPendingInvalidations;
+
+    public CircuitBreakerProperties() {}
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        log.debug(toString());
+    }
+
+    @Override
+    public String toString() {
+        return "CircuitBreakerProperties{" +
+                "failureThreshold=" + failureThreshold +
+                ", openDuration=" + openDuration +
+                ", maxPendingInvalidations=" + maxPendingInvalidations +
+                '}';
+    }
+
+    public int getFailureThreshold() {
+        return failureThreshold;
+    }
+
+    public void setFailureThreshold(int failureThreshold) {
+        this.failureThreshold = failureThreshold;
+    }
+
+    public Duration getOpenDuration() {
+        return openDuration;
+    }
+
+    public void setOpenDuration(Duration openDuration) {
+        this.openDuration = openDuration;
+    }
+
+    public int getMaxPendingInvalidations() {
+        return maxPendingInvalidations;
+    }
+
+    public void setMaxPendingInvalidations(int maxPendingInvalidations) {
+        this.maxPendingInvalidations = maxPendingInvalidations;
+    }
+}
@@ -0,0 +1,46 @@
+package com.kaua.ecommerce.users.infrastructure.configurations.properties.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.time.Duration;
+
+public class LocalCacheProperties implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(LocalCacheProperties.class);
+
+    private long maximumSize;
+    private Duration expireAfterWrite;
+
+    public LocalCacheProperties() {}
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        log.debug(toString());
+    }
+
+    @Override
+    public String toString() {
+        return "LocalCacheProperties{" +
+                "maximumSize=" + maximumSize +
+                ", expireAfterWrite=" + expireAfterWrite +
+                '}';
+    }
+
+    public long getMaximumSize() {
+        return maximumSize;
+    }
+
+    public void setMaximumSize(long maximumSize) {
+        this.maximumSize = maximumSize;
+    }
+
+    public Duration getExpireAfterWrite() {
+        return expireAfterWrite;
+    }
+
+    public void setExpireAfterWrite(Duration expireAfterWrite) {
+        this.expireAfterWrite = expireAfterWrite;
+    }
+}
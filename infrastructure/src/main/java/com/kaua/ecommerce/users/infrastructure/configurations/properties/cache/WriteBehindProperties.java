@@ -0,0 +1,97 @@
+package com.kaua.ecommerce.users.infrastructure.configurations.properties.cache;
+
+import com.kaua.ecommerce.users.infrastructure.cache.WriteBehindCacheGateway.OverflowPolicy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.time.Duration;
+
+public class WriteBehindProperties implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(WriteBehindProperties.class);
+
+    private boolean enabled;
+    private int capacity;
+    private int batchSize;
+    private Duration flushInterval;
+    private OverflowPolicy overflow;
+    private boolean flushOnShutdown;
+    private Duration shutdownTimeout;
+
+    public WriteBehindProperties() {}
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        log.debug(toString());
+    }
+
+    @Override
+    public String toString() {
+        return "WriteBehindProperties{" +
+                "enabled=" + enabled +
+                ", capacity=" + capacity +
+                ", batchSize=" + batchSize +
+                ", flushInterval=" + flushInterval +
+                ", overflow=" + overflow +
+                ", flushOnShutdown=" + flushOnShutdown +
+                ", shutdownTimeout=" + shutdownTimeout +
+                '}';
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public void setCapacity(int capacity) {
+        this.capacity = capacity;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public Duration getFlushInterval() {
+        return flushInterval;
+    }
+
+    public void setFlushInterval(Duration flushInterval) {
+        this.flushInterval = flushInterval;
+    }
+
+    public OverflowPolicy getOverflow() {
+        return overflow;
+    }
+
+    public void setOverflow(OverflowPolicy overflow) {
+        this.overflow = overflow;
+    }
+
+    public boolean isFlushOnShutdown() {
+        return flushOnShutdown;
+    }
+
+    public void setFlushOnShutdown(boolean flushOnShutdown) {
+        this.flushOnShutdown = flushOnShutdown;
+    }
+
+    public Duration getShutdownTimeout() {
+        return shutdownTimeout;
+    }
+
+    public void setShutdownTimeout(Duration shutdownTimeout) {
+        this.shutdownTimeout = shutdownTimeout;
+    }
+}
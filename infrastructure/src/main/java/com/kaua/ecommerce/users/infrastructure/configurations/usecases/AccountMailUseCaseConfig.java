@@ -26,19 +26,22 @@ public class AccountMailUseCaseConfig {
     private final CacheGateway<Account> accountCacheGateway;
     private final QueueGateway queueGateway;
     private final EncrypterGateway encrypterGateway;
+    private final AccountEmailCacheGateway accountEmailCacheGateway;
 
     public AccountMailUseCaseConfig(
             final AccountMailGateway accountMailGateway,
             final AccountGateway accountGateway,
             final CacheGateway<Account> accountCacheGateway,
             @EmailQueue final QueueGateway queueGateway,
-            final EncrypterGateway encrypterGateway
+            final EncrypterGateway encrypterGateway,
+            final AccountEmailCacheGateway accountEmailCacheGateway
     ) {
         this.accountMailGateway = Objects.requireNonNull(accountMailGateway);
         this.accountGateway = Objects.requireNonNull(accountGateway);
         this.accountCacheGateway = Objects.requireNonNull(accountCacheGateway);
         this.queueGateway = Objects.requireNonNull(queueGateway);
         this.encrypterGateway = Objects.requireNonNull(encrypterGateway);
+        this.accountEmailCacheGateway = Objects.requireNonNull(accountEmailCacheGateway);
     }
 
     @Bean
@@ -58,7 +61,12 @@ public class AccountMailUseCaseConfig {
 
     @Bean
     public RequestResetPasswordUseCase requestResetPasswordUseCase() {
-        return new DefaultRequestResetPasswordUseCase(accountGateway, createAccountMailUseCase());
+        return new DefaultRequestResetPasswordUseCase(
+                accountGateway,
+                accountCacheGateway,
+                accountEmailCacheGateway,
+                createAccountMailUseCase()
+        );
     }
 
     @Bean
@@ -7,7 +7,11 @@ import com.kaua.ecommerce.users.application.usecases.account.delete.DefaultDelet
 import com.kaua.ecommerce.users.application.usecases.account.delete.DeleteAccountUseCase;
 import com.kaua.ecommerce.users.application.usecases.account.retrieve.get.DefaultGetAccountByIdUseCase;
 import com.kaua.ecommerce.users.application.usecases.account.retrieve.get.GetAccountByIdUseCase;
+import com.kaua.ecommerce.users.application.usecases.account.retrieve.list.DefaultListAccountsByCursorUseCase;
+import com.kaua.ecommerce.users.application.usecases.account.retrieve.list.DefaultListAccountsSliceUseCase;
 import com.kaua.ecommerce.users.application.usecases.account.retrieve.list.DefaultListAccountsUseCase;
+import com.kaua.ecommerce.users.application.usecases.account.retrieve.list.ListAccountsByCursorUseCase;
+import com.kaua.ecommerce.users.application.usecases.account.retrieve.list.ListAccountsSliceUseCase;
 import com.kaua.ecommerce.users.application.usecases.account.retrieve.list.ListAccountsUseCase;
 import com.kaua.ecommerce.users.application.usecases.account.update.avatar.DefaultUpdateAvatarUseCase;
 import com.kaua.ecommerce.users.application.usecases.account.update.avatar.UpdateAvatarUseCase;
@@ -58,6 +62,16 @@ public class AccountUseCaseConfig {
         return new DefaultListAccountsUseCase(accountGateway);
     }
 
+    @Bean
+    public ListAccountsByCursorUseCase listAccountsByCursorUseCase() {
+        return new DefaultListAccountsByCursorUseCase(accountGateway);
+    }
+
+    @Bean
+    public ListAccountsSliceUseCase listAccountsSliceUseCase() {
+        return new DefaultListAccountsSliceUseCase(accountGateway);
+    }
+
     @Bean
     public UpdateAvatarUseCase updateAvatarUseCase() {
         return new DefaultUpdateAvatarUseCase(avatarGateway, accountGateway, accountCacheGateway);
@@ -70,6 +84,6 @@ public class AccountUseCaseConfig {
 
     @Bean
     public DeleteAccountUseCase deleteAccountUseCase() {
-        return new DefaultDeleteAccountUseCase(accountGateway, accountMailGateway, avatarGateway);
+        return new DefaultDeleteAccountUseCase(accountGateway, accountMailGateway, avatarGateway, accountCacheGateway);
     }
 }
@@ -7,7 +7,11 @@ import com.kaua.ecommerce.users.application.usecases.permission.delete.DefaultDe
 import com.kaua.ecommerce.users.application.usecases.permission.delete.DeletePermissionUseCase;
 import com.kaua.ecommerce.users.application.usecases.permission.retrieve.get.DefaultGetPermissionByIdUseCase;
 import com.kaua.ecommerce.users.application.usecases.permission.retrieve.get.GetPermissionByIdUseCase;
+import com.kaua.ecommerce.users.application.usecases.permission.retrieve.list.DefaultListPermissionsByCursorUseCase;
+import com.kaua.ecommerce.users.application.usecases.permission.retrieve.list.DefaultListPermissionsSliceUseCase;
 import com.kaua.ecommerce.users.application.usecases.permission.retrieve.list.DefaultListPermissionsUseCase;
+import com.kaua.ecommerce.users.application.usecases.permission.retrieve.list.ListPermissionsByCursorUseCase;
+import com.kaua.ecommerce.users.application.usecases.permission.retrieve.list.ListPermissionsSliceUseCase;
 import com.kaua.ecommerce.users.application.usecases.permission.retrieve.list.ListPermissionsUseCase;
 import com.kaua.ecommerce.users.application.usecases.permission.update.DefaultUpdatePermissionUseCase;
 import com.kaua.ecommerce.users.application.usecases.permission.update.UpdatePermissionUseCase;
@@ -40,6 +44,16 @@ public class PermissionUseCaseConfig {
         return new DefaultListPermissionsUseCase(permissionGateway);
     }
 
+    @Bean
+    public ListPermissionsByCursorUseCase listPermissionsByCursorUseCase() {
+        return new DefaultListPermissionsByCursorUseCase(permissionGateway);
+    }
+
+    @Bean
+    public ListPermissionsSliceUseCase listPermissionsSliceUseCase() {
+        return new DefaultListPermissionsSliceUseCase(permissionGateway);
+    }
+
     @Bean
     public UpdatePermissionUseCase updatePermissionUseCase() {
         return new DefaultUpdatePermissionUseCase(permissionGateway);
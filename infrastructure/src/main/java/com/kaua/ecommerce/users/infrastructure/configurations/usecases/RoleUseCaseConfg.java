@@ -1,5 +1,6 @@
 package com.kaua.ecommerce.users.infrastructure.configurations.usecases;
 
+import com.kaua.ecommerce.users.application.gateways.CacheGateway;
 import com.kaua.ecommerce.users.application.gateways.PermissionGateway;
 import com.kaua.ecommerce.users.application.gateways.RoleGateway;
 import com.kaua.ecommerce.users.application.usecases.role.create.CreateRoleUseCase;
@@ -10,10 +11,15 @@ import com.kaua.ecommerce.users.application.usecases.role.remove.DefaultRemoveRo
 import com.kaua.ecommerce.users.application.usecases.role.remove.RemoveRolePermissionUseCase;
 import com.kaua.ecommerce.users.application.usecases.role.retrieve.get.DefaultGetRoleByIdUseCase;
 import com.kaua.ecommerce.users.application.usecases.role.retrieve.get.GetRoleByIdUseCase;
+import com.kaua.ecommerce.users.application.usecases.role.retrieve.list.DefaultListRolesByCursorUseCase;
+import com.kaua.ecommerce.users.application.usecases.role.retrieve.list.DefaultListRolesSliceUseCase;
 import com.kaua.ecommerce.users.application.usecases.role.retrieve.list.DefaultListRolesUseCase;
+import com.kaua.ecommerce.users.application.usecases.role.retrieve.list.ListRolesByCursorUseCase;
+import com.kaua.ecommerce.users.application.usecases.role.retrieve.list.ListRolesSliceUseCase;
 import com.kaua.ecommerce.users.application.usecases.role.retrieve.list.ListRolesUseCase;
 import com.kaua.ecommerce.users.application.usecases.role.update.DefaultUpdateRoleUseCase;
 import com.kaua.ecommerce.users.application.usecases.role.update.UpdateRoleUseCase;
+import com.kaua.ecommerce.users.domain.roles.Role;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -24,10 +30,16 @@ public class RoleUseCaseConfg {
 
     private final RoleGateway roleGateway;
     private final PermissionGateway permissionGateway;
+    private final CacheGateway<Role> roleCacheGateway;
 
-    public RoleUseCaseConfg(final RoleGateway roleGateway, final PermissionGateway permissionGateway) {
+    public RoleUseCaseConfg(
+            final RoleGateway roleGateway,
+            final PermissionGateway permissionGateway,
+            final CacheGateway<Role> roleCacheGateway
+    ) {
         this.roleGateway = Objects.requireNonNull(roleGateway);
         this.permissionGateway = Objects.requireNonNull(permissionGateway);
+        this.roleCacheGateway = Objects.requireNonNull(roleCacheGateway);
     }
 
     @Bean
@@ -42,7 +54,7 @@ public class RoleUseCaseConfg {
 
     @Bean
     public GetRoleByIdUseCase getRoleByIdUseCase() {
-        return new DefaultGetRoleByIdUseCase(roleGateway);
+        return new DefaultGetRoleByIdUseCase(roleGateway, roleCacheGateway);
     }
 
     @Bean
@@ -50,6 +62,16 @@ public class RoleUseCaseConfg {
         return new DefaultListRolesUseCase(roleGateway);
     }
 
+    @Bean
+    public ListRolesByCursorUseCase listRolesByCursorUseCase() {
+        return new DefaultListRolesByCursorUseCase(roleGateway);
+    }
+
+    @Bean
+    public ListRolesSliceUseCase listRolesSliceUseCase() {
+        return new DefaultListRolesSliceUseCase(roleGateway);
+    }
+
     @Bean
     public DeleteRoleUseCase deleteRoleUseCase() {
         return new DefaultDeleteRoleUseCase(roleGateway);
@@ -1,18 +1,35 @@
 package com.kaua.ecommerce.users.infrastructure.permissions;
 
+import com.kaua.ecommerce.users.application.gateways.CacheGateway;
 import com.kaua.ecommerce.users.application.gateways.PermissionGateway;
+import com.kaua.ecommerce.users.domain.pagination.CursorPagination;
+import com.kaua.ecommerce.users.domain.pagination.CursorSearchQuery;
 import com.kaua.ecommerce.users.domain.pagination.Pagination;
 import com.kaua.ecommerce.users.domain.pagination.SearchQuery;
+import com.kaua.ecommerce.users.domain.pagination.SlicePagination;
 import com.kaua.ecommerce.users.domain.permissions.Permission;
-import com.kaua.ecommerce.users.infrastructure.accounts.persistence.AccountCacheRepository;
+import com.kaua.ecommerce.users.domain.roles.Role;
 import com.kaua.ecommerce.users.infrastructure.permissions.persistence.PermissionJpaEntity;
 import com.kaua.ecommerce.users.infrastructure.permissions.persistence.PermissionJpaRepository;
+import com.kaua.ecommerce.users.infrastructure.roles.persistence.RoleJpaRepository;
+import com.kaua.ecommerce.users.infrastructure.services.CacheInvalidationService;
+import com.kaua.ecommerce.users.infrastructure.utils.KeysetCursor;
+import com.kaua.ecommerce.users.infrastructure.utils.OffsetWindow;
 import com.kaua.ecommerce.users.infrastructure.utils.SpecificationUtils;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
-import org.springframework.data.domain.Sort.Direction;
+import com.kaua.ecommerce.users.infrastructure.utils.TrigramSearchIndex;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -21,25 +38,42 @@ import java.util.stream.Collectors;
 @Component
 public class PermissionMySQLGateway implements PermissionGateway {
 
+    public static final String CATALOG_CACHE_NAME = "permission.catalog";
+
+    // safety net for a lost invalidation message or a row changed outside the gateway
+    private static final Duration CATALOG_MAX_AGE = Duration.ofMinutes(5);
+
     private final PermissionJpaRepository permissionRepository;
-    private final AccountCacheRepository accountCacheRepository;
+    private final RoleJpaRepository roleRepository;
+    private final CacheGateway<Role> roleCacheGateway;
+    private final CacheInvalidationService cacheInvalidationService;
+    private volatile PermissionCatalog catalog;
+    private volatile TrigramSearchIndex<Permission> searchIndex;
+    private volatile Instant catalogLoadedAt;
 
     public PermissionMySQLGateway(
             final PermissionJpaRepository permissionRepository,
-            final AccountCacheRepository accountCacheRepository
+            final RoleJpaRepository roleRepository,
+            final CacheGateway<Role> roleCacheGateway,
+            final CacheInvalidationService cacheInvalidationService
     ) {
         this.permissionRepository = Objects.requireNonNull(permissionRepository);
-        this.accountCacheRepository = Objects.requireNonNull(accountCacheRepository);
+        this.roleRepository = Objects.requireNonNull(roleRepository);
+        this.roleCacheGateway = Objects.requireNonNull(roleCacheGateway);
+        this.cacheInvalidationService = Objects.requireNonNull(cacheInvalidationService);
+        this.cacheInvalidationService.subscribe(CATALOG_CACHE_NAME, this::refreshCatalog);
     }
 
     @Override
     public Permission create(Permission aPermission) {
-        return this.permissionRepository.save(PermissionJpaEntity.toEntity(aPermission)).toDomain();
+        final var aResult = this.permissionRepository.save(PermissionJpaEntity.toEntity(aPermission));
+        this.changeCatalog(aResult.getId(), Optional.of(aResult));
+        return aResult.toDomain();
     }
 
     @Override
     public boolean existsByName(String aName) {
-        return this.permissionRepository.existsByName(aName);
+        return this.catalog().existsByName(aName);
     }
 
     @Override
@@ -49,45 +83,222 @@ public class PermissionMySQLGateway implements PermissionGateway {
 
     @Override
     public Pagination<Permission> findAll(SearchQuery aQuery) {
-        final var aPage = PageRequest.of(
-                aQuery.page(),
-                aQuery.perPage(),
-                Sort.by(Direction.fromString(aQuery.direction()), aQuery.sort())
-        );
+        final var aMatches = this.searchIndex().search(aQuery.terms(), aQuery.sort(), aQuery.direction());
+        return OffsetWindow.paginationOf(aMatches, aQuery, PermissionMySQLGateway::copyOf);
+    }
 
-        final var aSpecification = Optional.ofNullable(aQuery.terms())
-                .filter(term -> !term.isBlank())
-                .map(term -> SpecificationUtils.<PermissionJpaEntity>like("name", term)
-                        .or(SpecificationUtils.like("description", term))).orElse(null);
+    @Override
+    public SlicePagination<Permission> findSlice(SearchQuery aQuery) {
+        final var aMatches = this.searchIndex().search(aQuery.terms(), aQuery.sort(), aQuery.direction());
+        return OffsetWindow.sliceOf(aMatches, aQuery, PermissionMySQLGateway::copyOf);
+    }
 
-        final var aPageResult = this.permissionRepository.findAll(aSpecification, aPage);
+    @Override
+    public CursorPagination<Permission> findAll(CursorSearchQuery aQuery) {
+        final var aSpecification = searchSpecification(aQuery.terms());
+        final var aPosition = KeysetCursor.positionOf(aQuery, PermissionJpaEntity.class);
 
-        return new Pagination<>(
-                aPageResult.getNumber(),
-                aPageResult.getSize(),
-                aPageResult.getTotalPages(),
-                aPageResult.getTotalElements(),
-                aPageResult.map(PermissionJpaEntity::toDomain).toList()
-        );
+        final var aWindow = this.permissionRepository.findBy(Specification.where(aSpecification), query -> query
+                .sortBy(KeysetCursor.sortOf(aQuery))
+                .limit(aQuery.perPage())
+                .scroll(aPosition));
+
+        return KeysetCursor.paginationOf(aWindow, aQuery, PermissionJpaEntity::toDomain);
     }
 
     @Override
     public Permission update(Permission aPermission) {
-        return this.permissionRepository.save(PermissionJpaEntity.toEntity(aPermission)).toDomain();
+        final var aResult = this.permissionRepository.save(PermissionJpaEntity.toEntity(aPermission));
+        this.changeCatalog(aResult.getId(), Optional.of(aResult));
+        return aResult.toDomain();
     }
 
     @Override
     public void deleteById(String aId) {
         if (this.permissionRepository.existsById(aId)) {
+            // resolved before the delete, roles_permissions rows cascade with the permission
+            final var aRoleIds = this.roleRepository.findAllIdsByPermissionId(aId);
             this.permissionRepository.deleteById(aId);
-            this.accountCacheRepository.deleteAll();
+            this.changeCatalog(aId, Optional.empty());
+            this.roleCacheGateway.deleteAll(aRoleIds);
         }
     }
 
     @Override
     public Set<Permission> findAllByIds(Set<String> permissions) {
-        return this.permissionRepository.findAllByIds(permissions).stream()
-                .map(PermissionJpaEntity::toDomain)
-                .collect(Collectors.toSet());
+        return this.catalog().findAllByIds(permissions);
+    }
+
+    public void loadCatalog() {
+        this.catalog();
+    }
+
+    public void evictCatalog() {
+        synchronized (this) {
+            this.catalog = null;
+            this.searchIndex = null;
+        }
+    }
+
+    private PermissionCatalog catalog() {
+        final var aCatalog = this.catalog;
+
+        if (aCatalog != null && this.isCatalogFresh()) {
+            return aCatalog;
+        }
+
+        synchronized (this) {
+            this.loadCatalogLocked();
+            return this.catalog;
+        }
+    }
+
+    private TrigramSearchIndex<Permission> searchIndex() {
+        final var aIndex = this.searchIndex;
+
+        if (aIndex != null && this.isCatalogFresh()) {
+            return aIndex;
+        }
+
+        synchronized (this) {
+            this.loadCatalogLocked();
+            return this.searchIndex;
+        }
+    }
+
+    // the catalog and the search index are loaded, changed and evicted together
+    private void loadCatalogLocked() {
+        if (this.catalog == null || !this.isCatalogFresh()) {
+            final var aPermissions = this.permissionRepository.findAll();
+            this.catalogLoadedAt = Instant.now();
+            this.catalog = PermissionCatalog.from(aPermissions);
+            this.searchIndex = newSearchIndex().putAll(aPermissions.stream()
+                    .map(PermissionJpaEntity::toDomain)
+                    .toList());
+        }
+    }
+
+    private boolean isCatalogFresh() {
+        return Instant.now().isBefore(this.catalogLoadedAt.plus(CATALOG_MAX_AGE));
+    }
+
+    private void changeCatalog(final String aId, final Optional<PermissionJpaEntity> aPermission) {
+        this.changeCatalogLocally(aId, aPermission);
+
+        // other nodes reload the permission from the database, so they must not hear about it before the commit
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publishCatalogChange(aId);
+                }
+            });
+        } else {
+            this.publishCatalogChange(aId);
+        }
+    }
+
+    private void publishCatalogChange(final String aId) {
+        this.cacheInvalidationService.publish(CATALOG_CACHE_NAME, List.of(aId));
+    }
+
+    private void changeCatalogLocally(final String aId, final Optional<PermissionJpaEntity> aPermission) {
+        synchronized (this) {
+            // a catalog that is not loaded yet picks the change up from the database
+            if (this.catalog != null) {
+                final var aCatalog = this.catalog;
+                this.catalog = aPermission.map(aCatalog::put).orElseGet(() -> aCatalog.remove(aId));
+                aPermission.ifPresentOrElse(
+                        permission -> this.searchIndex.put(permission.toDomain()),
+                        () -> this.searchIndex.remove(aId)
+                );
+            }
+        }
+    }
+
+    private void refreshCatalog(final String aId) {
+        this.changeCatalogLocally(aId, this.permissionRepository.findById(aId));
+    }
+
+    private Specification<PermissionJpaEntity> searchSpecification(final String aTerms) {
+        return Optional.ofNullable(aTerms)
+                .filter(term -> !term.isBlank())
+                .map(term -> SpecificationUtils.<PermissionJpaEntity>like("name", term)
+                        .or(SpecificationUtils.like("description", term))).orElse(null);
+    }
+
+    // the same fields the like search matches and the sorts the listing api accepts
+    private static TrigramSearchIndex<Permission> newSearchIndex() {
+        return new TrigramSearchIndex<>(
+                permission -> permission.getId().getValue(),
+                permission -> Arrays.asList(permission.getName(), permission.getDescription()),
+                Map.of(
+                        "name", Comparator.comparing(Permission::getName),
+                        "description", Comparator.comparing(Permission::getDescription,
+                                Comparator.nullsFirst(Comparator.naturalOrder())),
+                        "createdAt", Comparator.comparing(Permission::getCreatedAt),
+                        "updatedAt", Comparator.comparing(Permission::getUpdatedAt)
+                )
+        );
+    }
+
+    // indexed permissions are shared between readers, callers get their own copy
+    private static Permission copyOf(final Permission aPermission) {
+        return Permission.with(
+                aPermission.getId().getValue(),
+                aPermission.getName(),
+                aPermission.getDescription(),
+                aPermission.getCreatedAt(),
+                aPermission.getUpdatedAt()
+        );
+    }
+
+    // copy on write, the catalog is small and changes far less often than it is read;
+    // entries are detached domain copies so callers never mutate the catalog
+    private record PermissionCatalog(Map<String, Permission> byId, Set<String> names) {
+
+        static PermissionCatalog from(final List<PermissionJpaEntity> aPermissions) {
+            final var aById = new HashMap<String, Permission>();
+            aPermissions.forEach(permission -> aById.put(permission.getId(), permission.toDomain()));
+            return of(aById);
+        }
+
+        private static PermissionCatalog of(final Map<String, Permission> aById) {
+            return new PermissionCatalog(
+                    Map.copyOf(aById),
+                    aById.values().stream()
+                            .map(permission -> normalize(permission.getName()))
+                            .collect(Collectors.toUnmodifiableSet())
+            );
+        }
+
+        // mysql compares names with a case insensitive collation
+        private static String normalize(final String aName) {
+            return aName.toLowerCase(Locale.ROOT);
+        }
+
+        boolean existsByName(final String aName) {
+            return aName != null && this.names.contains(normalize(aName));
+        }
+
+        Set<Permission> findAllByIds(final Set<String> aIds) {
+            return aIds.stream()
+                    .map(this.byId::get)
+                    .filter(Objects::nonNull)
+                    .map(PermissionMySQLGateway::copyOf)
+                    .collect(Collectors.toSet());
+        }
+
+        PermissionCatalog put(final PermissionJpaEntity aPermission) {
+            final var aById = new HashMap<>(this.byId);
+            aById.put(aPermission.getId(), aPermission.toDomain());
+            return of(aById);
+        }
+
+        PermissionCatalog remove(final String aId) {
+            final var aById = new HashMap<>(this.byId);
+            aById.remove(aId);
+            return of(aById);
+        }
     }
 }
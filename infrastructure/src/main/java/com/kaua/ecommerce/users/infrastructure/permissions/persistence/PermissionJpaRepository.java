@@ -5,9 +5,11 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.FluentQuery.FetchableFluentQuery;
 import org.springframework.data.repository.query.Param;
 
 import java.util.Set;
+import java.util.function.Function;
 
 public interface PermissionJpaRepository extends JpaRepository<PermissionJpaEntity, String> {
 
@@ -15,6 +17,10 @@ public interface PermissionJpaRepository extends JpaRepository<PermissionJpaEnti
 
     Page<PermissionJpaEntity> findAll(Specification<PermissionJpaEntity> whereClause, Pageable page);
 
+    <S extends PermissionJpaEntity, R> R findBy(Specification<PermissionJpaEntity> whereClause, Function<FetchableFluentQuery<S>, R> queryFunction);
+
+    long count(Specification<PermissionJpaEntity> whereClause);
+
     @Query(value = "SELECT NEW com.kaua.ecommerce.users.infrastructure.permissions.persistence.PermissionJpaEntity(" +
             "p.id, p.name) " +
             "FROM Permission p " +
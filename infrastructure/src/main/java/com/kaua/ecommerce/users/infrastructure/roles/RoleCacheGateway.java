@@ -0,0 +1,95 @@
+package com.kaua.ecommerce.users.infrastructure.roles;
+
+import com.kaua.ecommerce.users.domain.roles.Role;
+import com.kaua.ecommerce.users.infrastructure.cache.CacheEntry;
+import com.kaua.ecommerce.users.infrastructure.cache.CacheExpiryPolicy;
+import com.kaua.ecommerce.users.infrastructure.cache.ExpiringCacheGateway;
+import com.kaua.ecommerce.users.infrastructure.configurations.annotations.RoleCacheExpiry;
+import com.kaua.ecommerce.users.infrastructure.roles.persistence.RoleCacheEntity;
+import com.kaua.ecommerce.users.infrastructure.roles.persistence.RoleCacheStore;
+import com.kaua.ecommerce.users.infrastructure.services.CacheInvalidationService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+@Component
+public class RoleCacheGateway implements ExpiringCacheGateway<Role> {
+
+    public static final String CACHE_NAME = "role";
+
+    private final RoleCacheStore roleCacheStore;
+    private final CacheInvalidationService cacheInvalidationService;
+    private final CacheExpiryPolicy cacheExpiryPolicy;
+    private final Counter invalidatedKeysCounter;
+
+    public RoleCacheGateway(
+            final RoleCacheStore roleCacheStore,
+            final CacheInvalidationService cacheInvalidationService,
+            @RoleCacheExpiry final CacheExpiryPolicy cacheExpiryPolicy,
+            final MeterRegistry meterRegistry
+    ) {
+        this.roleCacheStore = Objects.requireNonNull(roleCacheStore);
+        this.cacheInvalidationService = Objects.requireNonNull(cacheInvalidationService);
+        this.cacheExpiryPolicy = Objects.requireNonNull(cacheExpiryPolicy);
+        this.invalidatedKeysCounter = Counter.builder("cache.invalidated.keys")
+                .description("Keys evicted by targeted cache invalidation")
+                .tag("cache", CACHE_NAME)
+                .register(Objects.requireNonNull(meterRegistry));
+    }
+
+    @Override
+    public void save(Role value) {
+        this.roleCacheStore.save(RoleCacheEntity.toEntity(value, this.cacheExpiryPolicy.nextTtl()));
+    }
+
+    @Override
+    public Optional<CacheEntry<Role>> getEntry(String key) {
+        return this.roleCacheStore.findById(key)
+                .filter(RoleCacheEntity::isCurrentVersion)
+                .map(entity -> new CacheEntry<>(entity.toDomain(), entity.getExpiresAt()));
+    }
+
+    @Override
+    public void delete(String key) {
+        this.roleCacheStore.deleteById(key);
+        this.invalidatedKeysCounter.increment();
+        this.cacheInvalidationService.publish(CACHE_NAME, List.of(key));
+    }
+
+    @Override
+    public void saveAll(Collection<Role> values) {
+        final var aTtl = this.cacheExpiryPolicy.nextTtl();
+        this.roleCacheStore.saveAll(values.stream()
+                .map(role -> RoleCacheEntity.toEntity(role, aTtl))
+                .toList());
+    }
+
+    @Override
+    public Map<String, CacheEntry<Role>> getAllEntries(Collection<String> keys) {
+        final var aEntries = new LinkedHashMap<String, CacheEntry<Role>>();
+        this.roleCacheStore.findAllById(keys).forEach((key, entity) -> {
+            if (entity.isCurrentVersion()) {
+                aEntries.put(key, new CacheEntry<>(entity.toDomain(), entity.getExpiresAt()));
+            }
+        });
+        return aEntries;
+    }
+
+    @Override
+    public void deleteAll(Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+
+        this.roleCacheStore.deleteAllById(keys);
+        this.invalidatedKeysCounter.increment(keys.size());
+        this.cacheInvalidationService.publish(CACHE_NAME, List.copyOf(keys));
+    }
+}
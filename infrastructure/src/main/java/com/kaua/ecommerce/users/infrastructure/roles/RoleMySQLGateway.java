@@ -1,46 +1,100 @@
 package com.kaua.ecommerce.users.infrastructure.roles;
 
+import com.kaua.ecommerce.users.application.gateways.CacheGateway;
 import com.kaua.ecommerce.users.application.gateways.RoleGateway;
 import com.kaua.ecommerce.users.domain.exceptions.NotFoundException;
+import com.kaua.ecommerce.users.domain.pagination.CursorPagination;
+import com.kaua.ecommerce.users.domain.pagination.CursorSearchQuery;
 import com.kaua.ecommerce.users.domain.pagination.Pagination;
 import com.kaua.ecommerce.users.domain.pagination.SearchQuery;
+import com.kaua.ecommerce.users.domain.pagination.SlicePagination;
 import com.kaua.ecommerce.users.domain.roles.Role;
-import com.kaua.ecommerce.users.infrastructure.accounts.persistence.AccountCacheRepository;
-import com.kaua.ecommerce.users.infrastructure.accounts.persistence.AccountJpaEntity;
+import com.kaua.ecommerce.users.domain.utils.InstantUtils;
 import com.kaua.ecommerce.users.infrastructure.accounts.persistence.AccountJpaRepository;
 import com.kaua.ecommerce.users.infrastructure.roles.persistence.RoleJpaEntity;
 import com.kaua.ecommerce.users.infrastructure.roles.persistence.RoleJpaRepository;
+import com.kaua.ecommerce.users.infrastructure.services.CacheInvalidationService;
+import com.kaua.ecommerce.users.infrastructure.utils.KeysetCursor;
+import com.kaua.ecommerce.users.infrastructure.utils.OffsetWindow;
 import com.kaua.ecommerce.users.infrastructure.utils.SpecificationUtils;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
-import org.springframework.data.domain.Sort.Direction;
+import com.kaua.ecommerce.users.infrastructure.utils.TrigramSearchIndex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 
 @Component
 public class RoleMySQLGateway implements RoleGateway {
 
+    private static final Logger log = LoggerFactory.getLogger(RoleMySQLGateway.class);
+
+    public static final String DEFAULT_ROLE_CACHE_NAME = "role.default";
+
+    public static final String SEARCH_INDEX_CACHE_NAME = "role.search";
+
+    // safety net for a lost invalidation message
+    private static final Duration DEFAULT_ROLE_MAX_AGE = Duration.ofMinutes(5);
+
+    // same safety net for the search index, it is rebuilt on the first read once this old
+    private static final Duration SEARCH_INDEX_MAX_AGE = Duration.ofMinutes(5);
+
     private final RoleJpaRepository roleRepository;
-    private final AccountCacheRepository accountCacheRepository;
+    private final CacheGateway<Role> roleCacheGateway;
     private final AccountJpaRepository accountJpaRepository;
+    private final CacheInvalidationService cacheInvalidationService;
+    private final int defaultRoleReassignmentChunkSize;
+    private final AtomicReference<DefaultRoleEntry> defaultRole;
+    private final AtomicLong defaultRoleGeneration;
+    private volatile TrigramSearchIndex<Role> searchIndex;
+    private volatile Instant searchIndexLoadedAt;
 
     public RoleMySQLGateway(
             final RoleJpaRepository roleRepository,
-            final AccountCacheRepository accountCacheRepository,
-            final AccountJpaRepository accountJpaRepository
+            final CacheGateway<Role> roleCacheGateway,
+            final AccountJpaRepository accountJpaRepository,
+            final CacheInvalidationService cacheInvalidationService,
+            @Value("${role.default-reassignment.chunk-size}") final int defaultRoleReassignmentChunkSize
     ) {
         this.roleRepository = Objects.requireNonNull(roleRepository);
-        this.accountCacheRepository = Objects.requireNonNull(accountCacheRepository);
+        this.roleCacheGateway = Objects.requireNonNull(roleCacheGateway);
         this.accountJpaRepository = Objects.requireNonNull(accountJpaRepository);
+        this.cacheInvalidationService = Objects.requireNonNull(cacheInvalidationService);
+        this.defaultRoleReassignmentChunkSize = defaultRoleReassignmentChunkSize;
+        this.defaultRole = new AtomicReference<>();
+        this.defaultRoleGeneration = new AtomicLong();
+        this.cacheInvalidationService.subscribe(DEFAULT_ROLE_CACHE_NAME, roleId -> this.evictDefaultRole());
+        // permission deletions reach roles only through the role cache
+        this.cacheInvalidationService.subscribe(RoleCacheGateway.CACHE_NAME, roleId -> this.evictDefaultRole());
+        this.cacheInvalidationService.subscribe(SEARCH_INDEX_CACHE_NAME, this::refreshSearchIndex);
     }
 
     @Override
     public Role create(Role aRole) {
-        return this.roleRepository.save(RoleJpaEntity.toEntity(aRole)).toDomain();
+        final var aEntity = this.roleRepository.save(RoleJpaEntity.toEntity(aRole));
+        this.changeSearchIndex(aEntity.getId(), aIndex -> aIndex.put(aEntity.toDomainPagination()));
+        final var aResult = aEntity.toDomain();
+
+        if (aResult.isDefault()) {
+            this.invalidateDefaultRole(aResult.getId().getValue());
+        }
+
+        return aResult;
     }
 
     @Override
@@ -57,65 +111,222 @@ public class RoleMySQLGateway implements RoleGateway {
     @Transactional(readOnly = true)
     @Override
     public Optional<Role> findDefaultRole() {
-        return this.roleRepository.findIsDefaultTrue().map(RoleJpaEntity::toDomain);
+        final var aGeneration = this.defaultRoleGeneration.get();
+        final var aCached = this.defaultRole.get();
+
+        if (aCached != null && aCached.generation() == aGeneration && aCached.isFresh(Instant.now())) {
+            return aCached.role().map(RoleMySQLGateway::copyOf);
+        }
+
+        // an entry loaded before an eviction keeps the old generation and is never served
+        final var aRole = this.roleRepository.findIsDefaultTrue().map(RoleJpaEntity::toDomain);
+        this.defaultRole.set(new DefaultRoleEntry(aRole, aGeneration, Instant.now()));
+        return aRole.map(RoleMySQLGateway::copyOf);
+    }
+
+    public void evictDefaultRole() {
+        this.defaultRoleGeneration.incrementAndGet();
+        this.defaultRole.set(null);
     }
 
     @Override
     public Pagination<Role> findAll(SearchQuery aQuery) {
-        final var aPage = PageRequest.of(
-                aQuery.page(),
-                aQuery.perPage(),
-                Sort.by(Direction.fromString(aQuery.direction()), aQuery.sort())
-        );
+        final var aMatches = this.searchIndex().search(aQuery.terms(), aQuery.sort(), aQuery.direction());
+        return OffsetWindow.paginationOf(aMatches, aQuery, RoleMySQLGateway::copyOf);
+    }
 
-        final var aSpecification = Optional.ofNullable(aQuery.terms())
-                .filter(term -> !term.isBlank())
-                .map(term -> SpecificationUtils.<RoleJpaEntity>like("name", term)
-                        .or(SpecificationUtils.<RoleJpaEntity>like("description", term)
-                                .or(SpecificationUtils.like("roleType", term)))).orElse(null);
+    @Override
+    public SlicePagination<Role> findSlice(SearchQuery aQuery) {
+        final var aMatches = this.searchIndex().search(aQuery.terms(), aQuery.sort(), aQuery.direction());
+        return OffsetWindow.sliceOf(aMatches, aQuery, RoleMySQLGateway::copyOf);
+    }
 
-        final var aPageResult = this.roleRepository.findAll(Specification.where(aSpecification), aPage);
+    @Override
+    public CursorPagination<Role> findAll(CursorSearchQuery aQuery) {
+        final var aSpecification = searchSpecification(aQuery.terms());
+        final var aPosition = KeysetCursor.positionOf(aQuery, RoleJpaEntity.class);
 
-        return new Pagination<>(
-                aPageResult.getNumber(),
-                aPageResult.getSize(),
-                aPageResult.getTotalPages(),
-                aPageResult.getTotalElements(),
-                aPageResult.map(RoleJpaEntity::toDomainPagination).toList()
-        );
+        final var aWindow = this.roleRepository.findBy(Specification.where(aSpecification), query -> query
+                .sortBy(KeysetCursor.sortOf(aQuery))
+                .limit(aQuery.perPage())
+                .scroll(aPosition));
+
+        return KeysetCursor.paginationOf(aWindow, aQuery, RoleJpaEntity::toDomainPagination);
     }
 
     @Override
     public Role update(Role aRole) {
-        this.invalidateAccountCacheAfterRoleChange(aRole.getId().getValue());
-        return this.roleRepository.save(RoleJpaEntity.toEntity(aRole)).toDomain();
+        this.invalidateRoleCache(aRole.getId().getValue());
+        final var aEntity = this.roleRepository.save(RoleJpaEntity.toEntity(aRole));
+        // an account read before the commit may have cached the old role again
+        this.afterCommit(() -> this.invalidateRoleCache(aEntity.getId()));
+        this.changeSearchIndex(aEntity.getId(), aIndex -> aIndex.put(aEntity.toDomainPagination()));
+        this.invalidateDefaultRole(aEntity.getId());
+        return aEntity.toDomain();
     }
 
     @Override
     public void deleteById(String aId) {
         if (this.roleRepository.existsById(aId)) {
-            this.invalidateAccountCacheAfterRoleChange(aId);
+            this.invalidateRoleCache(aId);
             this.setDefaultRoleAfterRoleDeleted(aId);
             this.roleRepository.deleteById(aId);
+            // an account read before the commit may have cached the deleted role again
+            this.afterCommit(() -> this.invalidateRoleCache(aId));
+            this.invalidateDefaultRole(aId);
+            this.changeSearchIndex(aId, aIndex -> aIndex.remove(aId));
+        }
+    }
+
+    public void loadSearchIndex() {
+        this.searchIndex();
+    }
+
+    public void evictSearchIndex() {
+        synchronized (this) {
+            this.searchIndex = null;
+        }
+    }
+
+    private TrigramSearchIndex<Role> searchIndex() {
+        final var aIndex = this.searchIndex;
+
+        if (aIndex != null && this.isSearchIndexFresh()) {
+            return aIndex;
+        }
+
+        synchronized (this) {
+            if (this.searchIndex == null || !this.isSearchIndexFresh()) {
+                this.searchIndexLoadedAt = Instant.now();
+                this.searchIndex = newSearchIndex().putAll(this.roleRepository.findAll().stream()
+                        .map(RoleJpaEntity::toDomainPagination)
+                        .toList());
+            }
+            return this.searchIndex;
+        }
+    }
+
+    private boolean isSearchIndexFresh() {
+        return Instant.now().isBefore(this.searchIndexLoadedAt.plus(SEARCH_INDEX_MAX_AGE));
+    }
+
+    private void changeSearchIndex(final String aId, final Consumer<TrigramSearchIndex<Role>> aChange) {
+        this.changeSearchIndexLocally(aChange);
+        // other nodes reload the role from the database, so they must not hear about it before the commit
+        this.afterCommit(() -> this.publishSearchIndexChange(aId));
+    }
+
+    private void afterCommit(final Runnable aAction) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    aAction.run();
+                }
+            });
+        } else {
+            aAction.run();
+        }
+    }
+
+    private void publishSearchIndexChange(final String aId) {
+        this.cacheInvalidationService.publish(SEARCH_INDEX_CACHE_NAME, List.of(aId));
+    }
+
+    private void changeSearchIndexLocally(final Consumer<TrigramSearchIndex<Role>> aChange) {
+        synchronized (this) {
+            // an index that is not loaded yet picks the change up from the database
+            if (this.searchIndex != null) {
+                aChange.accept(this.searchIndex);
+            }
         }
     }
 
-    private void invalidateAccountCacheAfterRoleChange(final String aId) {
-        this.accountCacheRepository.findAll()
-                .forEach(account -> {
-                    if (account.getRole().getId().equals(aId)) {
-                        this.accountCacheRepository.deleteById(account.getId());
-                    }
-                });
+    private void refreshSearchIndex(final String aId) {
+        final var aRole = this.roleRepository.findById(aId).map(RoleJpaEntity::toDomainPagination);
+        this.changeSearchIndexLocally(aIndex -> aRole.ifPresentOrElse(aIndex::put, () -> aIndex.remove(aId)));
     }
 
+    private void invalidateRoleCache(final String aId) {
+        this.roleCacheGateway.delete(aId);
+    }
+
+    private void invalidateDefaultRole(final String aId) {
+        this.evictDefaultRole();
+        this.cacheInvalidationService.publish(DEFAULT_ROLE_CACHE_NAME, List.of(aId));
+    }
+
+    // every chunk commits on its own, accounts already moved stay valid if the delete has to be retried
     private void setDefaultRoleAfterRoleDeleted(final String aId) {
-        this.accountJpaRepository.findAllWhereRoleId(aId).forEach(account -> {
-            final var aRole = this.roleRepository.findIsDefaultTrue()
-                    .orElseThrow(NotFoundException.with(Role.class, "default"))
-                    .toDomain();
-            final var accountUpdated = account.toDomain().changeRole(aRole);
-            this.accountJpaRepository.save(AccountJpaEntity.toEntity(accountUpdated));
-        });
+        if (!this.accountJpaRepository.existsByRoleJpaEntityId(aId)) {
+            return;
+        }
+
+        final var aDefaultRoleId = this.findDefaultRole()
+                .orElseThrow(NotFoundException.with(Role.class, "default"))
+                .getId().getValue();
+
+        // moving the accounts onto the role being deleted would never run out of rows
+        if (aDefaultRoleId.equals(aId)) {
+            return;
+        }
+
+        final var aUpdatedAt = InstantUtils.now();
+        var aMoved = 0L;
+        int aChunk;
+
+        do {
+            aChunk = this.accountJpaRepository.changeRoleWhereRoleId(
+                    aId, aDefaultRoleId, aUpdatedAt, this.defaultRoleReassignmentChunkSize);
+            aMoved += aChunk;
+            log.debug("Default role reassignment progress: {} accounts moved from role {}", aMoved, aId);
+        } while (aChunk == this.defaultRoleReassignmentChunkSize);
+
+        log.info("Default role reassignment completed: {} accounts moved from role {} to {}", aMoved, aId, aDefaultRoleId);
+    }
+
+    private Specification<RoleJpaEntity> searchSpecification(final String aTerms) {
+        return Optional.ofNullable(aTerms)
+                .filter(term -> !term.isBlank())
+                .map(term -> SpecificationUtils.<RoleJpaEntity>like("name", term)
+                        .or(SpecificationUtils.<RoleJpaEntity>like("description", term)
+                                .or(SpecificationUtils.like("roleType", term)))).orElse(null);
+    }
+
+    // the same fields the like search matches and the sorts the listing api accepts
+    private static TrigramSearchIndex<Role> newSearchIndex() {
+        return new TrigramSearchIndex<>(
+                role -> role.getId().getValue(),
+                role -> Arrays.asList(role.getName(), role.getDescription(), role.getRoleType().name()),
+                Map.of(
+                        "name", Comparator.comparing(Role::getName),
+                        "description", Comparator.comparing(Role::getDescription,
+                                Comparator.nullsFirst(Comparator.naturalOrder())),
+                        "roleType", Comparator.comparing(role -> role.getRoleType().name()),
+                        "createdAt", Comparator.comparing(Role::getCreatedAt),
+                        "updatedAt", Comparator.comparing(Role::getUpdatedAt)
+                )
+        );
+    }
+
+    // indexed and default roles are shared between readers, callers get their own copy
+    private static Role copyOf(final Role aRole) {
+        return Role.with(
+                aRole.getId().getValue(),
+                aRole.getName(),
+                aRole.getDescription(),
+                aRole.getRoleType(),
+                aRole.isDefault(),
+                aRole.getPermissions(),
+                aRole.getCreatedAt(),
+                aRole.getUpdatedAt()
+        );
+    }
+
+    private record DefaultRoleEntry(Optional<Role> role, long generation, Instant loadedAt) {
+
+        boolean isFresh(final Instant now) {
+            return now.isBefore(this.loadedAt.plus(DEFAULT_ROLE_MAX_AGE));
+        }
     }
 }
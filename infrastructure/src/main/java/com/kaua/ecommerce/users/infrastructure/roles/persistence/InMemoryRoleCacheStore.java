@@ -0,0 +1,68 @@
+package com.kaua.ecommerce.users.infrastructure.roles.persistence;
+
+import com.kaua.ecommerce.users.infrastructure.cache.BoundedMemoryStore;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+public class InMemoryRoleCacheStore implements RoleCacheStore {
+
+    private static final Duration DEFAULT_TTL = Duration.ofDays(7);
+
+    private final BoundedMemoryStore<RoleCacheEntity> store;
+
+    // the gateway builds a new entity on every write and a new role on every read, entries are never shared
+    public InMemoryRoleCacheStore(final BoundedMemoryStore<RoleCacheEntity> store) {
+        this.store = Objects.requireNonNull(store);
+    }
+
+    @Override
+    public void save(final RoleCacheEntity aEntity) {
+        this.store.put(aEntity.getId(), aEntity, aEntity.getTtl() == null
+                ? DEFAULT_TTL
+                : Duration.ofSeconds(aEntity.getTtl()));
+    }
+
+    @Override
+    public Optional<RoleCacheEntity> findById(final String aId) {
+        return this.store.get(aId);
+    }
+
+    @Override
+    public void deleteById(final String aId) {
+        this.store.invalidate(aId);
+    }
+
+    @Override
+    public void saveAll(final Collection<RoleCacheEntity> aEntities) {
+        aEntities.forEach(this::save);
+    }
+
+    @Override
+    public Map<String, RoleCacheEntity> findAllById(final Collection<String> aIds) {
+        return this.store.getAll(aIds);
+    }
+
+    @Override
+    public void deleteAllById(final Collection<String> aIds) {
+        this.store.invalidateAll(aIds);
+    }
+
+    // strings are counted at two bytes per char plus a fixed overhead per object
+    public static int weigh(final RoleCacheEntity aEntity) {
+        var aBytes = 128 + chars(aEntity.getName()) + chars(aEntity.getDescription());
+
+        for (final var aPermission : aEntity.getPermissions().entrySet()) {
+            aBytes += 64 + chars(aPermission.getKey()) + chars(aPermission.getValue());
+        }
+
+        return aBytes;
+    }
+
+    private static int chars(final String aValue) {
+        return aValue == null ? 0 : aValue.length() * 2;
+    }
+}
@@ -0,0 +1,48 @@
+package com.kaua.ecommerce.users.infrastructure.roles.persistence;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+public class RedisHashRoleCacheStore implements RoleCacheStore {
+
+    private final RoleCacheRepository roleCacheRepository;
+
+    public RedisHashRoleCacheStore(final RoleCacheRepository roleCacheRepository) {
+        this.roleCacheRepository = Objects.requireNonNull(roleCacheRepository);
+    }
+
+    @Override
+    public void save(final RoleCacheEntity aEntity) {
+        this.roleCacheRepository.save(aEntity);
+    }
+
+    @Override
+    public Optional<RoleCacheEntity> findById(final String aId) {
+        return this.roleCacheRepository.findById(aId);
+    }
+
+    @Override
+    public void deleteById(final String aId) {
+        this.roleCacheRepository.deleteById(aId);
+    }
+
+    @Override
+    public void saveAll(final Collection<RoleCacheEntity> aEntities) {
+        this.roleCacheRepository.saveAll(aEntities);
+    }
+
+    @Override
+    public Map<String, RoleCacheEntity> findAllById(final Collection<String> aIds) {
+        final var aEntities = new LinkedHashMap<String, RoleCacheEntity>();
+        this.roleCacheRepository.findAllById(aIds).forEach(entity -> aEntities.put(entity.getId(), entity));
+        return aEntities;
+    }
+
+    @Override
+    public void deleteAllById(final Collection<String> aIds) {
+        this.roleCacheRepository.deleteAllById(aIds);
+    }
+}
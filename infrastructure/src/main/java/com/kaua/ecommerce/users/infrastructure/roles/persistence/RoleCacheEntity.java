@@ -1,19 +1,26 @@
 package com.kaua.ecommerce.users.infrastructure.roles.persistence;
 
+import com.kaua.ecommerce.users.domain.permissions.PermissionID;
 import com.kaua.ecommerce.users.domain.roles.Role;
 import com.kaua.ecommerce.users.domain.roles.RolePermission;
 import com.kaua.ecommerce.users.domain.roles.RoleTypes;
 import jakarta.persistence.Id;
 import org.springframework.data.redis.core.RedisHash;
+import org.springframework.data.redis.core.TimeToLive;
 
+import java.time.Duration;
 import java.time.Instant;
-import java.util.HashSet;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 @RedisHash(value = "role", timeToLive = 60 * 60 * 24 * 7) // 7 days
 public class RoleCacheEntity {
 
+    // 2: permissions are kept as id to name so cached roles match the database
+    public static final int VERSION = 2;
+
     @Id
     private String id;
 
@@ -21,9 +28,14 @@ public class RoleCacheEntity {
     private String description;
     private RoleTypes type;
     private boolean isDefault;
-    private Set<String> permissions;
+    private int version;
+    private Map<String, String> permissions;
     private Instant createdAt;
     private Instant updatedAt;
+    private Instant cachedAt;
+
+    @TimeToLive
+    private Long ttl;
 
     public RoleCacheEntity() {}
 
@@ -34,19 +46,32 @@ public class RoleCacheEntity {
             final RoleTypes type,
             final boolean isDefault,
             final Instant createdAt,
-            final Instant updatedAt
+            final Instant updatedAt,
+            final Instant cachedAt,
+            final Long ttl
     ) {
         this.id = id;
         this.name = name;
         this.description = description;
         this.type = type;
         this.isDefault = isDefault;
-        this.permissions = new HashSet<>();
+        this.version = VERSION;
+        this.permissions = new HashMap<>();
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
+        this.cachedAt = cachedAt;
+        this.ttl = ttl;
     }
 
     public static RoleCacheEntity toEntity(final Role aRole) {
+        return toEntity(aRole, null, null);
+    }
+
+    public static RoleCacheEntity toEntity(final Role aRole, final Duration aTtl) {
+        return toEntity(aRole, Instant.now(), aTtl.toSeconds());
+    }
+
+    private static RoleCacheEntity toEntity(final Role aRole, final Instant aCachedAt, final Long aTtl) {
         final var aEntity = new RoleCacheEntity(
                 aRole.getId().getValue(),
                 aRole.getName(),
@@ -54,11 +79,13 @@ public class RoleCacheEntity {
                 aRole.getRoleType(),
                 aRole.isDefault(),
                 aRole.getCreatedAt(),
-                aRole.getUpdatedAt()
+                aRole.getUpdatedAt(),
+                aCachedAt,
+                aTtl
         );
 
         aRole.getPermissions().forEach(permission -> aEntity.getPermissions()
-                .add(permission.getPermissionName()));
+                .put(permission.getPermissionID().getValue(), permission.getPermissionName()));
 
         return aEntity;
     }
@@ -96,15 +123,24 @@ public class RoleCacheEntity {
         return isDefault;
     }
 
-    public Set<String> getPermissions() {
-        return permissions == null ? new HashSet<>() : permissions;
+    public int getVersion() {
+        return version;
+    }
+
+    // entries written before the current version are read as misses and replaced on the next save
+    public boolean isCurrentVersion() {
+        return version == VERSION;
+    }
+
+    public Map<String, String> getPermissions() {
+        return permissions == null ? new HashMap<>() : permissions;
     }
 
     public Set<RolePermission> getRolePermissions() {
-        return getPermissions().stream()
+        return getPermissions().entrySet().stream()
                 .map(it -> RolePermission
                         .newRolePermission(
-                                null, it))
+                                PermissionID.from(it.getKey()), it.getValue()))
                 .collect(Collectors.toSet());
     }
 
@@ -115,4 +151,16 @@ public class RoleCacheEntity {
     public Instant getUpdatedAt() {
         return updatedAt;
     }
+
+    public Instant getCachedAt() {
+        return cachedAt;
+    }
+
+    public Long getTtl() {
+        return ttl;
+    }
+
+    public Instant getExpiresAt() {
+        return cachedAt == null || ttl == null ? null : cachedAt.plusSeconds(ttl);
+    }
 }
@@ -0,0 +1,6 @@
+package com.kaua.ecommerce.users.infrastructure.roles.persistence;
+
+import org.springframework.data.repository.CrudRepository;
+
+public interface RoleCacheRepository extends CrudRepository<RoleCacheEntity, String> {
+}
@@ -0,0 +1,20 @@
+package com.kaua.ecommerce.users.infrastructure.roles.persistence;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+
+public interface RoleCacheStore {
+
+    void save(RoleCacheEntity aEntity);
+
+    Optional<RoleCacheEntity> findById(String aId);
+
+    void deleteById(String aId);
+
+    void saveAll(Collection<RoleCacheEntity> aEntities);
+
+    Map<String, RoleCacheEntity> findAllById(Collection<String> aIds);
+
+    void deleteAllById(Collection<String> aIds);
+}
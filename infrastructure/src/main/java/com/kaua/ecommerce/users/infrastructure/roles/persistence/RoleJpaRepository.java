@@ -5,8 +5,12 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.FluentQuery.FetchableFluentQuery;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 
 public interface RoleJpaRepository extends JpaRepository<RoleJpaEntity, String> {
 
@@ -14,6 +18,13 @@ public interface RoleJpaRepository extends JpaRepository<RoleJpaEntity, String>
 
     Page<RoleJpaEntity> findAll(Specification<RoleJpaEntity> whereClause, Pageable page);
 
+    <S extends RoleJpaEntity, R> R findBy(Specification<RoleJpaEntity> whereClause, Function<FetchableFluentQuery<S>, R> queryFunction);
+
+    long count(Specification<RoleJpaEntity> whereClause);
+
     @Query(value = "SELECT * FROM roles r WHERE r.is_default = true", nativeQuery = true)
     Optional<RoleJpaEntity> findIsDefaultTrue();
+
+    @Query("SELECT DISTINCT rp.id.roleId FROM RolePermissionJpaEntity rp WHERE rp.id.permissionId = :permissionId")
+    Set<String> findAllIdsByPermissionId(@Param("permissionId") String permissionId);
 }
@@ -0,0 +1,11 @@
+package com.kaua.ecommerce.users.infrastructure.services;
+
+import java.util.Collection;
+import java.util.function.Consumer;
+
+public interface CacheInvalidationService {
+
+    void publish(String cacheName, Collection<String> keys);
+
+    void subscribe(String cacheName, Consumer<String> listener);
+}
@@ -0,0 +1,10 @@
+package com.kaua.ecommerce.users.infrastructure.services;
+
+public interface NegativeCacheService {
+
+    boolean isMissing(String key);
+
+    void markMissing(String key);
+
+    void clear(String key);
+}
@@ -0,0 +1,77 @@
+package com.kaua.ecommerce.users.infrastructure.services.impl;
+
+import com.kaua.ecommerce.users.infrastructure.configurations.json.Json;
+import com.kaua.ecommerce.users.infrastructure.services.CacheInvalidationService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+public class RedisCacheInvalidationService implements CacheInvalidationService, MessageListener {
+
+    private static final Logger log = LoggerFactory.getLogger(RedisCacheInvalidationService.class);
+
+    private final String channel;
+    private final StringRedisTemplate redisTemplate;
+    private final Map<String, List<Consumer<String>>> listeners = new ConcurrentHashMap<>();
+
+    public RedisCacheInvalidationService(
+            final String channel,
+            final StringRedisTemplate redisTemplate
+    ) {
+        this.channel = Objects.requireNonNull(channel);
+        this.redisTemplate = Objects.requireNonNull(redisTemplate);
+    }
+
+    @Override
+    public void publish(final String cacheName, final Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+
+        try {
+            this.redisTemplate.convertAndSend(
+                    this.channel,
+                    Json.writeValueAsString(new CacheInvalidationMessage(cacheName, List.copyOf(keys)))
+            );
+        } catch (final Exception e) {
+            // other nodes will converge when their local entries expire
+            log.error("Error publishing cache invalidation for {}: {}", cacheName, e.getMessage());
+        }
+    }
+
+    @Override
+    public void subscribe(final String cacheName, final Consumer<String> listener) {
+        this.listeners.computeIfAbsent(cacheName, key -> new CopyOnWriteArrayList<>()).add(listener);
+    }
+
+    @Override
+    public void onMessage(final Message message, final byte[] pattern) {
+        final var aMessage = Json.readValue(
+                new String(message.getBody(), StandardCharsets.UTF_8),
+                CacheInvalidationMessage.class
+        );
+
+        log.debug("Cache invalidation received: {} {}", aMessage.cacheName(), aMessage.keys());
+
+        this.listeners.getOrDefault(aMessage.cacheName(), List.of())
+                .forEach(listener -> aMessage.keys().forEach(listener));
+    }
+
+    public String getChannel() {
+        return channel;
+    }
+
+    public record CacheInvalidationMessage(String cacheName, List<String> keys) {
+    }
+}
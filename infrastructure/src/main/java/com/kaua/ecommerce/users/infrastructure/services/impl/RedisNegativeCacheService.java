@@ -0,0 +1,60 @@
+package com.kaua.ecommerce.users.infrastructure.services.impl;
+
+import com.kaua.ecommerce.users.infrastructure.services.NegativeCacheService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.Objects;
+
+public class RedisNegativeCacheService implements NegativeCacheService {
+
+    private static final Logger log = LoggerFactory.getLogger(RedisNegativeCacheService.class);
+
+    private static final String TOMBSTONE = "1";
+
+    private final String keyPrefix;
+    private final Duration ttl;
+    private final StringRedisTemplate redisTemplate;
+
+    public RedisNegativeCacheService(
+            final String cacheName,
+            final Duration ttl,
+            final StringRedisTemplate redisTemplate
+    ) {
+        this.keyPrefix = Objects.requireNonNull(cacheName) + ":missing:";
+        this.ttl = Objects.requireNonNull(ttl);
+        this.redisTemplate = Objects.requireNonNull(redisTemplate);
+    }
+
+    @Override
+    public boolean isMissing(final String key) {
+        try {
+            return Boolean.TRUE.equals(this.redisTemplate.hasKey(this.keyPrefix + key));
+        } catch (final Exception e) {
+            // without tombstones lookups simply go to the database
+            log.error("Error reading tombstone for {}: {}", key, e.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    public void markMissing(final String key) {
+        try {
+            this.redisTemplate.opsForValue().set(this.keyPrefix + key, TOMBSTONE, this.ttl);
+        } catch (final Exception e) {
+            log.error("Error writing tombstone for {}: {}", key, e.getMessage());
+        }
+    }
+
+    @Override
+    public void clear(final String key) {
+        try {
+            this.redisTemplate.unlink(this.keyPrefix + key);
+        } catch (final Exception e) {
+            // the tombstone still expires on its own after the ttl
+            log.error("Error clearing tombstone for {}: {}", key, e.getMessage());
+        }
+    }
+}
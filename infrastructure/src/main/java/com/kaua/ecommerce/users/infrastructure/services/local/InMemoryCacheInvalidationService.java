@@ -0,0 +1,31 @@
+package com.kaua.ecommerce.users.infrastructure.services.local;
+
+import com.kaua.ecommerce.users.infrastructure.services.CacheInvalidationService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+public class InMemoryCacheInvalidationService implements CacheInvalidationService {
+
+    private static final Logger log = LoggerFactory.getLogger(InMemoryCacheInvalidationService.class);
+
+    private final Map<String, List<Consumer<String>>> listeners = new ConcurrentHashMap<>();
+
+    @Override
+    public void publish(final String cacheName, final Collection<String> keys) {
+        log.debug("Cache invalidation was observed: {} {}", cacheName, keys);
+        this.listeners.getOrDefault(cacheName, List.of())
+                .forEach(listener -> keys.forEach(listener));
+    }
+
+    @Override
+    public void subscribe(final String cacheName, final Consumer<String> listener) {
+        this.listeners.computeIfAbsent(cacheName, key -> new CopyOnWriteArrayList<>()).add(listener);
+    }
+}
@@ -0,0 +1,30 @@
+package com.kaua.ecommerce.users.infrastructure.services.local;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.kaua.ecommerce.users.infrastructure.services.NegativeCacheService;
+
+import java.util.Objects;
+
+public class InMemoryNegativeCacheService implements NegativeCacheService {
+
+    private final Cache<String, Boolean> tombstones;
+
+    public InMemoryNegativeCacheService(final Cache<String, Boolean> tombstones) {
+        this.tombstones = Objects.requireNonNull(tombstones);
+    }
+
+    @Override
+    public boolean isMissing(final String key) {
+        return this.tombstones.getIfPresent(key) != null;
+    }
+
+    @Override
+    public void markMissing(final String key) {
+        this.tombstones.put(key, Boolean.TRUE);
+    }
+
+    @Override
+    public void clear(final String key) {
+        this.tombstones.invalidate(key);
+    }
+}
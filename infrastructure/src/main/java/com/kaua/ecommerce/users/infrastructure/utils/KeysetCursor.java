@@ -0,0 +1,160 @@
+package com.kaua.ecommerce.users.infrastructure.utils;
+
+import com.kaua.ecommerce.users.domain.exceptions.DomainException;
+import com.kaua.ecommerce.users.domain.pagination.CursorPagination;
+import com.kaua.ecommerce.users.domain.pagination.CursorSearchQuery;
+import com.kaua.ecommerce.users.domain.validation.Error;
+import com.kaua.ecommerce.users.infrastructure.configurations.json.Json;
+import jakarta.persistence.Column;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.util.ReflectionUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+public final class KeysetCursor {
+
+    private static final String ID = "id";
+
+    private KeysetCursor() {}
+
+    public static Sort sortOf(final CursorSearchQuery aQuery) {
+        final var aDirection = Sort.Direction.fromString(aQuery.direction());
+
+        // the id breaks ties so every row keeps a unique position between pages
+        return Sort.by(aDirection, aQuery.sort()).and(Sort.by(aDirection, ID));
+    }
+
+    public static ScrollPosition positionOf(final CursorSearchQuery aQuery, final Class<?> aEntityClass) {
+        if (aQuery.perPage() < 1) {
+            throw DomainException.with(new Error("'perPage' must be greater than zero"));
+        }
+
+        // a null sort key has no position to resume from, nullable columns are refused before the first page
+        if (!isNotNull(aEntityClass, aQuery.sort())) {
+            throw unsupportedSort(aQuery.sort());
+        }
+
+        if (aQuery.cursor() == null || aQuery.cursor().isBlank()) {
+            return ScrollPosition.keyset();
+        }
+
+        final var aPayload = decode(aQuery.cursor());
+
+        if (!Objects.equals(aPayload.sort(), aQuery.sort())
+                || !aPayload.direction().equalsIgnoreCase(aQuery.direction())) {
+            throw DomainException.with(new Error("'cursor' does not match the requested sort"));
+        }
+
+        final var aKeys = new LinkedHashMap<String, Object>();
+        aKeys.put(aQuery.sort(), valueOf(aEntityClass, aQuery.sort(), aPayload.keys().get(aQuery.sort())));
+        aKeys.put(ID, valueOf(aEntityClass, ID, aPayload.keys().get(ID)));
+
+        return ScrollPosition.forward(aKeys);
+    }
+
+    public static <T, R> CursorPagination<R> paginationOf(
+            final Window<T> aWindow,
+            final CursorSearchQuery aQuery,
+            final Function<T, R> mapper
+    ) {
+        final var aNextCursor = aWindow.hasNext() && !aWindow.isEmpty()
+                ? encode(aQuery, (KeysetScrollPosition) aWindow.positionAt(aWindow.size() - 1))
+                : null;
+
+        return new CursorPagination<>(
+                aNextCursor,
+                aQuery.perPage(),
+                aWindow.map(mapper).getContent()
+        );
+    }
+
+    private static String encode(final CursorSearchQuery aQuery, final KeysetScrollPosition aPosition) {
+        final var aKeys = new LinkedHashMap<String, String>();
+        aPosition.getKeys().forEach((key, value) -> aKeys.put(key, value == null ? null : valueAsString(value)));
+
+        final var aJson = Json.writeValueAsString(new Payload(aQuery.sort(), aQuery.direction(), aKeys));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(aJson.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Payload decode(final String aCursor) {
+        final Payload aPayload;
+
+        try {
+            final var aJson = new String(Base64.getUrlDecoder().decode(aCursor), StandardCharsets.UTF_8);
+            aPayload = Json.readValue(aJson, Payload.class);
+        } catch (final RuntimeException e) {
+            throw invalidCursor();
+        }
+
+        if (aPayload == null || aPayload.sort() == null || aPayload.direction() == null || aPayload.keys() == null) {
+            throw invalidCursor();
+        }
+
+        return aPayload;
+    }
+
+    private static String valueAsString(final Object aValue) {
+        return aValue instanceof Enum<?> aEnum ? aEnum.name() : aValue.toString();
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Object valueOf(final Class<?> aEntityClass, final String aField, final String aValue) {
+        final var aEntityField = ReflectionUtils.findField(aEntityClass, aField);
+
+        if (aEntityField == null || aValue == null) {
+            throw invalidCursor();
+        }
+
+        final var aType = aEntityField.getType();
+
+        try {
+            if (aType == String.class) {
+                return aValue;
+            }
+            if (aType == Instant.class) {
+                return Instant.parse(aValue);
+            }
+            if (aType == boolean.class || aType == Boolean.class) {
+                return Boolean.parseBoolean(aValue);
+            }
+            if (aType.isEnum()) {
+                return Enum.valueOf((Class<? extends Enum>) aType, aValue);
+            }
+        } catch (final RuntimeException e) {
+            throw invalidCursor();
+        }
+
+        throw unsupportedSort(aField);
+    }
+
+    private static boolean isNotNull(final Class<?> aEntityClass, final String aField) {
+        final var aEntityField = aField == null ? null : ReflectionUtils.findField(aEntityClass, aField);
+
+        if (aEntityField == null) {
+            return false;
+        }
+
+        final var aColumn = aEntityField.getAnnotation(Column.class);
+        return aEntityField.getType().isPrimitive() || (aColumn != null && !aColumn.nullable());
+    }
+
+    private static DomainException unsupportedSort(final String aField) {
+        return DomainException.with(new Error("'sort' %s is not supported by cursor pagination".formatted(aField)));
+    }
+
+    private static DomainException invalidCursor() {
+        return DomainException.with(new Error("'cursor' is invalid"));
+    }
+
+    record Payload(String sort, String direction, Map<String, String> keys) {
+    }
+}
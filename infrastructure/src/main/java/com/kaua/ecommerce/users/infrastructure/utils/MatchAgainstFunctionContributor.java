@@ -0,0 +1,62 @@
+package com.kaua.ecommerce.users.infrastructure.utils;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.query.sqm.function.AbstractSqmSelfRenderingFunctionDescriptor;
+import org.hibernate.query.sqm.produce.function.StandardArgumentsValidators;
+import org.hibernate.query.sqm.produce.function.StandardFunctionArgumentTypeResolvers;
+import org.hibernate.query.sqm.produce.function.StandardFunctionReturnTypeResolvers;
+import org.hibernate.sql.ast.SqlAstTranslator;
+import org.hibernate.sql.ast.spi.SqlAppender;
+import org.hibernate.sql.ast.tree.SqlAstNode;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.StandardBasicTypes;
+
+import java.util.List;
+
+public class MatchAgainstFunctionContributor implements FunctionContributor {
+
+    public static final String MATCH_AGAINST = "match_against";
+
+    @Override
+    public void contributeFunctions(final FunctionContributions functionContributions) {
+        final var aScoreType = functionContributions.getTypeConfiguration()
+                .getBasicTypeRegistry()
+                .resolve(StandardBasicTypes.DOUBLE);
+
+        functionContributions.getFunctionRegistry().register(MATCH_AGAINST, new MatchAgainstFunction(aScoreType));
+    }
+
+    // match_against(column..., terms) renders as match(column...) against(terms in boolean mode)
+    private static class MatchAgainstFunction extends AbstractSqmSelfRenderingFunctionDescriptor {
+
+        private MatchAgainstFunction(final BasicType<Double> aScoreType) {
+            super(
+                    MATCH_AGAINST,
+                    StandardArgumentsValidators.min(2),
+                    StandardFunctionReturnTypeResolvers.invariant(aScoreType),
+                    StandardFunctionArgumentTypeResolvers.NULL
+            );
+        }
+
+        @Override
+        public void render(
+                final SqlAppender sqlAppender,
+                final List<? extends SqlAstNode> sqlAstArguments,
+                final SqlAstTranslator<?> walker
+        ) {
+            final var aLast = sqlAstArguments.size() - 1;
+
+            sqlAppender.appendSql("match(");
+            for (int i = 0; i < aLast; i++) {
+                if (i > 0) {
+                    sqlAppender.appendSql(',');
+                }
+                sqlAstArguments.get(i).accept(walker);
+            }
+            sqlAppender.appendSql(") against(");
+            sqlAstArguments.get(aLast).accept(walker);
+            sqlAppender.appendSql(" in boolean mode)");
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.kaua.ecommerce.users.infrastructure.utils;
+
+import com.kaua.ecommerce.users.domain.exceptions.DomainException;
+import com.kaua.ecommerce.users.domain.pagination.Pagination;
+import com.kaua.ecommerce.users.domain.pagination.SearchQuery;
+import com.kaua.ecommerce.users.domain.pagination.SlicePagination;
+import com.kaua.ecommerce.users.domain.validation.Error;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+public final class OffsetWindow {
+
+    private OffsetWindow() {}
+
+    public static Sort sortOf(final SearchQuery aQuery) {
+        return Sort.by(Sort.Direction.fromString(aQuery.direction()), aQuery.sort());
+    }
+
+    // spring data 3.1 starts the window at exactly this offset and reads one extra row for hasNext
+    public static ScrollPosition positionOf(final SearchQuery aQuery) {
+        validate(aQuery);
+        return ScrollPosition.offset(offsetOf(aQuery));
+    }
+
+    public static <T, R> SlicePagination<R> sliceOf(
+            final Window<T> aWindow,
+            final SearchQuery aQuery,
+            final Function<T, R> mapper
+    ) {
+        return new SlicePagination<>(
+                aQuery.page(),
+                aQuery.perPage(),
+                aWindow.hasNext(),
+                aWindow.map(mapper).getContent()
+        );
+    }
+
+    public static <T, R> Pagination<R> paginationOf(
+            final Window<T> aWindow,
+            final SearchQuery aQuery,
+            final LongSupplier aApproximateTotal,
+            final Function<T, R> mapper
+    ) {
+        final var aTotalItems = totalOf(aWindow, aQuery, aApproximateTotal);
+        final var aTotalPages = (int) Math.ceil((double) aTotalItems / aQuery.perPage());
+
+        return new Pagination<>(
+                aQuery.page(),
+                aQuery.perPage(),
+                aTotalPages,
+                aTotalItems,
+                aWindow.map(mapper).getContent()
+        );
+    }
+
+    // the matches are already complete and sorted in memory, so the total is exact
+    public static <T, R> Pagination<R> paginationOf(
+            final List<T> aMatches,
+            final SearchQuery aQuery,
+            final Function<T, R> mapper
+    ) {
+        final var aItems = pageOf(aMatches, aQuery);
+        final var aTotalPages = (int) Math.ceil((double) aMatches.size() / aQuery.perPage());
+
+        return new Pagination<>(
+                aQuery.page(),
+                aQuery.perPage(),
+                aTotalPages,
+                aMatches.size(),
+                aItems.stream().map(mapper).toList()
+        );
+    }
+
+    public static <T, R> SlicePagination<R> sliceOf(
+            final List<T> aMatches,
+            final SearchQuery aQuery,
+            final Function<T, R> mapper
+    ) {
+        final var aItems = pageOf(aMatches, aQuery);
+
+        return new SlicePagination<>(
+                aQuery.page(),
+                aQuery.perPage(),
+                offsetOf(aQuery) + aQuery.perPage() < aMatches.size(),
+                aItems.stream().map(mapper).toList()
+        );
+    }
+
+    // the last page tells the exact total for free, otherwise a cached total never contradicts the rows just read
+    private static long totalOf(final Window<?> aWindow, final SearchQuery aQuery, final LongSupplier aApproximateTotal) {
+        final var aSeen = offsetOf(aQuery) + aWindow.size();
+
+        if (!aWindow.hasNext() && (aWindow.size() > 0 || aQuery.page() == 0)) {
+            return aSeen;
+        }
+
+        final var aMinimum = aWindow.hasNext() ? aSeen + 1 : 0;
+        return Math.max(aApproximateTotal.getAsLong(), aMinimum);
+    }
+
+    private static <T> List<T> pageOf(final List<T> aMatches, final SearchQuery aQuery) {
+        validate(aQuery);
+
+        final var aFrom = Math.min(offsetOf(aQuery), aMatches.size());
+        final var aTo = Math.min(aFrom + aQuery.perPage(), aMatches.size());
+        return aMatches.subList((int) aFrom, (int) aTo);
+    }
+
+    private static void validate(final SearchQuery aQuery) {
+        if (aQuery.page() < 0) {
+            throw DomainException.with(new Error("'page' must not be negative"));
+        }
+        if (aQuery.perPage() < 1) {
+            throw DomainException.with(new Error("'perPage' must be greater than zero"));
+        }
+    }
+
+    private static long offsetOf(final SearchQuery aQuery) {
+        return (long) aQuery.page() * aQuery.perPage();
+    }
+}
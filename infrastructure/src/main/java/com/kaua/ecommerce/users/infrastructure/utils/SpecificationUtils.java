@@ -1,16 +1,41 @@
 package com.kaua.ecommerce.users.infrastructure.utils;
 
+import jakarta.persistence.criteria.Expression;
 import org.springframework.data.jpa.domain.Specification;
 
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.stream.Stream;
+
 public final class SpecificationUtils {
 
     private SpecificationUtils() {}
 
     public static <T> Specification<T> like(final String prop, final String term) {
-        return (root, query, cb) -> cb.like(cb.upper(root.get(prop)), like(term.toUpperCase()));
+        return (root, query, cb) -> cb.like(cb.upper(root.get(prop)), like(term.toUpperCase(Locale.ROOT)));
+    }
+
+    // the props must be exactly the columns of one fulltext index, in the index order
+    public static <T> Specification<T> match(final String term, final String... props) {
+        return (root, query, cb) -> {
+            final var aArguments = Stream.concat(
+                    Arrays.stream(props).map(root::get),
+                    Stream.of(cb.literal(phrase(term)))
+            ).toArray(Expression[]::new);
+
+            return cb.greaterThan(
+                    cb.function(MatchAgainstFunctionContributor.MATCH_AGAINST, Double.class, aArguments),
+                    0.0
+            );
+        };
     }
 
     private static String like(final String term) {
         return "%" + term + "%";
     }
+
+    // a quoted phrase turns boolean mode operators into plain text and keeps the ngrams in sequence
+    private static String phrase(final String term) {
+        return "\"" + term.replace("\"", " ").trim() + "\"";
+    }
 }
@@ -0,0 +1,177 @@
+package com.kaua.ecommerce.users.infrastructure.utils;
+
+import com.kaua.ecommerce.users.domain.exceptions.DomainException;
+import com.kaua.ecommerce.users.domain.validation.Error;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+public class TrigramSearchIndex<T> {
+
+    private static final int GRAM_LENGTH = 3;
+
+    private final Function<T, String> idOf;
+    private final Function<T, List<String>> fieldsOf;
+    private final Map<String, Comparator<T>> sorts;
+    private final Map<String, Document<T>> documents;
+    private final Map<String, Set<String>> postings;
+    private final ReadWriteLock lock;
+    private long sequence;
+
+    // the fields are matched like upper(field) like '%TERM%', the sorts are keyed by the sort names the api accepts
+    public TrigramSearchIndex(
+            final Function<T, String> idOf,
+            final Function<T, List<String>> fieldsOf,
+            final Map<String, Comparator<T>> sorts
+    ) {
+        this.idOf = Objects.requireNonNull(idOf);
+        this.fieldsOf = Objects.requireNonNull(fieldsOf);
+        this.sorts = Map.copyOf(sorts);
+        this.documents = new HashMap<>();
+        this.postings = new HashMap<>();
+        this.lock = new ReentrantReadWriteLock();
+    }
+
+    public TrigramSearchIndex<T> putAll(final Collection<T> aItems) {
+        aItems.forEach(this::put);
+        return this;
+    }
+
+    public void put(final T aItem) {
+        final var aId = this.idOf.apply(aItem);
+        final var aFields = this.fieldsOf.apply(aItem).stream()
+                .filter(Objects::nonNull)
+                .map(TrigramSearchIndex::normalize)
+                .toList();
+
+        this.lock.writeLock().lock();
+        try {
+            final var aPrevious = this.unindex(aId);
+            final var aSequence = aPrevious == null ? this.sequence++ : aPrevious.sequence();
+            this.documents.put(aId, new Document<>(aItem, aFields, aSequence));
+            gramsOf(aFields).forEach(gram -> this.postings.computeIfAbsent(gram, key -> new HashSet<>()).add(aId));
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(final String aId) {
+        this.lock.writeLock().lock();
+        try {
+            this.unindex(aId);
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    public List<T> search(final String aTerms, final String aSort, final String aDirection) {
+        final var aComparator = this.comparatorOf(aSort, aDirection);
+        final var aTerm = aTerms == null ? "" : normalize(aTerms);
+        final var aMatches = new ArrayList<Document<T>>();
+
+        this.lock.readLock().lock();
+        try {
+            // terms shorter than a gram have no posting list, the tables are small enough to scan
+            final var aCandidates = aTerm.length() < GRAM_LENGTH
+                    ? this.documents.keySet()
+                    : this.candidatesOf(aTerm);
+
+            aCandidates.forEach(id -> {
+                final var aDocument = this.documents.get(id);
+                if (aTerm.isEmpty() || aDocument.contains(aTerm)) {
+                    aMatches.add(aDocument);
+                }
+            });
+        } finally {
+            this.lock.readLock().unlock();
+        }
+
+        aMatches.sort(aComparator);
+        return aMatches.stream().map(Document::item).toList();
+    }
+
+    private Comparator<Document<T>> comparatorOf(final String aSort, final String aDirection) {
+        final var aComparator = this.sorts.get(aSort);
+
+        if (aComparator == null) {
+            throw DomainException.with(new Error("'sort' %s is not supported".formatted(aSort)));
+        }
+
+        final var aDirected = Sort.Direction.fromString(aDirection).isAscending() ? aComparator : aComparator.reversed();
+
+        // ties keep the order items were indexed in, whatever the direction, as a table scan would
+        return Comparator.<Document<T>, T>comparing(Document::item, aDirected)
+                .thenComparingLong(Document::sequence);
+    }
+
+    // every gram of the term must be in the document, the smallest posting list is walked first
+    private Set<String> candidatesOf(final String aTerm) {
+        final var aPostings = new ArrayList<Set<String>>();
+
+        for (final var aGram : gramsOf(List.of(aTerm))) {
+            final var aPosting = this.postings.get(aGram);
+            if (aPosting == null) {
+                return Set.of();
+            }
+            aPostings.add(aPosting);
+        }
+
+        aPostings.sort(Comparator.comparingInt(Set::size));
+
+        final var aCandidates = new HashSet<>(aPostings.get(0));
+        aPostings.subList(1, aPostings.size()).forEach(aCandidates::retainAll);
+        return aCandidates;
+    }
+
+    private Document<T> unindex(final String aId) {
+        final var aDocument = this.documents.remove(aId);
+
+        if (aDocument != null) {
+            gramsOf(aDocument.fields()).forEach(gram -> {
+                final var aPosting = this.postings.get(gram);
+                aPosting.remove(aId);
+                if (aPosting.isEmpty()) {
+                    this.postings.remove(gram);
+                }
+            });
+        }
+
+        return aDocument;
+    }
+
+    // grams never span two fields, the like search does not either
+    private static Set<String> gramsOf(final List<String> aFields) {
+        final var aGrams = new HashSet<String>();
+
+        aFields.forEach(field -> {
+            for (int i = 0; i + GRAM_LENGTH <= field.length(); i++) {
+                aGrams.add(field.substring(i, i + GRAM_LENGTH));
+            }
+        });
+
+        return aGrams;
+    }
+
+    private static String normalize(final String aValue) {
+        return aValue.toUpperCase(Locale.ROOT);
+    }
+
+    private record Document<T>(T item, List<String> fields, long sequence) {
+
+        boolean contains(final String aTerm) {
+            return this.fields.stream().anyMatch(field -> field.contains(aTerm));
+        }
+    }
+}
@@ -0,0 +1,2 @@
+DROP INDEX idx_accounts_created_at_id ON accounts;
+DROP INDEX idx_accounts_first_name_id ON accounts;
\ No newline at end of file
@@ -0,0 +1,2 @@
+CREATE INDEX idx_accounts_first_name_id ON accounts (first_name, account_id);
+CREATE INDEX idx_accounts_created_at_id ON accounts (created_at, account_id);
\ No newline at end of file
@@ -1,8 +1,9 @@
 package com.kaua.ecommerce.users.application.role.retrieve.get;
 
-import com.kaua.ecommerce.users.IntegrationTest;
+import com.kaua.ecommerce.users.CacheGatewayTest;
 import com.kaua.ecommerce.users.application.usecases.role.retrieve.get.GetRoleByIdCommand;
 import com.kaua.ecommerce.users.application.usecases.role.retrieve.get.GetRoleByIdUseCase;
+import com.kaua.ecommerce.users.config.CacheTestConfiguration;
 import com.kaua.ecommerce.users.domain.exceptions.NotFoundException;
 import com.kaua.ecommerce.users.domain.permissions.Permission;
 import com.kaua.ecommerce.users.domain.roles.Role;
@@ -11,6 +12,8 @@ import com.kaua.ecommerce.users.domain.roles.RolePermission;
 import com.kaua.ecommerce.users.domain.roles.RoleTypes;
 import com.kaua.ecommerce.users.infrastructure.permissions.persistence.PermissionJpaEntity;
 import com.kaua.ecommerce.users.infrastructure.permissions.persistence.PermissionJpaRepository;
+import com.kaua.ecommerce.users.infrastructure.roles.RoleMySQLGateway;
+import com.kaua.ecommerce.users.infrastructure.roles.persistence.RoleCacheRepository;
 import com.kaua.ecommerce.users.infrastructure.roles.persistence.RoleJpaEntity;
 import com.kaua.ecommerce.users.infrastructure.roles.persistence.RoleJpaRepository;
 import org.junit.jupiter.api.Assertions;
@@ -19,8 +22,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 
 import java.util.Set;
 
-@IntegrationTest
-public class GetRoleByIdUseCaseIT {
+@CacheGatewayTest
+public class GetRoleByIdUseCaseIT extends CacheTestConfiguration {
 
     @Autowired
     private GetRoleByIdUseCase getRoleByIdUseCase;
@@ -31,6 +34,12 @@ public class GetRoleByIdUseCaseIT {
     @Autowired
     private PermissionJpaRepository permissionRepository;
 
+    @Autowired
+    private RoleCacheRepository roleCacheRepository;
+
+    @Autowired
+    private RoleMySQLGateway roleGateway;
+
     @Test
     void givenAValidId_whenCallGetRoleById_shouldReturnRole() {
         final var aPermisson = Permission.newPermission("create-user", null);
@@ -71,4 +80,43 @@ public class GetRoleByIdUseCaseIT {
 
         Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
     }
+
+    @Test
+    void givenACachedRole_whenCallGetRoleById_shouldMatchTheDatabaseResponse() {
+        final var aPermisson = Permission.newPermission("create-user", null);
+        final var aRole = Role.newRole("ceo", "Chief Executive Officer", RoleTypes.EMPLOYEES, false);
+        aRole.addPermissions(Set.of(RolePermission.newRolePermission(aPermisson.getId(), aPermisson.getName())));
+
+        final var aId = aRole.getId().getValue();
+
+        permissionRepository.saveAndFlush(PermissionJpaEntity.toEntity(aPermisson));
+        roleRepository.saveAndFlush(RoleJpaEntity.toEntity(aRole));
+
+        Assertions.assertEquals(0, roleCacheRepository.count());
+
+        final var aUncachedRole = this.getRoleByIdUseCase.execute(GetRoleByIdCommand.with(aId));
+
+        Assertions.assertEquals(1, roleCacheRepository.count());
+        Assertions.assertEquals(aPermisson.getId().getValue(), roleCacheRepository.findById(aId).get()
+                .getRolePermissions().iterator().next().getPermissionID().getValue());
+
+        final var aCachedRole = this.getRoleByIdUseCase.execute(GetRoleByIdCommand.with(aId));
+
+        Assertions.assertEquals(aUncachedRole, aCachedRole);
+    }
+
+    @Test
+    void givenACachedRole_whenRoleIsUpdated_shouldReturnTheUpdatedRole() {
+        final var aRole = Role.newRole("ceo", null, RoleTypes.EMPLOYEES, false);
+        final var aId = aRole.getId().getValue();
+
+        roleRepository.saveAndFlush(RoleJpaEntity.toEntity(aRole));
+
+        Assertions.assertEquals("ceo", this.getRoleByIdUseCase.execute(GetRoleByIdCommand.with(aId)).name());
+
+        roleGateway.update(aRole.update("cto", null, RoleTypes.EMPLOYEES, false, null));
+
+        Assertions.assertEquals(0, roleCacheRepository.count());
+        Assertions.assertEquals("cto", this.getRoleByIdUseCase.execute(GetRoleByIdCommand.with(aId)).name());
+    }
 }
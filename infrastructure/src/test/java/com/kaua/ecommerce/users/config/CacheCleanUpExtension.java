@@ -1,8 +1,11 @@
 package com.kaua.ecommerce.users.config;
 
 import com.kaua.ecommerce.users.infrastructure.accounts.persistence.AccountCacheRepository;
+import com.kaua.ecommerce.users.infrastructure.accounts.persistence.RedisAccountEmailIndex;
+import com.kaua.ecommerce.users.infrastructure.roles.persistence.RoleCacheRepository;
 import org.junit.jupiter.api.extension.BeforeEachCallback;
 import org.junit.jupiter.api.extension.ExtensionContext;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
@@ -16,8 +19,12 @@ public class CacheCleanUpExtension implements BeforeEachCallback {
         final var appContext = SpringExtension.getApplicationContext(context);
 
         cleanUp(List.of(
-                appContext.getBean(AccountCacheRepository.class)
+                appContext.getBean(AccountCacheRepository.class),
+                appContext.getBean(RoleCacheRepository.class)
         ));
+
+        final var aRedisTemplate = appContext.getBean(StringRedisTemplate.class);
+        aRedisTemplate.delete(aRedisTemplate.keys(RedisAccountEmailIndex.KEY_PREFIX + "*"));
     }
 
     private void cleanUp(final Collection<CrudRepository> repositories) {
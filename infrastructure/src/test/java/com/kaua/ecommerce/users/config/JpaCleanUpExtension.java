@@ -1,8 +1,12 @@
 package com.kaua.ecommerce.users.config;
 
+import com.kaua.ecommerce.users.infrastructure.accounts.AccountEmailFilter;
 import com.kaua.ecommerce.users.infrastructure.accounts.mail.persistence.AccountMailJpaRepository;
 import com.kaua.ecommerce.users.infrastructure.accounts.persistence.AccountJpaRepository;
+import com.kaua.ecommerce.users.infrastructure.cache.ApproximateCountCache;
+import com.kaua.ecommerce.users.infrastructure.permissions.PermissionMySQLGateway;
 import com.kaua.ecommerce.users.infrastructure.permissions.persistence.PermissionJpaRepository;
+import com.kaua.ecommerce.users.infrastructure.roles.RoleMySQLGateway;
 import com.kaua.ecommerce.users.infrastructure.roles.persistence.RoleJpaRepository;
 import org.junit.jupiter.api.extension.BeforeEachCallback;
 import org.junit.jupiter.api.extension.ExtensionContext;
@@ -24,6 +28,13 @@ public class JpaCleanUpExtension implements BeforeEachCallback {
                 appContext.getBean(RoleJpaRepository.class),
                 appContext.getBean(PermissionJpaRepository.class)
         ));
+
+        // the default role, the search indexes, the permission catalog and the email filter are held in memory across the rolled back test transactions
+        appContext.getBean(RoleMySQLGateway.class).evictDefaultRole();
+        appContext.getBean(RoleMySQLGateway.class).evictSearchIndex();
+        appContext.getBean(PermissionMySQLGateway.class).evictCatalog();
+        appContext.getBean(AccountEmailFilter.class).reset();
+        appContext.getBean(ApproximateCountCache.class).invalidateAll();
     }
 
     private void cleanUp(final Collection<CrudRepository> repositories) {
@@ -13,12 +13,17 @@ import com.kaua.ecommerce.users.infrastructure.accounts.persistence.AccountCache
 import com.kaua.ecommerce.users.infrastructure.accounts.persistence.AccountCacheRepository;
 import com.kaua.ecommerce.users.infrastructure.permissions.persistence.PermissionJpaEntity;
 import com.kaua.ecommerce.users.infrastructure.permissions.persistence.PermissionJpaRepository;
+import com.kaua.ecommerce.users.infrastructure.roles.persistence.RoleCacheEntity;
+import com.kaua.ecommerce.users.infrastructure.roles.persistence.RoleCacheRepository;
 import com.kaua.ecommerce.users.infrastructure.roles.persistence.RoleJpaEntity;
 import com.kaua.ecommerce.users.infrastructure.roles.persistence.RoleJpaRepository;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 @CacheGatewayTest
@@ -36,6 +41,12 @@ public class AccountCacheGatewayTest extends CacheTestConfiguration {
     @Autowired
     private PermissionJpaRepository permissionRepository;
 
+    @Autowired
+    private RoleCacheRepository roleCacheRepository;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
     @Test
     void givenAValidAccount_whenCallSave_shouldReturnAccountSavedInCache() {
         final var aFirstName = "Fulano";
@@ -81,7 +92,7 @@ public class AccountCacheGatewayTest extends CacheTestConfiguration {
         Assertions.assertEquals(aEmail, actualEntity.getEmail());
         Assertions.assertNull(actualEntity.getAvatarUrl());
         Assertions.assertEquals(aAccount.getMailStatus(), actualEntity.getMailStatus());
-        Assertions.assertEquals(aAccount.getRole().getId().getValue(), actualEntity.getRole().getId());
+        Assertions.assertEquals(aAccount.getRole().getId().getValue(), actualEntity.getRoleId());
         Assertions.assertEquals(aAccount.getCreatedAt(), actualEntity.getCreatedAt());
         Assertions.assertEquals(aAccount.getUpdatedAt(), actualEntity.getUpdatedAt());
     }
@@ -101,6 +112,7 @@ public class AccountCacheGatewayTest extends CacheTestConfiguration {
         Assertions.assertEquals(0, accountRepository.count());
 
         accountRepository.save(AccountCacheEntity.toEntity(aAccount));
+        roleCacheRepository.save(RoleCacheEntity.toEntity(aRole));
 
         Assertions.assertEquals(1, accountRepository.count());
 
@@ -142,6 +154,7 @@ public class AccountCacheGatewayTest extends CacheTestConfiguration {
         Assertions.assertEquals(0, accountRepository.count());
 
         accountRepository.save(AccountCacheEntity.toEntity(aAccount));
+        roleCacheRepository.save(RoleCacheEntity.toEntity(aRole));
 
         Assertions.assertEquals(1, accountRepository.count());
 
@@ -170,7 +183,7 @@ public class AccountCacheGatewayTest extends CacheTestConfiguration {
         Assertions.assertEquals(aEmail, actualEntity.getEmail());
         Assertions.assertEquals(aAvatarUrl, actualEntity.getAvatarUrl());
         Assertions.assertEquals(aAccount.getMailStatus(), actualEntity.getMailStatus());
-        Assertions.assertEquals(aAccount.getRole().getId().getValue(), actualEntity.getRole().getId());
+        Assertions.assertEquals(aAccount.getRole().getId().getValue(), actualEntity.getRoleId());
         Assertions.assertEquals(aAccount.getCreatedAt(), actualEntity.getCreatedAt());
         Assertions.assertEquals(aAccount.getUpdatedAt(), actualEntity.getUpdatedAt());
     }
@@ -207,5 +220,150 @@ public class AccountCacheGatewayTest extends CacheTestConfiguration {
 
         Assertions.assertEquals(0, accountRepository.count());
     }
-}
 
+    @Test
+    void givenAccountsSharingARole_whenCallSave_shouldNotCacheTheirRoleCopy() {
+        final var aRole = Role.newRole("Ceo", null, RoleTypes.EMPLOYEES, false);
+        final var aAccountOne = Account.newAccount("teste", "testes", "one@teste.com", "1234567Ab", aRole);
+        final var aAccountTwo = Account.newAccount("teste", "testes", "two@teste.com", "1234567Ab", aRole);
+
+        accountCacheGateway.save(aAccountOne);
+        accountCacheGateway.save(aAccountTwo);
+
+        Assertions.assertEquals(2, accountRepository.count());
+        Assertions.assertEquals(0, roleCacheRepository.count());
+        Assertions.assertEquals(aRole.getId().getValue(), accountRepository
+                .findById(aAccountOne.getId().getValue()).get().getRoleId());
+    }
+
+    @Test
+    void givenACachedAccountWhoseRoleChangedSince_whenCallGet_shouldCacheAndReturnTheStoredRole() {
+        final var aRole = Role.newRole("Ceo", null, RoleTypes.EMPLOYEES, false);
+        final var aAccount = Account.newAccount("teste", "testes", "testes@teste.com", "1234567Ab", aRole);
+
+        accountCacheGateway.save(aAccount);
+        roleRepository.saveAndFlush(RoleJpaEntity.toEntity(Role.with(
+                aRole.getId().getValue(),
+                "Chief",
+                "Chief executive officer",
+                aRole.getRoleType(),
+                aRole.isDefault(),
+                aRole.getPermissions(),
+                aRole.getCreatedAt(),
+                aRole.getUpdatedAt()
+        )));
+
+        final var actualAccount = accountCacheGateway.get(aAccount.getId().getValue()).get();
+
+        Assertions.assertEquals("Chief", actualAccount.getRole().getName());
+        Assertions.assertEquals(1, roleCacheRepository.count());
+    }
+
+    @Test
+    void givenACachedAccountWithInvalidatedRole_whenCallGet_shouldReturnEmpty() {
+        final var aRole = Role.newRole("Ceo", null, RoleTypes.EMPLOYEES, false);
+        final var aAccount = Account.newAccount("teste", "testes", "testes@teste.com", "1234567Ab", aRole);
+
+        accountCacheGateway.save(aAccount);
+        roleCacheRepository.deleteById(aRole.getId().getValue());
+
+        Assertions.assertEquals(1, accountRepository.count());
+        Assertions.assertTrue(accountCacheGateway.get(aAccount.getId().getValue()).isEmpty());
+    }
+
+    @Test
+    void givenAnEntryWrittenWithAnEmbeddedRole_whenCallGet_shouldReturnEmpty() {
+        redisTemplate.opsForHash().putAll("account:123", Map.of(
+                "id", "123",
+                "firstName", "teste",
+                "lastName", "testes",
+                "email", "testes@teste.com",
+                "mailStatus", "WAITING_CONFIRMATION",
+                "role.id", "456",
+                "role.name", "Ceo",
+                "role.type", "EMPLOYEES"
+        ));
+        redisTemplate.opsForSet().add("account", "123");
+
+        Assertions.assertTrue(accountRepository.findById("123").isPresent());
+        Assertions.assertTrue(accountCacheGateway.get("123").isEmpty());
+        Assertions.assertTrue(accountCacheGateway.getAll(List.of("123")).isEmpty());
+    }
+
+    @Test
+    void givenAccounts_whenCallSaveAllAndGetAll_shouldReturnOnlyCachedAccounts() {
+        final var aRole = Role.newRole("Ceo", null, RoleTypes.EMPLOYEES, false);
+        final var aAccountOne = Account.newAccount("teste", "testes", "one@teste.com", "1234567Ab", aRole);
+        final var aAccountTwo = Account.newAccount("teste", "testes", "two@teste.com", "1234567Ab", aRole);
+        final var aIdOne = aAccountOne.getId().getValue();
+        final var aIdTwo = aAccountTwo.getId().getValue();
+
+        roleRepository.save(RoleJpaEntity.toEntity(aRole));
+        accountCacheGateway.saveAll(List.of(aAccountOne, aAccountTwo));
+
+        final var actualAccounts = accountCacheGateway.getAll(List.of(aIdOne, "123", aIdTwo));
+
+        Assertions.assertEquals(2, accountRepository.count());
+        Assertions.assertEquals(1, roleCacheRepository.count());
+        Assertions.assertEquals(List.of(aIdOne, aIdTwo), List.copyOf(actualAccounts.keySet()));
+        Assertions.assertEquals(aAccountOne.getEmail(), actualAccounts.get(aIdOne).getEmail());
+        Assertions.assertEquals(aRole.getId(), actualAccounts.get(aIdTwo).getRole().getId());
+    }
+
+    @Test
+    void givenCachedAccounts_whenCallDeleteAll_shouldBeDeleted() {
+        final var aRole = Role.newRole("Ceo", null, RoleTypes.EMPLOYEES, false);
+        final var aAccountOne = Account.newAccount("teste", "testes", "one@teste.com", "1234567Ab", aRole);
+        final var aAccountTwo = Account.newAccount("teste", "testes", "two@teste.com", "1234567Ab", aRole);
+
+        accountCacheGateway.saveAll(List.of(aAccountOne, aAccountTwo));
+        accountCacheGateway.deleteAll(List.of(aAccountOne.getId().getValue(), aAccountTwo.getId().getValue()));
+
+        Assertions.assertEquals(0, accountRepository.count());
+    }
+
+    @Test
+    void givenAValidAccount_whenCallSave_shouldIndexItsEmail() {
+        final var aRole = Role.newRole("Ceo", null, RoleTypes.EMPLOYEES, false);
+        final var aAccount = Account.newAccount("teste", "testes", "testes@teste.com", "1234567Ab", aRole);
+        final var aId = aAccount.getId().getValue();
+
+        Assertions.assertTrue(accountCacheGateway.findIdByEmail("testes@teste.com").isEmpty());
+
+        accountCacheGateway.save(aAccount);
+
+        Assertions.assertEquals(aId, accountCacheGateway.findIdByEmail("testes@teste.com").get());
+        Assertions.assertEquals(aId, accountCacheGateway.findIdByEmail("TESTES@teste.com").get());
+    }
+
+    @Test
+    void givenACachedAccount_whenCallDelete_shouldRemoveItsEmail() {
+        final var aRole = Role.newRole("Ceo", null, RoleTypes.EMPLOYEES, false);
+        final var aAccount = Account.newAccount("teste", "testes", "testes@teste.com", "1234567Ab", aRole);
+
+        accountCacheGateway.save(aAccount);
+        accountCacheGateway.delete(aAccount.getId().getValue());
+
+        Assertions.assertTrue(accountCacheGateway.findIdByEmail("testes@teste.com").isEmpty());
+    }
+
+    @Test
+    void givenAccounts_whenCallSaveAllAndDeleteAll_shouldMaintainTheirEmails() {
+        final var aRole = Role.newRole("Ceo", null, RoleTypes.EMPLOYEES, false);
+        final var aAccountOne = Account.newAccount("teste", "testes", "one@teste.com", "1234567Ab", aRole);
+        final var aAccountTwo = Account.newAccount("teste", "testes", "two@teste.com", "1234567Ab", aRole);
+        final var aIdOne = aAccountOne.getId().getValue();
+        final var aIdTwo = aAccountTwo.getId().getValue();
+
+        roleRepository.save(RoleJpaEntity.toEntity(aRole));
+        accountCacheGateway.saveAll(List.of(aAccountOne, aAccountTwo));
+
+        Assertions.assertEquals(aIdOne, accountCacheGateway.findIdByEmail("one@teste.com").get());
+        Assertions.assertEquals(aIdTwo, accountCacheGateway.findIdByEmail("two@teste.com").get());
+
+        accountCacheGateway.deleteAll(List.of(aIdOne, aIdTwo));
+
+        Assertions.assertTrue(accountCacheGateway.findIdByEmail("one@teste.com").isEmpty());
+        Assertions.assertTrue(accountCacheGateway.findIdByEmail("two@teste.com").isEmpty());
+    }
+}
@@ -0,0 +1,57 @@
+package com.kaua.ecommerce.users.infrastructure.account;
+
+import com.kaua.ecommerce.users.infrastructure.accounts.AccountEmailFilter;
+import com.kaua.ecommerce.users.infrastructure.accounts.persistence.AccountJpaRepository;
+import com.kaua.ecommerce.users.infrastructure.configurations.properties.cache.BloomFilterProperties;
+import com.kaua.ecommerce.users.infrastructure.services.local.InMemoryCacheInvalidationService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+public class AccountEmailFilterTest {
+
+    private AccountJpaRepository accountJpaRepository;
+    private InMemoryCacheInvalidationService cacheInvalidationService;
+    private AccountEmailFilter target;
+
+    @BeforeEach
+    void setUp() {
+        final var aProperties = new BloomFilterProperties();
+        aProperties.setInitialCapacity(100);
+        aProperties.setFalsePositiveProbability(0.01);
+        aProperties.setRebuildDeletedRatio(0.2);
+
+        this.accountJpaRepository = Mockito.mock(AccountJpaRepository.class);
+        this.cacheInvalidationService = new InMemoryCacheInvalidationService();
+        this.target = new AccountEmailFilter(
+                this.accountJpaRepository,
+                this.cacheInvalidationService,
+                new TransactionTemplate(Mockito.mock(PlatformTransactionManager.class)),
+                Runnable::run,
+                aProperties,
+                new SimpleMeterRegistry()
+        );
+
+        Mockito.when(this.accountJpaRepository.streamAllEmails())
+                .thenAnswer(invocation -> IntStream.range(0, 10).mapToObj(i -> "teste" + i + "@teste.com"));
+        this.target.seed();
+    }
+
+    @Test
+    void givenDeletesFromEveryNode_whenTheyPassTheRatio_shouldRebuildTheFilter() {
+        this.target.deleted("1");
+        this.cacheInvalidationService.publish(AccountEmailFilter.DELETED_CACHE_NAME, List.of("2"));
+
+        Mockito.verify(this.accountJpaRepository, Mockito.times(1)).streamAllEmails();
+
+        this.cacheInvalidationService.publish(AccountEmailFilter.DELETED_CACHE_NAME, List.of("3"));
+
+        Mockito.verify(this.accountJpaRepository, Mockito.times(2)).streamAllEmails();
+    }
+}
@@ -3,18 +3,23 @@ package com.kaua.ecommerce.users.infrastructure.account;
 import com.kaua.ecommerce.users.IntegrationTest;
 import com.kaua.ecommerce.users.domain.accounts.Account;
 import com.kaua.ecommerce.users.domain.accounts.AccountID;
+import com.kaua.ecommerce.users.domain.pagination.CursorSearchQuery;
 import com.kaua.ecommerce.users.domain.pagination.SearchQuery;
 import com.kaua.ecommerce.users.domain.roles.Role;
 import com.kaua.ecommerce.users.domain.roles.RoleTypes;
+import com.kaua.ecommerce.users.infrastructure.accounts.AccountEmailFilter;
 import com.kaua.ecommerce.users.infrastructure.accounts.AccountMySQLGateway;
 import com.kaua.ecommerce.users.infrastructure.accounts.persistence.AccountJpaEntity;
 import com.kaua.ecommerce.users.infrastructure.accounts.persistence.AccountJpaRepository;
 import com.kaua.ecommerce.users.infrastructure.roles.persistence.RoleJpaEntity;
 import com.kaua.ecommerce.users.infrastructure.roles.persistence.RoleJpaRepository;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 
 @IntegrationTest
@@ -29,6 +34,12 @@ public class AccountMySQLGatewayTest {
     @Autowired
     private RoleJpaRepository roleRepository;
 
+    @Autowired
+    private AccountEmailFilter accountEmailFilter;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     @Test
     void givenAValidAccount_whenCallCreate_shouldReturnANewAccount() {
         final var aFirstName = "Fulano";
@@ -140,6 +151,36 @@ public class AccountMySQLGatewayTest {
         Assertions.assertTrue(actualAccount.isEmpty());
     }
 
+    @Test
+    void givenAnUnknownAccountIdLookedUpBefore_whenCallFindById_shouldAnswerFromTombstone() {
+        final var aRole = Role.newRole("Ceo", null, RoleTypes.EMPLOYEES, false);
+        final var aAccount = Account.newAccount("Fulano", "Silva", "teste@teste.com", "1234567Ab", aRole);
+        final var aId = aAccount.getId().getValue();
+
+        roleRepository.saveAndFlush(RoleJpaEntity.toEntity(aRole));
+
+        Assertions.assertTrue(accountGateway.findById(aId).isEmpty());
+
+        accountRepository.saveAndFlush(AccountJpaEntity.toEntity(aAccount));
+
+        Assertions.assertTrue(accountGateway.findById(aId).isEmpty());
+    }
+
+    @Test
+    void givenAnUnknownAccountIdLookedUpBefore_whenCallCreate_shouldClearTombstone() {
+        final var aRole = Role.newRole("Ceo", null, RoleTypes.EMPLOYEES, false);
+        final var aAccount = Account.newAccount("Fulano", "Silva", "teste@teste.com", "1234567Ab", aRole);
+        final var aId = aAccount.getId().getValue();
+
+        roleRepository.saveAndFlush(RoleJpaEntity.toEntity(aRole));
+
+        Assertions.assertTrue(accountGateway.findById(aId).isEmpty());
+
+        accountGateway.create(aAccount);
+
+        Assertions.assertTrue(accountGateway.findById(aId).isPresent());
+    }
+
     @Test
     void givenAValidAccount_whenCallUpdate_shouldReturnAUpdatedAccount() {
         final var aFirstName = "Fulano";
@@ -461,4 +502,122 @@ public class AccountMySQLGatewayTest {
 
         Assertions.assertEquals(aAccountOne.getId(), aResult.items().get(0).getId());
     }
+
+    @Test
+    void givenASeededEmailFilter_whenCallExistsByEmailWithAnUnknownEmail_shouldSkipTheDatabase() {
+        final var aRole = Role.newRole("Ceo", null, RoleTypes.EMPLOYEES, false);
+        final var aAccount = Account.newAccount("Fulano", "Silva", "teste@teste.com", "1234567Ab", aRole);
+
+        roleRepository.saveAndFlush(RoleJpaEntity.toEntity(aRole));
+        accountRepository.saveAndFlush(AccountJpaEntity.toEntity(aAccount));
+
+        accountEmailFilter.seed();
+
+        Assertions.assertTrue(accountEmailFilter.isReady());
+        Assertions.assertTrue(accountGateway.existsByEmail("teste@teste.com"));
+
+        // rows written behind the gateway are invisible to the filter
+        final var aOtherAccount = Account.newAccount("Fulano", "Silva", "outro@teste.com", "1234567Ab", aRole);
+        accountRepository.saveAndFlush(AccountJpaEntity.toEntity(aOtherAccount));
+
+        Assertions.assertFalse(accountGateway.existsByEmail("outro@teste.com"));
+    }
+
+    @Test
+    void givenASeededEmailFilter_whenCallCreate_shouldAddTheEmail() {
+        final var aRole = Role.newRole("Ceo", null, RoleTypes.EMPLOYEES, false);
+        final var aAccount = Account.newAccount("Fulano", "Silva", "teste@teste.com", "1234567Ab", aRole);
+
+        roleRepository.saveAndFlush(RoleJpaEntity.toEntity(aRole));
+        accountEmailFilter.seed();
+
+        Assertions.assertFalse(accountGateway.existsByEmail("teste@teste.com"));
+
+        accountGateway.create(aAccount);
+
+        Assertions.assertTrue(accountGateway.existsByEmail("teste@teste.com"));
+    }
+
+    @Test
+    void givenASeededEmailFilter_whenCallDeleteById_shouldCountFalsePositives() {
+        final var aRole = Role.newRole("Ceo", null, RoleTypes.EMPLOYEES, false);
+        final var aAccount = Account.newAccount("Fulano", "Silva", "teste@teste.com", "1234567Ab", aRole);
+
+        roleRepository.saveAndFlush(RoleJpaEntity.toEntity(aRole));
+        accountRepository.saveAndFlush(AccountJpaEntity.toEntity(aAccount));
+        accountEmailFilter.seed();
+
+        final var aFalsePositives = meterRegistry.get("account.email.filter.false.positives").counter().count();
+
+        accountGateway.deleteById(aAccount.getId().getValue());
+
+        Assertions.assertFalse(accountGateway.existsByEmail("teste@teste.com"));
+        Assertions.assertEquals(aFalsePositives + 1,
+                meterRegistry.get("account.email.filter.false.positives").counter().count());
+    }
+
+    @Test
+    void givenAnEmailFilterNotSeeded_whenCallExistsByEmail_shouldQueryTheDatabase() {
+        final var aRole = Role.newRole("Ceo", null, RoleTypes.EMPLOYEES, false);
+        final var aAccount = Account.newAccount("Fulano", "Silva", "teste@teste.com", "1234567Ab", aRole);
+
+        roleRepository.saveAndFlush(RoleJpaEntity.toEntity(aRole));
+        accountRepository.saveAndFlush(AccountJpaEntity.toEntity(aAccount));
+
+        Assertions.assertFalse(accountEmailFilter.isReady());
+        Assertions.assertTrue(accountGateway.existsByEmail("teste@teste.com"));
+    }
+
+    @Test
+    void givenPrePersistedAccounts_whenCallFindAllByCursorSortedByCreatedAt_shouldFollowCursorUntilLastPage() {
+        final var aRole = Role.newRole("Ceo", null, RoleTypes.EMPLOYEES, false);
+        roleRepository.save(RoleJpaEntity.toEntity(aRole));
+
+        final var aAccounts = List.of(
+                Account.newAccount("one", "ones", "one.ones@test.com", "1234567Ab*", aRole),
+                Account.newAccount("two", "twos", "two.twos@test.com", "1234567Ab*", aRole),
+                Account.newAccount("three", "threes", "three.threes@test.com", "1234567Ab*", aRole)
+        );
+
+        accountRepository.saveAllAndFlush(aAccounts.stream().map(AccountJpaEntity::toEntity).toList());
+
+        final var aExpectedIds = accountRepository.findAll().stream()
+                .sorted(Comparator.comparing(AccountJpaEntity::getCreatedAt).thenComparing(AccountJpaEntity::getId))
+                .map(AccountJpaEntity::getId)
+                .toList();
+
+        final var aActualIds = new ArrayList<String>();
+        var aCursor = "";
+        var aPages = 0;
+
+        do {
+            final var aResult = accountGateway.findAll(new CursorSearchQuery(aCursor, 2, "", "createdAt", "asc"));
+            aResult.items().forEach(account -> aActualIds.add(account.getId().getValue()));
+            aCursor = aResult.nextCursor();
+            aPages++;
+        } while (aCursor != null);
+
+        Assertions.assertEquals(2, aPages);
+        Assertions.assertEquals(aExpectedIds, aActualIds);
+    }
+
+    @Test
+    void givenACachedTotal_whenAccountsAreInsertedOutsideTheGateway_shouldServeTheCachedTotalUntilTheLastPage() {
+        final var aRole = Role.newRole("Ceo", null, RoleTypes.EMPLOYEES, false);
+        roleRepository.save(RoleJpaEntity.toEntity(aRole));
+
+        accountRepository.saveAllAndFlush(List.of(
+                AccountJpaEntity.toEntity(Account.newAccount("one", "ones", "one.ones@test.com", "1234567Ab*", aRole)),
+                AccountJpaEntity.toEntity(Account.newAccount("two", "twos", "two.twos@test.com", "1234567Ab*", aRole)),
+                AccountJpaEntity.toEntity(Account.newAccount("three", "threes", "three.threes@test.com", "1234567Ab*", aRole))
+        ));
+
+        Assertions.assertEquals(3, accountGateway.findAll(new SearchQuery(0, 1, "", "firstName", "asc")).totalItems());
+
+        accountRepository.saveAndFlush(AccountJpaEntity.toEntity(
+                Account.newAccount("four", "fours", "four.fours@test.com", "1234567Ab*", aRole)));
+
+        Assertions.assertEquals(3, accountGateway.findAll(new SearchQuery(0, 1, "", "firstName", "asc")).totalItems());
+        Assertions.assertEquals(4, accountGateway.findAll(new SearchQuery(3, 1, "", "firstName", "asc")).totalItems());
+    }
 }
@@ -0,0 +1,65 @@
+package com.kaua.ecommerce.users.infrastructure.account;
+
+import com.kaua.ecommerce.users.domain.accounts.Account;
+import com.kaua.ecommerce.users.domain.roles.Role;
+import com.kaua.ecommerce.users.domain.roles.RoleTypes;
+import com.kaua.ecommerce.users.infrastructure.accounts.persistence.AccountCacheEntity;
+import com.kaua.ecommerce.users.infrastructure.accounts.persistence.InMemoryAccountCacheStore;
+import com.kaua.ecommerce.users.infrastructure.cache.BoundedMemoryStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.List;
+
+public class InMemoryAccountCacheStoreTest {
+
+    private InMemoryAccountCacheStore target;
+
+    @BeforeEach
+    void setUp() {
+        this.target = new InMemoryAccountCacheStore(new BoundedMemoryStore<>(
+                "account.memory",
+                DataSize.ofMegabytes(1),
+                value -> value.length,
+                new SimpleMeterRegistry()
+        ));
+    }
+
+    @Test
+    void givenASavedEntity_whenCallFindById_shouldReturnACopy() {
+        final var aEntity = AccountCacheEntity.toEntity(newAccount("teste@teste.com"), Duration.ofMinutes(1));
+
+        this.target.save(aEntity);
+
+        final var aActual = this.target.findById(aEntity.getId()).get();
+
+        Assertions.assertNotSame(aEntity, aActual);
+        Assertions.assertEquals(aEntity.getId(), aActual.getId());
+        Assertions.assertEquals(aEntity.getEmail(), aActual.getEmail());
+        Assertions.assertEquals(aEntity.getRoleId(), aActual.getRoleId());
+        Assertions.assertEquals(aEntity.getExpiresAt(), aActual.getExpiresAt());
+    }
+
+    @Test
+    void givenSavedEntities_whenCallFindAllByIdAndDeleteAllById_shouldReadAndRemoveThem() {
+        final var aFirst = AccountCacheEntity.toEntity(newAccount("first@teste.com"), Duration.ofMinutes(1));
+        final var aSecond = AccountCacheEntity.toEntity(newAccount("second@teste.com"), Duration.ofMinutes(1));
+
+        this.target.saveAll(List.of(aFirst, aSecond));
+
+        Assertions.assertEquals(2, this.target.findAllById(List.of(aFirst.getId(), aSecond.getId(), "missing")).size());
+
+        this.target.deleteAllById(List.of(aFirst.getId(), aSecond.getId()));
+
+        Assertions.assertTrue(this.target.findAllById(List.of(aFirst.getId(), aSecond.getId())).isEmpty());
+    }
+
+    private static Account newAccount(final String aEmail) {
+        final var aRole = Role.newRole("Ceo", null, RoleTypes.EMPLOYEES, false);
+        return Account.newAccount("teste", "testes", aEmail, "1234567Ab*", aRole);
+    }
+}
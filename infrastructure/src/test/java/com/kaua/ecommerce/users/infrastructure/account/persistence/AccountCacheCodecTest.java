@@ -0,0 +1,83 @@
+package com.kaua.ecommerce.users.infrastructure.account.persistence;
+
+import com.kaua.ecommerce.users.domain.accounts.Account;
+import com.kaua.ecommerce.users.domain.roles.Role;
+import com.kaua.ecommerce.users.domain.roles.RoleTypes;
+import com.kaua.ecommerce.users.infrastructure.accounts.persistence.AccountCacheCodec;
+import com.kaua.ecommerce.users.infrastructure.accounts.persistence.AccountCacheEntity;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+public class AccountCacheCodecTest {
+
+    @Test
+    void givenAValidAccount_whenCallEncodeAndDecode_shouldReturnSameAccount() {
+        final var aRole = Role.newRole("Ceo", "Chief", RoleTypes.EMPLOYEES, true);
+        final var aAccount = Account.newAccount("Fulano", "Silva", "teste@teste.com", "1234567Ab", aRole)
+                .changeAvatarUrl("https://avatar.com/teste.png");
+        final var aEntity = AccountCacheEntity.toEntity(aAccount);
+
+        final var actualEntity = AccountCacheCodec.decode(AccountCacheCodec.encode(aEntity)).get();
+
+        Assertions.assertEquals(aEntity.getId(), actualEntity.getId());
+        Assertions.assertEquals(aEntity.getFirstName(), actualEntity.getFirstName());
+        Assertions.assertEquals(aEntity.getLastName(), actualEntity.getLastName());
+        Assertions.assertEquals(aEntity.getEmail(), actualEntity.getEmail());
+        Assertions.assertEquals(aEntity.getMailStatus(), actualEntity.getMailStatus());
+        Assertions.assertEquals(aEntity.getAvatarUrl(), actualEntity.getAvatarUrl());
+        Assertions.assertEquals(aRole.getId().getValue(), actualEntity.getRoleId());
+        Assertions.assertEquals(aEntity.getCreatedAt(), actualEntity.getCreatedAt());
+        Assertions.assertEquals(aEntity.getUpdatedAt(), actualEntity.getUpdatedAt());
+    }
+
+    @Test
+    void givenAnAccountWithNullableFields_whenCallEncodeAndDecode_shouldKeepNulls() {
+        final var aRole = Role.newRole("Ceo", null, RoleTypes.COMMON, false);
+        final var aAccount = Account.newAccount("Fulano", "Silva", "teste@teste.com", "1234567Ab", aRole);
+
+        final var actualEntity = AccountCacheCodec.decode(AccountCacheCodec
+                .encode(AccountCacheEntity.toEntity(aAccount))).get();
+
+        Assertions.assertNull(actualEntity.getAvatarUrl());
+        Assertions.assertNull(actualEntity.getCachedAt());
+        Assertions.assertNull(actualEntity.getTtl());
+    }
+
+    @Test
+    void givenAnAccountWithTtl_whenCallEncodeAndDecode_shouldKeepExpiry() {
+        final var aRole = Role.newRole("Ceo", null, RoleTypes.COMMON, false);
+        final var aAccount = Account.newAccount("Fulano", "Silva", "teste@teste.com", "1234567Ab", aRole);
+        final var aEntity = AccountCacheEntity.toEntity(aAccount, Duration.ofHours(1));
+
+        final var actualEntity = AccountCacheCodec.decode(AccountCacheCodec.encode(aEntity)).get();
+
+        Assertions.assertEquals(aEntity.getCachedAt(), actualEntity.getCachedAt());
+        Assertions.assertEquals(3600L, actualEntity.getTtl());
+        Assertions.assertEquals(aEntity.getCachedAt().plusSeconds(3600), actualEntity.getExpiresAt());
+    }
+
+    @Test
+    void givenAnUnknownVersion_whenCallDecode_shouldReturnEmpty() {
+        final var aRole = Role.newRole("Ceo", null, RoleTypes.COMMON, false);
+        final var aValue = AccountCacheCodec.encode(AccountCacheEntity.toEntity(
+                Account.newAccount("Fulano", "Silva", "teste@teste.com", "1234567Ab", aRole)));
+        aValue[0] = AccountCacheCodec.VERSION + 1;
+
+        Assertions.assertTrue(AccountCacheCodec.decode(aValue).isEmpty());
+    }
+
+    @Test
+    void givenANullOrEmptyValue_whenCallDecode_shouldReturnEmpty() {
+        Assertions.assertTrue(AccountCacheCodec.decode(null).isEmpty());
+        Assertions.assertTrue(AccountCacheCodec.decode(new byte[0]).isEmpty());
+    }
+
+    @Test
+    void givenACorruptedValue_whenCallDecode_shouldReturnEmpty() {
+        final var aValue = new byte[] { AccountCacheCodec.VERSION, 0 };
+
+        Assertions.assertTrue(AccountCacheCodec.decode(aValue).isEmpty());
+    }
+}
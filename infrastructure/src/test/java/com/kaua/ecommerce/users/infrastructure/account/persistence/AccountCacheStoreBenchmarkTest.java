@@ -0,0 +1,112 @@
+package com.kaua.ecommerce.users.infrastructure.account.persistence;
+
+import com.kaua.ecommerce.users.CacheGatewayTest;
+import com.kaua.ecommerce.users.config.CacheTestConfiguration;
+import com.kaua.ecommerce.users.domain.accounts.Account;
+import com.kaua.ecommerce.users.domain.permissions.PermissionID;
+import com.kaua.ecommerce.users.domain.roles.Role;
+import com.kaua.ecommerce.users.domain.roles.RolePermission;
+import com.kaua.ecommerce.users.domain.roles.RoleTypes;
+import com.kaua.ecommerce.users.infrastructure.accounts.persistence.AccountCacheEntity;
+import com.kaua.ecommerce.users.infrastructure.accounts.persistence.AccountCacheRepository;
+import com.kaua.ecommerce.users.infrastructure.accounts.persistence.AccountCacheStore;
+import com.kaua.ecommerce.users.infrastructure.accounts.persistence.BinaryAccountCacheStore;
+import com.kaua.ecommerce.users.infrastructure.accounts.persistence.RedisHashAccountCacheStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+// excluded from the test task, ./gradlew :infrastructure:benchmark logs bytes/entry and ns/read for both stores
+@Tag("benchmark")
+@CacheGatewayTest
+public class AccountCacheStoreBenchmarkTest extends CacheTestConfiguration {
+
+    private static final Logger log = LoggerFactory.getLogger(AccountCacheStoreBenchmarkTest.class);
+
+    private static final int ENTRIES = 200;
+    private static final int READ_ROUNDS = 5;
+    private static final RedisScript<Long> MEMORY_USAGE =
+            RedisScript.of("return redis.call('MEMORY', 'USAGE', KEYS[1])", Long.class);
+
+    @Autowired
+    private AccountCacheRepository accountCacheRepository;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @Test
+    void givenTheSameAccounts_whenCompareHashAndBinaryStores_shouldBinaryUseLessMemory() {
+        final var aAccounts = newAccounts();
+
+        final var aHashBytes = measureBytesPerEntry(
+                new RedisHashAccountCacheStore(accountCacheRepository), aAccounts, "account:");
+        final var aBinaryBytes = measureBytesPerEntry(
+                new BinaryAccountCacheStore(redisTemplate, new SimpleMeterRegistry()), aAccounts, "account:bin:");
+
+        final var aHashReadNanos = measureReadNanos(
+                new RedisHashAccountCacheStore(accountCacheRepository), aAccounts);
+        final var aBinaryReadNanos = measureReadNanos(
+                new BinaryAccountCacheStore(redisTemplate, new SimpleMeterRegistry()), aAccounts);
+
+        log.info("Account cache store benchmark ({} entries): hash={} bytes/entry, {} ns/read; binary={} bytes/entry, {} ns/read",
+                ENTRIES, aHashBytes, aHashReadNanos, aBinaryBytes, aBinaryReadNanos);
+
+        Assertions.assertTrue(aBinaryBytes < aHashBytes);
+    }
+
+    private long measureBytesPerEntry(
+            final AccountCacheStore aStore,
+            final List<Account> aAccounts,
+            final String aKeyPrefix
+    ) {
+        aAccounts.forEach(account -> aStore.save(AccountCacheEntity.toEntity(account)));
+
+        final var aTotal = aAccounts.stream()
+                .mapToLong(account -> memoryUsage(aKeyPrefix + account.getId().getValue()))
+                .sum();
+
+        return aTotal / aAccounts.size();
+    }
+
+    private long measureReadNanos(final AccountCacheStore aStore, final List<Account> aAccounts) {
+        final var aIds = aAccounts.stream().map(account -> account.getId().getValue()).toList();
+
+        // warm up connection and mapping code paths before timing
+        aIds.forEach(aStore::findById);
+
+        final var aStart = System.nanoTime();
+        for (int i = 0; i < READ_ROUNDS; i++) {
+            aIds.forEach(id -> Assertions.assertTrue(aStore.findById(id).isPresent()));
+        }
+        return (System.nanoTime() - aStart) / ((long) READ_ROUNDS * aIds.size());
+    }
+
+    private long memoryUsage(final String aKey) {
+        final var aUsage = redisTemplate.execute(MEMORY_USAGE, List.of(aKey));
+        return aUsage == null ? 0 : aUsage;
+    }
+
+    private static List<Account> newAccounts() {
+        final var aRole = Role.newRole("Ceo", "Chief executive", RoleTypes.EMPLOYEES, false);
+        aRole.addPermissions(IntStream.range(0, 10)
+                .mapToObj(i -> RolePermission.newRolePermission(PermissionID.unique(), "permission-" + i))
+                .collect(Collectors.toSet()));
+
+        final var aAccounts = new ArrayList<Account>(ENTRIES);
+        for (int i = 0; i < ENTRIES; i++) {
+            aAccounts.add(Account.newAccount("Fulano", "Silva", "teste" + i + "@teste.com", "1234567Ab", aRole));
+        }
+        return aAccounts;
+    }
+}
@@ -0,0 +1,157 @@
+package com.kaua.ecommerce.users.infrastructure.account.persistence;
+
+import com.kaua.ecommerce.users.config.AmqpTestConfiguration;
+import com.kaua.ecommerce.users.infrastructure.Main;
+import com.kaua.ecommerce.users.infrastructure.accounts.persistence.AccountJpaEntity;
+import com.kaua.ecommerce.users.infrastructure.accounts.persistence.AccountJpaRepository;
+import com.kaua.ecommerce.users.infrastructure.utils.SpecificationUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+// excluded from the test task, ./gradlew :infrastructure:benchmark logs ms/search for the like and fulltext searches per table size
+@Tag("benchmark")
+@Testcontainers
+@ActiveProfiles("test")
+@SpringBootTest(classes = { Main.class, AmqpTestConfiguration.class })
+public class AccountSearchBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(AccountSearchBenchmarkTest.class);
+
+    private static final int[] TABLE_SIZES = { 10_000, 50_000, 200_000 };
+    private static final int INSERT_BATCH_SIZE = 1_000;
+    private static final int SEARCH_ROUNDS = 20;
+    private static final List<String> TERMS = List.of("lano123", "silva");
+    private static final List<String> LAST_NAMES = List.of("Silva", "Souza", "Oliveira", "Santos", "Pereira");
+
+    // the ngram fulltext index is mysql only, the h2 test schema cannot serve match against
+    @Container
+    private static final GenericContainer<?> mysql = new GenericContainer<>(
+            DockerImageName.parse("mysql:8.0"))
+            .withEnv("MYSQL_ROOT_PASSWORD", "123456")
+            .withEnv("MYSQL_DATABASE", "ecommerce_users")
+            .withExposedPorts(3306)
+            .waitingFor(Wait.forLogMessage(".*ready for connections.*port: 3306.*", 1));
+
+    @DynamicPropertySource
+    public static void mysqlProperties(final DynamicPropertyRegistry propertySources) {
+        propertySources.add("spring.datasource.driver-class-name", () -> "com.mysql.cj.jdbc.Driver");
+        propertySources.add("spring.datasource.url", () -> "jdbc:mysql://%s:%d/ecommerce_users?rewriteBatchedStatements=true"
+                .formatted(mysql.getHost(), mysql.getFirstMappedPort()));
+        propertySources.add("spring.flyway.locations", () -> "classpath:db/dev/migration,classpath:db/dev/vendor/mysql");
+    }
+
+    @Autowired
+    private AccountJpaRepository accountJpaRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void givenGrowingAccountTables_whenCompareLikeAndFullTextSearch_shouldFindTheSameAccounts() {
+        final var aRoleId = insertRole();
+        var aInserted = 0;
+
+        for (final var aTableSize : TABLE_SIZES) {
+            insertAccounts(aRoleId, aInserted, aTableSize);
+            aInserted = aTableSize;
+
+            for (final var aTerm : TERMS) {
+                final var aLike = SpecificationUtils.<AccountJpaEntity>like("firstName", aTerm)
+                        .or(SpecificationUtils.<AccountJpaEntity>like("lastName", aTerm)
+                                .or(SpecificationUtils.like("email", aTerm)));
+                final var aMatch = SpecificationUtils.<AccountJpaEntity>match(aTerm, "firstName", "lastName", "email");
+
+                final var aLikeTotal = this.accountJpaRepository.findAll(aLike, firstPage()).getTotalElements();
+                final var aMatchTotal = this.accountJpaRepository.findAll(aMatch, firstPage()).getTotalElements();
+
+                log.info("Account search benchmark ({} rows, '{}', {} matches): like={} ms/search, fulltext={} ms/search",
+                        aTableSize, aTerm, aLikeTotal, medianMillis(aLike), medianMillis(aMatch));
+
+                Assertions.assertEquals(aLikeTotal, aMatchTotal);
+            }
+        }
+    }
+
+    // a sorted first page with its count, as the offset listing runs it
+    private double medianMillis(final Specification<AccountJpaEntity> aSpecification) {
+        final var aNanos = new long[SEARCH_ROUNDS];
+
+        // warm up the statement and the buffer pool before timing
+        this.accountJpaRepository.findAll(aSpecification, firstPage());
+
+        for (int i = 0; i < SEARCH_ROUNDS; i++) {
+            final var aStart = System.nanoTime();
+            this.accountJpaRepository.findAll(aSpecification, firstPage());
+            aNanos[i] = System.nanoTime() - aStart;
+        }
+
+        Arrays.sort(aNanos);
+        return aNanos[SEARCH_ROUNDS / 2] / 1_000_000.0;
+    }
+
+    private String insertRole() {
+        final var aRoleId = UUID.randomUUID().toString();
+        final var aNow = Timestamp.from(Instant.now());
+
+        this.jdbcTemplate.update(
+                "INSERT INTO roles (id, name, description, role_type, is_default, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?)",
+                aRoleId, "Customer", null, "COMMON", true, aNow, aNow
+        );
+        return aRoleId;
+    }
+
+    private void insertAccounts(final String aRoleId, final int aFrom, final int aTo) {
+        final var aNow = Timestamp.from(Instant.now());
+        final var aRows = new ArrayList<Object[]>(INSERT_BATCH_SIZE);
+
+        for (int i = aFrom; i < aTo; i++) {
+            aRows.add(new Object[]{
+                    UUID.randomUUID().toString(),
+                    "Fulano" + i,
+                    LAST_NAMES.get(i % LAST_NAMES.size()),
+                    "user" + i + "@teste.com",
+                    "1234567Ab",
+                    "CONFIRMED",
+                    aRoleId,
+                    aNow,
+                    aNow
+            });
+
+            if (aRows.size() == INSERT_BATCH_SIZE || i == aTo - 1) {
+                this.jdbcTemplate.batchUpdate(
+                        "INSERT INTO accounts (account_id, first_name, last_name, email, password, mail_status, role_id, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                        aRows
+                );
+                aRows.clear();
+            }
+        }
+    }
+
+    private static PageRequest firstPage() {
+        return PageRequest.of(0, 10, Sort.by(Sort.Direction.ASC, "firstName"));
+    }
+}
@@ -0,0 +1,124 @@
+package com.kaua.ecommerce.users.infrastructure.account.persistence;
+
+import com.kaua.ecommerce.users.CacheGatewayTest;
+import com.kaua.ecommerce.users.config.CacheTestConfiguration;
+import com.kaua.ecommerce.users.domain.accounts.Account;
+import com.kaua.ecommerce.users.domain.roles.Role;
+import com.kaua.ecommerce.users.domain.roles.RoleTypes;
+import com.kaua.ecommerce.users.infrastructure.accounts.persistence.AccountCacheCodec;
+import com.kaua.ecommerce.users.infrastructure.accounts.persistence.AccountCacheEntity;
+import com.kaua.ecommerce.users.infrastructure.accounts.persistence.BinaryAccountCacheStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.List;
+
+@CacheGatewayTest
+public class BinaryAccountCacheStoreTest extends CacheTestConfiguration {
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private BinaryAccountCacheStore accountCacheStore;
+
+    @BeforeEach
+    void setUp() {
+        this.meterRegistry = new SimpleMeterRegistry();
+        this.accountCacheStore = new BinaryAccountCacheStore(redisTemplate, meterRegistry);
+    }
+
+    @Test
+    void givenAValidAccount_whenCallSave_shouldStoreASingleExpiringKey() {
+        final var aAccount = newAccount("teste@teste.com");
+        final var aKey = "account:bin:" + aAccount.getId();
+
+        accountCacheStore.save(aAccount);
+
+        final var actualAccount = accountCacheStore.findById(aAccount.getId()).get();
+
+        Assertions.assertEquals(aAccount.getId(), actualAccount.getId());
+        Assertions.assertEquals(aAccount.getEmail(), actualAccount.getEmail());
+        Assertions.assertEquals(aAccount.getRoleId(), actualAccount.getRoleId());
+        Assertions.assertEquals(Boolean.TRUE, redisTemplate.hasKey(aKey));
+        Assertions.assertTrue(redisTemplate.getExpire(aKey) > 0);
+    }
+
+    @Test
+    void givenAValidAccount_whenCallSaveAndFindById_shouldRecordPayloadSizes() {
+        final var aAccount = newAccount("teste@teste.com");
+        final var aPayloadSize = AccountCacheCodec.encode(aAccount).length;
+
+        accountCacheStore.save(aAccount);
+        accountCacheStore.findById(aAccount.getId());
+        accountCacheStore.findById("123");
+
+        final var actualWrite = meterRegistry.get("cache.payload.size").tag("operation", "write").summary();
+        final var actualRead = meterRegistry.get("cache.payload.size").tag("operation", "read").summary();
+
+        Assertions.assertEquals(1, actualWrite.count());
+        Assertions.assertEquals(aPayloadSize, actualWrite.totalAmount());
+        Assertions.assertEquals(1, actualRead.count());
+        Assertions.assertEquals(aPayloadSize, actualRead.totalAmount());
+    }
+
+    @Test
+    void givenAnInvalidId_whenCallFindById_shouldReturnEmpty() {
+        Assertions.assertTrue(accountCacheStore.findById("123").isEmpty());
+    }
+
+    @Test
+    void givenAPrePersistedAccount_whenCallDeleteById_shouldBeDeleted() {
+        final var aAccount = newAccount("teste@teste.com");
+
+        accountCacheStore.save(aAccount);
+        accountCacheStore.deleteById(aAccount.getId());
+
+        Assertions.assertTrue(accountCacheStore.findById(aAccount.getId()).isEmpty());
+    }
+
+    @Test
+    void givenAccounts_whenCallSaveAllAndFindAllById_shouldReturnOnlyStoredAccounts() {
+        final var aAccountOne = newAccount("one@teste.com");
+        final var aAccountTwo = newAccount("two@teste.com");
+
+        accountCacheStore.saveAll(List.of(aAccountOne, aAccountTwo));
+
+        final var actualAccounts = accountCacheStore.findAllById(
+                List.of(aAccountOne.getId(), "123", aAccountTwo.getId()));
+
+        Assertions.assertEquals(List.of(aAccountOne.getId(), aAccountTwo.getId()),
+                List.copyOf(actualAccounts.keySet()));
+        Assertions.assertEquals("two@teste.com", actualAccounts.get(aAccountTwo.getId()).getEmail());
+        Assertions.assertTrue(redisTemplate.getExpire("account:bin:" + aAccountOne.getId()) > 0);
+    }
+
+    @Test
+    void givenStoredAccounts_whenCallDeleteAllById_shouldBeDeleted() {
+        final var aAccountOne = newAccount("one@teste.com");
+        final var aAccountTwo = newAccount("two@teste.com");
+
+        accountCacheStore.saveAll(List.of(aAccountOne, aAccountTwo));
+        accountCacheStore.deleteAllById(List.of(aAccountOne.getId(), aAccountTwo.getId()));
+
+        Assertions.assertTrue(accountCacheStore.findAllById(
+                List.of(aAccountOne.getId(), aAccountTwo.getId())).isEmpty());
+    }
+
+    @Test
+    void givenNoIds_whenCallBatchOperations_shouldDoNothing() {
+        Assertions.assertDoesNotThrow(() -> accountCacheStore.saveAll(List.of()));
+        Assertions.assertTrue(accountCacheStore.findAllById(List.of()).isEmpty());
+        Assertions.assertDoesNotThrow(() -> accountCacheStore.deleteAllById(List.of()));
+    }
+
+    private static AccountCacheEntity newAccount(final String aEmail) {
+        final var aRole = Role.newRole("Ceo", null, RoleTypes.EMPLOYEES, false);
+        return AccountCacheEntity.toEntity(Account.newAccount("Fulano", "Silva", aEmail, "1234567Ab", aRole));
+    }
+}
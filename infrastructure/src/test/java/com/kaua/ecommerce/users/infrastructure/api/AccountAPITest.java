@@ -10,7 +10,9 @@ import com.kaua.ecommerce.users.application.usecases.account.delete.DeleteAccoun
 import com.kaua.ecommerce.users.application.usecases.account.retrieve.get.GetAccountByIdCommand;
 import com.kaua.ecommerce.users.application.usecases.account.retrieve.get.GetAccountByIdOutput;
 import com.kaua.ecommerce.users.application.usecases.account.retrieve.get.GetAccountByIdUseCase;
+import com.kaua.ecommerce.users.application.usecases.account.retrieve.list.ListAccountsByCursorUseCase;
 import com.kaua.ecommerce.users.application.usecases.account.retrieve.list.ListAccountsOutput;
+import com.kaua.ecommerce.users.application.usecases.account.retrieve.list.ListAccountsSliceUseCase;
 import com.kaua.ecommerce.users.application.usecases.account.retrieve.list.ListAccountsUseCase;
 import com.kaua.ecommerce.users.application.usecases.account.update.avatar.UpdateAvatarCommand;
 import com.kaua.ecommerce.users.application.usecases.account.update.avatar.UpdateAvatarOutput;
@@ -21,8 +23,11 @@ import com.kaua.ecommerce.users.application.usecases.account.update.role.UpdateA
 import com.kaua.ecommerce.users.config.ApiTest;
 import com.kaua.ecommerce.users.domain.accounts.Account;
 import com.kaua.ecommerce.users.domain.exceptions.NotFoundException;
+import com.kaua.ecommerce.users.domain.pagination.CursorPagination;
+import com.kaua.ecommerce.users.domain.pagination.CursorSearchQuery;
 import com.kaua.ecommerce.users.domain.pagination.Pagination;
 import com.kaua.ecommerce.users.domain.pagination.SearchQuery;
+import com.kaua.ecommerce.users.domain.pagination.SlicePagination;
 import com.kaua.ecommerce.users.domain.roles.Role;
 import com.kaua.ecommerce.users.domain.roles.RoleTypes;
 import com.kaua.ecommerce.users.domain.utils.RandomStringUtils;
@@ -80,6 +85,12 @@ public class AccountAPITest {
     @MockBean
     private ListAccountsUseCase listAccountsUseCase;
 
+    @MockBean
+    private ListAccountsByCursorUseCase listAccountsByCursorUseCase;
+
+    @MockBean
+    private ListAccountsSliceUseCase listAccountsSliceUseCase;
+
     @Test
     void givenAValidCommand_whenCallCreateAccount_thenShouldReturnAnAccountId() throws Exception {
         // given
@@ -945,4 +956,91 @@ public class AccountAPITest {
                         Objects.equals(aTerms, query.terms())
         ));
     }
+
+    @Test
+    void givenAValidCursor_whenCallListAccountsByCursor_shouldReturnAccountsAndNextCursor() throws Exception {
+        final var aRole = Role.newRole("User", "Common User", RoleTypes.COMMON, true);
+        final var aItem = Account.newAccount("fulano", "teste", "fulano.teste@test.com", "12345677Ab*", aRole);
+
+        final var aCursor = "eyJzb3J0IjoibmFtZSJ9";
+        final var aNextCursor = "eyJzb3J0IjoibmFtZSIsImRpcmVjdGlvbiI6ImFzYyJ9";
+        final var aPerPage = 1;
+        final var aTerms = "";
+        final var aSort = "firstName";
+        final var aDirection = "asc";
+        final var aItems = List.of(ListAccountsOutput.from(aItem));
+
+        Mockito.when(listAccountsByCursorUseCase.execute(Mockito.any(CursorSearchQuery.class)))
+                .thenReturn(new CursorPagination<>(aNextCursor, aPerPage, aItems));
+
+        final var request = MockMvcRequestBuilders.get("/accounts")
+                .queryParam("cursor", aCursor)
+                .queryParam("perPage", String.valueOf(aPerPage))
+                .queryParam("sort", aSort)
+                .queryParam("dir", aDirection)
+                .with(ApiTest.ADMIN_JWT)
+                .accept(MediaType.APPLICATION_JSON)
+                .contentType(MediaType.APPLICATION_JSON);
+
+        this.mvc.perform(request)
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.nextCursor", equalTo(aNextCursor)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.perPage", equalTo(aPerPage)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.items", hasSize(aItems.size())))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.items[0].id", equalTo(aItem.getId().getValue())))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.items[0].first_name", equalTo(aItem.getFirstName())));
+
+        Mockito.verify(listAccountsByCursorUseCase, Mockito.times(1)).execute(argThat(query ->
+                Objects.equals(aCursor, query.cursor()) &&
+                        Objects.equals(aPerPage, query.perPage()) &&
+                        Objects.equals(aSort, query.sort()) &&
+                        Objects.equals(aDirection, query.direction()) &&
+                        Objects.equals(aTerms, query.terms())));
+        Mockito.verify(listAccountsUseCase, Mockito.never()).execute(Mockito.any());
+    }
+
+    @Test
+    void givenAValidParams_whenCallListAccountsSlice_shouldReturnAccountsWithoutTotals() throws Exception {
+        final var aRole = Role.newRole("User", "Common User", RoleTypes.COMMON, true);
+        final var aItem = Account.newAccount("fulano", "teste", "fulano.teste@test.com", "12345677Ab*", aRole);
+
+        final var aPage = 2;
+        final var aPerPage = 1;
+        final var aTerms = "";
+        final var aSort = "firstName";
+        final var aDirection = "asc";
+        final var aItems = List.of(ListAccountsOutput.from(aItem));
+
+        Mockito.when(listAccountsSliceUseCase.execute(Mockito.any(SearchQuery.class)))
+                .thenReturn(new SlicePagination<>(aPage, aPerPage, true, aItems));
+
+        final var request = MockMvcRequestBuilders.get("/accounts")
+                .queryParam("slice", "true")
+                .queryParam("page", String.valueOf(aPage))
+                .queryParam("perPage", String.valueOf(aPerPage))
+                .queryParam("sort", aSort)
+                .queryParam("dir", aDirection)
+                .with(ApiTest.ADMIN_JWT)
+                .accept(MediaType.APPLICATION_JSON)
+                .contentType(MediaType.APPLICATION_JSON);
+
+        this.mvc.perform(request)
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.currentPage", equalTo(aPage)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.perPage", equalTo(aPerPage)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.hasNext", equalTo(true)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.totalItems").doesNotExist())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.items", hasSize(aItems.size())))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.items[0].id", equalTo(aItem.getId().getValue())));
+
+        Mockito.verify(listAccountsSliceUseCase, Mockito.times(1)).execute(argThat(query ->
+                Objects.equals(aPage, query.page()) &&
+                        Objects.equals(aPerPage, query.perPage()) &&
+                        Objects.equals(aSort, query.sort()) &&
+                        Objects.equals(aDirection, query.direction()) &&
+                        Objects.equals(aTerms, query.terms())));
+        Mockito.verify(listAccountsUseCase, Mockito.never()).execute(Mockito.any());
+    }
 }
@@ -0,0 +1,75 @@
+package com.kaua.ecommerce.users.infrastructure.api;
+
+import com.kaua.ecommerce.users.ControllerTest;
+import com.kaua.ecommerce.users.config.ApiTest;
+import com.kaua.ecommerce.users.infrastructure.cache.CacheWarmUpJob;
+import com.kaua.ecommerce.users.infrastructure.cache.CacheWarmUpStatus;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultHandlers;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import java.time.Instant;
+
+import static org.hamcrest.Matchers.equalTo;
+
+@ControllerTest(controllers = CacheAPI.class)
+public class CacheAPITest {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @MockBean
+    private CacheWarmUpJob cacheWarmUpJob;
+
+    @Test
+    void givenNoRunningWarmUp_whenCallStartWarmUp_thenShouldReturnAccepted() throws Exception {
+        // given
+        Mockito.when(cacheWarmUpJob.start())
+                .thenReturn(CacheWarmUpStatus.running(Instant.now()));
+
+        // when
+        final var request = MockMvcRequestBuilders.post("/cache/warm-up")
+                .with(ApiTest.ADMIN_JWT);
+
+        final var response = this.mvc.perform(request)
+                .andDo(MockMvcResultHandlers.print());
+
+        // then
+        response.andExpect(MockMvcResultMatchers.status().isAccepted())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.state", equalTo("RUNNING")));
+
+        Mockito.verify(cacheWarmUpJob, Mockito.times(1)).start();
+    }
+
+    @Test
+    void givenACompletedWarmUp_whenCallGetWarmUp_thenShouldReturnProgress() throws Exception {
+        // given
+        final var aStartedAt = Instant.parse("2023-10-01T10:00:00Z");
+        final var aStatus = CacheWarmUpStatus.running(aStartedAt)
+                .withTotal(1000)
+                .withWarmed(1000)
+                .completed(aStartedAt.plusSeconds(2));
+
+        Mockito.when(cacheWarmUpJob.getStatus()).thenReturn(aStatus);
+
+        // when
+        final var request = MockMvcRequestBuilders.get("/cache/warm-up")
+                .with(ApiTest.ADMIN_JWT);
+
+        final var response = this.mvc.perform(request)
+                .andDo(MockMvcResultHandlers.print());
+
+        // then
+        response.andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.state", equalTo("COMPLETED")))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.warmed_accounts", equalTo(1000)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.total_accounts", equalTo(1000)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.accounts_per_second", equalTo(500.0)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.finished_at", equalTo("2023-10-01T10:00:02Z")));
+    }
+}
@@ -10,15 +10,20 @@ import com.kaua.ecommerce.users.application.usecases.permission.delete.DeletePer
 import com.kaua.ecommerce.users.application.usecases.permission.retrieve.get.GetPermissionByIdCommand;
 import com.kaua.ecommerce.users.application.usecases.permission.retrieve.get.GetPermissionByIdOutput;
 import com.kaua.ecommerce.users.application.usecases.permission.retrieve.get.GetPermissionByIdUseCase;
+import com.kaua.ecommerce.users.application.usecases.permission.retrieve.list.ListPermissionsByCursorUseCase;
 import com.kaua.ecommerce.users.application.usecases.permission.retrieve.list.ListPermissionsOutput;
+import com.kaua.ecommerce.users.application.usecases.permission.retrieve.list.ListPermissionsSliceUseCase;
 import com.kaua.ecommerce.users.application.usecases.permission.retrieve.list.ListPermissionsUseCase;
 import com.kaua.ecommerce.users.application.usecases.permission.update.UpdatePermissionCommand;
 import com.kaua.ecommerce.users.application.usecases.permission.update.UpdatePermissionOutput;
 import com.kaua.ecommerce.users.application.usecases.permission.update.UpdatePermissionUseCase;
 import com.kaua.ecommerce.users.config.ApiTest;
 import com.kaua.ecommerce.users.domain.exceptions.NotFoundException;
+import com.kaua.ecommerce.users.domain.pagination.CursorPagination;
+import com.kaua.ecommerce.users.domain.pagination.CursorSearchQuery;
 import com.kaua.ecommerce.users.domain.pagination.Pagination;
 import com.kaua.ecommerce.users.domain.pagination.SearchQuery;
+import com.kaua.ecommerce.users.domain.pagination.SlicePagination;
 import com.kaua.ecommerce.users.domain.permissions.Permission;
 import com.kaua.ecommerce.users.domain.utils.RandomStringUtils;
 import com.kaua.ecommerce.users.domain.validation.Error;
@@ -68,6 +73,12 @@ public class PermissionAPITest {
     @MockBean
     private ListPermissionsUseCase listPermissionsUseCase;
 
+    @MockBean
+    private ListPermissionsByCursorUseCase listPermissionsByCursorUseCase;
+
+    @MockBean
+    private ListPermissionsSliceUseCase listPermissionsSliceUseCase;
+
     @Test
     void givenAValidCommandWithDescription_whenCallCreatePermission_thenShouldReturnAnPermissionId() throws Exception {
         // given
@@ -565,4 +576,89 @@ public class PermissionAPITest {
                         Objects.equals(aTerms, query.terms())
         ));
     }
+
+    @Test
+    void givenAValidCursor_whenCallListPermissionsByCursor_shouldReturnPermissionsAndNextCursor() throws Exception {
+        final var aItem = Permission.newPermission("create-role", "Create a new role");
+
+        final var aCursor = "eyJzb3J0IjoibmFtZSJ9";
+        final var aNextCursor = "eyJzb3J0IjoibmFtZSIsImRpcmVjdGlvbiI6ImFzYyJ9";
+        final var aPerPage = 1;
+        final var aTerms = "";
+        final var aSort = "name";
+        final var aDirection = "asc";
+        final var aItems = List.of(ListPermissionsOutput.from(aItem));
+
+        Mockito.when(listPermissionsByCursorUseCase.execute(Mockito.any(CursorSearchQuery.class)))
+                .thenReturn(new CursorPagination<>(aNextCursor, aPerPage, aItems));
+
+        final var request = MockMvcRequestBuilders.get("/permissions")
+                .queryParam("cursor", aCursor)
+                .queryParam("perPage", String.valueOf(aPerPage))
+                .queryParam("sort", aSort)
+                .queryParam("dir", aDirection)
+                .with(ApiTest.ADMIN_JWT)
+                .accept(MediaType.APPLICATION_JSON)
+                .contentType(MediaType.APPLICATION_JSON);
+
+        this.mvc.perform(request)
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.nextCursor", equalTo(aNextCursor)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.perPage", equalTo(aPerPage)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.items", hasSize(aItems.size())))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.items[0].id", equalTo(aItem.getId().getValue())))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.items[0].name", equalTo(aItem.getName())));
+
+        Mockito.verify(listPermissionsByCursorUseCase, Mockito.times(1)).execute(argThat(query ->
+                Objects.equals(aCursor, query.cursor()) &&
+                        Objects.equals(aPerPage, query.perPage()) &&
+                        Objects.equals(aSort, query.sort()) &&
+                        Objects.equals(aDirection, query.direction()) &&
+                        Objects.equals(aTerms, query.terms())));
+        Mockito.verify(listPermissionsUseCase, Mockito.never()).execute(Mockito.any());
+    }
+
+    @Test
+    void givenAValidParams_whenCallListPermissionsSlice_shouldReturnPermissionsWithoutTotals() throws Exception {
+        final var aItem = Permission.newPermission("create-role", "Create a new role");
+
+        final var aPage = 2;
+        final var aPerPage = 1;
+        final var aTerms = "";
+        final var aSort = "name";
+        final var aDirection = "asc";
+        final var aItems = List.of(ListPermissionsOutput.from(aItem));
+
+        Mockito.when(listPermissionsSliceUseCase.execute(Mockito.any(SearchQuery.class)))
+                .thenReturn(new SlicePagination<>(aPage, aPerPage, true, aItems));
+
+        final var request = MockMvcRequestBuilders.get("/permissions")
+                .queryParam("slice", "true")
+                .queryParam("page", String.valueOf(aPage))
+                .queryParam("perPage", String.valueOf(aPerPage))
+                .queryParam("sort", aSort)
+                .queryParam("dir", aDirection)
+                .with(ApiTest.ADMIN_JWT)
+                .accept(MediaType.APPLICATION_JSON)
+                .contentType(MediaType.APPLICATION_JSON);
+
+        this.mvc.perform(request)
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.currentPage", equalTo(aPage)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.perPage", equalTo(aPerPage)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.hasNext", equalTo(true)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.totalItems").doesNotExist())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.items", hasSize(aItems.size())))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.items[0].id", equalTo(aItem.getId().getValue())));
+
+        Mockito.verify(listPermissionsSliceUseCase, Mockito.times(1)).execute(argThat(query ->
+                Objects.equals(aPage, query.page()) &&
+                        Objects.equals(aPerPage, query.perPage()) &&
+                        Objects.equals(aSort, query.sort()) &&
+                        Objects.equals(aDirection, query.direction()) &&
+                        Objects.equals(aTerms, query.terms())));
+        Mockito.verify(listPermissionsUseCase, Mockito.never()).execute(Mockito.any());
+    }
 }
@@ -12,15 +12,20 @@ import com.kaua.ecommerce.users.application.usecases.role.remove.RemoveRolePermi
 import com.kaua.ecommerce.users.application.usecases.role.retrieve.get.GetRoleByIdCommand;
 import com.kaua.ecommerce.users.application.usecases.role.retrieve.get.GetRoleByIdOutput;
 import com.kaua.ecommerce.users.application.usecases.role.retrieve.get.GetRoleByIdUseCase;
+import com.kaua.ecommerce.users.application.usecases.role.retrieve.list.ListRolesByCursorUseCase;
 import com.kaua.ecommerce.users.application.usecases.role.retrieve.list.ListRolesOutput;
+import com.kaua.ecommerce.users.application.usecases.role.retrieve.list.ListRolesSliceUseCase;
 import com.kaua.ecommerce.users.application.usecases.role.retrieve.list.ListRolesUseCase;
 import com.kaua.ecommerce.users.application.usecases.role.update.UpdateRoleCommand;
 import com.kaua.ecommerce.users.application.usecases.role.update.UpdateRoleOutput;
 import com.kaua.ecommerce.users.application.usecases.role.update.UpdateRoleUseCase;
 import com.kaua.ecommerce.users.config.ApiTest;
 import com.kaua.ecommerce.users.domain.exceptions.NotFoundException;
+import com.kaua.ecommerce.users.domain.pagination.CursorPagination;
+import com.kaua.ecommerce.users.domain.pagination.CursorSearchQuery;
 import com.kaua.ecommerce.users.domain.pagination.Pagination;
 import com.kaua.ecommerce.users.domain.pagination.SearchQuery;
+import com.kaua.ecommerce.users.domain.pagination.SlicePagination;
 import com.kaua.ecommerce.users.domain.permissions.PermissionID;
 import com.kaua.ecommerce.users.domain.roles.Role;
 import com.kaua.ecommerce.users.domain.roles.RolePermission;
@@ -75,6 +80,12 @@ public class RoleAPITest {
     @MockBean
     private ListRolesUseCase listRolesUseCase;
 
+    @MockBean
+    private ListRolesByCursorUseCase listRolesByCursorUseCase;
+
+    @MockBean
+    private ListRolesSliceUseCase listRolesSliceUseCase;
+
     @MockBean
     private RemoveRolePermissionUseCase removeRolePermissionUseCase;
 
@@ -1113,4 +1124,89 @@ public class RoleAPITest {
                         Objects.equals(aRolePermissionName, cmd.permissionName())
         ));
     }
+
+    @Test
+    void givenAValidCursor_whenCallListRolesByCursor_shouldReturnRolesAndNextCursor() throws Exception {
+        final var aItem = Role.newRole("User", "Common User", RoleTypes.COMMON, true);
+
+        final var aCursor = "eyJzb3J0IjoibmFtZSJ9";
+        final var aNextCursor = "eyJzb3J0IjoibmFtZSIsImRpcmVjdGlvbiI6ImFzYyJ9";
+        final var aPerPage = 1;
+        final var aTerms = "";
+        final var aSort = "name";
+        final var aDirection = "asc";
+        final var aItems = List.of(ListRolesOutput.from(aItem));
+
+        Mockito.when(listRolesByCursorUseCase.execute(Mockito.any(CursorSearchQuery.class)))
+                .thenReturn(new CursorPagination<>(aNextCursor, aPerPage, aItems));
+
+        final var request = MockMvcRequestBuilders.get("/roles")
+                .queryParam("cursor", aCursor)
+                .queryParam("perPage", String.valueOf(aPerPage))
+                .queryParam("sort", aSort)
+                .queryParam("dir", aDirection)
+                .with(ApiTest.ADMIN_JWT)
+                .accept(MediaType.APPLICATION_JSON)
+                .contentType(MediaType.APPLICATION_JSON);
+
+        this.mvc.perform(request)
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.nextCursor", equalTo(aNextCursor)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.perPage", equalTo(aPerPage)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.items", hasSize(aItems.size())))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.items[0].id", equalTo(aItem.getId().getValue())))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.items[0].name", equalTo(aItem.getName())));
+
+        Mockito.verify(listRolesByCursorUseCase, Mockito.times(1)).execute(argThat(query ->
+                Objects.equals(aCursor, query.cursor()) &&
+                        Objects.equals(aPerPage, query.perPage()) &&
+                        Objects.equals(aSort, query.sort()) &&
+                        Objects.equals(aDirection, query.direction()) &&
+                        Objects.equals(aTerms, query.terms())));
+        Mockito.verify(listRolesUseCase, Mockito.never()).execute(Mockito.any());
+    }
+
+    @Test
+    void givenAValidParams_whenCallListRolesSlice_shouldReturnRolesWithoutTotals() throws Exception {
+        final var aItem = Role.newRole("User", "Common User", RoleTypes.COMMON, true);
+
+        final var aPage = 2;
+        final var aPerPage = 1;
+        final var aTerms = "";
+        final var aSort = "name";
+        final var aDirection = "asc";
+        final var aItems = List.of(ListRolesOutput.from(aItem));
+
+        Mockito.when(listRolesSliceUseCase.execute(Mockito.any(SearchQuery.class)))
+                .thenReturn(new SlicePagination<>(aPage, aPerPage, true, aItems));
+
+        final var request = MockMvcRequestBuilders.get("/roles")
+                .queryParam("slice", "true")
+                .queryParam("page", String.valueOf(aPage))
+                .queryParam("perPage", String.valueOf(aPerPage))
+                .queryParam("sort", aSort)
+                .queryParam("dir", aDirection)
+                .with(ApiTest.ADMIN_JWT)
+                .accept(MediaType.APPLICATION_JSON)
+                .contentType(MediaType.APPLICATION_JSON);
+
+        this.mvc.perform(request)
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.currentPage", equalTo(aPage)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.perPage", equalTo(aPerPage)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.hasNext", equalTo(true)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.totalItems").doesNotExist())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.items", hasSize(aItems.size())))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.items[0].id", equalTo(aItem.getId().getValue())));
+
+        Mockito.verify(listRolesSliceUseCase, Mockito.times(1)).execute(argThat(query ->
+                Objects.equals(aPage, query.page()) &&
+                        Objects.equals(aPerPage, query.perPage()) &&
+                        Objects.equals(aSort, query.sort()) &&
+                        Objects.equals(aDirection, query.direction()) &&
+                        Objects.equals(aTerms, query.terms())));
+        Mockito.verify(listRolesUseCase, Mockito.never()).execute(Mockito.any());
+    }
 }
@@ -0,0 +1,82 @@
+package com.kaua.ecommerce.users.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class ApproximateCountCacheTest {
+
+    private ApproximateCountCache target;
+    private AtomicLong counted;
+
+    @BeforeEach
+    void setUp() {
+        this.target = new ApproximateCountCache(Caffeine.newBuilder().<String, Long>build());
+        this.counted = new AtomicLong();
+    }
+
+    @Test
+    void givenTermsDifferingOnlyInCase_whenCallCount_shouldCountOnce() {
+        Assertions.assertEquals(5, this.target.count("roles", "adm", this::count));
+        Assertions.assertEquals(5, this.target.count("roles", "ADM", this::count));
+
+        Assertions.assertEquals(1, this.counted.get());
+    }
+
+    @Test
+    void givenTermsDifferingOnlyInSpacing_whenCallCount_shouldCountOnce() {
+        this.target.count("accounts", "fulano silva", this::count);
+        this.target.count("accounts", "  fulano   silva ", this::count);
+        this.target.count("accounts", "fulano\tsilva", this::count);
+
+        Assertions.assertEquals(1, this.counted.get());
+    }
+
+    @Test
+    void givenATurkishDefaultLocale_whenCallCountWithTermsDifferingOnlyInCase_shouldCountOnce() {
+        final var aDefaultLocale = Locale.getDefault();
+        Locale.setDefault(Locale.forLanguageTag("tr-TR"));
+
+        try {
+            this.target.count("roles", "admin", this::count);
+            this.target.count("roles", "ADMIN", this::count);
+        } finally {
+            Locale.setDefault(aDefaultLocale);
+        }
+
+        Assertions.assertEquals(1, this.counted.get());
+    }
+
+    @Test
+    void givenBlankTerms_whenCallCount_shouldShareTheUnfilteredCount() {
+        this.target.count("roles", null, this::count);
+        this.target.count("roles", "", this::count);
+        this.target.count("roles", "  ", this::count);
+
+        Assertions.assertEquals(1, this.counted.get());
+    }
+
+    @Test
+    void givenCountsOfTwoScopes_whenCallInvalidate_shouldCountOnlyThatScopeAgain() {
+        this.target.count("roles", "adm", this::count);
+        this.target.count("roles", "", this::count);
+        this.target.count("permissions", "", this::count);
+
+        this.target.invalidate("roles");
+
+        this.target.count("roles", "adm", this::count);
+        this.target.count("roles", "", this::count);
+        this.target.count("permissions", "", this::count);
+
+        Assertions.assertEquals(5, this.counted.get());
+    }
+
+    private long count() {
+        this.counted.incrementAndGet();
+        return 5;
+    }
+}
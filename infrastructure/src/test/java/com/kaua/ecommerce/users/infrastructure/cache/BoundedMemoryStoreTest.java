@@ -0,0 +1,60 @@
+package com.kaua.ecommerce.users.infrastructure.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+public class BoundedMemoryStoreTest {
+
+    @Test
+    void givenAStoredValue_whenCallGet_shouldReturnIt() {
+        final var aStore = newStore(DataSize.ofKilobytes(1));
+
+        aStore.put("1", "value", Duration.ofMinutes(1));
+
+        Assertions.assertEquals("value", aStore.get("1").get());
+        Assertions.assertEquals(Map.of("1", "value"), aStore.getAll(List.of("1", "2")));
+    }
+
+    @Test
+    void givenMoreBytesThanTheMaximumSize_whenCallPut_shouldEvictEntries() {
+        final var aStore = newStore(DataSize.ofKilobytes(1));
+
+        IntStream.range(0, 200).forEach(i -> aStore.put(String.valueOf(i), "0123456789", Duration.ofMinutes(1)));
+        aStore.cleanUp();
+
+        Assertions.assertTrue(aStore.estimatedSize() < 200, "entries: " + aStore.estimatedSize());
+    }
+
+    @Test
+    void givenAnExpiredValue_whenCallGet_shouldReturnEmpty() throws InterruptedException {
+        final var aStore = newStore(DataSize.ofKilobytes(1));
+
+        aStore.put("1", "value", Duration.ofMillis(1));
+        Thread.sleep(10);
+
+        Assertions.assertTrue(aStore.get("1").isEmpty());
+    }
+
+    @Test
+    void givenAStoredValue_whenCallInvalidate_shouldRemoveIt() {
+        final var aStore = newStore(DataSize.ofKilobytes(1));
+
+        aStore.put("1", "value", Duration.ofMinutes(1));
+        aStore.put("2", "value", Duration.ofMinutes(1));
+        aStore.invalidate("1");
+        aStore.invalidateAll(List.of("2"));
+
+        Assertions.assertTrue(aStore.getAll(List.of("1", "2")).isEmpty());
+    }
+
+    private static BoundedMemoryStore<String> newStore(final DataSize aMaximumSize) {
+        return new BoundedMemoryStore<>("test", aMaximumSize, value -> value.length() * 2, new SimpleMeterRegistry());
+    }
+}
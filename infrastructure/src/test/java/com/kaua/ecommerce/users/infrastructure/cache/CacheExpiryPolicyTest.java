@@ -0,0 +1,96 @@
+package com.kaua.ecommerce.users.infrastructure.cache;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+
+public class CacheExpiryPolicyTest {
+
+    @Test
+    void givenAJitter_whenCallNextTtl_shouldReturnTtlWithinJitterRange() {
+        final var aTtl = Duration.ofHours(1);
+        final var aJitter = Duration.ofMinutes(10);
+        final var target = new CacheExpiryPolicy(aTtl, aJitter, 1.0, Duration.ofMillis(500));
+
+        for (int i = 0; i < 1000; i++) {
+            final var actualTtl = target.nextTtl();
+
+            Assertions.assertFalse(actualTtl.compareTo(aTtl) < 0);
+            Assertions.assertFalse(actualTtl.compareTo(aTtl.plus(aJitter)) > 0);
+        }
+    }
+
+    @Test
+    void givenNoJitter_whenCallNextTtl_shouldReturnTtl() {
+        final var aTtl = Duration.ofHours(1);
+        final var target = new CacheExpiryPolicy(aTtl, Duration.ZERO, 1.0, Duration.ofMillis(500));
+
+        Assertions.assertEquals(aTtl, target.nextTtl());
+    }
+
+    @Test
+    void givenAnEntryFarFromExpiry_whenCallShouldRefreshEarly_shouldReturnFalse() {
+        final var target = new CacheExpiryPolicy(Duration.ofDays(1), Duration.ZERO, 1.0, Duration.ofMillis(500));
+        final var aNow = Instant.now();
+
+        Assertions.assertFalse(target.shouldRefreshEarly(aNow.plus(Duration.ofDays(1)), aNow));
+    }
+
+    @Test
+    void givenAnExpiredEntry_whenCallShouldRefreshEarly_shouldReturnTrue() {
+        final var target = new CacheExpiryPolicy(Duration.ofDays(1), Duration.ZERO, 1.0, Duration.ofMillis(500));
+        final var aNow = Instant.now();
+
+        Assertions.assertTrue(target.shouldRefreshEarly(aNow, aNow));
+    }
+
+    @Test
+    void givenAnEntryCloseToExpiry_whenCallShouldRefreshEarlyManyTimes_shouldRefreshOnlySomeReads() {
+        final var target = new CacheExpiryPolicy(Duration.ofDays(1), Duration.ZERO, 1.0, Duration.ofSeconds(1));
+        final var aNow = Instant.now();
+        final var aExpiresAt = aNow.plusSeconds(1);
+
+        var aRefreshes = 0;
+        for (int i = 0; i < 10000; i++) {
+            if (target.shouldRefreshEarly(aExpiresAt, aNow)) {
+                aRefreshes++;
+            }
+        }
+
+        // P(-ln(U) >= 1) = e^-1
+        Assertions.assertTrue(aRefreshes > 3000 && aRefreshes < 4400);
+    }
+
+    @Test
+    void givenTheAccountRecomputeTime_whenCallShouldRefreshEarlyAcrossTheLastHours_shouldRefreshOnlyNearExpiry() {
+        final var target = new CacheExpiryPolicy(Duration.ofDays(1), Duration.ZERO, 1.0, Duration.ofMinutes(10));
+        final var aNow = Instant.now();
+
+        var aNearRefreshes = 0;
+        var aFarRefreshes = 0;
+        for (int i = 0; i < 10000; i++) {
+            if (target.shouldRefreshEarly(aNow.plus(Duration.ofMinutes(5)), aNow)) {
+                aNearRefreshes++;
+            }
+            if (target.shouldRefreshEarly(aNow.plus(Duration.ofHours(2)), aNow)) {
+                aFarRefreshes++;
+            }
+        }
+
+        // e^-0.5 of the reads five minutes before expiry, e^-12 two hours before
+        Assertions.assertTrue(aNearRefreshes > 5500 && aNearRefreshes < 6600);
+        Assertions.assertTrue(aFarRefreshes < 5);
+    }
+
+    @Test
+    void givenEarlyRefreshDisabledOrUnknownExpiry_whenCallShouldRefreshEarly_shouldReturnFalse() {
+        final var aNow = Instant.now();
+        final var aDisabled = new CacheExpiryPolicy(Duration.ofDays(1), Duration.ZERO, 0, Duration.ofSeconds(1));
+        final var aEnabled = new CacheExpiryPolicy(Duration.ofDays(1), Duration.ZERO, 1.0, Duration.ofSeconds(1));
+
+        Assertions.assertFalse(aDisabled.shouldRefreshEarly(aNow, aNow));
+        Assertions.assertFalse(aEnabled.shouldRefreshEarly(null, aNow));
+    }
+}
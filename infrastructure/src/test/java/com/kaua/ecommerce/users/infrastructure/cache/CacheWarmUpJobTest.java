@@ -0,0 +1,150 @@
+package com.kaua.ecommerce.users.infrastructure.cache;
+
+import com.kaua.ecommerce.users.CacheGatewayTest;
+import com.kaua.ecommerce.users.application.gateways.CacheGateway;
+import com.kaua.ecommerce.users.config.CacheTestConfiguration;
+import com.kaua.ecommerce.users.domain.accounts.Account;
+import com.kaua.ecommerce.users.domain.accounts.AccountMailStatus;
+import com.kaua.ecommerce.users.domain.roles.Role;
+import com.kaua.ecommerce.users.domain.roles.RoleTypes;
+import com.kaua.ecommerce.users.domain.utils.IdUtils;
+import com.kaua.ecommerce.users.domain.utils.InstantUtils;
+import com.kaua.ecommerce.users.infrastructure.accounts.persistence.AccountCacheRepository;
+import com.kaua.ecommerce.users.infrastructure.accounts.persistence.AccountJpaEntity;
+import com.kaua.ecommerce.users.infrastructure.accounts.persistence.AccountJpaRepository;
+import com.kaua.ecommerce.users.infrastructure.configurations.properties.cache.CacheWarmUpProperties;
+import com.kaua.ecommerce.users.infrastructure.roles.persistence.RoleCacheRepository;
+import com.kaua.ecommerce.users.infrastructure.roles.persistence.RoleJpaEntity;
+import com.kaua.ecommerce.users.infrastructure.roles.persistence.RoleJpaRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+@CacheGatewayTest
+public class CacheWarmUpJobTest extends CacheTestConfiguration {
+
+    @Autowired
+    private AccountJpaRepository accountJpaRepository;
+
+    @Autowired
+    private RoleJpaRepository roleJpaRepository;
+
+    @Autowired
+    private CacheGateway<Account> accountCacheGateway;
+
+    @Autowired
+    private CacheGateway<Role> roleCacheGateway;
+
+    @Autowired
+    private AccountCacheRepository accountCacheRepository;
+
+    @Autowired
+    private RoleCacheRepository roleCacheRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void givenPersistedAccounts_whenCallStart_shouldWarmUpDefaultRoleAndAccounts() {
+        final var aRole = Role.newRole("User", null, RoleTypes.COMMON, true);
+        roleJpaRepository.save(RoleJpaEntity.toEntity(aRole));
+        persistAccounts(aRole, 3);
+
+        final var aJob = newJob(2, 100);
+
+        Assertions.assertEquals(CacheWarmUpStatus.State.IDLE, aJob.getStatus().state());
+
+        aJob.start();
+
+        final var actualStatus = aJob.getStatus();
+
+        Assertions.assertEquals(CacheWarmUpStatus.State.COMPLETED, actualStatus.state());
+        Assertions.assertEquals(3, actualStatus.warmedAccounts());
+        Assertions.assertEquals(3, actualStatus.totalAccounts());
+        Assertions.assertNotNull(actualStatus.finishedAt());
+        Assertions.assertEquals(3, accountCacheRepository.count());
+        Assertions.assertTrue(roleCacheRepository.findById(aRole.getId().getValue()).isPresent());
+    }
+
+    @Test
+    void givenMoreAccountsThanTheLimit_whenCallStart_shouldWarmUpOnlyTheLimit() {
+        final var aRole = Role.newRole("User", null, RoleTypes.COMMON, true);
+        roleJpaRepository.save(RoleJpaEntity.toEntity(aRole));
+        persistAccounts(aRole, 5);
+
+        final var aJob = newJob(2, 3);
+        aJob.start();
+
+        Assertions.assertEquals(3, aJob.getStatus().warmedAccounts());
+        Assertions.assertEquals(3, aJob.getStatus().totalAccounts());
+        Assertions.assertEquals(3, accountCacheRepository.count());
+    }
+
+    @Test
+    void givenAccountsSharingAnUpdatedAtAcrossPages_whenCallStart_shouldWarmUpEachOnce() {
+        final var aRole = Role.newRole("User", null, RoleTypes.COMMON, true);
+        final var aUpdatedAt = InstantUtils.now();
+        roleJpaRepository.save(RoleJpaEntity.toEntity(aRole));
+
+        for (int i = 0; i < 5; i++) {
+            accountJpaRepository.save(AccountJpaEntity.toEntity(Account.with(
+                    IdUtils.generate(), "Fulano", "Silva", "mesmo" + i + "@teste.com", AccountMailStatus.CONFIRMED,
+                    "1234567Ab", null, aRole, aUpdatedAt, aUpdatedAt, List.of())));
+        }
+
+        final var aJob = newJob(2, 100);
+        aJob.start();
+
+        Assertions.assertEquals(CacheWarmUpStatus.State.COMPLETED, aJob.getStatus().state());
+        Assertions.assertEquals(5, aJob.getStatus().warmedAccounts());
+        Assertions.assertEquals(5, accountCacheRepository.count());
+    }
+
+    @Test
+    void givenARunningWarmUp_whenCallStartAgain_shouldNotStartASecondRun() {
+        final var aTasks = new ArrayList<Runnable>();
+        final var aJob = newJob(2, 100, aTasks::add);
+
+        final var actualFirst = aJob.start();
+        final var actualSecond = aJob.start();
+
+        Assertions.assertEquals(CacheWarmUpStatus.State.RUNNING, actualFirst.state());
+        Assertions.assertSame(actualFirst, actualSecond);
+        Assertions.assertEquals(1, aTasks.size());
+    }
+
+    private void persistAccounts(final Role aRole, final int aCount) {
+        for (int i = 0; i < aCount; i++) {
+            accountJpaRepository.save(AccountJpaEntity.toEntity(Account.newAccount(
+                    "Fulano", "Silva", "teste" + i + "@teste.com", "1234567Ab", aRole)));
+        }
+    }
+
+    private CacheWarmUpJob newJob(final int aPageSize, final long aMaxAccounts) {
+        return newJob(aPageSize, aMaxAccounts, Runnable::run);
+    }
+
+    private CacheWarmUpJob newJob(final int aPageSize, final long aMaxAccounts, final Executor aExecutor) {
+        final var aProperties = new CacheWarmUpProperties();
+        aProperties.setPageSize(aPageSize);
+        aProperties.setMaxAccounts(aMaxAccounts);
+
+        return new CacheWarmUpJob(
+                accountJpaRepository,
+                roleJpaRepository,
+                accountCacheGateway,
+                roleCacheGateway,
+                new TransactionTemplate(transactionManager),
+                aExecutor,
+                aProperties,
+                Clock.systemUTC()
+        );
+    }
+}
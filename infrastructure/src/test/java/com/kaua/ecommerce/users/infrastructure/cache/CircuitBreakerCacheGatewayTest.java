@@ -0,0 +1,198 @@
+package com.kaua.ecommerce.users.infrastructure.cache;
+
+import com.kaua.ecommerce.users.application.gateways.CacheGateway;
+import com.kaua.ecommerce.users.infrastructure.configurations.properties.cache.CircuitBreakerProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public class CircuitBreakerCacheGatewayTest {
+
+    private CacheGateway<String> cacheGateway;
+    private Clock clock;
+    private SimpleMeterRegistry meterRegistry;
+    private CircuitBreakerProperties properties;
+    private CircuitBreakerCacheGateway<String> target;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        this.cacheGateway = Mockito.mock(CacheGateway.class);
+        this.clock = Mockito.mock(Clock.class);
+        this.meterRegistry = new SimpleMeterRegistry();
+
+        this.properties = new CircuitBreakerProperties();
+        this.properties.setFailureThreshold(2);
+        this.properties.setOpenDuration(Duration.ofSeconds(5));
+        this.properties.setMaxPendingInvalidations(2);
+
+        Mockito.when(clock.millis()).thenReturn(0L);
+
+        this.target = new CircuitBreakerCacheGateway<>(
+                "account",
+                this.cacheGateway,
+                value -> value,
+                this.properties,
+                this.clock,
+                this.meterRegistry
+        );
+    }
+
+    @Test
+    void givenAFailingDelegate_whenCallGet_shouldReturnEmptyInsteadOfThrowing() {
+        Mockito.when(cacheGateway.get("1")).thenThrow(new QueryTimeoutException("redis timeout"));
+
+        Assertions.assertTrue(this.target.get("1").isEmpty());
+
+        Assertions.assertEquals(CircuitBreakerCacheGateway.State.CLOSED, this.target.state());
+        Assertions.assertEquals(1, calls("failed"));
+    }
+
+    @Test
+    void givenFailuresReachingTheThreshold_whenCallGet_shouldOpenAndBypassTheDelegate() {
+        Mockito.when(cacheGateway.get("1")).thenThrow(new QueryTimeoutException("redis timeout"));
+
+        this.target.get("1");
+        this.target.get("1");
+        Assertions.assertTrue(this.target.get("1").isEmpty());
+        Assertions.assertTrue(this.target.getAll(List.of("1", "2")).isEmpty());
+
+        Assertions.assertEquals(CircuitBreakerCacheGateway.State.OPEN, this.target.state());
+        Mockito.verify(cacheGateway, Mockito.times(2)).get("1");
+        Mockito.verify(cacheGateway, Mockito.never()).getAll(Mockito.any());
+        Assertions.assertEquals(2, calls("bypassed"));
+        Assertions.assertEquals(2, meterRegistry.get("cache.circuit.state").tag("cache", "account").gauge().value());
+    }
+
+    @Test
+    void givenAnOpenCircuitAfterTheOpenDuration_whenProbeSucceeds_shouldCloseAndEvictWritesMissedWhileOpen() {
+        Mockito.when(cacheGateway.get("1"))
+                .thenThrow(new QueryTimeoutException("redis timeout"))
+                .thenThrow(new QueryTimeoutException("redis timeout"))
+                .thenReturn(Optional.of("1"));
+
+        this.target.get("1");
+        this.target.get("1");
+        this.target.save("2");
+        this.target.delete("3");
+
+        Mockito.when(clock.millis()).thenReturn(5_000L);
+
+        Assertions.assertEquals("1", this.target.get("1").get());
+
+        Assertions.assertEquals(CircuitBreakerCacheGateway.State.CLOSED, this.target.state());
+        Mockito.verify(cacheGateway, Mockito.never()).save(Mockito.any());
+        Mockito.verify(cacheGateway).deleteAll(Mockito.argThat(keys -> keys.size() == 2
+                && keys.containsAll(List.of("2", "3"))));
+    }
+
+    @Test
+    void givenAWriteFailingBelowTheThreshold_whenTheNextCallSucceeds_shouldEvictItWhileClosed() {
+        Mockito.doThrow(new QueryTimeoutException("redis timeout")).when(cacheGateway).delete("2");
+        Mockito.when(cacheGateway.get("1")).thenReturn(Optional.of("1"));
+
+        this.target.delete("2");
+        Assertions.assertEquals(1, meterRegistry.get("cache.circuit.invalidations.pending")
+                .tag("cache", "account").gauge().value());
+
+        Assertions.assertEquals("1", this.target.get("1").get());
+
+        Assertions.assertEquals(CircuitBreakerCacheGateway.State.CLOSED, this.target.state());
+        Mockito.verify(cacheGateway).deleteAll(List.of("2"));
+        Assertions.assertEquals(0, meterRegistry.get("cache.circuit.invalidations.pending")
+                .tag("cache", "account").gauge().value());
+    }
+
+    @Test
+    void givenAnOpenCircuitAfterTheOpenDuration_whenProbeFails_shouldOpenAgain() {
+        Mockito.when(cacheGateway.get("1")).thenThrow(new QueryTimeoutException("redis timeout"));
+
+        this.target.get("1");
+        this.target.get("1");
+
+        Mockito.when(clock.millis()).thenReturn(5_000L);
+        this.target.get("1");
+
+        Mockito.when(clock.millis()).thenReturn(9_000L);
+        this.target.get("1");
+
+        Assertions.assertEquals(CircuitBreakerCacheGateway.State.OPEN, this.target.state());
+        Mockito.verify(cacheGateway, Mockito.times(3)).get("1");
+    }
+
+    @Test
+    void givenAFailingLookupOnTheSameStore_whenCallRead_shouldFallBackAndShareTheCircuit() {
+        Mockito.when(cacheGateway.get("1")).thenThrow(new QueryTimeoutException("redis timeout"));
+
+        this.target.get("1");
+
+        Assertions.assertEquals(Optional.empty(), this.target.read(() -> {
+            throw new QueryTimeoutException("redis timeout");
+        }, Optional::empty));
+
+        Assertions.assertEquals(CircuitBreakerCacheGateway.State.OPEN, this.target.state());
+        Assertions.assertEquals(Optional.empty(), this.target.read(() -> Optional.of("1"), Optional::empty));
+        Assertions.assertEquals(1, calls("bypassed"));
+    }
+
+    @Test
+    void givenAFailingDelegate_whenCallDeleteAll_shouldSwallowAndKeepKeysUpToTheLimit() {
+        Mockito.doThrow(new QueryTimeoutException("redis timeout")).when(cacheGateway).deleteAll(Mockito.any());
+
+        this.target.deleteAll(List.of("1", "2", "3"));
+
+        Assertions.assertEquals(1, meterRegistry.get("cache.circuit.invalidations.dropped")
+                .tag("cache", "account").counter().count());
+        Assertions.assertEquals(2, meterRegistry.get("cache.circuit.invalidations.pending")
+                .tag("cache", "account").gauge().value());
+    }
+
+    @Test
+    void givenDeletesThatDoNotReachTheDelegate_whenCallDelete_shouldHandThemToUnreachedEvictions() {
+        final var aUnreached = new ArrayList<Collection<String>>();
+        final var aTarget = new CircuitBreakerCacheGateway<>(
+                "role",
+                this.cacheGateway,
+                value -> value,
+                this.properties,
+                this.clock,
+                this.meterRegistry,
+                aUnreached::add
+        );
+
+        aTarget.delete("1");
+        Mockito.doThrow(new QueryTimeoutException("redis timeout")).when(cacheGateway).delete("2");
+        aTarget.delete("2");
+        aTarget.delete("2");
+        aTarget.deleteAll(List.of("3", "4"));
+
+        Assertions.assertEquals(CircuitBreakerCacheGateway.State.OPEN, aTarget.state());
+        Assertions.assertEquals(List.of(List.of("2"), List.of("2"), List.of("3", "4")), aUnreached);
+        Mockito.verify(cacheGateway, Mockito.never()).deleteAll(Mockito.any());
+    }
+
+    @Test
+    void givenANonRedisFailure_whenCallGetAll_shouldRethrowAndKeepTheCircuitClosed() {
+        Mockito.when(cacheGateway.getAll(List.of("1"))).thenThrow(new IllegalStateException("bug"));
+
+        Assertions.assertThrows(IllegalStateException.class, () -> this.target.getAll(List.of("1")));
+
+        Assertions.assertEquals(CircuitBreakerCacheGateway.State.CLOSED, this.target.state());
+    }
+
+    private double calls(final String outcome) {
+        return meterRegistry.get("cache.circuit.calls")
+                .tags("cache", "account", "outcome", outcome)
+                .counter().count();
+    }
+}
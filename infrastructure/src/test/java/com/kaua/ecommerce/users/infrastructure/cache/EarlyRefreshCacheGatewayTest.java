@@ -0,0 +1,118 @@
+package com.kaua.ecommerce.users.infrastructure.cache;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+public class EarlyRefreshCacheGatewayTest {
+
+    private static final Instant NOW = Instant.parse("2023-10-01T10:00:00Z");
+
+    private ExpiringCacheGateway<String> cacheGateway;
+    private Function<String, Optional<String>> loader;
+    private List<Runnable> pendingTasks;
+    private EarlyRefreshCacheGateway<String> target;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        this.cacheGateway = Mockito.mock(ExpiringCacheGateway.class);
+        this.loader = Mockito.mock(Function.class);
+        this.pendingTasks = new ArrayList<>();
+        this.target = new EarlyRefreshCacheGateway<>(
+                this.cacheGateway,
+                new CacheExpiryPolicy(Duration.ofDays(1), Duration.ZERO, 1.0, Duration.ofSeconds(1)),
+                this.loader,
+                this.pendingTasks::add,
+                Clock.fixed(NOW, ZoneOffset.UTC)
+        );
+    }
+
+    @Test
+    void givenAnEntryFarFromExpiry_whenCallGet_shouldReturnValueWithoutRefresh() {
+        Mockito.when(cacheGateway.getEntry("1"))
+                .thenReturn(Optional.of(new CacheEntry<>("value", NOW.plus(Duration.ofDays(1)))));
+
+        final var actualValue = this.target.get("1");
+
+        Assertions.assertEquals("value", actualValue.get());
+        Assertions.assertTrue(this.pendingTasks.isEmpty());
+    }
+
+    @Test
+    void givenAnExpiringEntry_whenCallGet_shouldReturnCachedValueAndRefreshInBackground() {
+        Mockito.when(cacheGateway.getEntry("1"))
+                .thenReturn(Optional.of(new CacheEntry<>("value", NOW)));
+        Mockito.when(loader.apply("1")).thenReturn(Optional.of("new-value"));
+
+        final var actualValue = this.target.get("1");
+
+        Assertions.assertEquals("value", actualValue.get());
+        Mockito.verify(cacheGateway, Mockito.never()).save(Mockito.any());
+
+        this.pendingTasks.forEach(Runnable::run);
+
+        Mockito.verify(cacheGateway, Mockito.times(1)).save("new-value");
+    }
+
+    @Test
+    void givenAnExpiringEntry_whenCallGetTwiceBeforeRefreshRuns_shouldScheduleOneRefresh() {
+        Mockito.when(cacheGateway.getEntry("1"))
+                .thenReturn(Optional.of(new CacheEntry<>("value", NOW)));
+        Mockito.when(loader.apply("1")).thenReturn(Optional.of("new-value"));
+
+        this.target.get("1");
+        this.target.get("1");
+
+        Assertions.assertEquals(1, this.pendingTasks.size());
+
+        this.pendingTasks.remove(0).run();
+        this.target.get("1");
+
+        Assertions.assertEquals(1, this.pendingTasks.size());
+    }
+
+    @Test
+    void givenAnExpiringEntryRemovedFromSource_whenRefreshRuns_shouldDeleteEntry() {
+        Mockito.when(cacheGateway.getEntry("1"))
+                .thenReturn(Optional.of(new CacheEntry<>("value", NOW)));
+        Mockito.when(loader.apply("1")).thenReturn(Optional.empty());
+
+        this.target.get("1");
+        this.pendingTasks.forEach(Runnable::run);
+
+        Mockito.verify(cacheGateway, Mockito.times(1)).delete("1");
+    }
+
+    @Test
+    void givenALoaderFailure_whenRefreshRuns_shouldKeepEntryAndAllowNextRefresh() {
+        Mockito.when(cacheGateway.getEntry("1"))
+                .thenReturn(Optional.of(new CacheEntry<>("value", NOW)));
+        Mockito.when(loader.apply("1")).thenThrow(new IllegalStateException("db down"));
+
+        this.target.get("1");
+        Assertions.assertDoesNotThrow(() -> this.pendingTasks.remove(0).run());
+
+        Mockito.verify(cacheGateway, Mockito.never()).delete("1");
+        Assertions.assertEquals("value", this.target.get("1").get());
+        Assertions.assertEquals(1, this.pendingTasks.size());
+    }
+
+    @Test
+    void givenAnEntryNotCached_whenCallGet_shouldReturnEmpty() {
+        Mockito.when(cacheGateway.getEntry("1")).thenReturn(Optional.empty());
+
+        Assertions.assertTrue(this.target.get("1").isEmpty());
+        Assertions.assertTrue(this.pendingTasks.isEmpty());
+    }
+}
@@ -0,0 +1,82 @@
+package com.kaua.ecommerce.users.infrastructure.cache;
+
+import com.kaua.ecommerce.users.application.gateways.CacheGateway;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public class MeteredCacheGatewayTest {
+
+    private CacheGateway<String> cacheGateway;
+    private SimpleMeterRegistry meterRegistry;
+    private MeteredCacheGateway<String> target;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        this.cacheGateway = Mockito.mock(CacheGateway.class);
+        this.meterRegistry = new SimpleMeterRegistry();
+        this.target = new MeteredCacheGateway<>(this.cacheGateway, "account", this.meterRegistry);
+    }
+
+    @Test
+    void givenAHitAndAMiss_whenCallGet_shouldCountHitsMissesAndLatency() {
+        Mockito.when(cacheGateway.get("1")).thenReturn(Optional.of("value"));
+        Mockito.when(cacheGateway.get("2")).thenReturn(Optional.empty());
+
+        Assertions.assertEquals("value", this.target.get("1").get());
+        Assertions.assertTrue(this.target.get("2").isEmpty());
+
+        Assertions.assertEquals(1, requests("hit"));
+        Assertions.assertEquals(1, requests("miss"));
+        Assertions.assertEquals(2, meterRegistry.get("cache.gateway.latency")
+                .tags("cache", "account", "operation", "get", "outcome", "success")
+                .timer().count());
+    }
+
+    @Test
+    void givenSomeKeysCached_whenCallGetAll_shouldCountEveryKey() {
+        Mockito.when(cacheGateway.getAll(List.of("1", "2", "3"))).thenReturn(Map.of("1", "value"));
+
+        Assertions.assertEquals(Map.of("1", "value"), this.target.getAll(List.of("1", "2", "3")));
+
+        Assertions.assertEquals(1, requests("hit"));
+        Assertions.assertEquals(2, requests("miss"));
+    }
+
+    @Test
+    void givenAFailingDelegate_whenCallSave_shouldCountErrorAndRethrow() {
+        Mockito.doThrow(new IllegalStateException("redis down")).when(cacheGateway).save("value");
+
+        Assertions.assertThrows(IllegalStateException.class, () -> this.target.save("value"));
+
+        Assertions.assertEquals(1, meterRegistry.get("cache.gateway.errors")
+                .tags("cache", "account", "operation", "save")
+                .counter().count());
+        Assertions.assertEquals(1, meterRegistry.get("cache.gateway.latency")
+                .tags("operation", "save", "outcome", "error")
+                .timer().count());
+    }
+
+    @Test
+    void givenAValidKey_whenCallDelete_shouldDelegateAndRecordLatency() {
+        this.target.delete("1");
+
+        Mockito.verify(cacheGateway, Mockito.times(1)).delete("1");
+        Assertions.assertEquals(1, meterRegistry.get("cache.gateway.latency")
+                .tags("operation", "delete", "outcome", "success")
+                .timer().count());
+    }
+
+    private double requests(final String result) {
+        return meterRegistry.get("cache.gateway.requests")
+                .tags("cache", "account", "result", result)
+                .counter().count();
+    }
+}
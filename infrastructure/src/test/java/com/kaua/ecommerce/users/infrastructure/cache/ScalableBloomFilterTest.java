@@ -0,0 +1,70 @@
+package com.kaua.ecommerce.users.infrastructure.cache;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+public class ScalableBloomFilterTest {
+
+    @Test
+    void givenAddedValues_whenCallMightContain_shouldNeverReturnFalseNegatives() {
+        final var aFilter = new ScalableBloomFilter(1000, 0.01);
+
+        IntStream.range(0, 1000).forEach(i -> aFilter.put(ScalableBloomFilter.hash("user" + i + "@teste.com")));
+
+        Assertions.assertTrue(IntStream.range(0, 1000)
+                .allMatch(i -> aFilter.mightContain(ScalableBloomFilter.hash("user" + i + "@teste.com"))));
+    }
+
+    @Test
+    void givenAFilterAtCapacity_whenCallMightContainWithUnknownValues_shouldStayUnderTheFalsePositiveProbability() {
+        final var aFilter = new ScalableBloomFilter(10_000, 0.01);
+
+        IntStream.range(0, 10_000).forEach(i -> aFilter.put(ScalableBloomFilter.hash("user" + i + "@teste.com")));
+
+        final var aFalsePositives = IntStream.range(0, 100_000)
+                .filter(i -> aFilter.mightContain(ScalableBloomFilter.hash("other" + i + "@teste.com")))
+                .count();
+
+        Assertions.assertTrue(aFalsePositives < 1_000, "false positives: " + aFalsePositives);
+        Assertions.assertTrue(aFilter.expectedFalsePositiveProbability() < 0.01);
+    }
+
+    @Test
+    void givenMoreValuesThanTheInitialCapacity_whenCallPut_shouldAddStagesAndKeepTheBound() {
+        final var aFilter = new ScalableBloomFilter(1_000, 0.01);
+
+        IntStream.range(0, 10_000).forEach(i -> aFilter.put(ScalableBloomFilter.hash("user" + i + "@teste.com")));
+
+        Assertions.assertTrue(aFilter.stageCount() > 1);
+        Assertions.assertTrue(aFilter.size() <= 10_000);
+        Assertions.assertTrue(aFilter.expectedFalsePositiveProbability() < 0.01);
+        Assertions.assertTrue(IntStream.range(0, 10_000)
+                .allMatch(i -> aFilter.mightContain(ScalableBloomFilter.hash("user" + i + "@teste.com"))));
+    }
+
+    @Test
+    void givenAnEmptyFilter_whenCallMightContain_shouldReturnFalse() {
+        final var aFilter = new ScalableBloomFilter(100, 0.01);
+
+        Assertions.assertFalse(aFilter.mightContain(ScalableBloomFilter.hash("teste@teste.com")));
+        Assertions.assertEquals(0, aFilter.size());
+    }
+
+    @Test
+    void givenTheSameValueTwice_whenCallPut_shouldCountItOnce() {
+        final var aFilter = new ScalableBloomFilter(100, 0.01);
+
+        Assertions.assertTrue(aFilter.put(ScalableBloomFilter.hash("teste@teste.com")));
+        Assertions.assertFalse(aFilter.put(ScalableBloomFilter.hash("teste@teste.com")));
+        Assertions.assertEquals(1, aFilter.size());
+    }
+
+    @Test
+    void givenAnInvalidProbability_whenCreateFilter_shouldThrowIllegalArgumentException() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new ScalableBloomFilter(100, 0));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new ScalableBloomFilter(100, 1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new ScalableBloomFilter(0, 0.01));
+    }
+}
@@ -0,0 +1,283 @@
+package com.kaua.ecommerce.users.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.kaua.ecommerce.users.application.gateways.CacheGateway;
+import com.kaua.ecommerce.users.domain.accounts.Account;
+import com.kaua.ecommerce.users.domain.roles.Role;
+import com.kaua.ecommerce.users.domain.roles.RoleTypes;
+import com.kaua.ecommerce.users.infrastructure.services.local.InMemoryCacheInvalidationService;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public class TwoTierCacheGatewayTest {
+
+    private CacheGateway<Account> remoteCacheGateway;
+    private InMemoryCacheInvalidationService cacheInvalidationService;
+    private TwoTierCacheGateway<Account> target;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        this.remoteCacheGateway = Mockito.mock(CacheGateway.class);
+        this.cacheInvalidationService = new InMemoryCacheInvalidationService();
+        this.target = new TwoTierCacheGateway<>(
+                "account",
+                Caffeine.newBuilder()
+                        .maximumSize(100)
+                        .expireAfterWrite(Duration.ofMinutes(1))
+                        .build(),
+                this.remoteCacheGateway,
+                account -> account.getId().getValue(),
+                this.cacheInvalidationService
+        );
+    }
+
+    @Test
+    void givenAnAccountInRemoteCache_whenCallGetTwice_shouldHitRemoteOnlyOnce() {
+        final var aAccount = newAccount();
+        final var aId = aAccount.getId().getValue();
+
+        Mockito.when(remoteCacheGateway.get(aId)).thenReturn(Optional.of(aAccount));
+
+        final var actualFirst = this.target.get(aId);
+        final var actualSecond = this.target.get(aId);
+
+        Assertions.assertEquals(aAccount, actualFirst.get());
+        Assertions.assertEquals(aAccount, actualSecond.get());
+        Mockito.verify(remoteCacheGateway, Mockito.times(1)).get(aId);
+    }
+
+    @Test
+    void givenAnAccountNotInRemoteCache_whenCallGet_shouldReturnEmptyAndNotStoreLocally() {
+        final var aId = "123";
+
+        Mockito.when(remoteCacheGateway.get(aId)).thenReturn(Optional.empty());
+
+        Assertions.assertTrue(this.target.get(aId).isEmpty());
+        Assertions.assertTrue(this.target.get(aId).isEmpty());
+        Mockito.verify(remoteCacheGateway, Mockito.times(2)).get(aId);
+    }
+
+    @Test
+    void givenAnAccountInLocalCache_whenCallSave_shouldWriteRemoteAndEvictLocal() {
+        final var aAccount = newAccount();
+        final var aId = aAccount.getId().getValue();
+
+        Mockito.when(remoteCacheGateway.get(aId)).thenReturn(Optional.of(aAccount));
+        this.target.get(aId);
+
+        this.target.save(aAccount);
+        this.target.get(aId);
+
+        Mockito.verify(remoteCacheGateway, Mockito.times(1)).save(aAccount);
+        Mockito.verify(remoteCacheGateway, Mockito.times(2)).get(aId);
+    }
+
+    @Test
+    void givenAnAccountInLocalCache_whenCallDelete_shouldDeleteRemoteAndEvictLocal() {
+        final var aAccount = newAccount();
+        final var aId = aAccount.getId().getValue();
+
+        Mockito.when(remoteCacheGateway.get(aId))
+                .thenReturn(Optional.of(aAccount))
+                .thenReturn(Optional.empty());
+        this.target.get(aId);
+
+        this.target.delete(aId);
+
+        Assertions.assertTrue(this.target.get(aId).isEmpty());
+        Mockito.verify(remoteCacheGateway, Mockito.times(1)).delete(aId);
+    }
+
+    @Test
+    void givenAnInvalidationFromAnotherNode_whenReceived_shouldEvictLocal() {
+        final var aAccount = newAccount();
+        final var aId = aAccount.getId().getValue();
+
+        Mockito.when(remoteCacheGateway.get(aId)).thenReturn(Optional.of(aAccount));
+        this.target.get(aId);
+
+        this.cacheInvalidationService.publish("account", List.of(aId));
+        this.target.get(aId);
+
+        Mockito.verify(remoteCacheGateway, Mockito.times(2)).get(aId);
+    }
+
+    @Test
+    void givenAnInvalidationForAnotherCache_whenReceived_shouldKeepLocal() {
+        final var aAccount = newAccount();
+        final var aId = aAccount.getId().getValue();
+
+        Mockito.when(remoteCacheGateway.get(aId)).thenReturn(Optional.of(aAccount));
+        this.target.get(aId);
+
+        this.cacheInvalidationService.publish("role", List.of(aId));
+        this.target.get(aId);
+
+        Mockito.verify(remoteCacheGateway, Mockito.times(1)).get(aId);
+    }
+
+    @Test
+    void givenAccountsInLocalCache_whenCallEvictAllLocal_shouldReadFromRemoteAgain() {
+        final var aAccount = newAccount();
+        final var aId = aAccount.getId().getValue();
+
+        Mockito.when(remoteCacheGateway.get(aId)).thenReturn(Optional.of(aAccount));
+        this.target.get(aId);
+
+        this.target.evictAllLocal();
+        this.target.get(aId);
+
+        Mockito.verify(remoteCacheGateway, Mockito.times(2)).get(aId);
+    }
+
+    @Test
+    void givenAccountsPartlyInLocalCache_whenCallGetAll_shouldFetchOnlyMissesFromRemote() {
+        final var aAccountOne = newAccount();
+        final var aAccountTwo = newAccount();
+        final var aIdOne = aAccountOne.getId().getValue();
+        final var aIdTwo = aAccountTwo.getId().getValue();
+
+        Mockito.when(remoteCacheGateway.get(aIdOne)).thenReturn(Optional.of(aAccountOne));
+        Mockito.when(remoteCacheGateway.getAll(List.of(aIdTwo, "123"))).thenReturn(Map.of(aIdTwo, aAccountTwo));
+        this.target.get(aIdOne);
+
+        final var actualAccounts = this.target.getAll(List.of(aIdOne, aIdTwo, "123"));
+        final var actualLocalAccount = this.target.get(aIdTwo);
+
+        Assertions.assertEquals(Map.of(aIdOne, aAccountOne, aIdTwo, aAccountTwo), actualAccounts);
+        Assertions.assertEquals(aAccountTwo, actualLocalAccount.get());
+        Mockito.verify(remoteCacheGateway, Mockito.never()).get(aIdTwo);
+    }
+
+    @Test
+    void givenAccountsInLocalCache_whenCallDeleteAll_shouldDeleteRemoteAndPublishKeys() {
+        final var aAccount = newAccount();
+        final var aId = aAccount.getId().getValue();
+        final var aPublished = new ArrayList<String>();
+
+        this.cacheInvalidationService.subscribe("account", aPublished::add);
+        Mockito.when(remoteCacheGateway.get(aId)).thenReturn(Optional.of(aAccount));
+        this.target.get(aId);
+
+        this.target.deleteAll(List.of(aId, "123"));
+        this.target.get(aId);
+
+        Mockito.verify(remoteCacheGateway, Mockito.times(1)).deleteAll(List.of(aId, "123"));
+        Mockito.verify(remoteCacheGateway, Mockito.times(2)).get(aId);
+        Assertions.assertEquals(List.of(aId, "123"), aPublished);
+    }
+
+    @Test
+    void givenAccountsOfTwoRoles_whenOneRoleGenerationIsBumped_shouldReadOnlyItsAccountsFromRemote() {
+        final var aGenerations = new DependencyGenerations();
+        final var aTarget = newTargetWithRoleGenerations(aGenerations);
+        final var aAccountOne = newAccount();
+        final var aAccountTwo = newAccount();
+        final var aIdOne = aAccountOne.getId().getValue();
+        final var aIdTwo = aAccountTwo.getId().getValue();
+
+        Mockito.when(remoteCacheGateway.get(aIdOne)).thenReturn(Optional.of(aAccountOne));
+        Mockito.when(remoteCacheGateway.get(aIdTwo)).thenReturn(Optional.of(aAccountTwo));
+        aTarget.get(aIdOne);
+        aTarget.get(aIdTwo);
+
+        aGenerations.bump(aAccountOne.getRole().getId().getValue());
+        aTarget.get(aIdOne);
+        aTarget.get(aIdOne);
+        aTarget.get(aIdTwo);
+
+        Mockito.verify(remoteCacheGateway, Mockito.times(2)).get(aIdOne);
+        Mockito.verify(remoteCacheGateway, Mockito.times(1)).get(aIdTwo);
+    }
+
+    @Test
+    void givenARoleBumpDuringTheRemoteRead_whenCallGet_shouldNotKeepTheValueLocally() {
+        final var aGenerations = new DependencyGenerations();
+        final var aTarget = newTargetWithRoleGenerations(aGenerations);
+        final var aAccount = newAccount();
+        final var aId = aAccount.getId().getValue();
+
+        Mockito.when(remoteCacheGateway.get(aId)).thenAnswer(invocation -> {
+            aGenerations.bump(aAccount.getRole().getId().getValue());
+            return Optional.of(aAccount);
+        });
+
+        Assertions.assertEquals(aAccount, aTarget.get(aId).get());
+        aTarget.get(aId);
+
+        Mockito.verify(remoteCacheGateway, Mockito.times(2)).get(aId);
+    }
+
+    @Test
+    void givenASaveDuringTheRemoteRead_whenCallGet_shouldNotKeepTheValueLocally() {
+        final var aAccount = newAccount();
+        final var aId = aAccount.getId().getValue();
+
+        Mockito.when(remoteCacheGateway.get(aId))
+                .thenAnswer(invocation -> {
+                    this.target.save(aAccount);
+                    return Optional.of(aAccount);
+                })
+                .thenReturn(Optional.of(aAccount));
+
+        Assertions.assertEquals(aAccount, this.target.get(aId).get());
+        this.target.get(aId);
+        this.target.get(aId);
+
+        Mockito.verify(remoteCacheGateway, Mockito.times(2)).get(aId);
+    }
+
+    @Test
+    void givenAnInvalidationDuringTheRemoteRead_whenCallGetAll_shouldNotKeepTheValueLocally() {
+        final var aAccountOne = newAccount();
+        final var aAccountTwo = newAccount();
+        final var aIdOne = aAccountOne.getId().getValue();
+        final var aIdTwo = aAccountTwo.getId().getValue();
+
+        Mockito.when(remoteCacheGateway.getAll(List.of(aIdOne, aIdTwo))).thenAnswer(invocation -> {
+            this.cacheInvalidationService.publish("account", List.of(aIdOne));
+            return Map.of(aIdOne, aAccountOne, aIdTwo, aAccountTwo);
+        });
+        Mockito.when(remoteCacheGateway.get(aIdOne)).thenReturn(Optional.of(aAccountOne));
+
+        this.target.getAll(List.of(aIdOne, aIdTwo));
+        this.target.get(aIdOne);
+        this.target.get(aIdOne);
+
+        Mockito.verify(remoteCacheGateway, Mockito.times(1)).get(aIdOne);
+    }
+
+    private TwoTierCacheGateway<Account> newTargetWithRoleGenerations(final DependencyGenerations aGenerations) {
+        return new TwoTierCacheGateway<>(
+                "account",
+                Caffeine.newBuilder()
+                        .maximumSize(100)
+                        .expireAfterWrite(Duration.ofMinutes(1))
+                        .build(),
+                this.remoteCacheGateway,
+                account -> account.getId().getValue(),
+                this.cacheInvalidationService,
+                account -> account.getRole().getId().getValue(),
+                aGenerations
+        );
+    }
+
+    private static Account newAccount() {
+        return Account.newAccount(
+                "Fulano",
+                "Silva",
+                "teste@teste.com",
+                "1234567Ab",
+                Role.newRole("Ceo", null, RoleTypes.EMPLOYEES, false)
+        );
+    }
+}
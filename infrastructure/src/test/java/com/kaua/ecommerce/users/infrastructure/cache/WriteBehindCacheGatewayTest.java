@@ -0,0 +1,190 @@
+package com.kaua.ecommerce.users.infrastructure.cache;
+
+import com.kaua.ecommerce.users.application.gateways.CacheGateway;
+import com.kaua.ecommerce.users.infrastructure.cache.WriteBehindCacheGateway.OverflowPolicy;
+import com.kaua.ecommerce.users.infrastructure.configurations.properties.cache.WriteBehindProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public class WriteBehindCacheGatewayTest {
+
+    private CacheGateway<String> cacheGateway;
+    private WriteBehindCacheGateway<String> target;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        this.cacheGateway = Mockito.mock(CacheGateway.class);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (this.target != null) {
+            this.target.close();
+        }
+    }
+
+    @Test
+    void givenAValue_whenCallSave_shouldReturnBeforeWritingAndServeItFromTheBuffer() throws InterruptedException {
+        this.target = newGateway(10, Duration.ofHours(1), OverflowPolicy.CALLER_RUNS, true);
+
+        this.target.save("1:first");
+
+        Assertions.assertEquals("1:first", this.target.get("1").get());
+        Mockito.verifyNoInteractions(cacheGateway);
+
+        this.target.close();
+
+        Mockito.verify(cacheGateway, Mockito.times(1)).saveAll(List.of("1:first"));
+    }
+
+    @Test
+    void givenRepeatedWritesToTheSameKey_whenFlushed_shouldWriteOnlyTheLastValue() throws InterruptedException {
+        this.target = newGateway(10, Duration.ofHours(1), OverflowPolicy.CALLER_RUNS, true);
+
+        this.target.save("1:first");
+        this.target.save("2:first");
+        this.target.save("1:second");
+
+        Assertions.assertEquals(2, this.target.pendingSize());
+
+        this.target.close();
+
+        Mockito.verify(cacheGateway, Mockito.times(1)).saveAll(List.of("1:second", "2:first"));
+    }
+
+    @Test
+    void givenAFullBatch_whenCallSave_shouldBeWrittenInTheBackground() {
+        this.target = newGateway(10, Duration.ofHours(1), OverflowPolicy.CALLER_RUNS, true, 2);
+
+        this.target.save("1:first");
+        this.target.save("2:first");
+
+        Mockito.verify(cacheGateway, Mockito.timeout(1000)).saveAll(List.of("1:first", "2:first"));
+    }
+
+    @Test
+    void givenAFailingFlush_whenFlushed_shouldEvictTheBatchKeys() throws InterruptedException {
+        this.target = newGateway(10, Duration.ofHours(1), OverflowPolicy.CALLER_RUNS, true);
+
+        Mockito.doThrow(new IllegalStateException("redis is down"))
+                .when(cacheGateway).saveAll(List.of("1:first", "2:first"));
+
+        this.target.save("1:first");
+        this.target.save("2:first");
+        this.target.close();
+
+        Mockito.verify(cacheGateway, Mockito.times(1)).deleteAll(List.of("1", "2"));
+    }
+
+    @Test
+    void givenAFullBufferAndCallerRunsPolicy_whenCallSave_shouldWriteOnTheCallerThread() {
+        this.target = newGateway(1, Duration.ofHours(1), OverflowPolicy.CALLER_RUNS, true);
+
+        this.target.save("1:first");
+        this.target.save("2:first");
+
+        Mockito.verify(cacheGateway, Mockito.times(1)).save("2:first");
+    }
+
+    @Test
+    void givenAFullBufferAndEvictPolicy_whenCallSave_shouldEvictTheKey() {
+        this.target = newGateway(1, Duration.ofHours(1), OverflowPolicy.EVICT, true);
+
+        this.target.save("1:first");
+        this.target.save("2:first");
+
+        Mockito.verify(cacheGateway, Mockito.times(1)).delete("2");
+        Mockito.verify(cacheGateway, Mockito.never()).save("2:first");
+    }
+
+    @Test
+    void givenABufferedValue_whenCallDelete_shouldNotWriteItLater() throws InterruptedException {
+        this.target = newGateway(10, Duration.ofHours(1), OverflowPolicy.CALLER_RUNS, true);
+
+        this.target.save("1:first");
+        this.target.delete("1");
+
+        Mockito.when(cacheGateway.get("1")).thenReturn(Optional.empty());
+
+        Assertions.assertTrue(this.target.get("1").isEmpty());
+
+        this.target.close();
+
+        Mockito.verify(cacheGateway, Mockito.times(1)).delete("1");
+        Mockito.verify(cacheGateway, Mockito.never()).saveAll(Mockito.any());
+    }
+
+    @Test
+    void givenBufferedAndCachedValues_whenCallGetAll_shouldReadOnlyMissingKeysFromTheCache() {
+        this.target = newGateway(10, Duration.ofHours(1), OverflowPolicy.CALLER_RUNS, true);
+
+        Mockito.when(cacheGateway.getAll(List.of("2"))).thenReturn(Map.of("2", "2:cached"));
+
+        this.target.save("1:first");
+
+        Assertions.assertEquals(Map.of("1", "1:first", "2", "2:cached"), this.target.getAll(List.of("1", "2")));
+    }
+
+    @Test
+    void givenFlushOnShutdownDisabled_whenCallClose_shouldDiscardBufferedWrites() throws InterruptedException {
+        this.target = newGateway(10, Duration.ofHours(1), OverflowPolicy.CALLER_RUNS, false);
+
+        this.target.save("1:first");
+        this.target.close();
+
+        Mockito.verify(cacheGateway, Mockito.never()).saveAll(Mockito.any());
+    }
+
+    @Test
+    void givenAClosedGateway_whenCallSave_shouldWriteOnTheCallerThread() throws InterruptedException {
+        this.target = newGateway(10, Duration.ofHours(1), OverflowPolicy.CALLER_RUNS, true);
+
+        this.target.close();
+        this.target.save("1:first");
+
+        Mockito.verify(cacheGateway, Mockito.times(1)).save("1:first");
+    }
+
+    private WriteBehindCacheGateway<String> newGateway(
+            final int aCapacity,
+            final Duration aFlushInterval,
+            final OverflowPolicy aOverflowPolicy,
+            final boolean aFlushOnShutdown
+    ) {
+        return newGateway(aCapacity, aFlushInterval, aOverflowPolicy, aFlushOnShutdown, 100);
+    }
+
+    private WriteBehindCacheGateway<String> newGateway(
+            final int aCapacity,
+            final Duration aFlushInterval,
+            final OverflowPolicy aOverflowPolicy,
+            final boolean aFlushOnShutdown,
+            final int aBatchSize
+    ) {
+        final var aProperties = new WriteBehindProperties();
+        aProperties.setCapacity(aCapacity);
+        aProperties.setBatchSize(aBatchSize);
+        aProperties.setFlushInterval(aFlushInterval);
+        aProperties.setOverflow(aOverflowPolicy);
+        aProperties.setFlushOnShutdown(aFlushOnShutdown);
+        aProperties.setShutdownTimeout(Duration.ofSeconds(5));
+
+        return new WriteBehindCacheGateway<>(
+                "account",
+                this.cacheGateway,
+                value -> value.split(":")[0],
+                aProperties,
+                new SimpleMeterRegistry()
+        );
+    }
+}
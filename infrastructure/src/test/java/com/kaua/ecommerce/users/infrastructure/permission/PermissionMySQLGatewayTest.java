@@ -3,17 +3,19 @@ package com.kaua.ecommerce.users.infrastructure.permission;
 import com.kaua.ecommerce.users.CacheGatewayTest;
 import com.kaua.ecommerce.users.config.CacheTestConfiguration;
 import com.kaua.ecommerce.users.domain.accounts.Account;
+import com.kaua.ecommerce.users.domain.pagination.CursorSearchQuery;
 import com.kaua.ecommerce.users.domain.pagination.SearchQuery;
 import com.kaua.ecommerce.users.domain.permissions.Permission;
 import com.kaua.ecommerce.users.domain.permissions.PermissionID;
 import com.kaua.ecommerce.users.domain.roles.Role;
 import com.kaua.ecommerce.users.domain.roles.RolePermission;
 import com.kaua.ecommerce.users.domain.roles.RoleTypes;
-import com.kaua.ecommerce.users.infrastructure.accounts.persistence.AccountCacheEntity;
+import com.kaua.ecommerce.users.infrastructure.accounts.AccountCacheGateway;
 import com.kaua.ecommerce.users.infrastructure.accounts.persistence.AccountCacheRepository;
 import com.kaua.ecommerce.users.infrastructure.permissions.PermissionMySQLGateway;
 import com.kaua.ecommerce.users.infrastructure.permissions.persistence.PermissionJpaEntity;
 import com.kaua.ecommerce.users.infrastructure.permissions.persistence.PermissionJpaRepository;
+import com.kaua.ecommerce.users.infrastructure.roles.persistence.RoleCacheRepository;
 import com.kaua.ecommerce.users.infrastructure.roles.persistence.RoleJpaEntity;
 import com.kaua.ecommerce.users.infrastructure.roles.persistence.RoleJpaRepository;
 import org.junit.jupiter.api.Assertions;
@@ -35,6 +37,12 @@ public class PermissionMySQLGatewayTest extends CacheTestConfiguration {
     @Autowired
     private AccountCacheRepository accountCacheRepository;
 
+    @Autowired
+    private AccountCacheGateway accountCacheGateway;
+
+    @Autowired
+    private RoleCacheRepository roleCacheRepository;
+
     @Autowired
     private RoleJpaRepository roleJpaRepository;
 
@@ -133,13 +141,44 @@ public class PermissionMySQLGatewayTest extends CacheTestConfiguration {
         aRole.addPermissions(Set.of(RolePermission.newRolePermission(aPermission.getId(), aPermission.getName())));
         permissionRepository.saveAndFlush(PermissionJpaEntity.toEntity(aPermission));
         roleJpaRepository.saveAndFlush(RoleJpaEntity.toEntity(aRole));
-        accountCacheRepository.save(AccountCacheEntity.toEntity(aAccount));
+        accountCacheGateway.save(aAccount);
+        accountCacheGateway.get(aAccount.getId().getValue());
 
         Assertions.assertEquals(1, permissionRepository.count());
+        Assertions.assertEquals(1, roleCacheRepository.count());
 
         Assertions.assertDoesNotThrow(() -> permissionGateway.deleteById(aId));
 
         Assertions.assertEquals(0, permissionRepository.count());
+        Assertions.assertEquals(0, roleCacheRepository.count());
+        Assertions.assertTrue(accountCacheGateway.get(aAccount.getId().getValue()).isPresent());
+    }
+
+    @Test
+    void givenAPrePersistedPermission_whenCallDeleteById_shouldEvictOnlyRolesCarryingIt() {
+        final var aRole = Role.newRole("admin", "Admin", RoleTypes.EMPLOYEES, false);
+        final var aOtherRole = Role.newRole("user", "User", RoleTypes.COMMON, false);
+        final var aAccount = Account.newAccount("teste", "testes", "teste@testes.com", "1234567Ab*", aRole);
+        final var aOtherAccount = Account.newAccount("outro", "testes", "outro@testes.com", "1234567Ab*", aOtherRole);
+        final var aPermission = Permission.newPermission("create-role", "Create a new role");
+        final var aId = aPermission.getId().getValue();
+
+        aRole.addPermissions(Set.of(RolePermission.newRolePermission(aPermission.getId(), aPermission.getName())));
+        permissionRepository.saveAndFlush(PermissionJpaEntity.toEntity(aPermission));
+        roleJpaRepository.saveAndFlush(RoleJpaEntity.toEntity(aRole));
+        roleJpaRepository.saveAndFlush(RoleJpaEntity.toEntity(aOtherRole));
+        accountCacheGateway.save(aAccount);
+        accountCacheGateway.save(aOtherAccount);
+        accountCacheGateway.getAll(List.of(aAccount.getId().getValue(), aOtherAccount.getId().getValue()));
+
+        Assertions.assertEquals(2, accountCacheRepository.count());
+        Assertions.assertEquals(2, roleCacheRepository.count());
+
+        permissionGateway.deleteById(aId);
+
+        Assertions.assertEquals(2, accountCacheRepository.count());
+        Assertions.assertEquals(1, roleCacheRepository.count());
+        Assertions.assertTrue(roleCacheRepository.existsById(aOtherRole.getId().getValue()));
     }
 
     @Test
@@ -383,4 +422,96 @@ public class PermissionMySQLGatewayTest extends CacheTestConfiguration {
         Assertions.assertEquals(aTotal, actualPermission.size());
         Assertions.assertTrue(actualPermission.contains(aPermission));
     }
+
+    @Test
+    void givenALoadedCatalog_whenPermissionsChangeOutsideTheGateway_shouldServeTheCatalog() {
+        final var aPermission = permissionGateway.create(Permission.newPermission("customer-all", null));
+        final var aId = aPermission.getId().getValue();
+
+        Assertions.assertTrue(permissionGateway.existsByName("customer-all"));
+
+        permissionRepository.deleteAll();
+
+        Assertions.assertTrue(permissionGateway.existsByName("customer-all"));
+        Assertions.assertEquals(1, permissionGateway.findAllByIds(Set.of(aId)).size());
+
+        permissionGateway.evictCatalog();
+
+        Assertions.assertFalse(permissionGateway.existsByName("customer-all"));
+        Assertions.assertTrue(permissionGateway.findAllByIds(Set.of(aId)).isEmpty());
+    }
+
+    @Test
+    void givenALoadedCatalog_whenCallCreate_shouldAddThePermission() {
+        Assertions.assertFalse(permissionGateway.existsByName("customer-all"));
+
+        final var aPermission = permissionGateway.create(Permission.newPermission("customer-all", null));
+
+        Assertions.assertTrue(permissionGateway.existsByName("customer-all"));
+        Assertions.assertTrue(permissionGateway.existsByName("CUSTOMER-ALL"));
+        Assertions.assertTrue(permissionGateway.findAllByIds(Set.of(aPermission.getId().getValue()))
+                .contains(aPermission));
+    }
+
+    @Test
+    void givenALoadedCatalog_whenCallUpdate_shouldServeTheUpdatedPermission() {
+        final var aPermission = permissionGateway.create(Permission.newPermission("customer-all", null));
+        final var aId = aPermission.getId().getValue();
+
+        Assertions.assertNull(permissionGateway.findAllByIds(Set.of(aId)).iterator().next().getDescription());
+
+        permissionGateway.update(aPermission.update("Customer all"));
+
+        Assertions.assertEquals("Customer all",
+                permissionGateway.findAllByIds(Set.of(aId)).iterator().next().getDescription());
+    }
+
+    @Test
+    void givenALoadedCatalog_whenCallDeleteById_shouldRemoveThePermission() {
+        final var aPermission = permissionGateway.create(Permission.newPermission("customer-all", null));
+        final var aId = aPermission.getId().getValue();
+
+        Assertions.assertTrue(permissionGateway.existsByName("customer-all"));
+
+        permissionGateway.deleteById(aId);
+
+        Assertions.assertFalse(permissionGateway.existsByName("customer-all"));
+        Assertions.assertTrue(permissionGateway.findAllByIds(Set.of(aId)).isEmpty());
+    }
+
+    @Test
+    void givenAPermissionFromTheCatalog_whenMutated_shouldNotChangeTheCatalog() {
+        final var aPermission = permissionGateway.create(Permission.newPermission("customer-all", null));
+        final var aId = aPermission.getId().getValue();
+
+        permissionGateway.findAllByIds(Set.of(aId)).iterator().next().update("Customer all");
+
+        Assertions.assertNull(permissionGateway.findAllByIds(Set.of(aId)).iterator().next().getDescription());
+    }
+
+    @Test
+    void givenPrePersistedPermissionsAndCustAsTerm_whenCallFindAllByCursor_shouldFollowCursorUntilLastPage() {
+        final var aCustomerPermission = Permission.newPermission("customer-all", "Customer all");
+        final var aCustomerReadPermission = Permission.newPermission("customer-read", "Customer read");
+        final var aAdminPermission = Permission.newPermission("admin-all", "Admin all");
+
+        permissionRepository.saveAllAndFlush(List.of(
+                PermissionJpaEntity.toEntity(aCustomerPermission),
+                PermissionJpaEntity.toEntity(aCustomerReadPermission),
+                PermissionJpaEntity.toEntity(aAdminPermission)
+        ));
+
+        final var aFirstPage = permissionGateway.findAll(new CursorSearchQuery("", 1, "cust", "name", "desc"));
+
+        Assertions.assertEquals(1, aFirstPage.items().size());
+        Assertions.assertEquals(aCustomerReadPermission.getId(), aFirstPage.items().get(0).getId());
+        Assertions.assertNotNull(aFirstPage.nextCursor());
+
+        final var aSecondPage = permissionGateway.findAll(
+                new CursorSearchQuery(aFirstPage.nextCursor(), 1, "cust", "name", "desc"));
+
+        Assertions.assertEquals(1, aSecondPage.items().size());
+        Assertions.assertEquals(aCustomerPermission.getId(), aSecondPage.items().get(0).getId());
+        Assertions.assertNull(aSecondPage.nextCursor());
+    }
 }
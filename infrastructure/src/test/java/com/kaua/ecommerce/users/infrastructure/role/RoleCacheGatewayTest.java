@@ -0,0 +1,121 @@
+package com.kaua.ecommerce.users.infrastructure.role;
+
+import com.kaua.ecommerce.users.CacheGatewayTest;
+import com.kaua.ecommerce.users.config.CacheTestConfiguration;
+import com.kaua.ecommerce.users.domain.permissions.PermissionID;
+import com.kaua.ecommerce.users.domain.roles.Role;
+import com.kaua.ecommerce.users.domain.roles.RolePermission;
+import com.kaua.ecommerce.users.domain.roles.RoleTypes;
+import com.kaua.ecommerce.users.infrastructure.roles.RoleCacheGateway;
+import com.kaua.ecommerce.users.infrastructure.roles.persistence.RoleCacheRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@CacheGatewayTest
+public class RoleCacheGatewayTest extends CacheTestConfiguration {
+
+    @Autowired
+    private RoleCacheGateway roleCacheGateway;
+
+    @Autowired
+    private RoleCacheRepository roleCacheRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @Test
+    void givenAValidRole_whenCallSave_shouldReturnRoleSavedInCache() {
+        final var aRole = Role.newRole("Ceo", "Chief", RoleTypes.EMPLOYEES, false);
+        aRole.addPermissions(Set.of(RolePermission.newRolePermission(PermissionID.unique(), "create-user")));
+
+        Assertions.assertEquals(0, roleCacheRepository.count());
+
+        roleCacheGateway.save(aRole);
+
+        final var actualRole = roleCacheGateway.get(aRole.getId().getValue()).get();
+
+        Assertions.assertEquals(1, roleCacheRepository.count());
+        Assertions.assertEquals(aRole.getId(), actualRole.getId());
+        Assertions.assertEquals(aRole.getName(), actualRole.getName());
+        Assertions.assertEquals(aRole.getDescription(), actualRole.getDescription());
+        Assertions.assertEquals(aRole.getRoleType(), actualRole.getRoleType());
+        Assertions.assertEquals(aRole.getPermissions(), actualRole.getPermissions());
+    }
+
+    @Test
+    void givenAnEntryWrittenByAnOlderVersion_whenCallGet_shouldReturnEmpty() {
+        redisTemplate.opsForHash().putAll("role:123", Map.of(
+                "id", "123",
+                "name", "Ceo",
+                "type", "EMPLOYEES",
+                "permissions.[0]", "create-user"
+        ));
+        redisTemplate.opsForSet().add("role", "123");
+
+        Assertions.assertTrue(roleCacheRepository.findById("123").isPresent());
+        Assertions.assertTrue(roleCacheGateway.get("123").isEmpty());
+        Assertions.assertTrue(roleCacheGateway.getAll(List.of("123")).isEmpty());
+    }
+
+    @Test
+    void givenAValidRoleIdButNotStored_whenCallGet_shouldReturnEmpty() {
+        Assertions.assertTrue(roleCacheGateway.get("123").isEmpty());
+    }
+
+    @Test
+    void givenAPrePersistedRole_whenCallDelete_shouldEvictAndCountInvalidatedKey() {
+        final var aRole = Role.newRole("Ceo", null, RoleTypes.EMPLOYEES, false);
+        final var aInvalidatedKeysCounter = meterRegistry.counter("cache.invalidated.keys", "cache", "role");
+        final var aInvalidatedKeysBefore = aInvalidatedKeysCounter.count();
+
+        roleCacheGateway.save(aRole);
+        roleCacheGateway.delete(aRole.getId().getValue());
+
+        Assertions.assertEquals(0, roleCacheRepository.count());
+        Assertions.assertEquals(aInvalidatedKeysBefore + 1, aInvalidatedKeysCounter.count());
+    }
+
+    @Test
+    void givenAValidRole_whenCallSave_shouldStoreEntryWithJitteredTtl() {
+        final var aRole = Role.newRole("Ceo", null, RoleTypes.EMPLOYEES, false);
+
+        roleCacheGateway.save(aRole);
+
+        final var actualEntity = roleCacheRepository.findById(aRole.getId().getValue()).get();
+        final var actualEntry = roleCacheGateway.getEntry(aRole.getId().getValue()).get();
+
+        Assertions.assertTrue(actualEntity.getTtl() >= Duration.ofDays(7).toSeconds());
+        Assertions.assertTrue(actualEntity.getTtl() <= Duration.ofDays(7).plusHours(12).toSeconds());
+        Assertions.assertEquals(actualEntity.getExpiresAt(), actualEntry.expiresAt());
+        Assertions.assertEquals(aRole.getId(), actualEntry.value().getId());
+    }
+
+    @Test
+    void givenPrePersistedRoles_whenCallDeleteAll_shouldEvictAndCountEveryKey() {
+        final var aRoleOne = Role.newRole("Ceo", null, RoleTypes.EMPLOYEES, false);
+        final var aRoleTwo = Role.newRole("User", null, RoleTypes.COMMON, false);
+        final var aInvalidatedKeysCounter = meterRegistry.counter("cache.invalidated.keys", "cache", "role");
+        final var aInvalidatedKeysBefore = aInvalidatedKeysCounter.count();
+
+        roleCacheGateway.saveAll(List.of(aRoleOne, aRoleTwo));
+
+        Assertions.assertEquals(2, roleCacheGateway.getAll(
+                List.of(aRoleOne.getId().getValue(), aRoleTwo.getId().getValue())).size());
+
+        roleCacheGateway.deleteAll(List.of(aRoleOne.getId().getValue(), aRoleTwo.getId().getValue()));
+
+        Assertions.assertEquals(0, roleCacheRepository.count());
+        Assertions.assertEquals(aInvalidatedKeysBefore + 2, aInvalidatedKeysCounter.count());
+    }
+}
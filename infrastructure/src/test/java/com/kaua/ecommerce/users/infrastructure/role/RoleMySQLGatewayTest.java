@@ -3,20 +3,26 @@ package com.kaua.ecommerce.users.infrastructure.role;
 import com.kaua.ecommerce.users.CacheGatewayTest;
 import com.kaua.ecommerce.users.config.CacheTestConfiguration;
 import com.kaua.ecommerce.users.domain.accounts.Account;
+import com.kaua.ecommerce.users.domain.exceptions.DomainException;
+import com.kaua.ecommerce.users.domain.exceptions.NotFoundException;
+import com.kaua.ecommerce.users.domain.pagination.CursorSearchQuery;
 import com.kaua.ecommerce.users.domain.pagination.SearchQuery;
 import com.kaua.ecommerce.users.domain.roles.Role;
 import com.kaua.ecommerce.users.domain.roles.RoleID;
 import com.kaua.ecommerce.users.domain.roles.RoleTypes;
-import com.kaua.ecommerce.users.infrastructure.accounts.persistence.AccountCacheEntity;
+import com.kaua.ecommerce.users.infrastructure.accounts.AccountCacheGateway;
 import com.kaua.ecommerce.users.infrastructure.accounts.persistence.AccountCacheRepository;
 import com.kaua.ecommerce.users.infrastructure.accounts.persistence.AccountJpaEntity;
 import com.kaua.ecommerce.users.infrastructure.accounts.persistence.AccountJpaRepository;
+import com.kaua.ecommerce.users.infrastructure.roles.RoleCacheGateway;
 import com.kaua.ecommerce.users.infrastructure.roles.RoleMySQLGateway;
+import com.kaua.ecommerce.users.infrastructure.roles.persistence.RoleCacheRepository;
 import com.kaua.ecommerce.users.infrastructure.roles.persistence.RoleJpaEntity;
 import com.kaua.ecommerce.users.infrastructure.roles.persistence.RoleJpaRepository;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.transaction.TestTransaction;
 
 import java.util.List;
 import java.util.Set;
@@ -36,6 +42,15 @@ public class RoleMySQLGatewayTest extends CacheTestConfiguration {
     @Autowired
     private AccountCacheRepository accountCacheRepository;
 
+    @Autowired
+    private AccountCacheGateway accountCacheGateway;
+
+    @Autowired
+    private RoleCacheRepository roleCacheRepository;
+
+    @Autowired
+    private RoleCacheGateway roleCacheGateway;
+
     @Test
     void givenAValidRoleWithDescription_whenCallCreate_shouldReturnANewRole() {
         final var aName = "ceo";
@@ -204,6 +219,33 @@ public class RoleMySQLGatewayTest extends CacheTestConfiguration {
         Assertions.assertTrue(actualRole.isEmpty());
     }
 
+    @Test
+    void givenTheOldRoleCachedAgainBeforeTheCommit_whenCallUpdate_shouldEvictItAfterTheCommit() {
+        final var aRole = Role.newRole("User", "Common user", RoleTypes.COMMON, false);
+        roleRepository.saveAndFlush(RoleJpaEntity.toEntity(aRole));
+
+        final var aOldRole = Role.with(
+                aRole.getId().getValue(),
+                aRole.getName(),
+                aRole.getDescription(),
+                aRole.getRoleType(),
+                aRole.isDefault(),
+                aRole.getPermissions(),
+                aRole.getCreatedAt(),
+                aRole.getUpdatedAt()
+        );
+
+        this.roleGateway.update(aRole.update("ceo", "Chief Executive Officer", RoleTypes.EMPLOYEES, false, null));
+        this.roleCacheGateway.save(aOldRole);
+
+        Assertions.assertEquals(1, roleCacheRepository.count());
+
+        TestTransaction.flagForCommit();
+        TestTransaction.end();
+
+        Assertions.assertEquals(0, roleCacheRepository.count());
+    }
+
     @Test
     void givenAPrePersistedRoleAndAccountUsingRoleAndAccountSavedInCache_whenCallDeleteById_shouldBeOk() {
         roleRepository.saveAndFlush(
@@ -223,7 +265,7 @@ public class RoleMySQLGatewayTest extends CacheTestConfiguration {
 
         roleRepository.saveAndFlush(RoleJpaEntity.toEntity(aRole));
         accountJpaRepository.saveAndFlush(AccountJpaEntity.toEntity(aAccount));
-        accountCacheRepository.save(AccountCacheEntity.toEntity(aAccount));
+        accountCacheGateway.save(aAccount);
 
         Assertions.assertEquals(2, roleRepository.count());
         Assertions.assertEquals(1, accountJpaRepository.count());
@@ -233,7 +275,49 @@ public class RoleMySQLGatewayTest extends CacheTestConfiguration {
 
         Assertions.assertEquals(1, roleRepository.count());
         Assertions.assertEquals(1, accountJpaRepository.count());
-        Assertions.assertEquals(0, accountCacheRepository.count());
+        Assertions.assertEquals(1, accountCacheRepository.count());
+        Assertions.assertEquals(0, roleCacheRepository.count());
+        Assertions.assertTrue(accountCacheGateway.get(aAccount.getId().getValue()).isEmpty());
+    }
+
+    @Test
+    void givenAccountsUsingRoleAcrossChunks_whenCallDeleteById_shouldMoveThemAllToTheDefaultRole() {
+        final var aDefaultRole = Role.newRole("User", "Common user", RoleTypes.COMMON, true);
+        final var aRole = Role.newRole("Admin", null, RoleTypes.COMMON, false);
+        final var aAccounts = List.of(
+                Account.newAccount("one", "ones", "one@teste.com", "123456Ab*", aRole),
+                Account.newAccount("two", "twos", "two@teste.com", "123456Ab*", aRole),
+                Account.newAccount("three", "threes", "three@teste.com", "123456Ab*", aRole)
+        );
+
+        roleRepository.saveAllAndFlush(Set.of(RoleJpaEntity.toEntity(aRole), RoleJpaEntity.toEntity(aDefaultRole)));
+        accountJpaRepository.saveAllAndFlush(aAccounts.stream().map(AccountJpaEntity::toEntity).toList());
+
+        roleGateway.deleteById(aRole.getId().getValue());
+
+        final var aActualAccounts = accountJpaRepository.findAll();
+
+        Assertions.assertEquals(3, aActualAccounts.size());
+        aActualAccounts.forEach(account -> {
+            Assertions.assertEquals(aDefaultRole.getId().getValue(), account.getRoleJpaEntity().getId());
+            Assertions.assertTrue(account.getUpdatedAt().isAfter(account.getCreatedAt()));
+        });
+        Assertions.assertFalse(roleRepository.existsById(aRole.getId().getValue()));
+    }
+
+    @Test
+    void givenAccountsUsingRoleAndNoDefaultRole_whenCallDeleteById_shouldThrowNotFoundException() {
+        final var aRole = Role.newRole("Admin", null, RoleTypes.COMMON, false);
+        final var aAccount = Account.newAccount("teste", "testes", "teste@teste.com", "123456Ab*", aRole);
+
+        roleRepository.saveAndFlush(RoleJpaEntity.toEntity(aRole));
+        accountJpaRepository.saveAndFlush(AccountJpaEntity.toEntity(aAccount));
+
+        final var aId = aRole.getId().getValue();
+
+        Assertions.assertThrows(NotFoundException.class, () -> roleGateway.deleteById(aId));
+
+        Assertions.assertTrue(roleRepository.existsById(aId));
     }
 
     @Test
@@ -253,7 +337,7 @@ public class RoleMySQLGatewayTest extends CacheTestConfiguration {
 
         roleRepository.saveAllAndFlush(Set.of(RoleJpaEntity.toEntity(aRole), RoleJpaEntity.toEntity(aDefaultRole)));
         accountJpaRepository.saveAndFlush(AccountJpaEntity.toEntity(aAccount));
-        accountCacheRepository.save(AccountCacheEntity.toEntity(aAccount));
+        accountCacheGateway.save(aAccount);
 
         Assertions.assertEquals(2, roleRepository.count());
         Assertions.assertEquals(1, accountJpaRepository.count());
@@ -449,4 +533,265 @@ public class RoleMySQLGatewayTest extends CacheTestConfiguration {
         Assertions.assertEquals(aRole.getCreatedAt(), actualRole.getCreatedAt());
         Assertions.assertEquals(aRole.getUpdatedAt(), actualRole.getUpdatedAt());
     }
+
+    @Test
+    void givenACachedDefaultRole_whenCallFindDefaultRoleAgain_shouldNotQueryTheDatabase() {
+        final var aRole = Role.newRole("User", null, RoleTypes.COMMON, true);
+        roleRepository.save(RoleJpaEntity.toEntity(aRole));
+
+        Assertions.assertEquals(aRole.getId(), roleGateway.findDefaultRole().get().getId());
+
+        roleRepository.deleteAll();
+
+        Assertions.assertEquals(aRole.getId(), roleGateway.findDefaultRole().get().getId());
+
+        roleGateway.evictDefaultRole();
+
+        Assertions.assertTrue(roleGateway.findDefaultRole().isEmpty());
+    }
+
+    @Test
+    void givenACachedDefaultRole_whenACallerChangesItsCopy_shouldServeTheStoredRole() {
+        final var aRole = Role.newRole("User", null, RoleTypes.COMMON, true);
+        roleRepository.save(RoleJpaEntity.toEntity(aRole));
+
+        final var aFirstCopy = roleGateway.findDefaultRole().get();
+        aFirstCopy.update("Changed", "Changed by a caller", RoleTypes.EMPLOYEES, false, null);
+
+        final var actualRole = roleGateway.findDefaultRole().get();
+
+        Assertions.assertNotSame(aFirstCopy, actualRole);
+        Assertions.assertEquals("User", actualRole.getName());
+        Assertions.assertNull(actualRole.getDescription());
+        Assertions.assertEquals(RoleTypes.COMMON, actualRole.getRoleType());
+        Assertions.assertTrue(actualRole.isDefault());
+    }
+
+    @Test
+    void givenACachedDefaultRole_whenCallUpdate_shouldServeTheUpdatedRole() {
+        final var aRole = Role.newRole("User", null, RoleTypes.COMMON, true);
+        roleRepository.save(RoleJpaEntity.toEntity(aRole));
+
+        Assertions.assertEquals("User", roleGateway.findDefaultRole().get().getName());
+
+        roleGateway.update(aRole.update("Customer", null, RoleTypes.COMMON, true, null));
+
+        Assertions.assertEquals("Customer", roleGateway.findDefaultRole().get().getName());
+    }
+
+    @Test
+    void givenNoDefaultRoleCached_whenCallCreateDefaultRole_shouldServeTheNewRole() {
+        Assertions.assertTrue(roleGateway.findDefaultRole().isEmpty());
+
+        final var aRole = roleGateway.create(Role.newRole("User", null, RoleTypes.COMMON, true));
+
+        Assertions.assertEquals(aRole.getId(), roleGateway.findDefaultRole().get().getId());
+    }
+
+    @Test
+    void givenACachedDefaultRole_whenCallDeleteById_shouldServeNoDefaultRole() {
+        final var aRole = Role.newRole("User", null, RoleTypes.COMMON, true);
+        roleRepository.save(RoleJpaEntity.toEntity(aRole));
+
+        Assertions.assertTrue(roleGateway.findDefaultRole().isPresent());
+
+        roleGateway.deleteById(aRole.getId().getValue());
+
+        Assertions.assertTrue(roleGateway.findDefaultRole().isEmpty());
+    }
+
+    @Test
+    void givenPrePersistedRoles_whenCallFindAllByCursor_shouldFollowCursorUntilLastPage() {
+        final var aRoleUser = Role.newRole("User", null, RoleTypes.COMMON, true);
+        final var aRoleAdmin = Role.newRole("Admin", "Admin user", RoleTypes.EMPLOYEES, false);
+        final var aRoleCeo = Role.newRole("CEO", "Chief Executive Officer", RoleTypes.EMPLOYEES, false);
+
+        roleRepository.saveAllAndFlush(List.of(
+                RoleJpaEntity.toEntity(aRoleUser),
+                RoleJpaEntity.toEntity(aRoleAdmin),
+                RoleJpaEntity.toEntity(aRoleCeo)
+        ));
+
+        final var aFirstPage = roleGateway.findAll(new CursorSearchQuery("", 2, "", "name", "asc"));
+
+        Assertions.assertEquals(2, aFirstPage.perPage());
+        Assertions.assertEquals(List.of(aRoleAdmin.getId(), aRoleCeo.getId()),
+                aFirstPage.items().stream().map(Role::getId).toList());
+        Assertions.assertNotNull(aFirstPage.nextCursor());
+
+        final var aSecondPage = roleGateway.findAll(new CursorSearchQuery(aFirstPage.nextCursor(), 2, "", "name", "asc"));
+
+        Assertions.assertEquals(List.of(aRoleUser.getId()),
+                aSecondPage.items().stream().map(Role::getId).toList());
+        Assertions.assertNull(aSecondPage.nextCursor());
+    }
+
+    @Test
+    void givenACursorFromAnotherSort_whenCallFindAllByCursor_shouldThrowDomainException() {
+        final var expectedErrorMessage = "'cursor' does not match the requested sort";
+
+        roleRepository.saveAllAndFlush(List.of(
+                RoleJpaEntity.toEntity(Role.newRole("User", null, RoleTypes.COMMON, true)),
+                RoleJpaEntity.toEntity(Role.newRole("Admin", "Admin user", RoleTypes.EMPLOYEES, false))
+        ));
+
+        final var aCursor = roleGateway.findAll(new CursorSearchQuery("", 1, "", "name", "asc")).nextCursor();
+        final var aQuery = new CursorSearchQuery(aCursor, 1, "", "createdAt", "asc");
+
+        final var aException = Assertions.assertThrows(DomainException.class, () -> roleGateway.findAll(aQuery));
+
+        Assertions.assertEquals(expectedErrorMessage, aException.getErrors().get(0).message());
+    }
+
+    @Test
+    void givenANullableSortField_whenCallFindAllByCursor_shouldThrowDomainException() {
+        final var expectedErrorMessage = "'sort' description is not supported by cursor pagination";
+
+        roleRepository.saveAllAndFlush(List.of(
+                RoleJpaEntity.toEntity(Role.newRole("User", null, RoleTypes.COMMON, true)),
+                RoleJpaEntity.toEntity(Role.newRole("Admin", "Admin user", RoleTypes.EMPLOYEES, false))
+        ));
+
+        final var aQuery = new CursorSearchQuery("", 1, "", "description", "desc");
+
+        final var aException = Assertions.assertThrows(DomainException.class, () -> roleGateway.findAll(aQuery));
+
+        Assertions.assertEquals(expectedErrorMessage, aException.getErrors().get(0).message());
+    }
+
+    @Test
+    void givenAnInvalidCursor_whenCallFindAllByCursor_shouldThrowDomainException() {
+        final var expectedErrorMessage = "'cursor' is invalid";
+
+        final var aQuery = new CursorSearchQuery("not-a-cursor", 1, "", "name", "asc");
+
+        final var aException = Assertions.assertThrows(DomainException.class, () -> roleGateway.findAll(aQuery));
+
+        Assertions.assertEquals(expectedErrorMessage, aException.getErrors().get(0).message());
+    }
+
+    @Test
+    void givenPrePersistedRoles_whenCallFindSlice_shouldTellWhetherANextPageExists() {
+        final var aRoleUser = Role.newRole("User", null, RoleTypes.COMMON, true);
+        final var aRoleAdmin = Role.newRole("Admin", "Admin user", RoleTypes.EMPLOYEES, false);
+        final var aRoleCeo = Role.newRole("CEO", "Chief Executive Officer", RoleTypes.EMPLOYEES, false);
+
+        roleRepository.saveAllAndFlush(List.of(
+                RoleJpaEntity.toEntity(aRoleUser),
+                RoleJpaEntity.toEntity(aRoleAdmin),
+                RoleJpaEntity.toEntity(aRoleCeo)
+        ));
+
+        final var aFirstSlice = roleGateway.findSlice(new SearchQuery(0, 2, "", "name", "asc"));
+
+        Assertions.assertEquals(0, aFirstSlice.currentPage());
+        Assertions.assertEquals(2, aFirstSlice.perPage());
+        Assertions.assertTrue(aFirstSlice.hasNext());
+        Assertions.assertEquals(List.of(aRoleAdmin.getId(), aRoleCeo.getId()),
+                aFirstSlice.items().stream().map(Role::getId).toList());
+
+        final var aSecondSlice = roleGateway.findSlice(new SearchQuery(1, 2, "", "name", "asc"));
+
+        Assertions.assertFalse(aSecondSlice.hasNext());
+        Assertions.assertEquals(List.of(aRoleUser.getId()),
+                aSecondSlice.items().stream().map(Role::getId).toList());
+    }
+
+    @Test
+    void givenARoleInsertedOutsideTheGateway_whenTheSearchIndexIsReloaded_shouldServeIt() {
+        roleRepository.saveAllAndFlush(List.of(
+                RoleJpaEntity.toEntity(Role.newRole("Admin", "Admin user", RoleTypes.EMPLOYEES, false)),
+                RoleJpaEntity.toEntity(Role.newRole("CEO", "Chief Executive Officer", RoleTypes.EMPLOYEES, false)),
+                RoleJpaEntity.toEntity(Role.newRole("User", null, RoleTypes.COMMON, true))
+        ));
+
+        Assertions.assertEquals(3, roleGateway.findAll(new SearchQuery(0, 1, "", "name", "asc")).totalItems());
+
+        final var aSeller = roleRepository.saveAndFlush(
+                RoleJpaEntity.toEntity(Role.newRole("Seller", null, RoleTypes.EMPLOYEES, false)));
+
+        Assertions.assertEquals(3, roleGateway.findAll(new SearchQuery(0, 1, "", "name", "asc")).totalItems());
+
+        roleGateway.evictSearchIndex();
+
+        final var aResult = roleGateway.findAll(new SearchQuery(0, 10, "sell", "name", "asc"));
+
+        Assertions.assertEquals(1, aResult.totalItems());
+        Assertions.assertEquals(aSeller.getId(), aResult.items().get(0).getId().getValue());
+    }
+
+    @Test
+    void givenAnIndexedRole_whenCallUpdate_shouldSearchByTheNewName() {
+        final var aRole = roleGateway.create(Role.newRole("Seller", null, RoleTypes.EMPLOYEES, false));
+
+        Assertions.assertEquals(1, roleGateway.findAll(new SearchQuery(0, 10, "sell", "name", "asc")).totalItems());
+
+        roleGateway.update(aRole.update("Manager", "Store manager", RoleTypes.EMPLOYEES, false, Set.of()));
+
+        Assertions.assertEquals(0, roleGateway.findAll(new SearchQuery(0, 10, "sell", "name", "asc")).totalItems());
+        Assertions.assertEquals(1, roleGateway.findAll(new SearchQuery(0, 10, "STORE", "name", "asc")).totalItems());
+    }
+
+    @Test
+    void givenAnIndexedRole_whenCallDeleteById_shouldNotListIt() {
+        final var aRole = roleGateway.create(Role.newRole("Seller", null, RoleTypes.EMPLOYEES, false));
+
+        roleGateway.deleteById(aRole.getId().getValue());
+
+        Assertions.assertEquals(0, roleGateway.findAll(new SearchQuery(0, 10, "", "name", "asc")).totalItems());
+        Assertions.assertFalse(roleGateway.findSlice(new SearchQuery(0, 10, "seller", "name", "asc")).hasNext());
+    }
+
+    @Test
+    void givenPrePersistedRoles_whenCallFindAllSortedByDescriptionDesc_shouldPutNullDescriptionsLast() {
+        roleRepository.saveAllAndFlush(List.of(
+                RoleJpaEntity.toEntity(Role.newRole("Admin", "Admin user", RoleTypes.EMPLOYEES, false)),
+                RoleJpaEntity.toEntity(Role.newRole("CEO", "Chief Executive Officer", RoleTypes.EMPLOYEES, false)),
+                RoleJpaEntity.toEntity(Role.newRole("User", null, RoleTypes.COMMON, true))
+        ));
+
+        final var aResult = roleGateway.findAll(new SearchQuery(0, 10, "", "description", "desc"));
+
+        Assertions.assertEquals(List.of("CEO", "Admin", "User"),
+                aResult.items().stream().map(Role::getName).toList());
+    }
+
+    @Test
+    void givenAnUnsupportedSort_whenCallFindAll_shouldThrowDomainException() {
+        final var expectedErrorMessage = "'sort' permissions is not supported";
+
+        final var aQuery = new SearchQuery(0, 10, "", "permissions", "asc");
+
+        final var aException = Assertions.assertThrows(DomainException.class, () -> roleGateway.findAll(aQuery));
+
+        Assertions.assertEquals(expectedErrorMessage, aException.getErrors().get(0).message());
+    }
+
+    @Test
+    void givenACachedTotal_whenCallCreate_shouldCountAgain() {
+        roleRepository.saveAllAndFlush(List.of(
+                RoleJpaEntity.toEntity(Role.newRole("Admin", "Admin user", RoleTypes.EMPLOYEES, false)),
+                RoleJpaEntity.toEntity(Role.newRole("CEO", "Chief Executive Officer", RoleTypes.EMPLOYEES, false))
+        ));
+
+        Assertions.assertEquals(2, roleGateway.findAll(new SearchQuery(0, 1, "", "name", "asc")).totalItems());
+
+        roleGateway.create(Role.newRole("Seller", null, RoleTypes.EMPLOYEES, false));
+
+        final var aResult = roleGateway.findAll(new SearchQuery(0, 1, "", "name", "asc"));
+
+        Assertions.assertEquals(3, aResult.totalItems());
+        Assertions.assertEquals(3, aResult.totalPages());
+    }
+
+    @Test
+    void givenAnInvalidPerPage_whenCallFindAll_shouldThrowDomainException() {
+        final var expectedErrorMessage = "'perPage' must be greater than zero";
+
+        final var aQuery = new SearchQuery(0, 0, "", "name", "asc");
+
+        final var aException = Assertions.assertThrows(DomainException.class, () -> roleGateway.findAll(aQuery));
+
+        Assertions.assertEquals(expectedErrorMessage, aException.getErrors().get(0).message());
+    }
 }
@@ -0,0 +1,73 @@
+package com.kaua.ecommerce.users.infrastructure.service.impl;
+
+import com.kaua.ecommerce.users.infrastructure.configurations.json.Json;
+import com.kaua.ecommerce.users.infrastructure.services.impl.RedisCacheInvalidationService;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+public class RedisCacheInvalidationServiceTest {
+
+    private static final String CHANNEL = "cache.invalidation";
+
+    @Test
+    void givenKeys_whenCallPublish_shouldSendMessageToChannel() {
+        final var aRedisTemplate = Mockito.mock(StringRedisTemplate.class);
+        final var aService = new RedisCacheInvalidationService(CHANNEL, aRedisTemplate);
+
+        final var expectedMessage = Json.writeValueAsString(
+                new RedisCacheInvalidationService.CacheInvalidationMessage("account", List.of("1")));
+
+        aService.publish("account", List.of("1"));
+
+        Mockito.verify(aRedisTemplate, Mockito.times(1)).convertAndSend(CHANNEL, expectedMessage);
+    }
+
+    @Test
+    void givenEmptyKeys_whenCallPublish_shouldNotSendMessage() {
+        final var aRedisTemplate = Mockito.mock(StringRedisTemplate.class);
+        final var aService = new RedisCacheInvalidationService(CHANNEL, aRedisTemplate);
+
+        aService.publish("account", List.of());
+
+        Mockito.verifyNoInteractions(aRedisTemplate);
+    }
+
+    @Test
+    void givenAnUnavailableRedis_whenCallPublish_shouldNotThrow() {
+        final var aRedisTemplate = Mockito.mock(StringRedisTemplate.class);
+        final var aService = new RedisCacheInvalidationService(CHANNEL, aRedisTemplate);
+
+        Mockito.when(aRedisTemplate.convertAndSend(Mockito.anyString(), Mockito.anyString()))
+                .thenThrow(new IllegalStateException("connection refused"));
+
+        Assertions.assertDoesNotThrow(() -> aService.publish("account", List.of("1")));
+    }
+
+    @Test
+    void givenAReceivedMessage_whenCallOnMessage_shouldNotifyOnlyCacheListeners() {
+        final var aService = new RedisCacheInvalidationService(CHANNEL, Mockito.mock(StringRedisTemplate.class));
+        final var actualAccountKeys = new ArrayList<String>();
+        final var actualRoleKeys = new ArrayList<String>();
+
+        aService.subscribe("account", actualAccountKeys::add);
+        aService.subscribe("role", actualRoleKeys::add);
+
+        final var aBody = Json.writeValueAsString(
+                new RedisCacheInvalidationService.CacheInvalidationMessage("account", List.of("1", "2")));
+
+        aService.onMessage(new DefaultMessage(
+                CHANNEL.getBytes(StandardCharsets.UTF_8),
+                aBody.getBytes(StandardCharsets.UTF_8)
+        ), null);
+
+        Assertions.assertEquals(List.of("1", "2"), actualAccountKeys);
+        Assertions.assertTrue(actualRoleKeys.isEmpty());
+    }
+}
@@ -0,0 +1,65 @@
+package com.kaua.ecommerce.users.infrastructure.service.impl;
+
+import com.kaua.ecommerce.users.infrastructure.services.impl.RedisNegativeCacheService;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+
+public class RedisNegativeCacheServiceTest {
+
+    private static final Duration TTL = Duration.ofSeconds(30);
+
+    private StringRedisTemplate redisTemplate;
+    private ValueOperations<String, String> valueOperations;
+    private RedisNegativeCacheService target;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        this.redisTemplate = Mockito.mock(StringRedisTemplate.class);
+        this.valueOperations = Mockito.mock(ValueOperations.class);
+        Mockito.when(this.redisTemplate.opsForValue()).thenReturn(this.valueOperations);
+        this.target = new RedisNegativeCacheService("account", TTL, this.redisTemplate);
+    }
+
+    @Test
+    void givenAKey_whenCallMarkMissing_shouldSetTombstoneWithTtl() {
+        this.target.markMissing("1");
+
+        Mockito.verify(valueOperations, Mockito.times(1)).set("account:missing:1", "1", TTL);
+    }
+
+    @Test
+    void givenATombstone_whenCallIsMissing_shouldReturnTrue() {
+        Mockito.when(redisTemplate.hasKey("account:missing:1")).thenReturn(true);
+
+        Assertions.assertTrue(this.target.isMissing("1"));
+        Assertions.assertFalse(this.target.isMissing("2"));
+    }
+
+    @Test
+    void givenAKey_whenCallClear_shouldUnlinkTombstone() {
+        this.target.clear("1");
+
+        Mockito.verify(redisTemplate, Mockito.times(1)).unlink("account:missing:1");
+    }
+
+    @Test
+    void givenAnUnavailableRedis_whenCallOperations_shouldNotThrowAndNotReportMissing() {
+        Mockito.when(redisTemplate.hasKey(Mockito.anyString()))
+                .thenThrow(new IllegalStateException("connection refused"));
+        Mockito.when(redisTemplate.unlink(Mockito.anyString()))
+                .thenThrow(new IllegalStateException("connection refused"));
+        Mockito.doThrow(new IllegalStateException("connection refused"))
+                .when(valueOperations).set(Mockito.anyString(), Mockito.anyString(), Mockito.any(Duration.class));
+
+        Assertions.assertFalse(this.target.isMissing("1"));
+        Assertions.assertDoesNotThrow(() -> this.target.markMissing("1"));
+        Assertions.assertDoesNotThrow(() -> this.target.clear("1"));
+    }
+}
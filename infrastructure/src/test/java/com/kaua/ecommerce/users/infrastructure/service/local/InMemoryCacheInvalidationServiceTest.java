@@ -0,0 +1,28 @@
+package com.kaua.ecommerce.users.infrastructure.service.local;
+
+import com.kaua.ecommerce.users.infrastructure.services.local.InMemoryCacheInvalidationService;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class InMemoryCacheInvalidationServiceTest {
+
+    private final InMemoryCacheInvalidationService target = new InMemoryCacheInvalidationService();
+
+    @Test
+    void givenASubscribedListener_whenCallPublish_shouldReceiveEveryKey() {
+        final var actualKeys = new ArrayList<String>();
+
+        this.target.subscribe("account", actualKeys::add);
+        this.target.publish("account", List.of("1", "2"));
+
+        Assertions.assertEquals(List.of("1", "2"), actualKeys);
+    }
+
+    @Test
+    void givenNoListener_whenCallPublish_shouldDoesNotThrow() {
+        Assertions.assertDoesNotThrow(() -> this.target.publish("account", List.of("1")));
+    }
+}
@@ -0,0 +1,32 @@
+package com.kaua.ecommerce.users.infrastructure.service.local;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.kaua.ecommerce.users.infrastructure.services.local.InMemoryNegativeCacheService;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+public class InMemoryNegativeCacheServiceTest {
+
+    private final InMemoryNegativeCacheService target = new InMemoryNegativeCacheService(Caffeine.newBuilder()
+            .maximumSize(100)
+            .expireAfterWrite(Duration.ofMinutes(1))
+            .build());
+
+    @Test
+    void givenAMarkedKey_whenCallIsMissing_shouldReturnTrue() {
+        this.target.markMissing("1");
+
+        Assertions.assertTrue(this.target.isMissing("1"));
+        Assertions.assertFalse(this.target.isMissing("2"));
+    }
+
+    @Test
+    void givenAMarkedKey_whenCallClear_shouldReturnFalse() {
+        this.target.markMissing("1");
+        this.target.clear("1");
+
+        Assertions.assertFalse(this.target.isMissing("1"));
+    }
+}
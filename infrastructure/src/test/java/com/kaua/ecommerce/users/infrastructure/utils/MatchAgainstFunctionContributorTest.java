@@ -0,0 +1,45 @@
+package com.kaua.ecommerce.users.infrastructure.utils;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.query.sqm.function.AbstractSqmSelfRenderingFunctionDescriptor;
+import org.hibernate.query.sqm.function.SqmFunctionRegistry;
+import org.hibernate.sql.ast.SqlAstTranslator;
+import org.hibernate.sql.ast.tree.SqlAstNode;
+import org.hibernate.type.spi.TypeConfiguration;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.List;
+
+public class MatchAgainstFunctionContributorTest {
+
+    @Test
+    void givenColumnsAndATerm_whenCallRender_shouldRenderMatchAgainstInBooleanMode() {
+        final var aRegistry = new SqmFunctionRegistry();
+        final var aContributions = Mockito.mock(FunctionContributions.class);
+        Mockito.when(aContributions.getFunctionRegistry()).thenReturn(aRegistry);
+        Mockito.when(aContributions.getTypeConfiguration()).thenReturn(new TypeConfiguration());
+
+        new MatchAgainstFunctionContributor().contributeFunctions(aContributions);
+
+        final var aFunction = (AbstractSqmSelfRenderingFunctionDescriptor) aRegistry
+                .findFunctionDescriptor(MatchAgainstFunctionContributor.MATCH_AGAINST);
+        final var aSql = new StringBuilder();
+
+        aFunction.render(
+                aSql::append,
+                List.of(node(aSql, "a1_0.first_name"), node(aSql, "a1_0.last_name"), node(aSql, "a1_0.email"), node(aSql, "?")),
+                Mockito.mock(SqlAstTranslator.class)
+        );
+
+        Assertions.assertEquals(
+                "match(a1_0.first_name,a1_0.last_name,a1_0.email) against(? in boolean mode)",
+                aSql.toString()
+        );
+    }
+
+    private static SqlAstNode node(final StringBuilder aSql, final String aFragment) {
+        return walker -> aSql.append(aFragment);
+    }
+}
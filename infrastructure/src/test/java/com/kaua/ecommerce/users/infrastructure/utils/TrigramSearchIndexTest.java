@@ -0,0 +1,83 @@
+package com.kaua.ecommerce.users.infrastructure.utils;
+
+import com.kaua.ecommerce.users.domain.exceptions.DomainException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+public class TrigramSearchIndexTest {
+
+    private final TrigramSearchIndex<Item> target = new TrigramSearchIndex<Item>(
+            Item::id,
+            item -> Arrays.asList(item.name(), item.description()),
+            Map.of(
+                    "name", Comparator.comparing(Item::name, String.CASE_INSENSITIVE_ORDER),
+                    "description", Comparator.comparing(Item::description,
+                            Comparator.nullsFirst(String.CASE_INSENSITIVE_ORDER))
+            )
+    ).putAll(List.of(
+            new Item("1", "Admin", "Admin user"),
+            new Item("2", "CEO", "Chief Executive Officer"),
+            new Item("3", "User", null)
+    ));
+
+    @Test
+    void givenATermLongerThanAGram_whenCallSearch_shouldMatchSubstringsIgnoringCase() {
+        Assertions.assertEquals(List.of("1", "3"), ids(this.target.search("user", "name", "asc")));
+        Assertions.assertEquals(List.of("2"), ids(this.target.search("EXECUTIVE OFF", "name", "asc")));
+    }
+
+    @Test
+    void givenATermShorterThanAGram_whenCallSearch_shouldScanEveryItem() {
+        Assertions.assertEquals(List.of("3", "1"), ids(this.target.search("us", "name", "desc")));
+    }
+
+    @Test
+    void givenATermWithEveryGramInDifferentFields_whenCallSearch_shouldNotMatch() {
+        Assertions.assertTrue(this.target.search("minadm", "name", "asc").isEmpty());
+    }
+
+    @Test
+    void givenABlankTerm_whenCallSearch_shouldReturnEveryItemSorted() {
+        Assertions.assertEquals(List.of("3", "1", "2"), ids(this.target.search("", "description", "asc")));
+        Assertions.assertEquals(List.of("2", "1", "3"), ids(this.target.search(null, "description", "desc")));
+    }
+
+    @Test
+    void givenAnUpdatedItem_whenCallSearch_shouldMatchOnlyTheNewFields() {
+        this.target.put(new Item("3", "Seller", null));
+
+        Assertions.assertEquals(List.of("1"), ids(this.target.search("user", "name", "asc")));
+        Assertions.assertEquals(List.of("3"), ids(this.target.search("sell", "name", "asc")));
+    }
+
+    @Test
+    void givenARemovedItem_whenCallSearch_shouldNotMatch() {
+        this.target.remove("2");
+        this.target.remove("unknown");
+
+        Assertions.assertTrue(this.target.search("chief", "name", "asc").isEmpty());
+        Assertions.assertEquals(List.of("1", "3"), ids(this.target.search("", "name", "asc")));
+    }
+
+    @Test
+    void givenAnUnsupportedSort_whenCallSearch_shouldThrowDomainException() {
+        final var expectedErrorMessage = "'sort' createdAt is not supported";
+
+        final var aException = Assertions.assertThrows(DomainException.class,
+                () -> this.target.search("", "createdAt", "asc"));
+
+        Assertions.assertEquals(expectedErrorMessage, aException.getErrors().get(0).message());
+    }
+
+    private static List<String> ids(final List<Item> aItems) {
+        return aItems.stream().map(Item::id).toList();
+    }
+
+    private record Item(String id, String name, String description) {
+    }
+}